@@ -0,0 +1,77 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper.FailedBatch;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.KeyPair;
+import com.amazonaws.services.dynamodbv2.datamodeling.ScanResultPage;
+import com.amazonaws.services.dynamodbv2.model.QueryRequest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link DynamoDBOperations}. All operations return
+ * immediately and complete the returned {@link CompletableFuture} once DynamoDB
+ * answered - no thread is blocked during the round trip.
+ */
+public interface AsyncDynamoDBOperations {
+
+	<T> CompletableFuture<Long> count(Class<T> domainClass, DynamoDBScanExpression scanExpression);
+	<T> CompletableFuture<Long> count(Class<T> clazz, QueryRequest mutableQueryRequest);
+
+	<T> CompletableFuture<List<T>> query(Class<T> clazz, QueryRequest queryRequest);
+	<T> CompletableFuture<List<T>> scan(Class<T> domainClass, DynamoDBScanExpression scanExpression);
+
+	/**
+	 * Scans a single page starting at the exclusive start key of the given scan
+	 * expression.
+	 *
+	 * @param <T>
+	 *            The type of the domain type itself
+	 * @param domainClass
+	 *            A domain type
+	 * @param scanExpression
+	 *            The scan to execute
+	 * @return The page including the key to continue the scan with
+	 */
+	<T> CompletableFuture<ScanResultPage<T>> scanPage(Class<T> domainClass, DynamoDBScanExpression scanExpression);
+
+	<T> CompletableFuture<T> load(Class<T> domainClass, Object hashKey, Object rangeKey);
+	<T> CompletableFuture<T> load(Class<T> domainClass, Object hashKey);
+	<T> CompletableFuture<List<T>> batchLoad(Map<Class<?>, List<KeyPair>> itemsToGet);
+
+	<T> CompletableFuture<T> save(T entity);
+	CompletableFuture<List<FailedBatch>> batchSave(Iterable<?> entities);
+
+	<T> CompletableFuture<T> delete(T entity);
+	CompletableFuture<List<FailedBatch>> batchDelete(Iterable<?> entities);
+
+	/**
+	 * Provides access to the DynamoDB mapper table model of the underlying domain
+	 * type.
+	 *
+	 * @param <T>
+	 *            The type of the domain type itself
+	 * @param domainClass
+	 *            A domain type
+	 * @return Corresponding DynamoDB table model
+	 */
+	<T> DynamoDBMapperTableModel<T> getTableModel(Class<T> domainClass);
+}
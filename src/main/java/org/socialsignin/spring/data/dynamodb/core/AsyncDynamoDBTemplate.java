@@ -0,0 +1,603 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.socialsignin.spring.data.dynamodb.mapping.event.AfterDeleteEvent;
+import org.socialsignin.spring.data.dynamodb.mapping.event.AfterLoadEvent;
+import org.socialsignin.spring.data.dynamodb.mapping.event.AfterQueryEvent;
+import org.socialsignin.spring.data.dynamodb.mapping.event.AfterSaveEvent;
+import org.socialsignin.spring.data.dynamodb.mapping.event.AfterScanEvent;
+import org.socialsignin.spring.data.dynamodb.mapping.event.BeforeDeleteEvent;
+import org.socialsignin.spring.data.dynamodb.mapping.event.BeforeSaveEvent;
+import org.socialsignin.spring.data.dynamodb.mapping.event.DynamoDBMappingEvent;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDBAsync;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBAutoGenerateStrategy;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper.FailedBatch;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.BatchWriteRetryStrategy;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.ConsistentReads;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.DefaultBatchWriteRetryStrategy;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.DefaultTableNameResolver;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.SaveBehavior;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.TableNameResolver;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperFieldModel;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.KeyPair;
+import com.amazonaws.services.dynamodbv2.datamodeling.ScanResultPage;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.BatchGetItemRequest;
+import com.amazonaws.services.dynamodbv2.model.BatchGetItemResult;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemRequest;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemResult;
+import com.amazonaws.services.dynamodbv2.model.DeleteItemRequest;
+import com.amazonaws.services.dynamodbv2.model.DeleteItemResult;
+import com.amazonaws.services.dynamodbv2.model.DeleteRequest;
+import com.amazonaws.services.dynamodbv2.model.ExpectedAttributeValue;
+import com.amazonaws.services.dynamodbv2.model.GetItemRequest;
+import com.amazonaws.services.dynamodbv2.model.GetItemResult;
+import com.amazonaws.services.dynamodbv2.model.KeysAndAttributes;
+import com.amazonaws.services.dynamodbv2.model.PutItemRequest;
+import com.amazonaws.services.dynamodbv2.model.PutItemResult;
+import com.amazonaws.services.dynamodbv2.model.PutRequest;
+import com.amazonaws.services.dynamodbv2.model.QueryRequest;
+import com.amazonaws.services.dynamodbv2.model.QueryResult;
+import com.amazonaws.services.dynamodbv2.model.ScanRequest;
+import com.amazonaws.services.dynamodbv2.model.ScanResult;
+import com.amazonaws.services.dynamodbv2.model.Select;
+import com.amazonaws.services.dynamodbv2.model.WriteRequest;
+
+/**
+ * {@link AsyncDynamoDBOperations} on top of the callback API of
+ * {@link AmazonDynamoDBAsync}. The {@link DynamoDBMapper} is only used for its
+ * table models, the requests themselves are issued directly so the calling
+ * thread never waits for DynamoDB.
+ *
+ * In contrast to {@link DynamoDBTemplate}, {@link #save(Object)} always writes
+ * the whole item (like {@link SaveBehavior#PUT}), but still honors
+ * auto-generated attributes and optimistic locking via
+ * {@code @DynamoDBVersionAttribute}.
+ *
+ * Loads are not served from the {@link EntityCache}, but writes evict it just
+ * like the writes of {@link DynamoDBTemplate} do.
+ */
+public class AsyncDynamoDBTemplate implements AsyncDynamoDBOperations, ApplicationContextAware {
+	private static final int MAX_ITEMS_PER_BATCH_GET = 100;
+	private static final int MAX_ITEMS_PER_BATCH_WRITE = 25;
+	private static final int MAX_BATCH_GET_RETRIES = 5;
+	private static final long BATCH_GET_RETRY_BASE_DELAY_MILLIS = 100;
+
+	private final AmazonDynamoDBAsync amazonDynamoDB;
+	private final DynamoDBMapper dynamoDBMapper;
+	private final DynamoDBMapperConfig dynamoDBMapperConfig;
+	private ApplicationEventPublisher eventPublisher;
+	@Nullable
+	private EntityCache entityCache;
+
+	/**
+	 * Initializes a new {@code AsyncDynamoDBTemplate}.
+	 *
+	 * @param amazonDynamoDB
+	 *            must not be {@code null}
+	 * @param dynamoDBMapper
+	 *            must not be {@code null}
+	 * @param dynamoDBMapperConfig
+	 *            must not be {@code null}
+	 */
+	public AsyncDynamoDBTemplate(AmazonDynamoDBAsync amazonDynamoDB, DynamoDBMapper dynamoDBMapper,
+			DynamoDBMapperConfig dynamoDBMapperConfig) {
+		Assert.notNull(amazonDynamoDB, "amazonDynamoDB must not be null!");
+		Assert.notNull(dynamoDBMapper, "dynamoDBMapper must not be null!");
+		Assert.notNull(dynamoDBMapperConfig, "dynamoDBMapperConfig must not be null!");
+
+		this.amazonDynamoDB = amazonDynamoDB;
+		this.dynamoDBMapper = dynamoDBMapper;
+		this.dynamoDBMapperConfig = dynamoDBMapperConfig;
+	}
+
+	@Override
+	public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
+		this.eventPublisher = applicationContext;
+	}
+
+	/**
+	 * @param entityCache
+	 *            The near-cache of the {@link DynamoDBTemplate}. Writes through
+	 *            this template evict the affected entries before and after the
+	 *            write.
+	 */
+	@Autowired(required = false)
+	public void setEntityCache(@Nullable EntityCache entityCache) {
+		this.entityCache = entityCache;
+	}
+
+	@Override
+	public <T> CompletableFuture<Long> count(Class<T> domainClass, DynamoDBScanExpression scanExpression) {
+		ScanRequest scanRequest = createScanRequest(domainClass, scanExpression).withSelect(Select.COUNT);
+
+		AtomicLong count = new AtomicLong();
+		return scanPages(scanRequest, page -> count.addAndGet(page.getCount())).thenApply(v -> count.get());
+	}
+
+	@Override
+	public <T> CompletableFuture<Long> count(Class<T> clazz, QueryRequest mutableQueryRequest) {
+		mutableQueryRequest.setSelect(Select.COUNT);
+
+		AtomicLong count = new AtomicLong();
+		return queryPages(mutableQueryRequest, false, page -> count.addAndGet(page.getCount()))
+				.thenApply(v -> count.get());
+	}
+
+	@Override
+	public <T> CompletableFuture<List<T>> query(Class<T> clazz, QueryRequest queryRequest) {
+		DynamoDBMapperTableModel<T> tableModel = getTableModel(clazz);
+
+		// If a limit is set, only the first page is loaded - just like
+		// DynamoDBTemplate#query(Class, QueryRequest)
+		List<T> results = new ArrayList<>();
+		return queryPages(queryRequest, queryRequest.getLimit() != null,
+				page -> page.getItems().forEach(item -> results.add(tableModel.unconvert(item)))).thenApply(v -> {
+					this.<List<T>>maybeEmitEvent(results, AfterQueryEvent::new);
+					return results;
+				});
+	}
+
+	@Override
+	public <T> CompletableFuture<List<T>> scan(Class<T> domainClass, DynamoDBScanExpression scanExpression) {
+		DynamoDBMapperTableModel<T> tableModel = getTableModel(domainClass);
+
+		List<T> results = new ArrayList<>();
+		return scanPages(createScanRequest(domainClass, scanExpression),
+				page -> page.getItems().forEach(item -> results.add(tableModel.unconvert(item)))).thenApply(v -> {
+					this.<List<T>>maybeEmitEvent(results, AfterScanEvent::new);
+					return results;
+				});
+	}
+
+	@Override
+	public <T> CompletableFuture<ScanResultPage<T>> scanPage(Class<T> domainClass,
+			DynamoDBScanExpression scanExpression) {
+		DynamoDBMapperTableModel<T> tableModel = getTableModel(domainClass);
+
+		CompletableFuture<ScanResult> scanResult = execute(createScanRequest(domainClass, scanExpression),
+				amazonDynamoDB::scanAsync);
+		return scanResult.thenApply(result -> {
+			List<T> results = new ArrayList<>(result.getItems().size());
+			result.getItems().forEach(item -> results.add(tableModel.unconvert(item)));
+			this.<List<T>>maybeEmitEvent(results, AfterScanEvent::new);
+
+			ScanResultPage<T> page = new ScanResultPage<>();
+			page.setResults(results);
+			page.setLastEvaluatedKey(result.getLastEvaluatedKey());
+			page.setCount(result.getCount());
+			page.setScannedCount(result.getScannedCount());
+			page.setConsumedCapacity(result.getConsumedCapacity());
+			return page;
+		});
+	}
+
+	@Override
+	public <T> CompletableFuture<T> load(Class<T> domainClass, Object hashKey, Object rangeKey) {
+		DynamoDBMapperTableModel<T> tableModel = getTableModel(domainClass);
+		GetItemRequest getItemRequest = new GetItemRequest().withTableName(getTableName(domainClass))
+				.withKey(tableModel.convertKey(hashKey, rangeKey)).withConsistentRead(isConsistentRead());
+
+		CompletableFuture<GetItemResult> getItemResult = execute(getItemRequest, amazonDynamoDB::getItemAsync);
+		return getItemResult.thenApply(result -> {
+			if (result.getItem() == null) {
+				return null;
+			}
+			T entity = tableModel.unconvert(result.getItem());
+			maybeEmitEvent(entity, AfterLoadEvent::new);
+			return entity;
+		});
+	}
+
+	@Override
+	public <T> CompletableFuture<T> load(Class<T> domainClass, Object hashKey) {
+		return load(domainClass, hashKey, null);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T> CompletableFuture<List<T>> batchLoad(Map<Class<?>, List<KeyPair>> itemsToGet) {
+		Map<String, DynamoDBMapperTableModel<?>> tableModels = new HashMap<>();
+		List<CompletableFuture<List<Object>>> batches = new ArrayList<>();
+
+		Map<String, KeysAndAttributes> batch = new HashMap<>();
+		int batchSize = 0;
+		for (Map.Entry<Class<?>, List<KeyPair>> entry : itemsToGet.entrySet()) {
+			String tableName = getTableName(entry.getKey());
+			DynamoDBMapperTableModel<?> tableModel = getTableModel(entry.getKey());
+			tableModels.put(tableName, tableModel);
+
+			for (KeyPair keyPair : entry.getValue()) {
+				batch.computeIfAbsent(tableName, t -> new KeysAndAttributes().withConsistentRead(isConsistentRead()))
+						.withKeys(tableModel.convertKey(keyPair.getHashKey(), keyPair.getRangeKey()));
+				if (++batchSize == MAX_ITEMS_PER_BATCH_GET) {
+					batches.add(loadBatch(batch, tableModels, 0));
+					batch = new HashMap<>();
+					batchSize = 0;
+				}
+			}
+		}
+		if (batchSize > 0) {
+			batches.add(loadBatch(batch, tableModels, 0));
+		}
+
+		return CompletableFuture.allOf(batches.toArray(new CompletableFuture<?>[0]))
+				.thenApply(v -> batches.stream().flatMap(b -> b.join().stream()).map(e -> (T) e).map(entity -> {
+					maybeEmitEvent(entity, AfterLoadEvent::new);
+					return entity;
+				}).toList());
+	}
+
+	@Override
+	public <T> CompletableFuture<T> save(T entity) {
+		maybeEmitEvent(entity, BeforeSaveEvent::new);
+
+		DynamoDBMapperTableModel<T> tableModel = getTableModel(getDomainClass(entity));
+		Map<String, ExpectedAttributeValue> expected = getExpectedVersions(tableModel, entity);
+		Map<DynamoDBMapperFieldModel<T, Object>, Object> generatedValues = generateValues(tableModel, entity);
+
+		Map<String, AttributeValue> item = tableModel.convert(entity);
+		generatedValues.forEach((field, value) -> item.put(field.name(), field.convert(value)));
+		PutItemRequest putItemRequest = new PutItemRequest().withTableName(getTableName(entity.getClass()))
+				.withItem(item);
+		if (!expected.isEmpty()) {
+			putItemRequest.setExpected(expected);
+		}
+
+		evictCached(entity);
+		CompletableFuture<PutItemResult> putItemResult = execute(putItemRequest, amazonDynamoDB::putItemAsync);
+		// Again, in case a concurrent load cached the old item in the meantime
+		return putItemResult.whenComplete((result, exception) -> evictCached(entity)).thenApply(result -> {
+			generatedValues.forEach((field, value) -> field.set(entity, value));
+			maybeEmitEvent(entity, AfterSaveEvent::new);
+			return entity;
+		});
+	}
+
+	@Override
+	public CompletableFuture<List<FailedBatch>> batchSave(Iterable<?> entities) {
+		entities.forEach(it -> maybeEmitEvent(it, BeforeSaveEvent::new));
+
+		Map<String, List<WriteRequest>> writeRequests = new HashMap<>();
+		for (Object entity : entities) {
+			writeRequests.computeIfAbsent(getTableName(entity.getClass()), t -> new ArrayList<>())
+					.add(new WriteRequest(new PutRequest(convertForBatchSave(entity))));
+		}
+
+		entities.forEach(this::evictCached);
+		return writeBatches(writeRequests).whenComplete((result, exception) -> entities.forEach(this::evictCached))
+				.thenApply(result -> {
+					entities.forEach(it -> maybeEmitEvent(it, AfterSaveEvent::new));
+					return result;
+				});
+	}
+
+	@Override
+	public <T> CompletableFuture<T> delete(T entity) {
+		maybeEmitEvent(entity, BeforeDeleteEvent::new);
+
+		DynamoDBMapperTableModel<T> tableModel = getTableModel(getDomainClass(entity));
+		DeleteItemRequest deleteItemRequest = new DeleteItemRequest().withTableName(getTableName(entity.getClass()))
+				.withKey(tableModel.convertKey(entity));
+		Map<String, ExpectedAttributeValue> expected = getExpectedVersions(tableModel, entity);
+		if (!expected.isEmpty()) {
+			deleteItemRequest.setExpected(expected);
+		}
+
+		evictCached(entity);
+		CompletableFuture<DeleteItemResult> deleteItemResult = 
+				execute(deleteItemRequest, amazonDynamoDB::deleteItemAsync);
+		return deleteItemResult.whenComplete((result, exception) -> evictCached(entity)).thenApply(result -> {
+			maybeEmitEvent(entity, AfterDeleteEvent::new);
+			return entity;
+		});
+	}
+
+	@Override
+	public CompletableFuture<List<FailedBatch>> batchDelete(Iterable<?> entities) {
+		entities.forEach(it -> maybeEmitEvent(it, BeforeDeleteEvent::new));
+
+		Map<String, List<WriteRequest>> writeRequests = new HashMap<>();
+		for (Object entity : entities) {
+			writeRequests.computeIfAbsent(getTableName(entity.getClass()), t -> new ArrayList<>())
+					.add(new WriteRequest(new DeleteRequest(getTableModel(getDomainClass(entity)).convertKey(entity))));
+		}
+
+		entities.forEach(this::evictCached);
+		return writeBatches(writeRequests).whenComplete((result, exception) -> entities.forEach(this::evictCached))
+				.thenApply(result -> {
+					entities.forEach(it -> maybeEmitEvent(it, AfterDeleteEvent::new));
+					return result;
+				});
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public <T> DynamoDBMapperTableModel<T> getTableModel(Class<T> domainClass) {
+		return dynamoDBMapper.getTableModel(domainClass, dynamoDBMapperConfig);
+	}
+
+	protected <T> void maybeEmitEvent(@Nullable T source, Function<T, DynamoDBMappingEvent<T>> factory) {
+		if (eventPublisher != null) {
+			if (source != null) {
+				DynamoDBMappingEvent<T> event = factory.apply(source);
+
+				eventPublisher.publishEvent(event);
+			}
+		}
+	}
+
+	private <T> String getTableName(Class<T> domainClass) {
+		TableNameResolver tableNameResolver = dynamoDBMapperConfig.getTableNameResolver();
+		if (tableNameResolver == null) {
+			tableNameResolver = DefaultTableNameResolver.INSTANCE;
+		}
+		return tableNameResolver.getTableName(domainClass, dynamoDBMapperConfig);
+	}
+
+	private <T> void evictCached(T entity) {
+		Class<T> domainClass = getDomainClass(entity);
+		if (entityCache == null || !entityCache.isCached(domainClass)) {
+			return;
+		}
+
+		DynamoDBMapperTableModel<T> tableModel = getTableModel(domainClass);
+		Object hashKey = tableModel.hashKey().get(entity);
+		if (hashKey == null) {
+			// Not persisted yet, e.g. an auto generated key
+			return;
+		}
+		Object rangeKey = tableModel.rangeKeyIfExists() != null ? tableModel.rangeKey().get(entity) : null;
+		// Keys are compared in their DynamoDB representation
+		entityCache.evict(domainClass, new EntityCacheKey(getTableName(domainClass),
+				tableModel.hashKey().convert(hashKey), rangeKey != null ? tableModel.rangeKey().convert(rangeKey) : null));
+	}
+
+	private boolean isConsistentRead() {
+		return dynamoDBMapperConfig.getConsistentReads() == ConsistentReads.CONSISTENT;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> Class<T> getDomainClass(T entity) {
+		return (Class<T>) entity.getClass();
+	}
+
+	private <T> Map<String, ExpectedAttributeValue> getExpectedVersions(DynamoDBMapperTableModel<T> tableModel,
+			T entity) {
+		Map<String, ExpectedAttributeValue> expected = new HashMap<>();
+		if (dynamoDBMapperConfig.getSaveBehavior() != SaveBehavior.CLOBBER) {
+			for (DynamoDBMapperFieldModel<T, Object> field : tableModel.versions()) {
+				Object currentVersion = field.get(entity);
+				expected.put(field.name(), currentVersion == null
+						? new ExpectedAttributeValue(false)
+						: new ExpectedAttributeValue(field.convert(currentVersion)));
+			}
+		}
+		return expected;
+	}
+
+	private static <T> Map<DynamoDBMapperFieldModel<T, Object>, Object> generateValues(
+			DynamoDBMapperTableModel<T> tableModel, T entity) {
+		Map<DynamoDBMapperFieldModel<T, Object>, Object> generatedValues = new HashMap<>();
+		for (DynamoDBMapperFieldModel<T, Object> field : tableModel.fields()) {
+			Object currentValue = field.get(entity);
+			DynamoDBAutoGenerateStrategy strategy = field.getGenerateStrategy();
+			if (strategy == DynamoDBAutoGenerateStrategy.ALWAYS
+					|| (strategy == DynamoDBAutoGenerateStrategy.CREATE && currentValue == null)) {
+				generatedValues.put(field, field.generate(currentValue));
+			}
+		}
+		return generatedValues;
+	}
+
+	private <T> Map<String, AttributeValue> convertForBatchSave(T entity) {
+		// Batch writes can not be conditional, so generated values are applied
+		// upfront - just like DynamoDBMapper#batchSave does
+		DynamoDBMapperTableModel<T> tableModel = getTableModel(getDomainClass(entity));
+		generateValues(tableModel, entity).forEach((field, value) -> field.set(entity, value));
+		return tableModel.convert(entity);
+	}
+
+	private CompletableFuture<List<FailedBatch>> writeBatches(Map<String, List<WriteRequest>> writeRequests) {
+		List<CompletableFuture<FailedBatch>> batches = new ArrayList<>();
+
+		Map<String, List<WriteRequest>> batch = new HashMap<>();
+		int batchSize = 0;
+		for (Map.Entry<String, List<WriteRequest>> entry : writeRequests.entrySet()) {
+			for (WriteRequest writeRequest : entry.getValue()) {
+				batch.computeIfAbsent(entry.getKey(), t -> new ArrayList<>()).add(writeRequest);
+				if (++batchSize == MAX_ITEMS_PER_BATCH_WRITE) {
+					batches.add(writeBatch(batch, 0));
+					batch = new HashMap<>();
+					batchSize = 0;
+				}
+			}
+		}
+		if (batchSize > 0) {
+			batches.add(writeBatch(batch, 0));
+		}
+
+		return CompletableFuture.allOf(batches.toArray(new CompletableFuture<?>[0]))
+				.thenApply(v -> batches.stream().map(CompletableFuture::join).filter(Objects::nonNull).toList());
+	}
+
+	private CompletableFuture<FailedBatch> writeBatch(Map<String, List<WriteRequest>> batch, int retries) {
+		BatchWriteItemRequest batchWriteItemRequest = new BatchWriteItemRequest().withRequestItems(batch);
+
+		CompletableFuture<BatchWriteItemResult> batchWriteItemResult = 
+				execute(batchWriteItemRequest, amazonDynamoDB::batchWriteItemAsync);
+		return batchWriteItemResult.handle((result, exception) -> {
+			if (exception != null) {
+				return CompletableFuture.completedFuture(failedBatch(batch, exception));
+			}
+
+			Map<String, List<WriteRequest>> unprocessedItems = result.getUnprocessedItems();
+			if (unprocessedItems == null || unprocessedItems.isEmpty()) {
+				return CompletableFuture.<FailedBatch>completedFuture(null);
+			}
+
+			BatchWriteRetryStrategy retryStrategy = dynamoDBMapperConfig.getBatchWriteRetryStrategy();
+			if (retryStrategy == null) {
+				retryStrategy = DefaultBatchWriteRetryStrategy.INSTANCE;
+			}
+			if (retries >= retryStrategy.getMaxRetryOnUnprocessedItems(unprocessedItems)) {
+				return CompletableFuture.completedFuture(failedBatch(unprocessedItems,
+						new AmazonClientException("Items remained unprocessed after " + retries + " retries")));
+			}
+
+			long delay = retryStrategy.getDelayBeforeRetryUnprocessedItems(unprocessedItems, retries);
+			return CompletableFuture.runAsync(() -> {
+			}, CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS))
+					.thenCompose(v -> writeBatch(unprocessedItems, retries + 1));
+		}).thenCompose(Function.identity());
+	}
+
+	private static FailedBatch failedBatch(Map<String, List<WriteRequest>> unprocessedItems, Throwable exception) {
+		Throwable cause = exception instanceof CompletionException && exception.getCause() != null
+				? exception.getCause()
+				: exception;
+
+		FailedBatch failedBatch = new FailedBatch();
+		failedBatch.setUnprocessedItems(unprocessedItems);
+		failedBatch.setException(cause instanceof Exception ? (Exception) cause : new CompletionException(cause));
+		return failedBatch;
+	}
+
+	private CompletableFuture<List<Object>> loadBatch(Map<String, KeysAndAttributes> batch,
+			Map<String, DynamoDBMapperTableModel<?>> tableModels, int retries) {
+		BatchGetItemRequest batchGetItemRequest = new BatchGetItemRequest().withRequestItems(batch);
+
+		CompletableFuture<BatchGetItemResult> batchGetItemResult = 
+				execute(batchGetItemRequest, amazonDynamoDB::batchGetItemAsync);
+		return batchGetItemResult.thenCompose(result -> {
+			List<Object> entities = new ArrayList<>();
+			result.getResponses().forEach((tableName, items) -> items
+					.forEach(item -> entities.add(tableModels.get(tableName).unconvert(item))));
+
+			Map<String, KeysAndAttributes> unprocessedKeys = result.getUnprocessedKeys();
+			if (unprocessedKeys == null || unprocessedKeys.isEmpty()) {
+				return CompletableFuture.completedFuture(entities);
+			}
+			if (retries >= MAX_BATCH_GET_RETRIES) {
+				throw new DataRetrievalFailureException(
+						"Keys remained unprocessed after " + retries + " retries: " + unprocessedKeys);
+			}
+
+			long delay = BATCH_GET_RETRY_BASE_DELAY_MILLIS << retries;
+			return CompletableFuture.runAsync(() -> {
+			}, CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS))
+					.thenCompose(v -> loadBatch(unprocessedKeys, tableModels, retries + 1)).thenApply(next -> {
+						entities.addAll(next);
+						return entities;
+					});
+		});
+	}
+
+	private <T> ScanRequest createScanRequest(Class<T> domainClass, DynamoDBScanExpression scanExpression) {
+		return new ScanRequest().withTableName(getTableName(domainClass)).withIndexName(scanExpression.getIndexName())
+				.withScanFilter(scanExpression.getScanFilter())
+				.withConditionalOperator(scanExpression.getConditionalOperator())
+				.withFilterExpression(scanExpression.getFilterExpression())
+				.withExpressionAttributeNames(scanExpression.getExpressionAttributeNames())
+				.withExpressionAttributeValues(scanExpression.getExpressionAttributeValues())
+				.withLimit(scanExpression.getLimit()).withExclusiveStartKey(scanExpression.getExclusiveStartKey())
+				.withSegment(scanExpression.getSegment()).withTotalSegments(scanExpression.getTotalSegments())
+				.withProjectionExpression(scanExpression.getProjectionExpression())
+				.withSelect(scanExpression.getSelect())
+				.withReturnConsumedCapacity(scanExpression.getReturnConsumedCapacity())
+				.withConsistentRead(scanExpression.isConsistentRead() != null
+						? scanExpression.isConsistentRead()
+						: isConsistentRead());
+	}
+
+	private CompletableFuture<Void> queryPages(QueryRequest queryRequest, boolean firstPageOnly,
+			Consumer<QueryResult> pageConsumer) {
+		CompletableFuture<QueryResult> queryResult = execute(queryRequest, amazonDynamoDB::queryAsync);
+		return queryResult.thenCompose(result -> {
+			pageConsumer.accept(result);
+			if (firstPageOnly || result.getLastEvaluatedKey() == null) {
+				return CompletableFuture.completedFuture(null);
+			}
+			return queryPages(queryRequest.clone().withExclusiveStartKey(result.getLastEvaluatedKey()), false,
+					pageConsumer);
+		});
+	}
+
+	private CompletableFuture<Void> scanPages(ScanRequest scanRequest, Consumer<ScanResult> pageConsumer) {
+		CompletableFuture<ScanResult> scanResult = execute(scanRequest, amazonDynamoDB::scanAsync);
+		return scanResult.thenCompose(result -> {
+			pageConsumer.accept(result);
+			if (result.getLastEvaluatedKey() == null) {
+				return CompletableFuture.completedFuture(null);
+			}
+			return scanPages(scanRequest.clone().withExclusiveStartKey(result.getLastEvaluatedKey()), pageConsumer);
+		});
+	}
+
+	private <R extends AmazonWebServiceRequest, S> CompletableFuture<S> execute(R request,
+			BiFunction<R, AsyncHandler<R, S>, Future<S>> operation) {
+		CompletableFuture<S> future = new CompletableFuture<>();
+		try {
+			operation.apply(request, new AsyncHandler<R, S>() {
+				@Override
+				public void onError(Exception exception) {
+					future.completeExceptionally(exception);
+				}
+
+				@Override
+				public void onSuccess(R request, S result) {
+					future.complete(result);
+				}
+			});
+		} catch (RuntimeException e) {
+			future.completeExceptionally(e);
+		}
+		return future;
+	}
+}
@@ -0,0 +1,96 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Immutable outcome of a parallel batch write, reported per entity.
+ *
+ * @param <T>
+ *            the type of the written entities
+ */
+public final class BatchWriteResult<T> {
+
+	private final List<T> written;
+	private final List<Failure<T>> failures;
+
+	public BatchWriteResult(List<T> written, List<Failure<T>> failures) {
+		this.written = Collections.unmodifiableList(written);
+		this.failures = Collections.unmodifiableList(failures);
+	}
+
+	/**
+	 * @return The entities which were written, in no particular order
+	 */
+	public List<T> getWritten() {
+		return written;
+	}
+
+	/**
+	 * @return The entities which could not be written, in no particular order
+	 */
+	public List<Failure<T>> getFailures() {
+		return failures;
+	}
+
+	/**
+	 * @return {@code true} if every entity was written
+	 */
+	public boolean isComplete() {
+		return failures.isEmpty();
+	}
+
+	@Override
+	public String toString() {
+		return "BatchWriteResult [written=" + written.size() + ", failures=" + failures.size() + "]";
+	}
+
+	/**
+	 * An entity which could not be written.
+	 *
+	 * @param <T>
+	 *            the type of the entity
+	 */
+	public static final class Failure<T> {
+
+		private final T entity;
+		@Nullable
+		private final Exception cause;
+
+		public Failure(T entity, @Nullable Exception cause) {
+			this.entity = entity;
+			this.cause = cause;
+		}
+
+		public T getEntity() {
+			return entity;
+		}
+
+		/**
+		 * @return The exception the request of the entity failed with or
+		 *         {@code null} if the entity was still unprocessed after all
+		 *         retries
+		 */
+		@Nullable
+		public Exception getCause() {
+			return cause;
+		}
+	}
+}
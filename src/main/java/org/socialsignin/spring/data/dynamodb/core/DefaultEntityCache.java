@@ -0,0 +1,244 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+
+import org.socialsignin.spring.data.dynamodb.repository.EnableEntityCache;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+
+/**
+ * Default {@link EntityCache}. Every domain class gets its own region, bounded
+ * by its time to live and maximum weight. If the maximum weight is exceeded,
+ * the least recently used entries are evicted.
+ */
+public class DefaultEntityCache implements EntityCache {
+
+	private final ConcurrentMap<Class<?>, Region> regions = new ConcurrentHashMap<>();
+	private final ToLongFunction<Map<String, AttributeValue>> weigher;
+	private final LongSupplier nanoClock;
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder evictionCount = new LongAdder();
+
+	// Marks domain classes which are not cached
+	private final Region notCached = new Region(0, 0);
+
+	public DefaultEntityCache() {
+		this(item -> 1);
+	}
+
+	/**
+	 * @param weigher
+	 *            Calculates the weight of an item, e.g. its approximate size
+	 */
+	public DefaultEntityCache(ToLongFunction<Map<String, AttributeValue>> weigher) {
+		this(weigher, System::nanoTime);
+	}
+
+	DefaultEntityCache(ToLongFunction<Map<String, AttributeValue>> weigher, LongSupplier nanoClock) {
+		Assert.notNull(weigher, "weigher must not be null");
+		Assert.notNull(nanoClock, "nanoClock must not be null");
+
+		this.weigher = weigher;
+		this.nanoClock = nanoClock;
+	}
+
+	@Override
+	public void configure(Class<?> domainClass, Duration ttl, long maxWeight) {
+		Assert.notNull(domainClass, "domainClass must not be null");
+		Assert.isTrue(!ttl.isNegative() && !ttl.isZero(), "ttl must be positive");
+		Assert.isTrue(maxWeight > 0, "maxWeight must be positive");
+
+		regions.put(domainClass, new Region(ttl.toNanos(), maxWeight));
+	}
+
+	@Override
+	public boolean isCached(Class<?> domainClass) {
+		return getRegion(domainClass) != notCached;
+	}
+
+	@Override
+	@Nullable
+	public Map<String, AttributeValue> get(Class<?> domainClass, EntityCacheKey key) {
+		Region region = getRegion(domainClass);
+		if (region == notCached) {
+			return null;
+		}
+
+		Map<String, AttributeValue> item = region.get(key, nanoClock.getAsLong());
+		if (item == null) {
+			missCount.increment();
+		} else {
+			hitCount.increment();
+		}
+		return item;
+	}
+
+	@Override
+	public void put(Class<?> domainClass, EntityCacheKey key, Map<String, AttributeValue> item) {
+		Region region = getRegion(domainClass);
+		if (region != notCached) {
+			region.put(key, item, weigher.applyAsLong(item), nanoClock.getAsLong());
+		}
+	}
+
+	@Override
+	public void put(Class<?> domainClass, EntityCacheKey key, Map<String, AttributeValue> item,
+			long evictionStamp) {
+		Region region = getRegion(domainClass);
+		if (region != notCached) {
+			region.putIfNotEvictedSince(key, item, weigher.applyAsLong(item), nanoClock.getAsLong(), evictionStamp);
+		}
+	}
+
+	@Override
+	public long getEvictionStamp(Class<?> domainClass) {
+		return getRegion(domainClass).getEvictionStamp();
+	}
+
+	@Override
+	public void evict(Class<?> domainClass, EntityCacheKey key) {
+		Region region = getRegion(domainClass);
+		if (region != notCached) {
+			region.remove(key);
+		}
+	}
+
+	@Override
+	public void evictAll(Class<?> domainClass) {
+		Region region = getRegion(domainClass);
+		if (region != notCached) {
+			region.clear();
+		}
+	}
+
+	@Override
+	public EntityCacheStatistics getStatistics() {
+		return new EntityCacheStatistics(hitCount.sum(), missCount.sum(), evictionCount.sum());
+	}
+
+	private Region getRegion(Class<?> domainClass) {
+		return regions.computeIfAbsent(domainClass, clazz -> {
+			EnableEntityCache enableEntityCache = AnnotatedElementUtils.findMergedAnnotation(clazz,
+					EnableEntityCache.class);
+			if (enableEntityCache == null) {
+				return notCached;
+			}
+			return new Region(enableEntityCache.unit().toNanos(enableEntityCache.ttl()),
+					enableEntityCache.maxWeight());
+		});
+	}
+
+	private static final class Entry {
+		private final Map<String, AttributeValue> item;
+		private final long weight;
+		private final long expiresAtNanos;
+
+		private Entry(Map<String, AttributeValue> item, long weight, long expiresAtNanos) {
+			this.item = item;
+			this.weight = weight;
+			this.expiresAtNanos = expiresAtNanos;
+		}
+	}
+
+	private final class Region {
+		private final long ttlNanos;
+		private final long maxWeight;
+		// Access ordered - the eldest entry is the least recently used one
+		private final LinkedHashMap<EntityCacheKey, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+		private long totalWeight;
+		// Incremented by every explicit eviction, i.e. every write
+		private long evictionStamp;
+
+		private Region(long ttlNanos, long maxWeight) {
+			this.ttlNanos = ttlNanos;
+			this.maxWeight = maxWeight;
+		}
+
+		private synchronized Map<String, AttributeValue> get(EntityCacheKey key, long now) {
+			Entry entry = entries.get(key);
+			if (entry == null) {
+				return null;
+			}
+			if (now - entry.expiresAtNanos >= 0) {
+				removeEntry(key);
+				evictionCount.increment();
+				return null;
+			}
+			return entry.item;
+		}
+
+		private synchronized void put(EntityCacheKey key, Map<String, AttributeValue> item, long weight, long now) {
+			removeEntry(key);
+			if (weight > maxWeight) {
+				return;
+			}
+
+			entries.put(key, new Entry(item, weight, now + ttlNanos));
+			totalWeight += weight;
+
+			Iterator<Entry> leastRecentlyUsed = entries.values().iterator();
+			while (totalWeight > maxWeight) {
+				totalWeight -= leastRecentlyUsed.next().weight;
+				leastRecentlyUsed.remove();
+				evictionCount.increment();
+			}
+		}
+
+		private synchronized void putIfNotEvictedSince(EntityCacheKey key, Map<String, AttributeValue> item,
+				long weight, long now, long evictionStamp) {
+			if (this.evictionStamp == evictionStamp) {
+				put(key, item, weight, now);
+			}
+		}
+
+		private synchronized long getEvictionStamp() {
+			return evictionStamp;
+		}
+
+		private synchronized void remove(EntityCacheKey key) {
+			evictionStamp++;
+			removeEntry(key);
+		}
+
+		private synchronized void clear() {
+			evictionStamp++;
+			entries.clear();
+			totalWeight = 0;
+		}
+
+		private void removeEntry(EntityCacheKey key) {
+			Entry removed = entries.remove(key);
+			if (removed != null) {
+				totalWeight -= removed.weight;
+			}
+		}
+	}
+}
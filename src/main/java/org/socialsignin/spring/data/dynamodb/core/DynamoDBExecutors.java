@@ -0,0 +1,111 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Provides the shared default {@link Executor}s the {@link DynamoDBTemplate}
+ * fans its requests out on and asynchronous query methods are executed on.
+ */
+public final class DynamoDBExecutors {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(DynamoDBExecutors.class);
+
+	private static final int PARALLEL_SCAN_THREADS = 16;
+
+	private static final Executor ASYNC_EXECUTOR = createAsyncExecutor();
+
+	/**
+	 * Private constructor to prevent instantiation.
+	 */
+	private DynamoDBExecutors() {
+
+	}
+
+	/**
+	 * @return The shared, bounded {@link Executor} the segments of parallel
+	 *         counts and scans are processed on
+	 */
+	public static Executor parallelScanExecutor() {
+		return ParallelScanExecutorHolder.EXECUTOR;
+	}
+
+	/**
+	 * @return The shared {@link Executor} for asynchronous work like concurrent
+	 *         {@code BatchWriteItem} requests and asynchronous query methods. On
+	 *         JDK 21+ every task runs on its own virtual thread, older runtimes
+	 *         fall back to a cached pool of daemon threads.
+	 */
+	public static Executor asyncExecutor() {
+		return ASYNC_EXECUTOR;
+	}
+
+	/**
+	 * @param poolSize
+	 *            The number of daemon threads of the pool
+	 * @param namePrefix
+	 *            The prefix of the thread names
+	 * @return A new {@link ScheduledExecutorService} the caller owns and has to
+	 *         shut down
+	 */
+	public static ScheduledExecutorService newScheduledExecutor(int poolSize, String namePrefix) {
+		return Executors.newScheduledThreadPool(poolSize, daemonThreadFactory(namePrefix));
+	}
+
+	/**
+	 * @param namePrefix
+	 *            The prefix of the thread names
+	 * @return A new cached pool of daemon threads the caller owns and has to shut
+	 *         down
+	 */
+	public static ExecutorService newCachedExecutor(String namePrefix) {
+		return Executors.newCachedThreadPool(daemonThreadFactory(namePrefix));
+	}
+
+	private static Executor createAsyncExecutor() {
+		try {
+			// Looked up reflectively as the library is still compiled for Java 20
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch (ReflectiveOperationException | UnsupportedOperationException e) {
+			LOGGER.debug("Virtual threads are not available, falling back to a cached thread pool", e);
+		}
+		return Executors.newCachedThreadPool(daemonThreadFactory("dynamoDB-async-"));
+	}
+
+	private static ThreadFactory daemonThreadFactory(String namePrefix) {
+		AtomicInteger threadNumber = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, namePrefix + threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	// Created on first use only, as most applications never scan in parallel
+	private static final class ParallelScanExecutorHolder {
+		private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(PARALLEL_SCAN_THREADS,
+				daemonThreadFactory("dynamoDB-parallel-scan-"));
+	}
+}
@@ -15,15 +15,23 @@
  */
 package org.socialsignin.spring.data.dynamodb.core;
 
+import org.springframework.lang.Nullable;
+
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper.FailedBatch;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.PaginationLoadingStrategy;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBQueryExpression;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
 import com.amazonaws.services.dynamodbv2.datamodeling.KeyPair;
+import com.amazonaws.services.dynamodbv2.datamodeling.PaginatedParallelScanList;
 import com.amazonaws.services.dynamodbv2.datamodeling.PaginatedQueryList;
 import com.amazonaws.services.dynamodbv2.datamodeling.PaginatedScanList;
+import com.amazonaws.services.dynamodbv2.datamodeling.QueryResultPage;
+import com.amazonaws.services.dynamodbv2.datamodeling.ScanResultPage;
 import com.amazonaws.services.dynamodbv2.model.QueryRequest;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -40,16 +48,330 @@ public interface DynamoDBOperations {
 	<T> PaginatedQueryList<T> query(Class<T> domainClass, DynamoDBQueryExpression<T> queryExpression);
 	<T> PaginatedScanList<T> scan(Class<T> domainClass, DynamoDBScanExpression scanExpression);
 
+	/**
+	 * Like {@link #query(Class, QueryRequest)}, but loads the result pages with
+	 * the given strategy instead of the one of the {@link DynamoDBMapperConfig}.
+	 *
+	 * @param <T>
+	 *            The type of the domain type itself
+	 * @param clazz
+	 *            A domain type
+	 * @param queryRequest
+	 *            The query to execute
+	 * @param paginationLoadingStrategy
+	 *            How the result pages are loaded
+	 * @return The results, loaded according to the strategy
+	 */
+	<T> PaginatedQueryList<T> query(Class<T> clazz, QueryRequest queryRequest,
+			PaginationLoadingStrategy paginationLoadingStrategy);
+
+	/**
+	 * Like {@link #query(Class, DynamoDBQueryExpression)}, but loads the result
+	 * pages with the given strategy instead of the one of the
+	 * {@link DynamoDBMapperConfig}. Results loaded
+	 * {@link PaginationLoadingStrategy#ITERATION_ONLY} can be iterated only
+	 * once, hence no {@link org.socialsignin.spring.data.dynamodb.mapping.event.AfterQueryEvent}
+	 * is published for them.
+	 *
+	 * @param <T>
+	 *            The type of the domain type itself
+	 * @param domainClass
+	 *            A domain type
+	 * @param queryExpression
+	 *            The query to execute
+	 * @param paginationLoadingStrategy
+	 *            How the result pages are loaded
+	 * @return The results, loaded according to the strategy
+	 */
+	<T> PaginatedQueryList<T> query(Class<T> domainClass, DynamoDBQueryExpression<T> queryExpression,
+			PaginationLoadingStrategy paginationLoadingStrategy);
+
+	/**
+	 * Like {@link #scan(Class, DynamoDBScanExpression)}, but loads the result
+	 * pages with the given strategy instead of the one of the
+	 * {@link DynamoDBMapperConfig}. Results loaded
+	 * {@link PaginationLoadingStrategy#ITERATION_ONLY} can be iterated only
+	 * once, hence no {@link org.socialsignin.spring.data.dynamodb.mapping.event.AfterScanEvent}
+	 * is published for them.
+	 *
+	 * @param <T>
+	 *            The type of the domain type itself
+	 * @param domainClass
+	 *            A domain type
+	 * @param scanExpression
+	 *            The scan to execute
+	 * @param paginationLoadingStrategy
+	 *            How the result pages are loaded
+	 * @return The results, loaded according to the strategy
+	 */
+	<T> PaginatedScanList<T> scan(Class<T> domainClass, DynamoDBScanExpression scanExpression,
+			PaginationLoadingStrategy paginationLoadingStrategy);
+
+	/**
+	 * Queries a single page starting at the exclusive start key of the given
+	 * query expression.
+	 *
+	 * @param <T>
+	 *            The type of the domain type itself
+	 * @param domainClass
+	 *            A domain type
+	 * @param queryExpression
+	 *            The query to execute
+	 * @return The page including the key to continue the query with
+	 */
+	<T> QueryResultPage<T> queryPage(Class<T> domainClass, DynamoDBQueryExpression<T> queryExpression);
+
+	/**
+	 * Queries a single page starting at the exclusive start key of the given
+	 * query request.
+	 *
+	 * @param <T>
+	 *            The type of the domain type itself
+	 * @param clazz
+	 *            A domain type
+	 * @param queryRequest
+	 *            The query to execute
+	 * @return The page including the key to continue the query with
+	 */
+	<T> QueryResultPage<T> queryPage(Class<T> clazz, QueryRequest queryRequest);
+
+	/**
+	 * Scans a single page starting at the exclusive start key of the given scan
+	 * expression.
+	 *
+	 * @param <T>
+	 *            The type of the domain type itself
+	 * @param domainClass
+	 *            A domain type
+	 * @param scanExpression
+	 *            The scan to execute
+	 * @return The page including the key to continue the scan with
+	 */
+	<T> ScanResultPage<T> scanPage(Class<T> domainClass, DynamoDBScanExpression scanExpression);
+
+	/**
+	 * Scans the table of the given domain type as a parallel scan. The segments
+	 * are loaded lazily while the returned list is iterated.
+	 *
+	 * @param <T>
+	 *            The type of the domain type itself
+	 * @param domainClass
+	 *            A domain type
+	 * @param scanExpression
+	 *            The scan to execute on every segment
+	 * @param totalSegments
+	 *            The number of segments or {@code 0} to derive it from the
+	 *            table size
+	 * @return The lazily loaded scan results of all segments
+	 */
+	<T> PaginatedParallelScanList<T> parallelScan(Class<T> domainClass, DynamoDBScanExpression scanExpression,
+			int totalSegments);
+
+	/**
+	 * Like {@link #parallelScan(Class, DynamoDBScanExpression, int)}, but loads
+	 * the result pages with the given strategy instead of the one of the
+	 * {@link DynamoDBMapperConfig}.
+	 *
+	 * @param <T>
+	 *            The type of the domain type itself
+	 * @param domainClass
+	 *            A domain type
+	 * @param scanExpression
+	 *            The scan to execute on every segment
+	 * @param totalSegments
+	 *            The number of segments or {@code 0} to derive it from the
+	 *            table size
+	 * @param paginationLoadingStrategy
+	 *            How the result pages are loaded
+	 * @return The scan results of all segments, loaded according to the strategy
+	 */
+	<T> PaginatedParallelScanList<T> parallelScan(Class<T> domainClass, DynamoDBScanExpression scanExpression,
+			int totalSegments, PaginationLoadingStrategy paginationLoadingStrategy);
+
+	/**
+	 * Counts the items of the given domain type with a parallel scan. The
+	 * segments are counted concurrently and summed up as {@code long}.
+	 *
+	 * @param <T>
+	 *            The type of the domain type itself
+	 * @param domainClass
+	 *            A domain type
+	 * @param scanExpression
+	 *            The scan to execute on every segment
+	 * @param totalSegments
+	 *            The number of segments or {@code 0} to derive it from the
+	 *            table size
+	 * @return The number of matching items over all segments
+	 */
+	<T> long parallelCount(Class<T> domainClass, DynamoDBScanExpression scanExpression, int totalSegments);
+
 	<T> T load(Class<T> domainClass, Object hashKey, Object rangeKey);
 	<T> T load(Class<T> domainClass, Object hashKey);
 	<T> List<T> batchLoad(Map<Class<?>, List<KeyPair>> itemsToGet);
 
+	/**
+	 * Looks the entity with the given key up in the entity cache only, without
+	 * reading it from DynamoDB.
+	 *
+	 * @param <T>
+	 *            The type of the domain type itself
+	 * @param domainClass
+	 *            A domain type
+	 * @param hashKey
+	 *            The hash key of the item
+	 * @param rangeKey
+	 *            The range key of the item or {@code null} for hash key only
+	 *            tables
+	 * @return The cached entity or {@code null} if the domain type is not cached
+	 *         or the entity is not in the cache
+	 */
+	@Nullable
+	<T> T loadCached(Class<T> domainClass, Object hashKey, @Nullable Object rangeKey);
+
+	/**
+	 * Checks whether the item with the given key exists by reading only its key
+	 * attributes.
+	 *
+	 * @param <T>
+	 *            The type of the domain type itself
+	 * @param domainClass
+	 *            A domain type
+	 * @param hashKey
+	 *            The hash key of the item
+	 * @param rangeKey
+	 *            The range key of the item or {@code null} for hash key only
+	 *            tables
+	 * @return {@code true} if the item exists
+	 */
+	<T> boolean exists(Class<T> domainClass, Object hashKey, @Nullable Object rangeKey);
+
+	/**
+	 * Loads only the key attributes of the items with the given keys in
+	 * {@code BatchGetItem} requests. No load events are published for the
+	 * returned key prototypes.
+	 *
+	 * @param <T>
+	 *            The type of the domain type itself
+	 * @param domainClass
+	 *            A domain type
+	 * @param keyPairs
+	 *            The keys of the items to look up
+	 * @return One instance holding just the key attributes per existing item
+	 */
+	<T> List<T> batchLoadKeys(Class<T> domainClass, List<KeyPair> keyPairs);
+
 	<T> T save(T entity);
 	List<FailedBatch> batchSave(Iterable<?> entities);
 
 	<T> T delete(T entity);
 	List<FailedBatch> batchDelete(Iterable<?> entities);
 
+	/**
+	 * Saves the entities in chunks of {@code BatchWriteItem} requests which are
+	 * sent concurrently. Unprocessed items are retried with jittered exponential
+	 * backoff. Entities which still could not be saved are reported individually
+	 * instead of failing the whole call.
+	 *
+	 * @param <T>
+	 *            The type of the entities
+	 * @param entities
+	 *            The entities to save
+	 * @return The outcome per entity
+	 */
+	<T> BatchWriteResult<T> parallelBatchSave(Iterable<T> entities);
+
+	/**
+	 * Deletes the entities like {@link #parallelBatchSave(Iterable)} saves them.
+	 *
+	 * @param <T>
+	 *            The type of the entities
+	 * @param entities
+	 *            The entities to delete, which only need their key properties set
+	 * @return The outcome per entity
+	 */
+	<T> BatchWriteResult<T> parallelBatchDelete(Iterable<T> entities);
+
+	/**
+	 * Deletes the item with the given key without reading it first. The delete
+	 * events are published for a key prototype of the entity, the
+	 * {@code AfterDeleteEvent} only if the item existed.
+	 *
+	 * @param <T>
+	 *            The type of the domain type itself
+	 * @param domainClass
+	 *            A domain type
+	 * @param hashKey
+	 *            The hash key of the item
+	 * @param rangeKey
+	 *            The range key of the item or {@code null} for hash key only
+	 *            tables
+	 * @return The deleted item or {@code null} if no item with the given key
+	 *         existed
+	 */
+	@Nullable
+	<T> T delete(Class<T> domainClass, Object hashKey, @Nullable Object rangeKey);
+
+	/**
+	 * Deletes the items with the given keys in concurrent {@code BatchWriteItem}
+	 * requests without reading them first. Keys of absent items are ignored. The
+	 * delete events are published for key prototypes of the entities.
+	 *
+	 * @param <T>
+	 *            The type of the domain type itself
+	 * @param domainClass
+	 *            A domain type
+	 * @param keyPairs
+	 *            The keys of the items to delete
+	 * @return The batches that could not be processed
+	 */
+	<T> List<FailedBatch> batchDelete(Class<T> domainClass, List<KeyPair> keyPairs);
+
+	/**
+	 * Deletes all items of the table of the given domain type. Every segment of a
+	 * keys-only scan hands its pages to {@code BatchWriteItem} deletes as they
+	 * arrive, so only a few pages of keys are held at any time.
+	 *
+	 * @param <T>
+	 *            The type of the domain type itself
+	 * @param domainClass
+	 *            A domain type
+	 * @param totalSegments
+	 *            The number of scan segments processed in parallel, {@code 1}
+	 *            for a sequential scan or {@code 0} to derive it from the table
+	 *            size
+	 * @return The batches that could not be processed
+	 */
+	<T> List<FailedBatch> deleteAll(Class<T> domainClass, int totalSegments);
+
+	/**
+	 * Deletes the entities of the given pages while the pages are still being
+	 * loaded. Each page is split into {@code BatchWriteItem} requests which run
+	 * concurrently with loading the next page.
+	 * 
+	 * @param pages
+	 *            the pages of entities to delete, which only need their key
+	 *            properties set
+	 * @return the batches which could not be deleted
+	 */
+	List<FailedBatch> batchDeletePages(Iterator<? extends List<?>> pages);
+
+	/**
+	 * Drops and recreates the table of the given domain type with the settings
+	 * reported by {@code DescribeTable}, if it holds at least the given number of
+	 * items. Blocks until the recreated table is active.
+	 *
+	 * @param <T>
+	 *            The type of the domain type itself
+	 * @param domainClass
+	 *            A domain type
+	 * @param minItemCount
+	 *            The approximate number of items from which on the table is
+	 *            recreated
+	 * @return {@code true} if the table was recreated, {@code false} if it holds
+	 *         fewer items
+	 */
+	<T> boolean truncate(Class<T> domainClass, long minItemCount);
+
 	<T> String getOverriddenTableName(Class<T> domainClass, String tableName);
 
 	/**
@@ -15,8 +15,26 @@
  */
 package org.socialsignin.spring.data.dynamodb.core;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import org.socialsignin.spring.data.dynamodb.mapping.event.AfterDeleteEvent;
@@ -27,33 +45,85 @@ import org.socialsignin.spring.data.dynamodb.mapping.event.AfterScanEvent;
 import org.socialsignin.spring.data.dynamodb.mapping.event.BeforeDeleteEvent;
 import org.socialsignin.spring.data.dynamodb.mapping.event.BeforeSaveEvent;
 import org.socialsignin.spring.data.dynamodb.mapping.event.DynamoDBMappingEvent;
+import org.socialsignin.spring.data.dynamodb.utils.KeyHandler;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataRetrievalFailureException;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
-import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper.FailedBatch;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.BatchWriteRetryStrategy;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.ConsistentReads;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.PaginationLoadingStrategy;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBQueryExpression;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTable;
 import com.amazonaws.services.dynamodbv2.datamodeling.KeyPair;
+import com.amazonaws.services.dynamodbv2.datamodeling.PaginatedParallelScanList;
 import com.amazonaws.services.dynamodbv2.datamodeling.PaginatedQueryList;
 import com.amazonaws.services.dynamodbv2.datamodeling.PaginatedScanList;
+import com.amazonaws.services.dynamodbv2.datamodeling.QueryResultPage;
+import com.amazonaws.services.dynamodbv2.datamodeling.ScanResultPage;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.BatchGetItemRequest;
+import com.amazonaws.services.dynamodbv2.model.BatchGetItemResult;
+import com.amazonaws.services.dynamodbv2.model.BillingMode;
+import com.amazonaws.services.dynamodbv2.model.CreateTableRequest;
+import com.amazonaws.services.dynamodbv2.model.DeleteItemRequest;
+import com.amazonaws.services.dynamodbv2.model.DescribeTableRequest;
+import com.amazonaws.services.dynamodbv2.model.GetItemRequest;
+import com.amazonaws.services.dynamodbv2.model.GlobalSecondaryIndex;
+import com.amazonaws.services.dynamodbv2.model.GlobalSecondaryIndexDescription;
+import com.amazonaws.services.dynamodbv2.model.KeysAndAttributes;
+import com.amazonaws.services.dynamodbv2.model.LocalSecondaryIndex;
+import com.amazonaws.services.dynamodbv2.model.LocalSecondaryIndexDescription;
+import com.amazonaws.services.dynamodbv2.model.ProvisionedThroughput;
+import com.amazonaws.services.dynamodbv2.model.ProvisionedThroughputDescription;
 import com.amazonaws.services.dynamodbv2.model.QueryRequest;
 import com.amazonaws.services.dynamodbv2.model.QueryResult;
+import com.amazonaws.services.dynamodbv2.model.ReturnValue;
+import com.amazonaws.services.dynamodbv2.model.SSESpecification;
+import com.amazonaws.services.dynamodbv2.model.SSEType;
 import com.amazonaws.services.dynamodbv2.model.Select;
+import com.amazonaws.services.dynamodbv2.model.TableDescription;
+import com.amazonaws.services.dynamodbv2.model.WriteRequest;
+import com.amazonaws.services.dynamodbv2.util.TableUtils.TableNeverTransitionedToStateException;
+import com.amazonaws.services.dynamodbv2.util.TableUtils;
+import com.amazonaws.waiters.WaiterParameters;
+
+public class DynamoDBTemplate implements DynamoDBOperations, ApplicationContextAware, KeyHandler {
+	// Roughly one segment per 2 GB of table data as recommended by AWS
+	private static final long BYTES_PER_SCAN_SEGMENT = 2L * 1024 * 1024 * 1024;
+	private static final int MAX_DERIVED_SCAN_SEGMENTS = 64;
+	private static final int DEFAULT_BATCH_WRITE_PARALLELISM = 16;
+	private static final int MAX_ITEMS_PER_BATCH_WRITE = 25;
+	private static final int MAX_BATCH_WRITE_RETRIES = 8;
+	private static final long BATCH_WRITE_RETRY_BASE_DELAY_MILLIS = 50;
+	private static final long BATCH_WRITE_RETRY_MAX_DELAY_MILLIS = 5_000;
+	private static final DynamoDBMapperConfig BATCH_WRITE_CONFIG = DynamoDBMapperConfig.builder()
+			.withBatchWriteRetryStrategy(new JitteredBatchWriteRetryStrategy()).build();
+	private static final int MAX_ITEMS_PER_BATCH_GET = 100;
+	private static final int MAX_BATCH_GET_RETRIES = 5;
+	private static final long BATCH_GET_RETRY_BASE_DELAY_MILLIS = 100;
 
-public class DynamoDBTemplate implements DynamoDBOperations, ApplicationContextAware {
 	private final DynamoDBMapper dynamoDBMapper;
 	private final AmazonDynamoDB amazonDynamoDB;
 	private final DynamoDBMapperConfig dynamoDBMapperConfig;
 	private ApplicationEventPublisher eventPublisher;
+	@Nullable
+	private EntityCache entityCache;
+	private int batchWriteParallelism = DEFAULT_BATCH_WRITE_PARALLELISM;
+	private Executor parallelScanExecutor = DynamoDBExecutors.parallelScanExecutor();
+	private Executor batchWriteExecutor = DynamoDBExecutors.asyncExecutor();
 
 	/**
 	 * Initializes a new {@code DynamoDBTemplate}. The following combinations are
@@ -86,6 +156,57 @@ public class DynamoDBTemplate implements DynamoDBOperations, ApplicationContextA
 		this.eventPublisher = applicationContext;
 	}
 
+	/**
+	 * @param entityCache
+	 *            The near-cache {@link #load(Class, Object)},
+	 *            {@link #load(Class, Object, Object)} and {@link #batchLoad(Map)}
+	 *            are served from for cached domain classes. Writes through this
+	 *            template evict the affected entries before and after the
+	 *            write, and a load that overlapped a write of the same domain
+	 *            class is not cached.
+	 */
+	@Autowired(required = false)
+	public void setEntityCache(@Nullable EntityCache entityCache) {
+		this.entityCache = entityCache;
+	}
+
+	@Nullable
+	public EntityCache getEntityCache() {
+		return entityCache;
+	}
+
+	/**
+	 * @param batchWriteParallelism
+	 *            The maximum number of {@code BatchWriteItem} requests a parallel
+	 *            batch write has in flight at once, defaults to 16
+	 */
+	public void setBatchWriteParallelism(int batchWriteParallelism) {
+		Assert.isTrue(batchWriteParallelism > 0, "batchWriteParallelism must be positive!");
+		this.batchWriteParallelism = batchWriteParallelism;
+	}
+
+	/**
+	 * @param parallelScanExecutor
+	 *            The {@link Executor} the segments of parallel counts and scans
+	 *            are processed on, defaults to
+	 *            {@link DynamoDBExecutors#parallelScanExecutor()}
+	 */
+	public void setParallelScanExecutor(Executor parallelScanExecutor) {
+		Assert.notNull(parallelScanExecutor, "parallelScanExecutor must not be null!");
+		this.parallelScanExecutor = parallelScanExecutor;
+	}
+
+	/**
+	 * @param batchWriteExecutor
+	 *            The {@link Executor} the concurrent {@code BatchWriteItem}
+	 *            requests of parallel batch writes are sent on, defaults to
+	 *            {@link DynamoDBExecutors#asyncExecutor()}
+	 */
+	public void setBatchWriteExecutor(Executor batchWriteExecutor) {
+		Assert.notNull(batchWriteExecutor, "batchWriteExecutor must not be null!");
+		this.batchWriteExecutor = batchWriteExecutor;
+	}
+
 	@Override
 	public <T> int count(Class<T> domainClass, DynamoDBQueryExpression<T> queryExpression) {
 		return dynamoDBMapper.count(domainClass, queryExpression);
@@ -94,7 +215,18 @@ public class DynamoDBTemplate implements DynamoDBOperations, ApplicationContextA
 	@Override
 	public <T> PaginatedQueryList<T> query(Class<T> domainClass, DynamoDBQueryExpression<T> queryExpression) {
 		PaginatedQueryList<T> results = dynamoDBMapper.query(domainClass, queryExpression);
-		maybeEmitEvent(results, AfterQueryEvent::new);
+		this.<List<T>>maybeEmitEvent(results, AfterQueryEvent::new);
+		return results;
+	}
+
+	@Override
+	public <T> PaginatedQueryList<T> query(Class<T> domainClass, DynamoDBQueryExpression<T> queryExpression,
+			PaginationLoadingStrategy paginationLoadingStrategy) {
+		PaginatedQueryList<T> results = dynamoDBMapper.query(domainClass, queryExpression,
+				withPaginationLoadingStrategy(paginationLoadingStrategy));
+		if (paginationLoadingStrategy != PaginationLoadingStrategy.ITERATION_ONLY) {
+			this.<List<T>>maybeEmitEvent(results, AfterQueryEvent::new);
+		}
 		return results;
 	}
 
@@ -105,7 +237,10 @@ public class DynamoDBTemplate implements DynamoDBOperations, ApplicationContextA
 
 	@Override
 	public <T> T load(Class<T> domainClass, Object hashKey, Object rangeKey) {
-		T entity = dynamoDBMapper.load(domainClass, hashKey, rangeKey);
+		EntityCacheKey cacheKey = getCacheKey(domainClass, hashKey, rangeKey);
+		T entity = cacheKey != null
+				? loadThroughCache(domainClass, cacheKey, hashKey, rangeKey)
+				: dynamoDBMapper.load(domainClass, hashKey, rangeKey);
 		maybeEmitEvent(entity, AfterLoadEvent::new);
 
 		return entity;
@@ -113,33 +248,293 @@ public class DynamoDBTemplate implements DynamoDBOperations, ApplicationContextA
 
 	@Override
 	public <T> T load(Class<T> domainClass, Object hashKey) {
-		T entity = dynamoDBMapper.load(domainClass, hashKey);
+		EntityCacheKey cacheKey = getCacheKey(domainClass, hashKey, null);
+		T entity = cacheKey != null
+				? loadThroughCache(domainClass, cacheKey, hashKey, null)
+				: dynamoDBMapper.load(domainClass, hashKey);
 		maybeEmitEvent(entity, AfterLoadEvent::new);
 
 		return entity;
 	}
 
+	@Override
+	public <T> T loadCached(Class<T> domainClass, Object hashKey, @Nullable Object rangeKey) {
+		T entity = getCached(domainClass, getCacheKey(domainClass, hashKey, rangeKey));
+		if (entity != null) {
+			maybeEmitEvent(entity, AfterLoadEvent::new);
+		}
+		return entity;
+	}
+
 	@Override
 	public <T> PaginatedScanList<T> scan(Class<T> domainClass, DynamoDBScanExpression scanExpression) {
 		PaginatedScanList<T> results = dynamoDBMapper.scan(domainClass, scanExpression);
-		maybeEmitEvent(results, AfterScanEvent::new);
+		this.<List<T>>maybeEmitEvent(results, AfterScanEvent::new);
+		return results;
+	}
+
+	@Override
+	public <T> PaginatedScanList<T> scan(Class<T> domainClass, DynamoDBScanExpression scanExpression,
+			PaginationLoadingStrategy paginationLoadingStrategy) {
+		PaginatedScanList<T> results = dynamoDBMapper.scan(domainClass, scanExpression,
+				withPaginationLoadingStrategy(paginationLoadingStrategy));
+		if (paginationLoadingStrategy != PaginationLoadingStrategy.ITERATION_ONLY) {
+			this.<List<T>>maybeEmitEvent(results, AfterScanEvent::new);
+		}
+		return results;
+	}
+
+	@Override
+	public <T> PaginatedParallelScanList<T> parallelScan(Class<T> domainClass, DynamoDBScanExpression scanExpression,
+			int totalSegments, PaginationLoadingStrategy paginationLoadingStrategy) {
+		PaginatedParallelScanList<T> results = dynamoDBMapper.parallelScan(domainClass, scanExpression,
+				getTotalSegments(domainClass, totalSegments), withPaginationLoadingStrategy(paginationLoadingStrategy));
+		if (paginationLoadingStrategy != PaginationLoadingStrategy.ITERATION_ONLY) {
+			this.<List<T>>maybeEmitEvent(results, AfterScanEvent::new);
+		}
+		return results;
+	}
+
+	@Override
+	public <T> QueryResultPage<T> queryPage(Class<T> domainClass, DynamoDBQueryExpression<T> queryExpression) {
+		QueryResultPage<T> result = dynamoDBMapper.queryPage(domainClass, queryExpression);
+		this.<List<T>>maybeEmitEvent(result.getResults(), AfterQueryEvent::new);
+		return result;
+	}
+
+	@Override
+	public <T> QueryResultPage<T> queryPage(Class<T> clazz, QueryRequest queryRequest) {
+		QueryResult queryResult = amazonDynamoDB.query(queryRequest);
+		QueryResultPage<T> result = new QueryResultPage<>();
+		result.setResults(dynamoDBMapper.marshallIntoObjects(clazz, queryResult.getItems(), dynamoDBMapperConfig));
+		result.setLastEvaluatedKey(queryResult.getLastEvaluatedKey());
+		result.setCount(queryResult.getCount());
+		result.setScannedCount(queryResult.getScannedCount());
+		result.setConsumedCapacity(queryResult.getConsumedCapacity());
+		this.<List<T>>maybeEmitEvent(result.getResults(), AfterQueryEvent::new);
+		return result;
+	}
+
+	@Override
+	public <T> ScanResultPage<T> scanPage(Class<T> domainClass, DynamoDBScanExpression scanExpression) {
+		ScanResultPage<T> result = dynamoDBMapper.scanPage(domainClass, scanExpression);
+		this.<List<T>>maybeEmitEvent(result.getResults(), AfterScanEvent::new);
+		return result;
+	}
+
+	private DynamoDBMapperConfig withPaginationLoadingStrategy(PaginationLoadingStrategy paginationLoadingStrategy) {
+		Assert.notNull(paginationLoadingStrategy, "paginationLoadingStrategy must not be null!");
+		return DynamoDBMapperConfig.builder().withPaginationLoadingStrategy(paginationLoadingStrategy).build();
+	}
+
+	@Override
+	public <T> PaginatedParallelScanList<T> parallelScan(Class<T> domainClass, DynamoDBScanExpression scanExpression,
+			int totalSegments) {
+		PaginatedParallelScanList<T> results = dynamoDBMapper.parallelScan(domainClass, scanExpression,
+				getTotalSegments(domainClass, totalSegments));
+		this.<List<T>>maybeEmitEvent(results, AfterScanEvent::new);
 		return results;
 	}
 
+	@Override
+	public <T> long parallelCount(Class<T> domainClass, DynamoDBScanExpression scanExpression, int totalSegments) {
+		int segments = getTotalSegments(domainClass, totalSegments);
+		if (segments == 1) {
+			return dynamoDBMapper.count(domainClass, scanExpression);
+		}
+
+		List<Future<Integer>> segmentCounts = new ArrayList<>(segments);
+		try {
+			for (int segment = 0; segment < segments; segment++) {
+				DynamoDBScanExpression segmentScanExpression = copyForSegment(scanExpression, segment, segments);
+				segmentCounts.add(CompletableFuture.supplyAsync(
+						() -> dynamoDBMapper.count(domainClass, segmentScanExpression), parallelScanExecutor));
+			}
+
+			long count = 0;
+			for (Future<Integer> segmentCount : segmentCounts) {
+				count += segmentCount.get();
+			}
+			return count;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new DataRetrievalFailureException("Interrupted while counting " + domainClass.getSimpleName(), e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new DataRetrievalFailureException("Parallel count of " + domainClass.getSimpleName() + " failed",
+					e.getCause());
+		} finally {
+			segmentCounts.forEach(segmentCount -> segmentCount.cancel(false));
+		}
+	}
+
+	private <T> int getTotalSegments(Class<T> domainClass, int totalSegments) {
+		Assert.isTrue(totalSegments >= 0, "totalSegments must not be negative!");
+		if (totalSegments > 0) {
+			return totalSegments;
+		}
+
+		DynamoDBTable table = domainClass.getAnnotation(DynamoDBTable.class);
+		Assert.notNull(table, "Unable to derive the scan segments of " + domainClass + " without @DynamoDBTable!");
+		String tableName = getOverriddenTableName(domainClass, table.tableName());
+
+		Long tableSizeBytes = amazonDynamoDB.describeTable(tableName).getTable().getTableSizeBytes();
+		if (tableSizeBytes == null) {
+			return 1;
+		}
+		long segments = (tableSizeBytes + BYTES_PER_SCAN_SEGMENT - 1) / BYTES_PER_SCAN_SEGMENT;
+		return (int) Math.max(1, Math.min(segments, MAX_DERIVED_SCAN_SEGMENTS));
+	}
+
+	private static DynamoDBScanExpression copyForSegment(DynamoDBScanExpression scanExpression, int segment,
+			int totalSegments) {
+		DynamoDBScanExpression copy = new DynamoDBScanExpression();
+		copy.setIndexName(scanExpression.getIndexName());
+		copy.setScanFilter(scanExpression.getScanFilter());
+		copy.setConditionalOperator(scanExpression.getConditionalOperator());
+		copy.setFilterExpression(scanExpression.getFilterExpression());
+		copy.setExpressionAttributeNames(scanExpression.getExpressionAttributeNames());
+		copy.setExpressionAttributeValues(scanExpression.getExpressionAttributeValues());
+		copy.setLimit(scanExpression.getLimit());
+		copy.setProjectionExpression(scanExpression.getProjectionExpression());
+		copy.setReturnConsumedCapacity(scanExpression.getReturnConsumedCapacity());
+		copy.setConsistentRead(scanExpression.isConsistentRead());
+		copy.setSegment(segment);
+		copy.setTotalSegments(totalSegments);
+		return copy;
+	}
+
 	@SuppressWarnings("unchecked")
 	@Override
 	public <T> List<T> batchLoad(Map<Class<?>, List<KeyPair>> itemsToGet) {
-		return dynamoDBMapper.batchLoad(itemsToGet).values().stream().flatMap(v -> v.stream()).map(e -> (T) e)
-				.map(entity -> {
-					maybeEmitEvent(entity, AfterLoadEvent::new);
-					return entity;
-				}).toList();
+		List<T> results = new ArrayList<>();
+		Map<Class<?>, List<KeyPair>> itemsToLoad = new HashMap<>();
+		itemsToGet.forEach((domainClass, keyPairs) -> {
+			if (entityCache != null && entityCache.isCached(domainClass)) {
+				batchLoadThroughCache(domainClass, keyPairs).forEach(entity -> results.add((T) entity));
+			} else {
+				itemsToLoad.put(domainClass, keyPairs);
+			}
+		});
+
+		if (!itemsToLoad.isEmpty()) {
+			dynamoDBMapper.batchLoad(itemsToLoad).values().stream().flatMap(v -> v.stream())
+					.forEach(entity -> results.add((T) entity));
+		}
+
+		results.forEach(entity -> maybeEmitEvent(entity, AfterLoadEvent::new));
+		return Collections.unmodifiableList(results);
+	}
+
+	@Override
+	public <T> boolean exists(Class<T> domainClass, Object hashKey, @Nullable Object rangeKey) {
+		EntityCacheKey cacheKey = getCacheKey(domainClass, hashKey, rangeKey);
+		if (cacheKey != null && entityCache.get(domainClass, cacheKey) != null) {
+			return true;
+		}
+
+		DynamoDBMapperTableModel<T> tableModel = getTableModel(domainClass);
+		Map<String, String> keyAttributeNames = getKeyAttributeNames(tableModel);
+		GetItemRequest getItemRequest = new GetItemRequest().withTableName(getTableName(domainClass))
+				.withKey(tableModel.convertKey(hashKey, rangeKey))
+				.withProjectionExpression(String.join(", ", keyAttributeNames.keySet()))
+				.withExpressionAttributeNames(keyAttributeNames).withConsistentRead(isConsistentRead());
+		Map<String, AttributeValue> item = amazonDynamoDB.getItem(getItemRequest).getItem();
+		return item != null && !item.isEmpty();
+	}
+
+	@Override
+	public <T> List<T> batchLoadKeys(Class<T> domainClass, List<KeyPair> keyPairs) {
+		DynamoDBMapperTableModel<T> tableModel = getTableModel(domainClass);
+		// BatchGetItem rejects duplicate keys within a request
+		Set<Map<String, AttributeValue>> keys = new LinkedHashSet<>();
+		for (KeyPair keyPair : keyPairs) {
+			keys.add(toDistinctKey(tableModel, keyPair.getHashKey(), keyPair.getRangeKey()));
+		}
+
+		Map<String, String> keyAttributeNames = getKeyAttributeNames(tableModel);
+		KeysAndAttributes keysOnly = new KeysAndAttributes()
+				.withProjectionExpression(String.join(", ", keyAttributeNames.keySet()))
+				.withExpressionAttributeNames(keyAttributeNames).withConsistentRead(isConsistentRead());
+
+		List<T> results = new ArrayList<>();
+		loadItems(domainClass, keys, keysOnly, item -> results.add(tableModel.unconvert(item)));
+		return Collections.unmodifiableList(results);
+	}
+
+	private <T> void loadItems(Class<T> domainClass, Set<Map<String, AttributeValue>> keys,
+			KeysAndAttributes keysAndAttributes, Consumer<Map<String, AttributeValue>> itemConsumer) {
+		String tableName = getTableName(domainClass);
+		List<Map<String, AttributeValue>> batch = new ArrayList<>(MAX_ITEMS_PER_BATCH_GET);
+		for (Iterator<Map<String, AttributeValue>> it = keys.iterator(); it.hasNext();) {
+			batch.add(it.next());
+			if (batch.size() == MAX_ITEMS_PER_BATCH_GET || !it.hasNext()) {
+				Map<String, KeysAndAttributes> requestItems = Collections.singletonMap(tableName,
+						keysAndAttributes.clone().withKeys(batch));
+				loadBatch(domainClass, requestItems).get(tableName).forEach(itemConsumer);
+				batch = new ArrayList<>(MAX_ITEMS_PER_BATCH_GET);
+			}
+		}
+	}
+
+	private <T> Map<String, List<Map<String, AttributeValue>>> loadBatch(Class<T> domainClass,
+			Map<String, KeysAndAttributes> requestItems) {
+		Map<String, List<Map<String, AttributeValue>>> responses = new HashMap<>();
+		requestItems.keySet().forEach(tableName -> responses.put(tableName, new ArrayList<>()));
+
+		Map<String, KeysAndAttributes> unprocessedKeys = requestItems;
+		for (int retries = 0;; retries++) {
+			BatchGetItemResult result = amazonDynamoDB
+					.batchGetItem(new BatchGetItemRequest().withRequestItems(unprocessedKeys));
+			result.getResponses().forEach((tableName, items) -> responses.get(tableName).addAll(items));
+
+			unprocessedKeys = result.getUnprocessedKeys();
+			if (unprocessedKeys == null || unprocessedKeys.isEmpty()) {
+				return responses;
+			}
+			if (retries >= MAX_BATCH_GET_RETRIES) {
+				throw new DataRetrievalFailureException(
+						"Keys remained unprocessed after " + retries + " retries: " + unprocessedKeys);
+			}
+			try {
+				Thread.sleep(BATCH_GET_RETRY_BASE_DELAY_MILLIS << retries);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new DataRetrievalFailureException("Interrupted while loading " + domainClass.getSimpleName(),
+						e);
+			}
+		}
+	}
+
+	private static <T> Map<String, String> getKeyAttributeNames(DynamoDBMapperTableModel<T> tableModel) {
+		// Placeholders as key attribute names might be reserved words
+		Map<String, String> keyAttributeNames = new LinkedHashMap<>();
+		keyAttributeNames.put("#hashKey", tableModel.hashKey().name());
+		if (tableModel.rangeKeyIfExists() != null) {
+			keyAttributeNames.put("#rangeKey", tableModel.rangeKeyIfExists().name());
+		}
+		return keyAttributeNames;
+	}
+
+	private <T> String getTableName(Class<T> domainClass) {
+		DynamoDBTable table = domainClass.getAnnotation(DynamoDBTable.class);
+		Assert.notNull(table, "Unable to access " + domainClass + " by key without @DynamoDBTable!");
+		return getOverriddenTableName(domainClass, table.tableName());
+	}
+
+	private boolean isConsistentRead() {
+		return dynamoDBMapperConfig.getConsistentReads() == ConsistentReads.CONSISTENT;
 	}
 
 	@Override
 	public <T> T save(T entity) {
 		maybeEmitEvent(entity, BeforeSaveEvent::new);
+		evictCached(entity);
 		dynamoDBMapper.save(entity);
+		// Again, in case a concurrent load cached the old item in the meantime
+		evictCached(entity);
 		maybeEmitEvent(entity, AfterSaveEvent::new);
 		return entity;
 
@@ -148,8 +543,10 @@ public class DynamoDBTemplate implements DynamoDBOperations, ApplicationContextA
 	@Override
 	public List<FailedBatch> batchSave(Iterable<?> entities) {
 		entities.forEach(it -> maybeEmitEvent(it, BeforeSaveEvent::new));
+		entities.forEach(this::evictCached);
 
 		List<FailedBatch> result = dynamoDBMapper.batchSave(entities);
+		entities.forEach(this::evictCached);
 
 		entities.forEach(it -> maybeEmitEvent(it, AfterSaveEvent::new));
 		return result;
@@ -158,7 +555,9 @@ public class DynamoDBTemplate implements DynamoDBOperations, ApplicationContextA
 	@Override
 	public <T> T delete(T entity) {
 		maybeEmitEvent(entity, BeforeDeleteEvent::new);
+		evictCached(entity);
 		dynamoDBMapper.delete(entity);
+		evictCached(entity);
 		maybeEmitEvent(entity, AfterDeleteEvent::new);
 		return entity;
 	}
@@ -166,15 +565,505 @@ public class DynamoDBTemplate implements DynamoDBOperations, ApplicationContextA
 	@Override
 	public List<FailedBatch> batchDelete(Iterable<?> entities) {
 		entities.forEach(it -> maybeEmitEvent(it, BeforeDeleteEvent::new));
+		entities.forEach(this::evictCached);
 
 		List<FailedBatch> result = dynamoDBMapper.batchDelete(entities);
+		entities.forEach(this::evictCached);
 
 		entities.forEach(it -> maybeEmitEvent(it, AfterDeleteEvent::new));
 		return result;
 	}
 
+	@Override
+	public <T> T delete(Class<T> domainClass, Object hashKey, @Nullable Object rangeKey) {
+		DynamoDBMapperTableModel<T> tableModel = getTableModel(domainClass);
+		// The key prototype stands in for the entity in both delete events, just
+		// like for batchDelete(Class, List)
+		T keyEntity = tableModel.createKey(hashKey, rangeKey);
+		maybeEmitEvent(keyEntity, BeforeDeleteEvent::new);
+		evictCached(keyEntity);
+
+		// ALL_OLD reports whether the item existed without a preceding GetItem
+		DeleteItemRequest deleteItemRequest = new DeleteItemRequest()
+				.withTableName(getTableName(domainClass))
+				.withKey(tableModel.convertKey(keyEntity)).withReturnValues(ReturnValue.ALL_OLD);
+		Map<String, AttributeValue> attributes = amazonDynamoDB.deleteItem(deleteItemRequest).getAttributes();
+		evictCached(keyEntity);
+		if (attributes == null || attributes.isEmpty()) {
+			return null;
+		}
+
+		maybeEmitEvent(keyEntity, AfterDeleteEvent::new);
+		return tableModel.unconvert(attributes);
+	}
+
+	@Override
+	public <T> List<FailedBatch> batchDelete(Class<T> domainClass, List<KeyPair> keyPairs) {
+		DynamoDBMapperTableModel<T> tableModel = getTableModel(domainClass);
+		// The mapper only needs the keys of the prototypes for the delete requests
+		List<T> keyEntities = new ArrayList<>(keyPairs.size());
+		for (KeyPair keyPair : keyPairs) {
+			keyEntities.add(tableModel.createKey(keyPair.getHashKey(), keyPair.getRangeKey()));
+		}
+		return batchDeletePages(Collections.singletonList(keyEntities).iterator());
+	}
+
+	@Override
+	public <T> BatchWriteResult<T> parallelBatchSave(Iterable<T> entities) {
+		return writeInParallel(entities, false);
+	}
+
+	@Override
+	public <T> BatchWriteResult<T> parallelBatchDelete(Iterable<T> entities) {
+		return writeInParallel(entities, true);
+	}
+
+	private <T> BatchWriteResult<T> writeInParallel(Iterable<T> entities, boolean delete) {
+		BatchWritePipeline pipeline = new BatchWritePipeline(delete);
+		try {
+			pipeline.submitAll(entities);
+			pipeline.awaitCompletion();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new DataAccessResourceFailureException("Interrupted while writing batches", e);
+		}
+		return pipeline.getResult();
+	}
+
+	@Override
+	public <T> List<FailedBatch> deleteAll(Class<T> domainClass, int totalSegments) {
+		int segments = getTotalSegments(domainClass, totalSegments);
+		Map<String, String> keyAttributeNames = getKeyAttributeNames(getTableModel(domainClass));
+		DynamoDBScanExpression keysOnly = new DynamoDBScanExpression()
+				.withProjectionExpression(String.join(", ", keyAttributeNames.keySet()))
+				.withExpressionAttributeNames(keyAttributeNames);
+
+		BatchWritePipeline pipeline = new BatchWritePipeline(true);
+		// The next page of every segment is scanned concurrently while the keys
+		// are submitted to the pipeline on the calling thread
+		Map<CompletableFuture<ScanResultPage<T>>, DynamoDBScanExpression> pageScans = new LinkedHashMap<>();
+		try {
+			for (int segment = 0; segment < segments; segment++) {
+				DynamoDBScanExpression segmentScanExpression = segments == 1
+						? keysOnly
+						: copyForSegment(keysOnly, segment, segments);
+				pageScans.put(scanPageAsync(domainClass, segmentScanExpression, null), segmentScanExpression);
+			}
+			while (!pageScans.isEmpty()) {
+				CompletableFuture.anyOf(pageScans.keySet().toArray(new CompletableFuture<?>[0])).get();
+				for (CompletableFuture<ScanResultPage<T>> pageScan : new ArrayList<>(pageScans.keySet())) {
+					if (pageScan.isDone()) {
+						DynamoDBScanExpression segmentScanExpression = pageScans.remove(pageScan);
+						ScanResultPage<T> page = pageScan.get();
+						if (page.getLastEvaluatedKey() != null) {
+							pageScans.put(scanPageAsync(domainClass, segmentScanExpression, page.getLastEvaluatedKey()),
+									segmentScanExpression);
+						}
+						pipeline.submitAll(page.getResults());
+					}
+				}
+			}
+			pipeline.awaitCompletion();
+			return pipeline.getFailedBatches();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new DataRetrievalFailureException("Interrupted while deleting " + domainClass.getSimpleName(), e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new DataRetrievalFailureException("Deleting all " + domainClass.getSimpleName() + " failed",
+					e.getCause());
+		} finally {
+			pageScans.keySet().forEach(pageScan -> pageScan.cancel(false));
+		}
+	}
+
+	@Override
+	public List<FailedBatch> batchDeletePages(Iterator<? extends List<?>> pages) {
+		BatchWritePipeline pipeline = new BatchWritePipeline(true);
+		try {
+			while (pages.hasNext()) {
+				pipeline.submitAll(pages.next());
+			}
+			pipeline.awaitCompletion();
+			return pipeline.getFailedBatches();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new DataRetrievalFailureException("Interrupted while deleting", e);
+		}
+	}
+
+	private <T> CompletableFuture<ScanResultPage<T>> scanPageAsync(Class<T> domainClass,
+			DynamoDBScanExpression scanExpression, @Nullable Map<String, AttributeValue> exclusiveStartKey) {
+		return CompletableFuture.supplyAsync(
+				() -> dynamoDBMapper.scanPage(domainClass, scanExpression.withExclusiveStartKey(exclusiveStartKey)),
+				parallelScanExecutor);
+	}
+
+	/**
+	 * Writes chunks of at most 25 entities as concurrent {@code BatchWriteItem}
+	 * requests. The producer blocks while {@link #setBatchWriteParallelism(int)}
+	 * chunks are in flight, so the entities held in memory stay bounded. Only
+	 * the requests are sent on the {@link #setBatchWriteExecutor(Executor)}; the
+	 * events are published on the producing thread.
+	 */
+	private final class BatchWritePipeline {
+
+		private final boolean delete;
+		private final int parallelism = batchWriteParallelism;
+		private final Semaphore inFlight = new Semaphore(parallelism);
+		private final Queue<FailedBatch> failedBatches = new ConcurrentLinkedQueue<>();
+		private final Queue<Object> written = new ConcurrentLinkedQueue<>();
+		private final Queue<BatchWriteResult.Failure<Object>> failures = new ConcurrentLinkedQueue<>();
+		private final Queue<List<Object>> writtenChunks = new ConcurrentLinkedQueue<>();
+		private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+		private BatchWritePipeline(boolean delete) {
+			this.delete = delete;
+		}
+
+		private void submitAll(Iterable<?> entities) throws InterruptedException {
+			List<Object> chunk = new ArrayList<>(MAX_ITEMS_PER_BATCH_WRITE);
+			for (Object entity : entities) {
+				chunk.add(entity);
+				if (chunk.size() == MAX_ITEMS_PER_BATCH_WRITE) {
+					submit(chunk);
+					chunk = new ArrayList<>(MAX_ITEMS_PER_BATCH_WRITE);
+				}
+			}
+			if (!chunk.isEmpty()) {
+				submit(chunk);
+			}
+		}
+
+		private void submit(List<Object> chunk) throws InterruptedException {
+			emitAfterEvents();
+			for (Object entity : chunk) {
+				if (delete) {
+					maybeEmitEvent(entity, BeforeDeleteEvent::new);
+				} else {
+					maybeEmitEvent(entity, BeforeSaveEvent::new);
+				}
+			}
+
+			inFlight.acquire();
+			RuntimeException e = failure.get();
+			if (e != null) {
+				inFlight.release();
+				throw e;
+			}
+			batchWriteExecutor.execute(() -> {
+				try {
+					write(chunk);
+				} catch (RuntimeException ex) {
+					failure.compareAndSet(null, ex);
+				} finally {
+					inFlight.release();
+				}
+			});
+		}
+
+		private void write(List<Object> chunk) {
+			chunk.forEach(DynamoDBTemplate.this::evictCached);
+			List<FailedBatch> chunkFailures = delete
+					? dynamoDBMapper.batchWrite(Collections.emptyList(), chunk, BATCH_WRITE_CONFIG)
+					: dynamoDBMapper.batchWrite(chunk, Collections.emptyList(), BATCH_WRITE_CONFIG);
+			chunk.forEach(DynamoDBTemplate.this::evictCached);
+
+			Set<Object> unwritten = Collections.newSetFromMap(new IdentityHashMap<>());
+			for (FailedBatch failedBatch : chunkFailures) {
+				failedBatches.add(failedBatch);
+				for (Object entity : getUnprocessedEntities(chunk, failedBatch)) {
+					if (unwritten.add(entity)) {
+						failures.add(new BatchWriteResult.Failure<>(entity, failedBatch.getException()));
+					}
+				}
+			}
+			List<Object> writtenChunk = new ArrayList<>(chunk.size());
+			for (Object entity : chunk) {
+				if (!unwritten.contains(entity)) {
+					writtenChunk.add(entity);
+				}
+			}
+			written.addAll(writtenChunk);
+			writtenChunks.add(writtenChunk);
+		}
+
+		private void emitAfterEvents() {
+			List<Object> writtenChunk;
+			while ((writtenChunk = writtenChunks.poll()) != null) {
+				for (Object entity : writtenChunk) {
+					if (delete) {
+						maybeEmitEvent(entity, AfterDeleteEvent::new);
+					} else {
+						maybeEmitEvent(entity, AfterSaveEvent::new);
+					}
+				}
+			}
+		}
+
+		private void awaitCompletion() throws InterruptedException {
+			inFlight.acquire(parallelism);
+			inFlight.release(parallelism);
+			emitAfterEvents();
+			RuntimeException e = failure.get();
+			if (e != null) {
+				throw e;
+			}
+		}
+
+		private List<FailedBatch> getFailedBatches() {
+			return new ArrayList<>(failedBatches);
+		}
+
+		@SuppressWarnings({"unchecked", "rawtypes"})
+		private <T> BatchWriteResult<T> getResult() {
+			return new BatchWriteResult<>(new ArrayList<>((Queue) written), new ArrayList<>((Queue) failures));
+		}
+	}
+
+	private List<Object> getUnprocessedEntities(List<Object> chunk, FailedBatch failedBatch) {
+		Map<String, List<WriteRequest>> unprocessedItems = failedBatch.getUnprocessedItems();
+		if (unprocessedItems == null || unprocessedItems.isEmpty()) {
+			return chunk;
+		}
+
+		List<Map<String, AttributeValue>> unprocessedKeys = new ArrayList<>();
+		for (List<WriteRequest> writeRequests : unprocessedItems.values()) {
+			for (WriteRequest writeRequest : writeRequests) {
+				unprocessedKeys.add(writeRequest.getPutRequest() != null
+						? writeRequest.getPutRequest().getItem()
+						: writeRequest.getDeleteRequest().getKey());
+			}
+		}
+		List<Object> unprocessed = new ArrayList<>();
+		for (Object entity : chunk) {
+			Set<Map.Entry<String, AttributeValue>> key = convertKey(entity).entrySet();
+			for (Map<String, AttributeValue> item : unprocessedKeys) {
+				if (item.entrySet().containsAll(key)) {
+					unprocessed.add(entity);
+					break;
+				}
+			}
+		}
+		return unprocessed;
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> Map<String, AttributeValue> convertKey(T entity) {
+		return getTableModel((Class<T>) entity.getClass()).convertKey(entity);
+	}
+
+	/**
+	 * Retries unprocessed items with exponential backoff and full jitter, so
+	 * concurrent chunks which were throttled together don't retry in lockstep.
+	 */
+	private static final class JitteredBatchWriteRetryStrategy implements BatchWriteRetryStrategy {
+
+		@Override
+		public int getMaxRetryOnUnprocessedItems(Map<String, List<WriteRequest>> batchWriteItemInput) {
+			return MAX_BATCH_WRITE_RETRIES;
+		}
+
+		@Override
+		public long getDelayBeforeRetryUnprocessedItems(Map<String, List<WriteRequest>> unprocessedItems,
+				int retriesAttempted) {
+			long maxDelay = Math.min(BATCH_WRITE_RETRY_MAX_DELAY_MILLIS,
+					BATCH_WRITE_RETRY_BASE_DELAY_MILLIS << Math.min(retriesAttempted, MAX_BATCH_WRITE_RETRIES));
+			return ThreadLocalRandom.current().nextLong(maxDelay + 1);
+		}
+	}
+
+	@Override
+	public <T> boolean truncate(Class<T> domainClass, long minItemCount) {
+		String tableName = getTableName(domainClass);
+		TableDescription table = amazonDynamoDB.describeTable(tableName).getTable();
+		if (table.getItemCount() == null || table.getItemCount() < minItemCount) {
+			return false;
+		}
+
+		CreateTableRequest createTableRequest = toCreateTableRequest(table);
+		try {
+			amazonDynamoDB.deleteTable(tableName);
+			amazonDynamoDB.waiters().tableNotExists()
+					.run(new WaiterParameters<>(new DescribeTableRequest(tableName)));
+			amazonDynamoDB.createTable(createTableRequest);
+			TableUtils.waitUntilActive(amazonDynamoDB, tableName);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new DataAccessResourceFailureException("Interrupted while recreating table " + tableName, e);
+		} catch (TableNeverTransitionedToStateException e) {
+			throw new DataAccessResourceFailureException("Recreated table " + tableName + " did not become active",
+					e);
+		}
+
+		if (entityCache != null) {
+			entityCache.evictAll(domainClass);
+		}
+		return true;
+	}
+
+	private static CreateTableRequest toCreateTableRequest(TableDescription table) {
+		boolean payPerRequest = table.getBillingModeSummary() != null
+				&& BillingMode.PAY_PER_REQUEST.toString().equals(table.getBillingModeSummary().getBillingMode());
+
+		CreateTableRequest createTableRequest = new CreateTableRequest().withTableName(table.getTableName())
+				.withAttributeDefinitions(table.getAttributeDefinitions()).withKeySchema(table.getKeySchema());
+		if (payPerRequest) {
+			createTableRequest.withBillingMode(BillingMode.PAY_PER_REQUEST);
+		} else {
+			createTableRequest.setProvisionedThroughput(toProvisionedThroughput(table.getProvisionedThroughput()));
+		}
+
+		if (table.getGlobalSecondaryIndexes() != null) {
+			List<GlobalSecondaryIndex> globalSecondaryIndexes = new ArrayList<>();
+			for (GlobalSecondaryIndexDescription index : table.getGlobalSecondaryIndexes()) {
+				globalSecondaryIndexes.add(new GlobalSecondaryIndex().withIndexName(index.getIndexName())
+						.withKeySchema(index.getKeySchema()).withProjection(index.getProjection())
+						.withProvisionedThroughput(
+								payPerRequest ? null : toProvisionedThroughput(index.getProvisionedThroughput())));
+			}
+			createTableRequest.setGlobalSecondaryIndexes(globalSecondaryIndexes);
+		}
+		if (table.getLocalSecondaryIndexes() != null) {
+			List<LocalSecondaryIndex> localSecondaryIndexes = new ArrayList<>();
+			for (LocalSecondaryIndexDescription index : table.getLocalSecondaryIndexes()) {
+				localSecondaryIndexes.add(new LocalSecondaryIndex().withIndexName(index.getIndexName())
+						.withKeySchema(index.getKeySchema()).withProjection(index.getProjection()));
+			}
+			createTableRequest.setLocalSecondaryIndexes(localSecondaryIndexes);
+		}
+
+		if (table.getStreamSpecification() != null
+				&& Boolean.TRUE.equals(table.getStreamSpecification().getStreamEnabled())) {
+			createTableRequest.setStreamSpecification(table.getStreamSpecification());
+		}
+		if (table.getSSEDescription() != null && SSEType.KMS.toString().equals(table.getSSEDescription().getSSEType())) {
+			createTableRequest.setSSESpecification(new SSESpecification().withEnabled(true).withSSEType(SSEType.KMS)
+					.withKMSMasterKeyId(table.getSSEDescription().getKMSMasterKeyArn()));
+		}
+		if (table.getTableClassSummary() != null) {
+			createTableRequest.setTableClass(table.getTableClassSummary().getTableClass());
+		}
+		return createTableRequest;
+	}
+
+	private static ProvisionedThroughput toProvisionedThroughput(ProvisionedThroughputDescription description) {
+		return new ProvisionedThroughput(description.getReadCapacityUnits(), description.getWriteCapacityUnits());
+	}
+
+	@Nullable
+	private <T> EntityCacheKey getCacheKey(Class<T> domainClass, Object hashKey, @Nullable Object rangeKey) {
+		if (entityCache == null || !entityCache.isCached(domainClass)) {
+			return null;
+		}
+
+		DynamoDBMapperTableModel<T> tableModel = getTableModel(domainClass);
+		DynamoDBTable table = domainClass.getAnnotation(DynamoDBTable.class);
+		String tableName = getOverriddenTableName(domainClass,
+				table != null ? table.tableName() : domainClass.getName());
+		// Keys are compared in their DynamoDB representation
+		return new EntityCacheKey(tableName, tableModel.hashKey().convert(hashKey),
+				rangeKey != null ? tableModel.rangeKey().convert(rangeKey) : null);
+	}
+
+	@Nullable
+	private <T> T getCached(Class<T> domainClass, @Nullable EntityCacheKey cacheKey) {
+		if (cacheKey == null) {
+			return null;
+		}
+		Map<String, AttributeValue> item = entityCache.get(domainClass, cacheKey);
+		return item != null ? getTableModel(domainClass).unconvert(item) : null;
+	}
+
+	/**
+	 * Loads the item itself rather than the entity, so the cached item is exactly
+	 * what DynamoDB returned and caching it does not convert the entity again,
+	 * e.g. re-storing the text of a {@code @DynamoDBClaimCheck} property.
+	 */
+	@Nullable
+	private <T> T loadThroughCache(Class<T> domainClass, EntityCacheKey cacheKey, Object hashKey,
+			@Nullable Object rangeKey) {
+		DynamoDBMapperTableModel<T> tableModel = getTableModel(domainClass);
+		Map<String, AttributeValue> item = entityCache.get(domainClass, cacheKey);
+		if (item == null) {
+			// Read before loading so a write racing the load keeps its item out of
+			// the cache
+			long evictionStamp = entityCache.getEvictionStamp(domainClass);
+			GetItemRequest getItemRequest = new GetItemRequest().withTableName(getTableName(domainClass))
+					.withKey(tableModel.convertKey(hashKey, rangeKey)).withConsistentRead(isConsistentRead());
+			item = amazonDynamoDB.getItem(getItemRequest).getItem();
+			if (item == null) {
+				return null;
+			}
+			entityCache.put(domainClass, cacheKey, item, evictionStamp);
+		}
+		return tableModel.unconvert(item);
+	}
+
+	private <T> List<T> batchLoadThroughCache(Class<T> domainClass, List<KeyPair> keyPairs) {
+		DynamoDBMapperTableModel<T> tableModel = getTableModel(domainClass);
+		List<T> results = new ArrayList<>();
+		// BatchGetItem rejects duplicate keys within a request
+		Set<Map<String, AttributeValue>> keysToLoad = new LinkedHashSet<>();
+		for (KeyPair keyPair : keyPairs) {
+			T cached = getCached(domainClass, getCacheKey(domainClass, keyPair.getHashKey(), keyPair.getRangeKey()));
+			if (cached != null) {
+				results.add(cached);
+			} else {
+				keysToLoad.add(toDistinctKey(tableModel, keyPair.getHashKey(), keyPair.getRangeKey()));
+			}
+		}
+
+		if (!keysToLoad.isEmpty()) {
+			long evictionStamp = entityCache.getEvictionStamp(domainClass);
+			String tableName = getTableName(domainClass);
+			String rangeKeyName = tableModel.rangeKeyIfExists() != null ? tableModel.rangeKey().name() : null;
+			loadItems(domainClass, keysToLoad, new KeysAndAttributes().withConsistentRead(isConsistentRead()),
+					item -> {
+						EntityCacheKey cacheKey = new EntityCacheKey(tableName, item.get(tableModel.hashKey().name()),
+								rangeKeyName != null ? item.get(rangeKeyName) : null);
+						entityCache.put(domainClass, cacheKey, item, evictionStamp);
+						results.add(tableModel.unconvert(item));
+					});
+		}
+		return results;
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> void evictCached(T entity) {
+		Class<T> domainClass = (Class<T>) entity.getClass();
+		EntityCacheKey cacheKey = getCacheKey(domainClass, entity);
+		if (cacheKey != null) {
+			entityCache.evict(domainClass, cacheKey);
+		}
+	}
+
+	@Nullable
+	private <T> EntityCacheKey getCacheKey(Class<T> domainClass, T entity) {
+		if (entityCache == null || !entityCache.isCached(domainClass)) {
+			return null;
+		}
+
+		DynamoDBMapperTableModel<T> tableModel = getTableModel(domainClass);
+		Object hashKey = tableModel.hashKey().get(entity);
+		if (hashKey == null) {
+			// Not persisted yet, e.g. an auto generated key
+			return null;
+		}
+		return getCacheKey(domainClass, hashKey,
+				tableModel.rangeKeyIfExists() != null ? tableModel.rangeKey().get(entity) : null);
+	}
+
 	@Override
 	public <T> PaginatedQueryList<T> query(Class<T> clazz, QueryRequest queryRequest) {
+		return query(clazz, queryRequest, dynamoDBMapperConfig.getPaginationLoadingStrategy());
+	}
+
+	@Override
+	public <T> PaginatedQueryList<T> query(Class<T> clazz, QueryRequest queryRequest,
+			PaginationLoadingStrategy paginationLoadingStrategy) {
 		QueryResult queryResult = amazonDynamoDB.query(queryRequest);
 
 		// If a limit is set, deactivate lazy loading of (matching) items after the
@@ -186,7 +1075,7 @@ public class DynamoDBTemplate implements DynamoDBOperations, ApplicationContextA
 		}
 
 		return new PaginatedQueryList<>(dynamoDBMapper, clazz, amazonDynamoDB, queryRequest, queryResult,
-				dynamoDBMapperConfig.getPaginationLoadingStrategy(), dynamoDBMapperConfig);
+				paginationLoadingStrategy, dynamoDBMapperConfig);
 	}
 
 	@Override
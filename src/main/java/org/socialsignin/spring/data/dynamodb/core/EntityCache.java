@@ -0,0 +1,131 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+
+/**
+ * Near-cache for items loaded by their primary key. Items are cached in their
+ * attribute value representation, so every cache hit is unmarshalled into a new
+ * entity instance.
+ * 
+ * Only domain classes the cache is configured for - either via
+ * {@link #configure(Class, Duration, long)} or
+ * {@link org.socialsignin.spring.data.dynamodb.repository.EnableEntityCache} -
+ * are cached.
+ */
+public interface EntityCache {
+
+	/**
+	 * Configures caching for the given domain class. Overrides the
+	 * {@link org.socialsignin.spring.data.dynamodb.repository.EnableEntityCache}
+	 * settings of the domain class.
+	 * 
+	 * @param domainClass
+	 *            The type of the entities to cache
+	 * @param ttl
+	 *            The time an entity is served from the cache
+	 * @param maxWeight
+	 *            The maximum total weight of the cached entities of this type
+	 */
+	void configure(Class<?> domainClass, Duration ttl, long maxWeight);
+
+	/**
+	 * @param domainClass
+	 *            The type of the entity
+	 * @return {@code true} if entities of the given type are cached
+	 */
+	boolean isCached(Class<?> domainClass);
+
+	/**
+	 * @param domainClass
+	 *            The type of the entity
+	 * @param key
+	 *            The primary key of the entity
+	 * @return The cached item or {@code null} if absent or expired
+	 */
+	@Nullable
+	Map<String, AttributeValue> get(Class<?> domainClass, EntityCacheKey key);
+
+	/**
+	 * @param domainClass
+	 *            The type of the entity
+	 * @param key
+	 *            The primary key of the entity
+	 * @param item
+	 *            The item to cache
+	 */
+	void put(Class<?> domainClass, EntityCacheKey key, Map<String, AttributeValue> item);
+
+	/**
+	 * Caches the item unless an item of the given type was evicted since the
+	 * {@code evictionStamp} was read, so a load that raced a write does not cache
+	 * the overwritten item. The default implementation ignores the stamp.
+	 * 
+	 * @param domainClass
+	 *            The type of the entity
+	 * @param key
+	 *            The primary key of the entity
+	 * @param item
+	 *            The item to cache
+	 * @param evictionStamp
+	 *            The {@link #getEvictionStamp(Class)} read before the item was
+	 *            loaded
+	 */
+	default void put(Class<?> domainClass, EntityCacheKey key, Map<String, AttributeValue> item,
+			long evictionStamp) {
+		put(domainClass, key, item);
+	}
+
+	/**
+	 * @param domainClass
+	 *            The type of the entities
+	 * @return A stamp that changes whenever an item of the given type is evicted.
+	 *         The default implementation always returns {@code 0}.
+	 */
+	default long getEvictionStamp(Class<?> domainClass) {
+		return 0;
+	}
+
+	/**
+	 * Invalidates the cached item, e.g. after it was saved or deleted.
+	 * 
+	 * @param domainClass
+	 *            The type of the entity
+	 * @param key
+	 *            The primary key of the entity
+	 */
+	void evict(Class<?> domainClass, EntityCacheKey key);
+
+	/**
+	 * Invalidates all cached items of the given type, e.g. after its table was
+	 * truncated.
+	 * 
+	 * @param domainClass
+	 *            The type of the entities
+	 */
+	void evictAll(Class<?> domainClass);
+
+	/**
+	 * @return A snapshot of the statistics of this cache
+	 */
+	EntityCacheStatistics getStatistics();
+}
@@ -0,0 +1,80 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import java.util.Objects;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+
+/**
+ * Key of an {@link EntityCache} entry: the table name and the hash and (optional)
+ * range key of the item.
+ */
+public final class EntityCacheKey {
+
+	private final String tableName;
+	private final AttributeValue hashKey;
+	@Nullable
+	private final AttributeValue rangeKey;
+
+	public EntityCacheKey(String tableName, AttributeValue hashKey, @Nullable AttributeValue rangeKey) {
+		Assert.notNull(tableName, "tableName must not be null");
+		Assert.notNull(hashKey, "hashKey must not be null");
+
+		this.tableName = tableName;
+		this.hashKey = hashKey;
+		this.rangeKey = rangeKey;
+	}
+
+	public String getTableName() {
+		return tableName;
+	}
+
+	public AttributeValue getHashKey() {
+		return hashKey;
+	}
+
+	@Nullable
+	public AttributeValue getRangeKey() {
+		return rangeKey;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof EntityCacheKey)) {
+			return false;
+		}
+		EntityCacheKey that = (EntityCacheKey) o;
+		return tableName.equals(that.tableName) && hashKey.equals(that.hashKey)
+				&& Objects.equals(rangeKey, that.rangeKey);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(tableName, hashKey, rangeKey);
+	}
+
+	@Override
+	public String toString() {
+		return "EntityCacheKey [tableName=" + tableName + ", hashKey=" + hashKey + ", rangeKey=" + rangeKey + "]";
+	}
+}
@@ -0,0 +1,68 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+/**
+ * Immutable snapshot of the statistics of an {@link EntityCache}.
+ */
+public final class EntityCacheStatistics {
+
+	private final long hitCount;
+	private final long missCount;
+	private final long evictionCount;
+
+	public EntityCacheStatistics(long hitCount, long missCount, long evictionCount) {
+		this.hitCount = hitCount;
+		this.missCount = missCount;
+		this.evictionCount = evictionCount;
+	}
+
+	/**
+	 * @return The number of lookups served from the cache
+	 */
+	public long getHitCount() {
+		return hitCount;
+	}
+
+	/**
+	 * @return The number of lookups which had to go to DynamoDB
+	 */
+	public long getMissCount() {
+		return missCount;
+	}
+
+	/**
+	 * @return The number of entries removed because they expired or the maximum
+	 *         weight was exceeded. Invalidations by writes are not counted.
+	 */
+	public long getEvictionCount() {
+		return evictionCount;
+	}
+
+	/**
+	 * @return The ratio of hits to all lookups, {@code 1.0} if there were none
+	 */
+	public double getHitRate() {
+		long requestCount = hitCount + missCount;
+		return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+	}
+
+	@Override
+	public String toString() {
+		return "EntityCacheStatistics [hitCount=" + hitCount + ", missCount=" + missCount + ", evictionCount="
+				+ evictionCount + "]";
+	}
+}
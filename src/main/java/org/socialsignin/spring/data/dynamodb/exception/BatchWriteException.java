@@ -15,13 +15,31 @@
  */
 package org.socialsignin.spring.data.dynamodb.exception;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.springframework.dao.DataAccessException;
+import org.springframework.lang.Nullable;
 
 @SuppressWarnings("serial")
 public class BatchWriteException extends DataAccessException {
 
+	private final transient List<?> failedEntities;
+
 	public BatchWriteException(String msg, Throwable cause) {
+		this(msg, cause, Collections.emptyList());
+	}
+
+	public BatchWriteException(String msg, @Nullable Throwable cause, List<?> failedEntities) {
 		super(msg, cause);
+		this.failedEntities = failedEntities;
+	}
+
+	/**
+	 * @return The entities which could not be written, empty if they are not known
+	 */
+	public List<?> getFailedEntities() {
+		return failedEntities;
 	}
 
 }
@@ -31,8 +31,6 @@ package org.socialsignin.spring.data.dynamodb.mapping.event;
  * limitations under the License.
  */
 
-import com.amazonaws.services.dynamodbv2.datamodeling.PaginatedQueryList;
-import com.amazonaws.services.dynamodbv2.datamodeling.PaginatedScanList;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationListener;
@@ -83,11 +81,11 @@ public abstract class AbstractDynamoDBEventListener<E> implements ApplicationLis
 
 		if (event instanceof AfterScanEvent) {
 
-			publishEachElement((PaginatedScanList<?>) source, this::onAfterScan);
+			publishEachElement((List<?>) source, this::onAfterScan);
 			return;
 		} else if (event instanceof AfterQueryEvent) {
 
-			publishEachElement((PaginatedQueryList<?>) source, this::onAfterQuery);
+			publishEachElement((List<?>) source, this::onAfterQuery);
 			return;
 		}
 		// Check for matching domain type and invoke callbacks
@@ -0,0 +1,49 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.marshaller;
+
+import org.springframework.dao.DataAccessException;
+
+/**
+ * Stores the attribute values which {@link ClaimCheckConverter} offloads from
+ * the items. The keys are derived from the content, so putting a key again
+ * stores the same content and may be skipped.
+ * 
+ * Implementations must be thread-safe and are registered with
+ * {@link BlobStores} under the name referred to by
+ * {@link DynamoDBClaimCheck#store()}.
+ */
+public interface BlobStore {
+
+	/**
+	 * @param key
+	 *            the key derived from the content
+	 * @param content
+	 *            the content to store
+	 * @throws DataAccessException
+	 *             if the content could not be stored
+	 */
+	void put(String key, byte[] content) throws DataAccessException;
+
+	/**
+	 * @param key
+	 *            the key the content was put with
+	 * @return the stored content
+	 * @throws DataAccessException
+	 *             if the content could not be read, e.g. as it does not exist
+	 */
+	byte[] get(String key) throws DataAccessException;
+}
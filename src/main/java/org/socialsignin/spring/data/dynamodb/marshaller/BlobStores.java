@@ -0,0 +1,60 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.marshaller;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.util.Assert;
+
+/**
+ * Registry of the {@link BlobStore}s used by {@link ClaimCheckConverter}. The
+ * converters are instantiated by the DynamoDBMapper and hence cannot be
+ * injected, so the stores have to be registered here - typically when the
+ * application context starts - before items with offloaded attributes are
+ * saved or accessed.
+ */
+public final class BlobStores {
+
+	public static final String DEFAULT = "default";
+
+	private static final Map<String, BlobStore> STORES = new ConcurrentHashMap<>();
+
+	private BlobStores() {
+	}
+
+	public static void register(String name, BlobStore blobStore) {
+		Assert.hasText(name, "name must not be empty");
+		Assert.notNull(blobStore, "blobStore must not be null");
+		STORES.put(name, blobStore);
+	}
+
+	public static void unregister(String name) {
+		STORES.remove(name);
+	}
+
+	/**
+	 * @throws IllegalStateException
+	 *             if no store is registered under the name
+	 */
+	public static BlobStore get(String name) {
+		BlobStore blobStore = STORES.get(name);
+		if (blobStore == null) {
+			throw new IllegalStateException("No BlobStore registered as '" + name + "'");
+		}
+		return blobStore;
+	}
+}
@@ -0,0 +1,116 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.marshaller;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+import org.springframework.util.Assert;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTypeConverter;
+
+/**
+ * Converts text to a binary value made of a header byte and either the UTF-8
+ * bytes of the text or - if the text exceeds the threshold of
+ * {@link DynamoDBClaimCheck} - the key it is stored with in the
+ * {@link BlobStore}. The high nibble of the header distinguishes inline
+ * ({@code 0}) and offloaded ({@code 1}) values and the low nibble is the format
+ * version.
+ * 
+ * The key is the SHA-256 digest of the text, so saving an unchanged item does
+ * not store its text again.
+ * 
+ * @see DynamoDBClaimCheck
+ */
+public class ClaimCheckConverter implements DynamoDBTypeConverter<ByteBuffer, CharSequence> {
+
+	static final int INLINE = 0;
+	static final int OFFLOADED = 1;
+	static final int VERSION = 1;
+
+	private final boolean lazy;
+	private final String store;
+	private final int threshold;
+
+	public ClaimCheckConverter(Class<? extends CharSequence> targetType, DynamoDBClaimCheck annotation) {
+		Assert.isTrue(targetType == String.class || targetType == CharSequence.class,
+				"@DynamoDBClaimCheck requires a String or CharSequence property but was " + targetType);
+		Assert.isTrue(annotation.threshold() >= 0, "threshold must not be negative");
+		this.lazy = targetType == CharSequence.class;
+		this.store = annotation.store();
+		this.threshold = annotation.threshold();
+	}
+
+	@Override
+	public ByteBuffer convert(CharSequence object) {
+		if (object == null) {
+			return null;
+		}
+		byte[] text = object.toString().getBytes(StandardCharsets.UTF_8);
+		if (text.length > threshold) {
+			String key = key(text);
+			BlobStores.get(store).put(key, text);
+			return encode(OFFLOADED, key.getBytes(StandardCharsets.US_ASCII));
+		}
+		return encode(INLINE, text);
+	}
+
+	@Override
+	public CharSequence unconvert(ByteBuffer object) {
+		if (object == null) {
+			return null;
+		}
+		Assert.isTrue(object.hasRemaining(), "A claim-check value must have a header byte");
+		ByteBuffer buffer = object.duplicate();
+		int header = buffer.get() & 0xFF;
+		int kind = header >>> 4;
+		Assert.isTrue((header & 0x0F) == VERSION, "Unsupported claim-check version " + (header & 0x0F));
+		byte[] bytes = new byte[buffer.remaining()];
+		buffer.get(bytes);
+
+		if (kind == INLINE) {
+			return new String(bytes, StandardCharsets.UTF_8);
+		}
+		Assert.isTrue(kind == OFFLOADED, "Unsupported claim-check value kind " + kind);
+		String key = new String(bytes, StandardCharsets.US_ASCII);
+		return lazy ? new LazyText(() -> fetch(key)) : fetch(key);
+	}
+
+	private String fetch(String key) {
+		return new String(BlobStores.get(store).get(key), StandardCharsets.UTF_8);
+	}
+
+	private static String key(byte[] text) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(text);
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+		} catch (NoSuchAlgorithmException e) {
+			// Every Java platform supports SHA-256
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static ByteBuffer encode(int kind, byte[] bytes) {
+		ByteBuffer buffer = ByteBuffer.allocate(bytes.length + 1);
+		buffer.put((byte) (kind << 4 | VERSION));
+		buffer.put(bytes);
+		buffer.flip();
+		return buffer;
+	}
+}
@@ -0,0 +1,137 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.marshaller;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.springframework.util.Assert;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTypeConverter;
+
+/**
+ * Converts text to a binary value made of a header byte and the UTF-8 bytes of
+ * the text, which are Deflate compressed if the text exceeds the threshold of
+ * {@link DynamoDBCompressed}. The high nibble of the header is the codec
+ * ({@code 0} uncompressed, {@code 1} Deflate) and the low nibble the format
+ * version, so that other codecs can be added without breaking stored items.
+ * 
+ * @see DynamoDBCompressed
+ */
+public class CompressedTextConverter implements DynamoDBTypeConverter<ByteBuffer, CharSequence> {
+
+	static final int CODEC_NONE = 0;
+	static final int CODEC_DEFLATE = 1;
+	static final int VERSION = 1;
+
+	private final boolean lazy;
+	private final int threshold;
+	private final int level;
+
+	public CompressedTextConverter(Class<? extends CharSequence> targetType, DynamoDBCompressed annotation) {
+		Assert.isTrue(targetType == String.class || targetType == CharSequence.class,
+				"@DynamoDBCompressed requires a String or CharSequence property but was " + targetType);
+		Assert.isTrue(annotation.threshold() >= 0, "threshold must not be negative");
+		this.lazy = targetType == CharSequence.class;
+		this.threshold = annotation.threshold();
+		this.level = annotation.level();
+	}
+
+	@Override
+	public ByteBuffer convert(CharSequence object) {
+		if (object == null) {
+			return null;
+		}
+		byte[] text = object.toString().getBytes(StandardCharsets.UTF_8);
+		if (text.length > threshold) {
+			byte[] compressed = deflate(text);
+			// Incompressible text is kept as it is
+			if (compressed.length < text.length) {
+				return encode(CODEC_DEFLATE, compressed);
+			}
+		}
+		return encode(CODEC_NONE, text);
+	}
+
+	@Override
+	public CharSequence unconvert(ByteBuffer object) {
+		if (object == null) {
+			return null;
+		}
+		Assert.isTrue(object.hasRemaining(), "A compressed text must have a header byte");
+		ByteBuffer buffer = object.duplicate();
+		int header = buffer.get() & 0xFF;
+		int codec = header >>> 4;
+		Assert.isTrue((header & 0x0F) == VERSION, "Unsupported compressed text version " + (header & 0x0F));
+		byte[] bytes = new byte[buffer.remaining()];
+		buffer.get(bytes);
+
+		if (codec == CODEC_NONE) {
+			return new String(bytes, StandardCharsets.UTF_8);
+		}
+		Assert.isTrue(codec == CODEC_DEFLATE, "Unsupported compressed text codec " + codec);
+		return lazy ? new LazyText(() -> inflate(bytes)) : inflate(bytes);
+	}
+
+	private static ByteBuffer encode(int codec, byte[] bytes) {
+		ByteBuffer buffer = ByteBuffer.allocate(bytes.length + 1);
+		buffer.put((byte) (codec << 4 | VERSION));
+		buffer.put(bytes);
+		buffer.flip();
+		return buffer;
+	}
+
+	private byte[] deflate(byte[] bytes) {
+		Deflater deflater = new Deflater(level);
+		try {
+			deflater.setInput(bytes);
+			deflater.finish();
+			ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 2 + 16);
+			byte[] chunk = new byte[Math.min(bytes.length, 8 * 1024) + 16];
+			while (!deflater.finished()) {
+				out.write(chunk, 0, deflater.deflate(chunk));
+			}
+			return out.toByteArray();
+		} finally {
+			deflater.end();
+		}
+	}
+
+	static String inflate(byte[] bytes) {
+		Inflater inflater = new Inflater();
+		try {
+			inflater.setInput(bytes);
+			ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length * 4);
+			byte[] chunk = new byte[8 * 1024];
+			while (!inflater.finished()) {
+				int length = inflater.inflate(chunk);
+				if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+					throw new IllegalArgumentException("Truncated compressed text");
+				}
+				out.write(chunk, 0, length);
+			}
+			return out.toString(StandardCharsets.UTF_8);
+		} catch (DataFormatException e) {
+			throw new IllegalArgumentException("Corrupt compressed text", e);
+		} finally {
+			inflater.end();
+		}
+	}
+}
@@ -20,6 +20,8 @@ import java.text.FieldPosition;
 import java.text.ParsePosition;
 import java.util.Date;
 
+import org.springframework.util.StringUtils;
+
 public class Date2EpocheDynamoDBMarshaller extends DateDynamoDBMarshaller {
 
 	private static final class EpcoheDateFormat extends DateFormat {
@@ -46,4 +48,20 @@ public class Date2EpocheDynamoDBMarshaller extends DateDynamoDBMarshaller {
 		return new EpcoheDateFormat();
 	}
 
+	@Override
+	public String marshall(Date getterReturnResult) {
+		if (getterReturnResult == null) {
+			return null;
+		}
+		return Long.toString(getterReturnResult.getTime());
+	}
+
+	@Override
+	public Date unmarshall(Class<Date> clazz, String obj) {
+		if (!StringUtils.hasLength(obj)) {
+			return null;
+		}
+		return new Date(Long.parseLong(obj));
+	}
+
 }
@@ -17,6 +17,7 @@ package org.socialsignin.spring.data.dynamodb.marshaller;
 
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
+import java.util.Date;
 import java.util.TimeZone;
 
 public class Date2IsoDynamoDBMarshaller extends DateDynamoDBMarshaller {
@@ -30,4 +31,23 @@ public class Date2IsoDynamoDBMarshaller extends DateDynamoDBMarshaller {
 		df.setTimeZone(UTC);
 		return df;
 	}
+
+	@Override
+	public String marshall(Date getterReturnResult) {
+		if (getterReturnResult != null && IsoInstantCodec.isSupported(getterReturnResult.getTime())) {
+			return IsoInstantCodec.format(getterReturnResult.getTime());
+		}
+		return super.marshall(getterReturnResult);
+	}
+
+	@Override
+	public Date unmarshall(Class<Date> clazz, String obj) {
+		if (obj != null) {
+			long epochMilli = IsoInstantCodec.parse(obj);
+			if (epochMilli != IsoInstantCodec.UNPARSEABLE) {
+				return new Date(epochMilli);
+			}
+		}
+		return super.unmarshall(clazz, obj);
+	}
 }
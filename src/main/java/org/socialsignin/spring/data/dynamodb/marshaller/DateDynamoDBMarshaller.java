@@ -26,6 +26,13 @@ import java.util.Date;
 @SuppressWarnings("deprecation")
 public abstract class DateDynamoDBMarshaller implements DynamoDBTypeConverter<String, Date>, DynamoDBMarshaller<Date> {
 
+	// DateFormats are not thread-safe, so each thread reuses its own
+	private final ThreadLocal<DateFormat> dateFormats = ThreadLocal.withInitial(this::getDateFormat);
+
+	/**
+	 * @return a new {@link DateFormat}, which is reused by the calling thread for
+	 *         all dates it marshalls with this marshaller
+	 */
 	public abstract DateFormat getDateFormat();
 
 	@Override
@@ -38,7 +45,7 @@ public abstract class DateDynamoDBMarshaller implements DynamoDBTypeConverter<St
 		if (getterReturnResult == null) {
 			return null;
 		} else {
-			return getDateFormat().format(getterReturnResult);
+			return dateFormats.get().format(getterReturnResult);
 		}
 	}
 
@@ -53,7 +60,7 @@ public abstract class DateDynamoDBMarshaller implements DynamoDBTypeConverter<St
 			return null;
 		} else {
 			try {
-				return getDateFormat().parse(obj);
+				return dateFormats.get().parse(obj);
 			} catch (ParseException e) {
 				throw new RuntimeException(e);
 			}
@@ -0,0 +1,54 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.marshaller;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTypeConverted;
+
+/**
+ * Offloads a text property to a {@link BlobStore} once it exceeds the
+ * threshold and only keeps a reference to it in the item (claim-check), so
+ * that items stay below the DynamoDB item size limit and queries do not read
+ * the large values.
+ * 
+ * The property may be a {@link String}, which is fetched when the item is
+ * loaded, or a {@link CharSequence}, which is fetched on first access.
+ * Offloaded values are not deleted together with their items.
+ * 
+ * @see ClaimCheckConverter
+ */
+@DynamoDBTypeConverted(converter = ClaimCheckConverter.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.FIELD})
+@Documented
+public @interface DynamoDBClaimCheck {
+
+	/**
+	 * @return the name the {@link BlobStore} is registered with at
+	 *         {@link BlobStores}
+	 */
+	String store() default BlobStores.DEFAULT;
+
+	/**
+	 * @return the UTF-8 length in bytes above which the text is offloaded
+	 */
+	int threshold() default 64 * 1024;
+}
@@ -0,0 +1,51 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.marshaller;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.zip.Deflater;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTypeConverted;
+
+/**
+ * Stores a large text property, e.g. a JSON document, as binary ({@code B})
+ * attribute which is Deflate compressed if the text exceeds the threshold.
+ * 
+ * The property may be a {@link String}, which is decompressed when the item
+ * is loaded, or a {@link CharSequence}, which is decompressed on first access.
+ * 
+ * @see CompressedTextConverter
+ */
+@DynamoDBTypeConverted(converter = CompressedTextConverter.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.FIELD})
+@Documented
+public @interface DynamoDBCompressed {
+
+	/**
+	 * @return the UTF-8 length in bytes above which the text is compressed
+	 */
+	int threshold() default 1024;
+
+	/**
+	 * @return the {@link Deflater} compression level
+	 */
+	int level() default Deflater.DEFAULT_COMPRESSION;
+}
@@ -0,0 +1,49 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.marshaller;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTypeConverted;
+
+/**
+ * Stores an enum property as string ({@code S}) attribute of a short code
+ * which stays stable when the enum constants are renamed or reordered. The
+ * enum has to implement {@link Coded}.
+ * 
+ * @see Enum2CodeConverter
+ */
+@DynamoDBTypeConverted(converter = Enum2CodeConverter.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.FIELD})
+@Documented
+public @interface DynamoDBEnumCode {
+
+	/**
+	 * Implemented by enums stored via {@link DynamoDBEnumCode}
+	 */
+	interface Coded {
+
+		/**
+		 * @return the code to store, unique within the enum
+		 */
+		String getCode();
+	}
+}
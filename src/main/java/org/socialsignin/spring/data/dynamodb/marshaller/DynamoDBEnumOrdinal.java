@@ -0,0 +1,38 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.marshaller;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTypeConverted;
+
+/**
+ * Stores an enum property as number ({@code N}) attribute of its ordinal.
+ * Reordering the constants of the enum changes the meaning of stored values,
+ * so {@link DynamoDBEnumCode} should be preferred for enums which evolve.
+ * 
+ * @see Enum2OrdinalConverter
+ */
+@DynamoDBTypeConverted(converter = Enum2OrdinalConverter.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.FIELD})
+@Documented
+public @interface DynamoDBEnumOrdinal {
+}
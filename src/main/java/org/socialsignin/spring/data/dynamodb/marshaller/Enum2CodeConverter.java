@@ -0,0 +1,65 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.marshaller;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.util.Assert;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTypeConverter;
+
+/**
+ * Converts an enum constant implementing {@link DynamoDBEnumCode.Coded} to its
+ * code.
+ * 
+ * @see DynamoDBEnumCode
+ */
+public class Enum2CodeConverter<E extends Enum<E>> implements DynamoDBTypeConverter<String, E> {
+
+	private final Class<E> enumType;
+	private final Map<String, E> constantsByCode = new HashMap<>();
+
+	public Enum2CodeConverter(Class<E> enumType, DynamoDBEnumCode annotation) {
+		Assert.isTrue(enumType.isEnum() && DynamoDBEnumCode.Coded.class.isAssignableFrom(enumType),
+				"@DynamoDBEnumCode requires an enum property implementing DynamoDBEnumCode.Coded but was " + enumType);
+		this.enumType = enumType;
+		for (E constant : enumType.getEnumConstants()) {
+			E previous = constantsByCode.put(code(constant), constant);
+			Assert.isNull(previous, "Code " + code(constant) + " is used by " + previous + " and " + constant);
+		}
+	}
+
+	private String code(E constant) {
+		return ((DynamoDBEnumCode.Coded) constant).getCode();
+	}
+
+	@Override
+	public String convert(E object) {
+		return object == null ? null : code(object);
+	}
+
+	@Override
+	public E unconvert(String object) {
+		if (object == null) {
+			return null;
+		}
+		E constant = constantsByCode.get(object);
+		Assert.notNull(constant, "No constant with code " + object + " in " + enumType);
+		return constant;
+	}
+
+}
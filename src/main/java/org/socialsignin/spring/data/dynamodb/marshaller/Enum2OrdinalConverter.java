@@ -0,0 +1,51 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.marshaller;
+
+import org.springframework.util.Assert;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTypeConverter;
+
+/**
+ * Converts an enum constant to its ordinal.
+ * 
+ * @see DynamoDBEnumOrdinal
+ */
+public class Enum2OrdinalConverter<E extends Enum<E>> implements DynamoDBTypeConverter<Integer, E> {
+
+	private final E[] constants;
+
+	public Enum2OrdinalConverter(Class<E> enumType, DynamoDBEnumOrdinal annotation) {
+		Assert.isTrue(enumType.isEnum(), "@DynamoDBEnumOrdinal requires an enum property but was " + enumType);
+		this.constants = enumType.getEnumConstants();
+	}
+
+	@Override
+	public Integer convert(E object) {
+		return object == null ? null : object.ordinal();
+	}
+
+	@Override
+	public E unconvert(Integer object) {
+		if (object == null) {
+			return null;
+		}
+		Assert.isTrue(object >= 0 && object < constants.length,
+				"No constant with ordinal " + object + " in " + constants.getClass().getComponentType());
+		return constants[object];
+	}
+
+}
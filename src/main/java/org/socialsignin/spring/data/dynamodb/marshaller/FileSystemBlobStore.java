@@ -0,0 +1,76 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.marshaller;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.util.Assert;
+
+/**
+ * {@link BlobStore} keeping one file per key in a local directory. Files are
+ * written to a temporary file first and then moved into place, so readers
+ * never see partially written content.
+ */
+public class FileSystemBlobStore implements BlobStore {
+
+	private final Path directory;
+
+	public FileSystemBlobStore(Path directory) {
+		Assert.notNull(directory, "directory must not be null");
+		this.directory = directory;
+	}
+
+	private Path resolve(String key) {
+		Assert.isTrue(key.matches("[A-Za-z0-9_-]+"), "Invalid blob key " + key);
+		return directory.resolve(key);
+	}
+
+	@Override
+	public void put(String key, byte[] content) {
+		Path file = resolve(key);
+		if (Files.exists(file)) {
+			// Same key, same content
+			return;
+		}
+		try {
+			Files.createDirectories(directory);
+			Path temporaryFile = Files.createTempFile(directory, key, ".tmp");
+			try {
+				Files.write(temporaryFile, content);
+				Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} finally {
+				Files.deleteIfExists(temporaryFile);
+			}
+		} catch (IOException e) {
+			throw new DataAccessResourceFailureException("Unable to store blob " + key + " in " + directory, e);
+		}
+	}
+
+	@Override
+	public byte[] get(String key) {
+		Path file = resolve(key);
+		try {
+			return Files.readAllBytes(file);
+		} catch (IOException e) {
+			throw new DataRetrievalFailureException("Unable to read blob " + key + " from " + directory, e);
+		}
+	}
+}
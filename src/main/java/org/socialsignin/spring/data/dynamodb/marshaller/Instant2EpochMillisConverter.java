@@ -0,0 +1,41 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.marshaller;
+
+import java.time.Instant;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTypeConverter;
+
+/**
+ * Converts an {@link Instant} to the number of milliseconds since the epoch.
+ * Unlike {@link Instant2EpocheDynamoDBMarshaller}, the result is a number and
+ * hence stored as {@code N} attribute.
+ * 
+ * @see DynamoDBEpochMillis
+ */
+public class Instant2EpochMillisConverter implements DynamoDBTypeConverter<Long, Instant> {
+
+	@Override
+	public Long convert(Instant object) {
+		return object == null ? null : object.toEpochMilli();
+	}
+
+	@Override
+	public Instant unconvert(Long object) {
+		return object == null ? null : Instant.ofEpochMilli(object);
+	}
+
+}
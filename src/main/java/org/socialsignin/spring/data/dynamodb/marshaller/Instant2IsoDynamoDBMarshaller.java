@@ -30,9 +30,12 @@ public class Instant2IsoDynamoDBMarshaller
 			DynamoDBMarshaller<Instant> {
 
 	private static final String PATTERN = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'";
+	// DateTimeFormatters are immutable and thread-safe
+	private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern(PATTERN)
+			.withZone(ZoneOffset.UTC);
 
 	private DateTimeFormatter getDateFormat() {
-		return DateTimeFormatter.ofPattern(PATTERN).withZone(ZoneOffset.UTC);
+		return DATE_FORMAT;
 	}
 
 	@Override
@@ -45,6 +48,10 @@ public class Instant2IsoDynamoDBMarshaller
 		if (getterReturnResult == null) {
 			return null;
 		} else {
+			if (IsoInstantCodec.isSupported(getterReturnResult)) {
+				// The format truncates to millis as well
+				return IsoInstantCodec.format(getterReturnResult.toEpochMilli());
+			}
 			return getDateFormat().format(getterReturnResult);
 		}
 	}
@@ -59,6 +66,10 @@ public class Instant2IsoDynamoDBMarshaller
 		if (StringUtils.isEmpty(obj)) {
 			return null;
 		} else {
+			long epochMilli = IsoInstantCodec.parse(obj);
+			if (epochMilli != IsoInstantCodec.UNPARSEABLE) {
+				return Instant.ofEpochMilli(epochMilli);
+			}
 			return Instant.from(getDateFormat().parse(obj));
 		}
 	}
@@ -0,0 +1,162 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.marshaller;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * Fixed-width encoder and decoder for the {@code yyyy-MM-dd'T'HH:mm:ss.SSS'Z'}
+ * format of the ISO marshallers, which avoids creating a formatter per value.
+ * 
+ * It only handles instants from {@code 1583-01-01} until the end of
+ * {@code 9999} where the Julian/Gregorian cutover of
+ * {@link java.text.SimpleDateFormat} and year-of-era padding do not make a
+ * difference. Other values are left to the formatter by the callers.
+ */
+final class IsoInstantCodec {
+
+	/** Not a valid epoch milli of the supported range */
+	static final long UNPARSEABLE = Long.MIN_VALUE;
+
+	// 1583-01-01T00:00:00.000Z
+	private static final long MIN_EPOCH_MILLI = -12_212_553_600_000L;
+	// 10000-01-01T00:00:00.000Z
+	private static final long MAX_EPOCH_MILLI = 253_402_300_800_000L;
+	private static final long MILLIS_PER_DAY = 86_400_000L;
+	private static final int LENGTH = 24;
+	// Days from 0000-03-01 to 1970-01-01
+	private static final long DAYS_0000_TO_1970 = 719_468L;
+	private static final int DAYS_PER_ERA = 146_097;
+
+	private IsoInstantCodec() {
+	}
+
+	static boolean isSupported(long epochMilli) {
+		return epochMilli >= MIN_EPOCH_MILLI && epochMilli < MAX_EPOCH_MILLI;
+	}
+
+	static boolean isSupported(Instant instant) {
+		// Checked on the seconds as the millis of far away instants overflow
+		return instant.getEpochSecond() >= MIN_EPOCH_MILLI / 1_000
+				&& instant.getEpochSecond() < MAX_EPOCH_MILLI / 1_000;
+	}
+
+	/**
+	 * @param epochMilli
+	 *            an instant the codec {@link #isSupported(long) supports}
+	 * @return the formatted instant
+	 */
+	static String format(long epochMilli) {
+		long epochDay = Math.floorDiv(epochMilli, MILLIS_PER_DAY);
+		int milliOfDay = (int) Math.floorMod(epochMilli, MILLIS_PER_DAY);
+
+		// Civil date of the day, counting years from March on
+		long zeroDay = epochDay + DAYS_0000_TO_1970;
+		long era = Math.floorDiv(zeroDay, DAYS_PER_ERA);
+		int dayOfEra = (int) (zeroDay - era * DAYS_PER_ERA);
+		int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+		int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+		int marchBasedMonth = (5 * dayOfYear + 2) / 153;
+		int day = dayOfYear - (153 * marchBasedMonth + 2) / 5 + 1;
+		int month = marchBasedMonth < 10 ? marchBasedMonth + 3 : marchBasedMonth - 9;
+		int year = (int) (yearOfEra + era * 400) + (month <= 2 ? 1 : 0);
+
+		byte[] buffer = new byte[LENGTH];
+		writeDigits(buffer, 0, year, 4);
+		buffer[4] = '-';
+		writeDigits(buffer, 5, month, 2);
+		buffer[7] = '-';
+		writeDigits(buffer, 8, day, 2);
+		buffer[10] = 'T';
+		writeDigits(buffer, 11, milliOfDay / 3_600_000, 2);
+		buffer[13] = ':';
+		writeDigits(buffer, 14, milliOfDay / 60_000 % 60, 2);
+		buffer[16] = ':';
+		writeDigits(buffer, 17, milliOfDay / 1_000 % 60, 2);
+		buffer[19] = '.';
+		writeDigits(buffer, 20, milliOfDay % 1_000, 3);
+		buffer[23] = 'Z';
+		return new String(buffer, StandardCharsets.ISO_8859_1);
+	}
+
+	/**
+	 * @return the epoch milli of the formatted instant or {@link #UNPARSEABLE} if
+	 *         the text is not a valid instant of the supported range in the
+	 *         fixed-width format
+	 */
+	static long parse(String text) {
+		if (text.length() != LENGTH || text.charAt(4) != '-' || text.charAt(7) != '-' || text.charAt(10) != 'T'
+				|| text.charAt(13) != ':' || text.charAt(16) != ':' || text.charAt(19) != '.'
+				|| text.charAt(23) != 'Z') {
+			return UNPARSEABLE;
+		}
+		int year = readDigits(text, 0, 4);
+		int month = readDigits(text, 5, 2);
+		int day = readDigits(text, 8, 2);
+		int hour = readDigits(text, 11, 2);
+		int minute = readDigits(text, 14, 2);
+		int second = readDigits(text, 17, 2);
+		int milli = readDigits(text, 20, 3);
+		if (year < 1583 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month) || hour > 23
+				|| minute > 59 || second > 59 || milli < 0) {
+			// Negative fields mark non-digits
+			return UNPARSEABLE;
+		}
+
+		int marchBasedYear = month <= 2 ? year - 1 : year;
+		int era = marchBasedYear / 400;
+		int yearOfEra = marchBasedYear - era * 400;
+		int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+		int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+		long epochDay = (long) era * DAYS_PER_ERA + dayOfEra - DAYS_0000_TO_1970;
+
+		return epochDay * MILLIS_PER_DAY + hour * 3_600_000L + minute * 60_000L + second * 1_000L + milli;
+	}
+
+	private static int lengthOfMonth(int year, int month) {
+		switch (month) {
+			case 2 :
+				return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+			case 4 :
+			case 6 :
+			case 9 :
+			case 11 :
+				return 30;
+			default :
+				return 31;
+		}
+	}
+
+	private static void writeDigits(byte[] buffer, int offset, int value, int width) {
+		for (int i = offset + width - 1; i >= offset; i--) {
+			buffer[i] = (byte) ('0' + value % 10);
+			value /= 10;
+		}
+	}
+
+	private static int readDigits(String text, int offset, int width) {
+		int value = 0;
+		for (int i = offset; i < offset + width; i++) {
+			int digit = text.charAt(i) - '0';
+			if (digit < 0 || digit > 9) {
+				return -1;
+			}
+			value = value * 10 + digit;
+		}
+		return value;
+	}
+}
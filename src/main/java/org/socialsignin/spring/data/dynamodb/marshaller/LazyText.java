@@ -0,0 +1,80 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.marshaller;
+
+import java.util.function.Supplier;
+
+/**
+ * Text which is only loaded when it is accessed for the first time, e.g.
+ * inflated by {@link CompressedTextConverter} or fetched from a
+ * {@link BlobStore} by {@link ClaimCheckConverter}. Loading is thread-safe
+ * and happens at most once.
+ */
+final class LazyText implements CharSequence {
+
+	private Supplier<String> loader;
+	private volatile String text;
+
+	LazyText(Supplier<String> loader) {
+		this.loader = loader;
+	}
+
+	@Override
+	public String toString() {
+		String result = text;
+		if (result == null) {
+			synchronized (this) {
+				result = text;
+				if (result == null) {
+					result = loader.get();
+					text = result;
+					// Releases whatever the loader holds on to
+					loader = null;
+				}
+			}
+		}
+		return result;
+	}
+
+	boolean isLoaded() {
+		return text != null;
+	}
+
+	@Override
+	public int length() {
+		return toString().length();
+	}
+
+	@Override
+	public char charAt(int index) {
+		return toString().charAt(index);
+	}
+
+	@Override
+	public CharSequence subSequence(int start, int end) {
+		return toString().subSequence(start, end);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		return obj instanceof LazyText && toString().equals(obj.toString());
+	}
+
+	@Override
+	public int hashCode() {
+		return toString().hashCode();
+	}
+}
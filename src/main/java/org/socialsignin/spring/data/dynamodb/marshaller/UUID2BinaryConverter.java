@@ -0,0 +1,58 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.marshaller;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+import org.springframework.util.Assert;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTypeConverter;
+
+/**
+ * Converts a {@link UUID} to its 16 byte big-endian binary representation.
+ * 
+ * @see DynamoDBBinaryUUID
+ */
+public class UUID2BinaryConverter implements DynamoDBTypeConverter<ByteBuffer, UUID> {
+
+	private static final int UUID_LENGTH = 16;
+
+	@Override
+	public ByteBuffer convert(UUID object) {
+		if (object == null) {
+			return null;
+		}
+		ByteBuffer buffer = ByteBuffer.allocate(UUID_LENGTH);
+		buffer.putLong(object.getMostSignificantBits());
+		buffer.putLong(object.getLeastSignificantBits());
+		buffer.flip();
+		return buffer;
+	}
+
+	@Override
+	public UUID unconvert(ByteBuffer object) {
+		if (object == null) {
+			return null;
+		}
+		Assert.isTrue(object.remaining() == UUID_LENGTH,
+				"A binary UUID must have " + UUID_LENGTH + " bytes but has " + object.remaining());
+		// Absolute reads leave the position of the buffer untouched
+		int position = object.position();
+		return new UUID(object.getLong(position), object.getLong(position + Long.BYTES));
+	}
+
+}
@@ -15,10 +15,27 @@
  */
 package org.socialsignin.spring.data.dynamodb.query;
 
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperFieldModel;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.GlobalSecondaryIndex;
+import com.amazonaws.services.dynamodbv2.model.KeySchemaElement;
+import com.amazonaws.services.dynamodbv2.model.LocalSecondaryIndex;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 
 /**
  * 
@@ -46,4 +63,189 @@ public abstract class AbstractMultipleEntityQuery<T> extends AbstractDynamicQuer
 			return results.get(0);
 		}
 	}
+
+	/**
+	 * Loads a single page of results.
+	 * 
+	 * @param exclusiveStartKey
+	 *            the key to continue after or {@code null} to start at the
+	 *            beginning
+	 * @param limit
+	 *            the maximum number of items to evaluate or {@code null} for
+	 *            DynamoDB's default page size
+	 * @return the results and the {@code LastEvaluatedKey} of the page
+	 */
+	protected abstract ResultPage<T> getResultPage(@Nullable Map<String, AttributeValue> exclusiveStartKey,
+			@Nullable Integer limit);
+
+	/**
+	 * Loads a single page of results with only their key attributes read.
+	 * 
+	 * @param exclusiveStartKey
+	 *            the key to continue after or {@code null} to start at the
+	 *            beginning
+	 * @return the results and the {@code LastEvaluatedKey} of the page
+	 */
+	protected abstract ResultPage<T> getKeyPage(@Nullable Map<String, AttributeValue> exclusiveStartKey);
+
+	/**
+	 * @return {@code true} if the request filters the items it reads. DynamoDB
+	 *         applies the {@code Limit} before the filter, so the number of
+	 *         missing results is not pushed down for filtered requests - a
+	 *         selective filter would need one request per few items read.
+	 */
+	protected boolean isFiltered() {
+		return false;
+	}
+
+	/**
+	 * @return the name of the secondary index the request reads, or {@code null}
+	 *         if it reads the table
+	 */
+	@Nullable
+	protected String getIndexName() {
+		return null;
+	}
+
+	@Override
+	public Iterator<List<T>> getKeyPages() {
+		return new Iterator<List<T>>() {
+
+			private boolean started = false;
+			@Nullable
+			private Map<String, AttributeValue> lastEvaluatedKey;
+
+			@Override
+			public boolean hasNext() {
+				return !started || lastEvaluatedKey != null;
+			}
+
+			@Override
+			public List<T> next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				ResultPage<T> page = getKeyPage(lastEvaluatedKey);
+				started = true;
+				lastEvaluatedKey = page.getLastEvaluatedKey();
+				return page.getResults();
+			}
+		};
+	}
+
+	@Override
+	public Window<T> getResultWindow(ScrollPosition scrollPosition, @Nullable Integer limit) {
+		Assert.isTrue(limit == null || limit > 0, "limit must be positive");
+		Map<String, AttributeValue> lastEvaluatedKey = getExclusiveStartKey(scrollPosition);
+		boolean pushDownLimit = limit != null && !isFiltered();
+
+		List<T> results = new ArrayList<>();
+		do {
+			// Evaluating no more items than missing, the LastEvaluatedKey is the
+			// key of the last result
+			ResultPage<T> page = getResultPage(lastEvaluatedKey, pushDownLimit ? limit - results.size() : null);
+			results.addAll(page.getResults());
+			lastEvaluatedKey = page.getLastEvaluatedKey();
+		} while (limit != null && results.size() < limit && lastEvaluatedKey != null);
+
+		List<T> content = limit != null && results.size() > limit ? results.subList(0, limit) : results;
+		// A filtered page may return more results than missing, the window then
+		// continues after its last result instead
+		Map<String, AttributeValue> continuationKey = content.size() < results.size()
+				? getKey(content.get(content.size() - 1))
+				: lastEvaluatedKey;
+		return Window.from(content, index -> {
+			if (index == content.size() - 1 && continuationKey != null) {
+				return ScrollPosition.forward(continuationKey);
+			}
+			return ScrollPosition.forward(getKey(content.get(index)));
+		}, continuationKey != null);
+	}
+
+	@Nullable
+	private Map<String, AttributeValue> getExclusiveStartKey(ScrollPosition scrollPosition) {
+		Assert.notNull(scrollPosition, "scrollPosition must not be null");
+		if (scrollPosition.isInitial()) {
+			return null;
+		}
+		if (!(scrollPosition instanceof KeysetScrollPosition)) {
+			throw new UnsupportedOperationException(
+					"Only keyset scrolling is supported - start with ScrollPosition.keyset()");
+		}
+		KeysetScrollPosition keysetScrollPosition = (KeysetScrollPosition) scrollPosition;
+		Assert.isTrue(keysetScrollPosition.scrollsForward(), "DynamoDB can only scroll forward");
+
+		Map<String, AttributeValue> exclusiveStartKey = new HashMap<>();
+		keysetScrollPosition.getKeys().forEach((name, value) -> {
+			Assert.isInstanceOf(AttributeValue.class, value,
+					"The scroll position has to be taken from a Window of the same query");
+			exclusiveStartKey.put(name, (AttributeValue) value);
+		});
+		return exclusiveStartKey;
+	}
+
+	/**
+	 * Builds the {@code ExclusiveStartKey} to continue after the given result.
+	 * It consists of the key attributes of the table and, if the request reads
+	 * an index, the key attributes of the index. Only these attributes are
+	 * converted, converting the whole result could have side effects, e.g. of a
+	 * {@code @DynamoDBClaimCheck} property.
+	 */
+	private Map<String, AttributeValue> getKey(T result) {
+		DynamoDBMapperTableModel<T> tableModel = dynamoDBOperations.getTableModel(clazz);
+		Map<String, AttributeValue> key = new HashMap<>(tableModel.convertKey(result));
+		String indexName = getIndexName();
+		if (indexName != null) {
+			for (KeySchemaElement keySchemaElement : getIndexKeySchema(tableModel, indexName)) {
+				String name = keySchemaElement.getAttributeName();
+				if (!key.containsKey(name)) {
+					DynamoDBMapperFieldModel<T, Object> field = tableModel.field(name);
+					Object value = field.get(result);
+					if (value != null) {
+						key.put(name, field.convert(value));
+					}
+				}
+			}
+		}
+		return key;
+	}
+
+	private static List<KeySchemaElement> getIndexKeySchema(DynamoDBMapperTableModel<?> tableModel, String indexName) {
+		GlobalSecondaryIndex globalSecondaryIndex = tableModel.globalSecondaryIndex(indexName);
+		if (globalSecondaryIndex != null) {
+			return globalSecondaryIndex.getKeySchema();
+		}
+		LocalSecondaryIndex localSecondaryIndex = tableModel.localSecondaryIndex(indexName);
+		if (localSecondaryIndex != null) {
+			return localSecondaryIndex.getKeySchema();
+		}
+		return Collections.emptyList();
+	}
+
+	/**
+	 * A single page of results and the key to continue after it.
+	 *
+	 * @param <T>
+	 *            the type of the results
+	 */
+	protected static final class ResultPage<T> {
+
+		private final List<T> results;
+		@Nullable
+		private final Map<String, AttributeValue> lastEvaluatedKey;
+
+		public ResultPage(@Nullable List<T> results, @Nullable Map<String, AttributeValue> lastEvaluatedKey) {
+			this.results = results == null ? Collections.emptyList() : results;
+			this.lastEvaluatedKey = lastEvaluatedKey == null || lastEvaluatedKey.isEmpty() ? null : lastEvaluatedKey;
+		}
+
+		public List<T> getResults() {
+			return results;
+		}
+
+		@Nullable
+		public Map<String, AttributeValue> getLastEvaluatedKey() {
+			return lastEvaluatedKey;
+		}
+	}
 }
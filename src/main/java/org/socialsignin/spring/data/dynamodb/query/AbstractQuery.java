@@ -15,6 +15,17 @@
  */
 package org.socialsignin.spring.data.dynamodb.query;
 
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.PaginationLoadingStrategy;
+
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.lang.Nullable;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
 /**
  * {@link org.socialsignin.spring.data.dynamodb.mapping.DynamoDBPersistentProperty}
  * implementation
@@ -26,6 +37,25 @@ public abstract class AbstractQuery<T> implements Query<T> {
 
 	protected boolean scanEnabled = false;
 	protected boolean scanCountEnabled = false;
+	protected Optional<Integer> parallelScanSegments = Optional.empty();
+	protected Optional<PaginationLoadingStrategy> paginationLoadingStrategy = Optional.empty();
+
+	@Override
+	public boolean exists() {
+		// Lazily loaded result lists stop at the first result page
+		return !getResultList().isEmpty();
+	}
+
+	@Override
+	public Window<T> getResultWindow(ScrollPosition scrollPosition, @Nullable Integer limit) {
+		throw new UnsupportedOperationException("Scrolling is not supported for " + getClass().getSimpleName());
+	}
+
+	@Override
+	public Iterator<List<T>> getKeyPages() {
+		// Queries which aren't paged load their results as a single page
+		return Collections.singletonList(getResultList()).iterator();
+	}
 
 	@Override
 	public boolean isScanCountEnabled() {
@@ -47,4 +77,24 @@ public abstract class AbstractQuery<T> implements Query<T> {
 		return scanEnabled;
 	}
 
+	@Override
+	public void setParallelScanSegments(Optional<Integer> parallelScanSegments) {
+		this.parallelScanSegments = parallelScanSegments;
+	}
+
+	@Override
+	public Optional<Integer> getParallelScanSegments() {
+		return parallelScanSegments;
+	}
+
+	@Override
+	public void setPaginationLoadingStrategy(Optional<PaginationLoadingStrategy> paginationLoadingStrategy) {
+		this.paginationLoadingStrategy = paginationLoadingStrategy;
+	}
+
+	@Override
+	public Optional<PaginationLoadingStrategy> getPaginationLoadingStrategy() {
+		return paginationLoadingStrategy;
+	}
+
 }
@@ -37,7 +37,7 @@ public class CountByHashAndRangeKeyQuery<T> extends AbstractSingleEntityQuery<Lo
 
 	@Override
 	public Long getSingleResult() {
-		return dynamoDBOperations.load(entityClass, hashKey, rangeKey) == null ? 0l : 1l;
+		return dynamoDBOperations.exists(entityClass, hashKey, rangeKey) ? 1l : 0l;
 	}
 
 }
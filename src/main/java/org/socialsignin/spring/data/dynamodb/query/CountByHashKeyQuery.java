@@ -34,7 +34,7 @@ public class CountByHashKeyQuery<T> extends AbstractSingleEntityQuery<Long> impl
 
 	@Override
 	public Long getSingleResult() {
-		return dynamoDBOperations.load(entityClass, hashKey) == null ? 0l : 1l;
+		return dynamoDBOperations.exists(entityClass, hashKey, null) ? 1l : 0l;
 	}
 
 }
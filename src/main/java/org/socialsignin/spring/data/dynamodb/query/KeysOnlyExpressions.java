@@ -0,0 +1,227 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.query;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperFieldModel;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBQueryExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.ComparisonOperator;
+import com.amazonaws.services.dynamodbv2.model.Condition;
+import com.amazonaws.services.dynamodbv2.model.ConditionalOperator;
+import com.amazonaws.services.dynamodbv2.model.KeyType;
+import com.amazonaws.services.dynamodbv2.model.QueryRequest;
+import com.amazonaws.services.dynamodbv2.model.Select;
+import org.springframework.lang.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Rewrites query and scan requests to read only the key attributes of the
+ * table. DynamoDB rejects a {@code ProjectionExpression} next to the legacy
+ * {@code KeyConditions}, {@code QueryFilter} and {@code ScanFilter} parameters,
+ * so those are translated into the equivalent condition expressions first.
+ */
+final class KeysOnlyExpressions {
+
+	private final Map<String, String> names;
+	private final Map<String, AttributeValue> values;
+	private int placeholders = 0;
+
+	private KeysOnlyExpressions(@Nullable Map<String, String> names, @Nullable Map<String, AttributeValue> values) {
+		this.names = names == null ? new LinkedHashMap<>() : new LinkedHashMap<>(names);
+		this.values = values == null ? new LinkedHashMap<>() : new LinkedHashMap<>(values);
+	}
+
+	static <T> DynamoDBQueryExpression<T> keysOnly(DynamoDBQueryExpression<T> queryExpression,
+			DynamoDBMapperTableModel<T> tableModel) {
+		KeysOnlyExpressions expressions = new KeysOnlyExpressions(queryExpression.getExpressionAttributeNames(),
+				queryExpression.getExpressionAttributeValues());
+
+		String keyConditionExpression = queryExpression.getKeyConditionExpression();
+		if (keyConditionExpression == null) {
+			List<String> keyConditions = new ArrayList<>();
+			keyConditions.add(expressions.hashKeyCondition(queryExpression.getHashKeyValues(),
+					queryExpression.getIndexName(), tableModel));
+			keyConditions.add(expressions.conditions(queryExpression.getRangeKeyConditions(), null));
+			keyConditionExpression = and(keyConditions);
+		}
+		String filterExpression = and(queryExpression.getFilterExpression(),
+				expressions.conditions(queryExpression.getQueryFilter(), queryExpression.getConditionalOperator()));
+		String projectionExpression = expressions.keyProjection(tableModel);
+
+		return new DynamoDBQueryExpression<T>().withIndexName(queryExpression.getIndexName())
+				.withConsistentRead(queryExpression.isConsistentRead())
+				.withScanIndexForward(queryExpression.isScanIndexForward()).withLimit(queryExpression.getLimit())
+				.withKeyConditionExpression(keyConditionExpression).withFilterExpression(filterExpression)
+				.withSelect(Select.SPECIFIC_ATTRIBUTES).withProjectionExpression(projectionExpression)
+				.withExpressionAttributeNames(expressions.names)
+				.withExpressionAttributeValues(expressions.values.isEmpty() ? null : expressions.values);
+	}
+
+	static <T> DynamoDBScanExpression keysOnly(DynamoDBScanExpression scanExpression,
+			DynamoDBMapperTableModel<T> tableModel) {
+		KeysOnlyExpressions expressions = new KeysOnlyExpressions(scanExpression.getExpressionAttributeNames(),
+				scanExpression.getExpressionAttributeValues());
+
+		String filterExpression = and(scanExpression.getFilterExpression(),
+				expressions.conditions(scanExpression.getScanFilter(), scanExpression.getConditionalOperator()));
+		String projectionExpression = expressions.keyProjection(tableModel);
+
+		return new DynamoDBScanExpression().withIndexName(scanExpression.getIndexName())
+				.withConsistentRead(scanExpression.isConsistentRead()).withLimit(scanExpression.getLimit())
+				.withSegment(scanExpression.getSegment()).withTotalSegments(scanExpression.getTotalSegments())
+				.withFilterExpression(filterExpression).withSelect(Select.SPECIFIC_ATTRIBUTES)
+				.withProjectionExpression(projectionExpression).withExpressionAttributeNames(expressions.names)
+				.withExpressionAttributeValues(expressions.values.isEmpty() ? null : expressions.values);
+	}
+
+	static <T> QueryRequest keysOnly(QueryRequest queryRequest, DynamoDBMapperTableModel<T> tableModel) {
+		KeysOnlyExpressions expressions = new KeysOnlyExpressions(queryRequest.getExpressionAttributeNames(),
+				queryRequest.getExpressionAttributeValues());
+
+		String keyConditionExpression = and(queryRequest.getKeyConditionExpression(),
+				expressions.conditions(queryRequest.getKeyConditions(), null));
+		String filterExpression = and(queryRequest.getFilterExpression(),
+				expressions.conditions(queryRequest.getQueryFilter(), queryRequest.getConditionalOperator()));
+		String projectionExpression = expressions.keyProjection(tableModel);
+
+		return new QueryRequest().withTableName(queryRequest.getTableName())
+				.withIndexName(queryRequest.getIndexName()).withConsistentRead(queryRequest.getConsistentRead())
+				.withScanIndexForward(queryRequest.getScanIndexForward()).withLimit(queryRequest.getLimit())
+				.withKeyConditionExpression(keyConditionExpression).withFilterExpression(filterExpression)
+				.withSelect(Select.SPECIFIC_ATTRIBUTES).withProjectionExpression(projectionExpression)
+				.withExpressionAttributeNames(expressions.names)
+				.withExpressionAttributeValues(expressions.values.isEmpty() ? null : expressions.values);
+	}
+
+	private <T> String keyProjection(DynamoDBMapperTableModel<T> tableModel) {
+		StringJoiner projection = new StringJoiner(", ");
+		projection.add(name(tableModel.hashKey().name()));
+		if (tableModel.rangeKeyIfExists() != null) {
+			projection.add(name(tableModel.rangeKeyIfExists().name()));
+		}
+		return projection.toString();
+	}
+
+	private <T> String hashKeyCondition(T hashKeyValues, @Nullable String indexName,
+			DynamoDBMapperTableModel<T> tableModel) {
+		DynamoDBMapperFieldModel<T, Object> hashKey = tableModel.hashKey();
+		if (indexName != null) {
+			// The mapper takes the index hash key from the first annotated property
+			// which has a value
+			for (DynamoDBMapperFieldModel<T, Object> field : tableModel.fields()) {
+				if (field.globalSecondaryIndexNames(KeyType.HASH).contains(indexName)
+						&& field.get(hashKeyValues) != null) {
+					hashKey = field;
+					break;
+				}
+			}
+		}
+		return name(hashKey.name()) + " = " + value(hashKey.convert(hashKey.get(hashKeyValues)));
+	}
+
+	@Nullable
+	private String conditions(@Nullable Map<String, Condition> conditions, @Nullable String conditionalOperator) {
+		if (conditions == null || conditions.isEmpty()) {
+			return null;
+		}
+		String operator = ConditionalOperator.OR.toString().equals(conditionalOperator) ? " OR " : " AND ";
+		StringJoiner expression = new StringJoiner(operator);
+		for (Map.Entry<String, Condition> condition : conditions.entrySet()) {
+			expression.add(condition(condition.getKey(), condition.getValue()));
+		}
+		return conditions.size() == 1 ? expression.toString() : "(" + expression + ")";
+	}
+
+	private String condition(String attributeName, Condition condition) {
+		String name = name(attributeName);
+		List<AttributeValue> arguments = condition.getAttributeValueList();
+		switch (ComparisonOperator.fromValue(condition.getComparisonOperator())) {
+			case EQ:
+				return name + " = " + value(arguments.get(0));
+			case NE:
+				return name + " <> " + value(arguments.get(0));
+			case LE:
+				return name + " <= " + value(arguments.get(0));
+			case LT:
+				return name + " < " + value(arguments.get(0));
+			case GE:
+				return name + " >= " + value(arguments.get(0));
+			case GT:
+				return name + " > " + value(arguments.get(0));
+			case NULL:
+				return "attribute_not_exists(" + name + ")";
+			case NOT_NULL:
+				return "attribute_exists(" + name + ")";
+			case CONTAINS:
+				return "contains(" + name + ", " + value(arguments.get(0)) + ")";
+			case NOT_CONTAINS:
+				return "NOT contains(" + name + ", " + value(arguments.get(0)) + ")";
+			case BEGINS_WITH:
+				return "begins_with(" + name + ", " + value(arguments.get(0)) + ")";
+			case BETWEEN:
+				return name + " BETWEEN " + value(arguments.get(0)) + " AND " + value(arguments.get(1));
+			case IN:
+				StringJoiner in = new StringJoiner(", ", name + " IN (", ")");
+				for (AttributeValue argument : arguments) {
+					in.add(value(argument));
+				}
+				return in.toString();
+			default:
+				throw new UnsupportedOperationException(
+						"Comparison operator " + condition.getComparisonOperator() + " not supported");
+		}
+	}
+
+	private String name(String attributeName) {
+		String placeholder = "#keysOnly" + placeholders++;
+		names.put(placeholder, attributeName);
+		return placeholder;
+	}
+
+	private String value(AttributeValue attributeValue) {
+		String placeholder = ":keysOnly" + placeholders++;
+		values.put(placeholder, attributeValue);
+		return placeholder;
+	}
+
+	@Nullable
+	private static String and(@Nullable String... expressions) {
+		return and(Arrays.asList(expressions));
+	}
+
+	@Nullable
+	private static String and(List<String> expressions) {
+		List<String> nonEmpty = new ArrayList<>();
+		for (String expression : expressions) {
+			if (expression != null && !expression.isEmpty()) {
+				nonEmpty.add(expression);
+			}
+		}
+		if (nonEmpty.isEmpty()) {
+			return null;
+		}
+		return nonEmpty.size() == 1 ? nonEmpty.get(0) : "(" + String.join(") AND (", nonEmpty) + ")";
+	}
+
+}
@@ -16,9 +16,15 @@
 package org.socialsignin.spring.data.dynamodb.query;
 
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBQueryExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.QueryResultPage;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.springframework.lang.Nullable;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * @author Michael Lavelle
@@ -36,7 +42,38 @@ public class MultipleEntityQueryExpressionQuery<T> extends AbstractMultipleEntit
 
 	@Override
 	public List<T> getResultList() {
+		if (paginationLoadingStrategy.isPresent()) {
+			return dynamoDBOperations.query(clazz, queryExpression, paginationLoadingStrategy.get());
+		}
 		return dynamoDBOperations.query(clazz, queryExpression);
 	}
 
+	@Override
+	protected ResultPage<T> getResultPage(@Nullable Map<String, AttributeValue> exclusiveStartKey,
+			@Nullable Integer limit) {
+		queryExpression.withExclusiveStartKey(exclusiveStartKey).withLimit(limit);
+		QueryResultPage<T> page = dynamoDBOperations.queryPage(clazz, queryExpression);
+		return new ResultPage<>(page.getResults(), page.getLastEvaluatedKey());
+	}
+
+	@Override
+	protected boolean isFiltered() {
+		return StringUtils.hasLength(queryExpression.getFilterExpression())
+				|| !CollectionUtils.isEmpty(queryExpression.getQueryFilter());
+	}
+
+	@Override
+	protected String getIndexName() {
+		return queryExpression.getIndexName();
+	}
+
+	@Override
+	protected ResultPage<T> getKeyPage(@Nullable Map<String, AttributeValue> exclusiveStartKey) {
+		DynamoDBQueryExpression<T> keysOnly = KeysOnlyExpressions
+				.keysOnly(queryExpression, dynamoDBOperations.getTableModel(clazz))
+				.withExclusiveStartKey(exclusiveStartKey);
+		QueryResultPage<T> page = dynamoDBOperations.queryPage(clazz, keysOnly);
+		return new ResultPage<>(page.getResults(), page.getLastEvaluatedKey());
+	}
+
 }
@@ -15,27 +15,61 @@
  */
 package org.socialsignin.spring.data.dynamodb.query;
 
+import com.amazonaws.services.dynamodbv2.datamodeling.QueryResultPage;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
 import com.amazonaws.services.dynamodbv2.model.QueryRequest;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.springframework.lang.Nullable;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
 
 import java.util.List;
+import java.util.Map;
 
 public class MultipleEntityQueryRequestQuery<T> extends AbstractMultipleEntityQuery<T> {
 
-	private DynamoDBOperations dynamoDBOperations;
 	private QueryRequest queryRequest;
 
 	public MultipleEntityQueryRequestQuery(DynamoDBOperations dynamoDBOperations, Class<T> clazz,
 			QueryRequest queryRequest) {
-		super(null, clazz);
+		super(dynamoDBOperations, clazz);
 		this.queryRequest = queryRequest;
-		this.dynamoDBOperations = dynamoDBOperations;
 	}
 
 	@Override
 	public List<T> getResultList() {
 
+		if (paginationLoadingStrategy.isPresent()) {
+			return dynamoDBOperations.query(clazz, queryRequest, paginationLoadingStrategy.get());
+		}
 		return dynamoDBOperations.query(clazz, queryRequest);
 	}
 
+	@Override
+	protected ResultPage<T> getResultPage(@Nullable Map<String, AttributeValue> exclusiveStartKey,
+			@Nullable Integer limit) {
+		queryRequest.withExclusiveStartKey(exclusiveStartKey).withLimit(limit);
+		QueryResultPage<T> page = dynamoDBOperations.queryPage(clazz, queryRequest);
+		return new ResultPage<>(page.getResults(), page.getLastEvaluatedKey());
+	}
+
+	@Override
+	protected boolean isFiltered() {
+		return StringUtils.hasLength(queryRequest.getFilterExpression())
+				|| !CollectionUtils.isEmpty(queryRequest.getQueryFilter());
+	}
+
+	@Override
+	protected String getIndexName() {
+		return queryRequest.getIndexName();
+	}
+
+	@Override
+	protected ResultPage<T> getKeyPage(@Nullable Map<String, AttributeValue> exclusiveStartKey) {
+		QueryRequest keysOnly = KeysOnlyExpressions.keysOnly(queryRequest, dynamoDBOperations.getTableModel(clazz))
+				.withExclusiveStartKey(exclusiveStartKey);
+		QueryResultPage<T> page = dynamoDBOperations.queryPage(clazz, keysOnly);
+		return new ResultPage<>(page.getResults(), page.getLastEvaluatedKey());
+	}
+
 }
@@ -16,10 +16,16 @@
 package org.socialsignin.spring.data.dynamodb.query;
 
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.ScanResultPage;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
 
 import java.util.List;
+import java.util.Map;
 
 public class MultipleEntityScanExpressionQuery<T> extends AbstractMultipleEntityQuery<T> {
 
@@ -34,9 +40,49 @@ public class MultipleEntityScanExpressionQuery<T> extends AbstractMultipleEntity
 	@Override
 	public List<T> getResultList() {
 		assertScanEnabled(isScanEnabled());
+		if (paginationLoadingStrategy.isPresent()) {
+			if (parallelScanSegments.isPresent()) {
+				return dynamoDBOperations.parallelScan(clazz, scanExpression, parallelScanSegments.get(),
+						paginationLoadingStrategy.get());
+			}
+			return dynamoDBOperations.scan(clazz, scanExpression, paginationLoadingStrategy.get());
+		}
+		if (parallelScanSegments.isPresent()) {
+			return dynamoDBOperations.parallelScan(clazz, scanExpression, parallelScanSegments.get());
+		}
 		return dynamoDBOperations.scan(clazz, scanExpression);
 	}
 
+	@Override
+	protected ResultPage<T> getResultPage(@Nullable Map<String, AttributeValue> exclusiveStartKey,
+			@Nullable Integer limit) {
+		assertScanEnabled(isScanEnabled());
+		scanExpression.withExclusiveStartKey(exclusiveStartKey).withLimit(limit);
+		ScanResultPage<T> page = dynamoDBOperations.scanPage(clazz, scanExpression);
+		return new ResultPage<>(page.getResults(), page.getLastEvaluatedKey());
+	}
+
+	@Override
+	protected boolean isFiltered() {
+		return StringUtils.hasLength(scanExpression.getFilterExpression())
+				|| !CollectionUtils.isEmpty(scanExpression.getScanFilter());
+	}
+
+	@Override
+	protected String getIndexName() {
+		return scanExpression.getIndexName();
+	}
+
+	@Override
+	protected ResultPage<T> getKeyPage(@Nullable Map<String, AttributeValue> exclusiveStartKey) {
+		assertScanEnabled(isScanEnabled());
+		DynamoDBScanExpression keysOnly = KeysOnlyExpressions
+				.keysOnly(scanExpression, dynamoDBOperations.getTableModel(clazz))
+				.withExclusiveStartKey(exclusiveStartKey);
+		ScanResultPage<T> page = dynamoDBOperations.scanPage(clazz, keysOnly);
+		return new ResultPage<>(page.getResults(), page.getLastEvaluatedKey());
+	}
+
 	public void assertScanEnabled(boolean scanEnabled) {
 		Assert.isTrue(scanEnabled, "Scanning for this query is not enabled.  "
 				+ "To enable annotate your repository method with @EnableScan, or "
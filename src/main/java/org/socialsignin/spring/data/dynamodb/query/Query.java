@@ -15,7 +15,15 @@
  */
 package org.socialsignin.spring.data.dynamodb.query;
 
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.PaginationLoadingStrategy;
+
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.lang.Nullable;
+
+import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
 
 public interface Query<T> {
 
@@ -36,9 +44,45 @@ public interface Query<T> {
 	 */
 	T getSingleResult();
 
+	/**
+	 * @return {@code true} if the query has at least one result, without loading
+	 *         more than needed to tell
+	 */
+	boolean exists();
+
+	/**
+	 * Execute a SELECT query that returns the window of results after the given
+	 * position. The position of the last result continues at the
+	 * {@code LastEvaluatedKey}, so a window costs the same independent of its
+	 * position.
+	 *
+	 * @param scrollPosition
+	 *            the keyset position to start after
+	 * @param limit
+	 *            the maximum number of results or {@code null} for a single
+	 *            page as returned by DynamoDB
+	 * @return the window of results
+	 * @throws UnsupportedOperationException
+	 *             if the query can't be scrolled
+	 */
+	Window<T> getResultWindow(ScrollPosition scrollPosition, @Nullable Integer limit);
+
+	/**
+	 * Execute a SELECT query that reads only the key attributes of its results,
+	 * one page at a time. The next page is not requested before the previous one
+	 * has been consumed.
+	 *
+	 * @return the pages of results with only their key properties set
+	 */
+	Iterator<List<T>> getKeyPages();
+
 	void setScanEnabled(boolean scanEnabled);
 	void setScanCountEnabled(boolean scanCountEnabled);
 	boolean isScanCountEnabled();
 	boolean isScanEnabled();
+	void setParallelScanSegments(Optional<Integer> parallelScanSegments);
+	Optional<Integer> getParallelScanSegments();
+	void setPaginationLoadingStrategy(Optional<PaginationLoadingStrategy> paginationLoadingStrategy);
+	Optional<PaginationLoadingStrategy> getPaginationLoadingStrategy();
 
 }
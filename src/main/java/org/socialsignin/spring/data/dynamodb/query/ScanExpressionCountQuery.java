@@ -38,6 +38,9 @@ public class ScanExpressionCountQuery<T> extends AbstractSingleEntityQuery<Long>
 	@Override
 	public Long getSingleResult() {
 		assertScanCountEnabled(isScanCountEnabled());
+		if (parallelScanSegments.isPresent()) {
+			return dynamoDBOperations.parallelCount(domainClass, scanExpression, parallelScanSegments.get());
+		}
 		return Long.valueOf(dynamoDBOperations.count(domainClass, scanExpression));
 	}
 
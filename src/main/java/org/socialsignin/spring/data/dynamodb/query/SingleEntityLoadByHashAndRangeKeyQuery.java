@@ -17,6 +17,10 @@ package org.socialsignin.spring.data.dynamodb.query;
 
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
 
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
 /**
  * @author Michael Lavelle
  * @author Sebastian Just
@@ -38,4 +42,17 @@ public class SingleEntityLoadByHashAndRangeKeyQuery<T> extends AbstractSingleEnt
 		return dynamoDBOperations.load(clazz, hashKey, rangeKey);
 	}
 
+	@Override
+	public boolean exists() {
+		return dynamoDBOperations.exists(clazz, hashKey, rangeKey);
+	}
+
+	@Override
+	public Iterator<List<T>> getKeyPages() {
+		List<T> keys = exists()
+				? Collections.singletonList(dynamoDBOperations.getTableModel(clazz).createKey(hashKey, rangeKey))
+				: Collections.emptyList();
+		return Collections.singletonList(keys).iterator();
+	}
+
 }
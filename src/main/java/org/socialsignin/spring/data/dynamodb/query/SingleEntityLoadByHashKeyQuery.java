@@ -17,6 +17,10 @@ package org.socialsignin.spring.data.dynamodb.query;
 
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
 
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
 /**
  * @author Michael Lavelle
  * @author Sebastian Just
@@ -35,4 +39,17 @@ public class SingleEntityLoadByHashKeyQuery<T> extends AbstractSingleEntityQuery
 		return dynamoDBOperations.load(clazz, hashKey);
 	}
 
+	@Override
+	public boolean exists() {
+		return dynamoDBOperations.exists(clazz, hashKey, null);
+	}
+
+	@Override
+	public Iterator<List<T>> getKeyPages() {
+		List<T> keys = exists()
+				? Collections.singletonList(dynamoDBOperations.getTableModel(clazz).createKey(hashKey, null))
+				: Collections.emptyList();
+		return Collections.singletonList(keys).iterator();
+	}
+
 }
@@ -15,6 +15,8 @@
  */
 package org.socialsignin.spring.data.dynamodb.repository;
 
+import java.util.stream.Stream;
+
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.NoRepositoryBean;
 
@@ -28,4 +30,24 @@ import org.springframework.data.repository.NoRepositoryBean;
 @NoRepositoryBean
 public interface DynamoDBCrudRepository<T, ID> extends CrudRepository<T, ID> {
 
+	/**
+	 * Scans all entities like {@link #findAll()}, but loads the result pages one
+	 * after the other while the stream is consumed instead of keeping all of them
+	 * in memory. Requires the same scan permissions as {@link #findAll()}.
+	 *
+	 * @return A {@link Stream} of all entities which should be closed after use
+	 */
+	Stream<T> findAllAsStream();
+
+	/**
+	 * Checks whether entities with all of the given ids exist by reading only
+	 * their keys in batches.
+	 *
+	 * @param ids
+	 *            must not be {@literal null} nor contain any {@literal null}
+	 *            values
+	 * @return {@literal true} if an entity exists for every id
+	 */
+	boolean existsAllById(Iterable<ID> ids);
+
 }
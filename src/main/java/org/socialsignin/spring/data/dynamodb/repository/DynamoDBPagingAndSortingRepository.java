@@ -15,6 +15,8 @@
  */
 package org.socialsignin.spring.data.dynamodb.repository;
 
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.repository.NoRepositoryBean;
 import org.springframework.data.repository.PagingAndSortingRepository;
 
@@ -28,4 +30,19 @@ import org.springframework.data.repository.PagingAndSortingRepository;
 @NoRepositoryBean
 public interface DynamoDBPagingAndSortingRepository<T, ID> extends DynamoDBCrudRepository<T, ID>, PagingAndSortingRepository<T, ID> {
 
+	/**
+	 * Scans the next window of entities after the given position. The position
+	 * carries the {@code LastEvaluatedKey} of the previous window, so every window
+	 * costs the same, independent of how far the scan already went. Requires the
+	 * same scan permissions as {@link #findAll(org.springframework.data.domain.Pageable)}.
+	 *
+	 * @param scrollPosition
+	 *            {@link ScrollPosition#keyset()} to start at the beginning or a
+	 *            position of a previously returned {@link Window}
+	 * @param limit
+	 *            the maximum number of entities in the window
+	 * @return the next window of entities
+	 */
+	Window<T> findAll(ScrollPosition scrollPosition, int limit);
+
 }
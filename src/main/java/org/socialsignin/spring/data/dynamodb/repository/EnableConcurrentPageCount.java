@@ -0,0 +1,56 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the count query of the {@link org.springframework.data.domain.Page}
+ * returning query methods of the annotated repository (or the annotated query
+ * method) concurrently with the query for the page content. The count is
+ * discarded if the total can be derived from the page content itself; note that
+ * a count which has already started is not stopped and still consumes the read
+ * capacity of all its pages.
+ * Optionally the count is cached per list of query arguments, so that
+ * requesting further pages does not count the results again.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD, ElementType.ANNOTATION_TYPE})
+@Documented
+public @interface EnableConcurrentPageCount {
+
+	/**
+	 * @return the time a count is cached. The default {@code 0} disables caching.
+	 */
+	long ttl() default 0;
+
+	/**
+	 * @return the {@link TimeUnit} of the {@link #ttl()}
+	 */
+	TimeUnit unit() default TimeUnit.SECONDS;
+
+	/**
+	 * @return the maximum number of counts cached per query method. The counts
+	 *         of the least recently used arguments are evicted first.
+	 */
+	int maxEntries() default 1_000;
+
+}
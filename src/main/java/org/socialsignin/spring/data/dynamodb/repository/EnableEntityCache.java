@@ -0,0 +1,61 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches the entities loaded by id in the
+ * {@link org.socialsignin.spring.data.dynamodb.core.EntityCache} of the
+ * {@link org.socialsignin.spring.data.dynamodb.core.DynamoDBTemplate}. Can be
+ * put on the entity class or on the repository interface of the entity.
+ * 
+ * Cached entries are evicted when the entity is saved or deleted through the
+ * {@code DynamoDBTemplate} or the
+ * {@link org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBTemplate}
+ * sharing the cache, and a load that overlaps such a write is not cached.
+ * Writes from other processes or by other means (e.g. a
+ * {@code DynamoDBMapper} used directly) are not seen: the cached entity stays
+ * stale for up to the {@link #ttl()}.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.ANNOTATION_TYPE})
+@Documented
+public @interface EnableEntityCache {
+
+	/**
+	 * @return the time an entity is served from the cache after it was loaded
+	 */
+	long ttl() default 60;
+
+	/**
+	 * @return the {@link TimeUnit} of the {@link #ttl()}
+	 */
+	TimeUnit unit() default TimeUnit.SECONDS;
+
+	/**
+	 * @return the maximum total weight of the cached entities of this type. By
+	 *         default every entity weighs {@code 1}, so this is the maximum number
+	 *         of cached entities.
+	 */
+	long maxWeight() default 10_000;
+
+}
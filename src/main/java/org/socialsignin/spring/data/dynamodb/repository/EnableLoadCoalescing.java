@@ -0,0 +1,48 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Coalesces concurrent {@code findById} calls of the annotated repository:
+ * the ids requested within {@link #window()} milliseconds (or until
+ * {@link #maxBatchSize()} ids are pending) are loaded with a single
+ * {@code BatchGetItem} request instead of one {@code GetItem} per call.
+ * Entities in the entity cache are returned without waiting for a batch.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.ANNOTATION_TYPE})
+@Documented
+public @interface EnableLoadCoalescing {
+
+	/**
+	 * @return the time in milliseconds ids are collected before they are loaded
+	 */
+	long window() default 2;
+
+	/**
+	 * @return the number of pending ids which triggers loading immediately. At
+	 *         most {@code 100} as this is the limit of a single
+	 *         {@code BatchGetItem} request.
+	 */
+	int maxBatchSize() default 100;
+
+}
@@ -0,0 +1,66 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps a Bloom filter of the ids of the entities managed by the annotated
+ * repository. {@code findById}, {@code existsById} and {@code findAllById} skip
+ * the round trip to DynamoDB for ids the filter reports as definitely absent.
+ * 
+ * The filter is built by a keys-only scan of the table and kept up to date from
+ * the {@link org.socialsignin.spring.data.dynamodb.mapping.event.AfterSaveEvent}s
+ * of the entity. Deleted ids can't be removed from a Bloom filter, so the
+ * filter is rebuilt periodically. Until the first build finished, every id is
+ * looked up in DynamoDB.
+ * 
+ * This assumes the application is the only writer of the table: an entity
+ * saved by another process (or without a
+ * {@link org.socialsignin.spring.data.dynamodb.core.DynamoDBTemplate}) is
+ * reported as absent until the next rebuild.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.ANNOTATION_TYPE})
+@Documented
+public @interface EnableNegativeLookupCache {
+
+	/**
+	 * @return the expected number of items in the table the filter is sized for
+	 */
+	long expectedItems() default 1_000_000;
+
+	/**
+	 * @return the accepted probability that an absent id is still looked up
+	 */
+	double falsePositiveRate() default 0.01;
+
+	/**
+	 * @return the time between two rebuilds of the filter
+	 */
+	long rebuildInterval() default 60;
+
+	/**
+	 * @return the {@link TimeUnit} of the {@link #rebuildInterval()}
+	 */
+	TimeUnit unit() default TimeUnit.MINUTES;
+
+}
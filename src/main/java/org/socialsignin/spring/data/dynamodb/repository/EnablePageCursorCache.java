@@ -0,0 +1,54 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Remembers the {@code LastEvaluatedKey}s seen at page boundaries of the
+ * {@link org.springframework.data.domain.Page} returning query methods of the
+ * annotated repository (or the annotated query method). A later request for a
+ * page with the same arguments continues at the closest remembered boundary
+ * before its offset instead of reading and discarding all items from the start.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD, ElementType.ANNOTATION_TYPE})
+@Documented
+public @interface EnablePageCursorCache {
+
+	/**
+	 * @return the maximum number of page boundaries remembered per query method.
+	 *         The boundaries of the least recently used arguments are evicted
+	 *         first.
+	 */
+	int maxEntries() default 1_000;
+
+	/**
+	 * @return the time a page boundary is remembered
+	 */
+	long ttl() default 5;
+
+	/**
+	 * @return the {@link TimeUnit} of the {@link #ttl()}
+	 */
+	TimeUnit unit() default TimeUnit.MINUTES;
+
+}
@@ -0,0 +1,44 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Executes the scans of the annotated repository (or repository method) as a
+ * parallel scan which fans out {@code Segment}/{@code TotalSegments} requests.
+ * Scanning itself still has to be enabled via {@link EnableScan} or
+ * {@link EnableScanCount}.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD, ElementType.ANNOTATION_TYPE})
+@Documented
+public @interface EnableParallelScan {
+
+	/**
+	 * The number of segments the table is split into. The default {@code 0}
+	 * derives the number of segments from the table size reported by
+	 * {@code DescribeTable}.
+	 *
+	 * @return the total number of segments
+	 */
+	int segments() default 0;
+
+}
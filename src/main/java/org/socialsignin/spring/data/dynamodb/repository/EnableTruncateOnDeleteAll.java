@@ -0,0 +1,47 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Lets {@code deleteAll()} of the annotated repository drop and recreate the
+ * table instead of deleting its items one by one, once the table holds at least
+ * {@link #minItemCount()} items. Scanning for {@code deleteAll()} still has to be
+ * enabled via {@link EnableScan}, as smaller tables are cleared by a scan.
+ * 
+ * The table is recreated from its {@code DescribeTable} description with the
+ * same key schema, indexes, capacity, stream and encryption settings. Time to
+ * live, point-in-time recovery, tags and auto scaling policies are not part of
+ * that description and have to be restored by the application. The table is
+ * unavailable while it is recreated.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD, ElementType.ANNOTATION_TYPE})
+@Documented
+public @interface EnableTruncateOnDeleteAll {
+
+	/**
+	 * @return the approximate number of items (as reported by
+	 *         {@code DescribeTable}) from which on the table is recreated
+	 */
+	long minItemCount() default 100_000;
+
+}
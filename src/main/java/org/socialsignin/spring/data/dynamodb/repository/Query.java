@@ -21,6 +21,7 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 import org.socialsignin.spring.data.dynamodb.repository.QueryConstants.ConsistentReadMode;
+import org.socialsignin.spring.data.dynamodb.repository.QueryConstants.PaginationLoadingMode;
 import static org.socialsignin.spring.data.dynamodb.repository.QueryConstants.QUERY_LIMIT_UNLIMITED;
 
 @Retention(RetentionPolicy.RUNTIME)
@@ -61,6 +62,19 @@ public @interface Query {
 	 */
 	ConsistentReadMode consistentReads() default ConsistentReadMode.DEFAULT;
 
+	/**
+	 * Override the pagination loading strategy set in the DynamoDBMapper.
+	 * {@link PaginationLoadingMode#ITERATION_ONLY} keeps only the current result
+	 * page in memory, but the result can only be iterated once. Query methods
+	 * returning a {@link java.util.stream.Stream} always load
+	 * {@link PaginationLoadingMode#ITERATION_ONLY}.
+	 *
+	 * @see <a href=
+	 *      "https://docs.aws.amazon.com/amazondynamodb/latest/developerguide/DynamoDBMapper.OptionalConfig.html">DynamoDBMapper Configuration</a>
+	 * @return PaginationLoadingMode to load the result pages with
+	 */
+	PaginationLoadingMode paginationLoadingStrategy() default PaginationLoadingMode.DEFAULT;
+
 	/**
 	 * Set filter expressions for a query
 	 *
@@ -48,4 +48,28 @@ public class QueryConstants {
 		EVENTUAL
 	}
 
+	public enum PaginationLoadingMode {
+		/**
+		 * Use the default configured in the DynamoDBMapper
+		 * @see com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig#getPaginationLoadingStrategy()
+		 */
+		DEFAULT,
+		/**
+		 * Load result pages when they are accessed and keep them in memory
+		 * @see com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.PaginationLoadingStrategy#LAZY_LOADING
+		 */
+		LAZY_LOADING,
+		/**
+		 * Load all result pages when the query is executed
+		 * @see com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.PaginationLoadingStrategy#EAGER_LOADING
+		 */
+		EAGER_LOADING,
+		/**
+		 * Load result pages while iterating and drop the ones already iterated.
+		 * The result can only be iterated once.
+		 * @see com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.PaginationLoadingStrategy#ITERATION_ONLY
+		 */
+		ITERATION_ONLY
+	}
+
 }
@@ -43,6 +43,7 @@ import org.springframework.data.repository.config.AnnotationRepositoryConfigurat
 import org.springframework.data.repository.config.RepositoryConfigurationExtensionSupport;
 import org.springframework.data.repository.config.RepositoryConfigurationSource;
 import org.springframework.data.repository.config.XmlRepositoryConfigurationSource;
+import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 import org.w3c.dom.Element;
@@ -86,6 +87,12 @@ public class DynamoDBRepositoryConfigExtension extends RepositoryConfigurationEx
 		return Collections.singleton(DynamoDBTable.class);
 	}
 
+	@Override
+	protected boolean useRepositoryConfiguration(RepositoryMetadata metadata) {
+		// Reactive repositories are picked up by ReactiveDynamoDBRepositoryConfigExtension
+		return !metadata.isReactiveRepository();
+	}
+
 	@Override
 	public void postProcess(BeanDefinitionBuilder builder, AnnotationRepositoryConfigurationSource config) {
 		AnnotationAttributes attributes = config.getAttributes();
@@ -95,6 +102,14 @@ public class DynamoDBRepositoryConfigExtension extends RepositoryConfigurationEx
 		postProcess(builder, repositoryBeanName, attributes.getString("amazonDynamoDBRef"),
 				attributes.getString("dynamoDBMapperRef"), attributes.getString("dynamoDBMapperConfigRef"),
 				attributes.getString("dynamoDBOperationsRef"), attributes.getString("mappingContextRef"));
+
+		// Only @EnableDynamoDBRepositories declares it, not the reactive annotation
+		String asyncQueryExecutorRef = attributes.containsKey("asyncQueryExecutorRef")
+				? attributes.getString("asyncQueryExecutorRef")
+				: null;
+		if (StringUtils.hasText(asyncQueryExecutorRef)) {
+			builder.addPropertyReference("asyncQueryExecutor", asyncQueryExecutorRef);
+		}
 	}
 
 	/*
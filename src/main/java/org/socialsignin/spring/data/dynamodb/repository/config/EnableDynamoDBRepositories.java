@@ -181,6 +181,16 @@ public @interface EnableDynamoDBRepositories {
 	 */
 	String mappingContextRef() default "";
 
+	/**
+	 * Returns the {@link java.util.concurrent.Executor} reference query methods
+	 * returning a {@link java.util.concurrent.Future} or
+	 * {@link java.util.concurrent.CompletableFuture} are executed on. Defaults to
+	 * a virtual thread per query on JDK 21+.
+	 *
+	 * @return The {@link java.util.concurrent.Executor} bean name
+	 */
+	String asyncQueryExecutorRef() default "";
+
 	/**
 	 * Configures whether nested repository-interfaces (e.g. defined as inner classes) should be discovered by the
 	 * repositories infrastructure.
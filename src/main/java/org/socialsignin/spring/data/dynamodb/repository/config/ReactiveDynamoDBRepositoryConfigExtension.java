@@ -0,0 +1,68 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.config;
+
+import java.util.Collection;
+import java.util.Collections;
+
+import org.socialsignin.spring.data.dynamodb.repository.ReactiveDynamoDBCrudRepository;
+import org.socialsignin.spring.data.dynamodb.repository.support.ReactiveDynamoDBRepositoryFactoryBean;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.data.repository.config.AnnotationRepositoryConfigurationSource;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link DynamoDBRepositoryConfigExtension} for reactive repositories.
+ */
+public class ReactiveDynamoDBRepositoryConfigExtension extends DynamoDBRepositoryConfigExtension {
+
+	@Override
+	public String getModuleName() {
+		return "Reactive DynamoDB";
+	}
+
+	@Override
+	public String getRepositoryFactoryBeanClassName() {
+		return ReactiveDynamoDBRepositoryFactoryBean.class.getName();
+	}
+
+	@Override
+	protected Collection<Class<?>> getIdentifyingTypes() {
+		return Collections.singleton(ReactiveDynamoDBCrudRepository.class);
+	}
+
+	@Override
+	protected boolean useRepositoryConfiguration(RepositoryMetadata metadata) {
+		return metadata.isReactiveRepository();
+	}
+
+	@Override
+	public void postProcess(BeanDefinitionBuilder builder, AnnotationRepositoryConfigurationSource config) {
+		super.postProcess(builder, config);
+
+		String asyncDynamoDBOperationsRef = config.getAttributes().getString("asyncDynamoDBOperationsRef");
+		if (StringUtils.hasText(asyncDynamoDBOperationsRef)) {
+			builder.addPropertyReference("asyncDynamoDBOperations", asyncDynamoDBOperationsRef);
+		}
+	}
+
+	@Override
+	protected String getModulePrefix() {
+		return "reactiveDynamoDB";
+	}
+
+}
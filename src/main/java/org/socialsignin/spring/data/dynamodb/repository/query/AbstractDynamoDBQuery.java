@@ -16,42 +16,92 @@
 package org.socialsignin.spring.data.dynamodb.repository.query;
 
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.PaginationLoadingStrategy;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
 import org.socialsignin.spring.data.dynamodb.domain.UnpagedPageImpl;
 import org.socialsignin.spring.data.dynamodb.exception.BatchDeleteException;
 import org.socialsignin.spring.data.dynamodb.query.Query;
 import org.socialsignin.spring.data.dynamodb.utils.ExceptionHandler;
+import org.socialsignin.spring.data.dynamodb.utils.StreamHandler;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.Parameters;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * @author Michael Lavelle
  * @author Sebastian Just
  */
-public abstract class AbstractDynamoDBQuery<T, ID> implements RepositoryQuery, ExceptionHandler {
+public abstract class AbstractDynamoDBQuery<T, ID> implements RepositoryQuery, ExceptionHandler, StreamHandler {
 
 	protected final DynamoDBOperations dynamoDBOperations;
 	private final DynamoDBQueryMethod<T, ID> method;
+	private final Executor asyncQueryExecutor;
+	@Nullable
+	private final PageCursorCache pageCursorCache;
+	private final boolean concurrentPageCount;
+	@Nullable
+	private final PageCountCache pageCountCache;
 
 	public AbstractDynamoDBQuery(DynamoDBOperations dynamoDBOperations, DynamoDBQueryMethod<T, ID> method) {
+		this(dynamoDBOperations, method, AsyncQueryExecutors.defaultExecutor());
+	}
+
+	public AbstractDynamoDBQuery(DynamoDBOperations dynamoDBOperations, DynamoDBQueryMethod<T, ID> method,
+			Executor asyncQueryExecutor) {
+		Assert.notNull(asyncQueryExecutor, "asyncQueryExecutor must not be null");
 		this.dynamoDBOperations = dynamoDBOperations;
 		this.method = method;
+		this.asyncQueryExecutor = asyncQueryExecutor;
+		this.pageCursorCache = method.getPageCursorCache()
+				.map(config -> new PageCursorCache(config.maxEntries(),
+						Duration.ofNanos(config.unit().toNanos(config.ttl()))))
+				.orElse(null);
+		this.concurrentPageCount = method.getConcurrentPageCount().isPresent();
+		this.pageCountCache = method.getConcurrentPageCount().filter(config -> config.ttl() > 0)
+				.map(config -> new PageCountCache(config.maxEntries(),
+						Duration.ofNanos(config.unit().toNanos(config.ttl()))))
+				.orElse(null);
 	}
 
 	protected QueryExecution<T, ID> getExecution() {
-		if (method.isCollectionQuery() && !isSingleEntityResultsRestriction()) {
+		if (method.isStreamQuery() || method.isMultiValueReactiveQuery()) {
+			// Reactive adapters consume the results as stream, too
+			return new StreamExecution();
+		} else if (method.isScrollQuery()) {
+			return new ScrollExecution(method.getParameters());
+		} else if (isDeleteQuery()) {
+			return new DeleteExecution();
+		} else if (method.isCollectionQuery() && !isSingleEntityResultsRestriction()) {
 			return new CollectionExecution();
 		} else if (method.isSliceQuery() && !isSingleEntityResultsRestriction()) {
 			return new SlicedExecution(method.getParameters());
@@ -61,8 +111,6 @@ public abstract class AbstractDynamoDBQuery<T, ID> implements RepositoryQuery, E
 			throw new UnsupportedOperationException("Modifying queries not yet supported");
 		} else if (isSingleEntityResultsRestriction()) {
 			return new SingleEntityLimitedExecution();
-		} else if (isDeleteQuery()) {
-			return new DeleteExecution();
 		} else {
 			return new SingleEntityExecution();
 		}
@@ -70,6 +118,18 @@ public abstract class AbstractDynamoDBQuery<T, ID> implements RepositoryQuery, E
 
 	protected abstract Query<T> doCreateQuery(Object[] values);
 	protected abstract Query<Long> doCreateCountQuery(Object[] values, boolean pageQuery);
+
+	/**
+	 * Creates the query of an exists projection. Implementations may restrict it
+	 * to read no more than a single result.
+	 * 
+	 * @param values
+	 *            the query method arguments
+	 * @return the query to check for a result with
+	 */
+	protected Query<T> doCreateExistsQuery(Object[] values) {
+		return doCreateQuery(values);
+	}
 	protected abstract boolean isCountQuery();
 	protected abstract boolean isExistsQuery();
 	protected abstract boolean isDeleteQuery();
@@ -77,15 +137,49 @@ public abstract class AbstractDynamoDBQuery<T, ID> implements RepositoryQuery, E
 	protected abstract Integer getResultsRestrictionIfApplicable();
 	protected abstract boolean isSingleEntityResultsRestriction();
 
+	/**
+	 * Determines how many results the execution of this query reads at most, so
+	 * that the request does not load more items than that.
+	 * 
+	 * @param accessor
+	 *            the accessor of the query method arguments
+	 * @return the number of results to read if it is bounded
+	 */
+	protected Optional<Integer> getMaxResultsToRead(ParameterAccessor accessor) {
+		Integer restriction = getResultsRestrictionIfApplicable();
+		Pageable pageable = accessor.getPageable();
+		if ((method.isPageQuery() || method.isSliceQuery()) && pageable.isPaged()) {
+			int pageSize = restriction == null ? pageable.getPageSize() : Math.min(pageable.getPageSize(), restriction);
+			long toRead = pageable.getOffset() + pageSize;
+			if (method.isSliceQuery() && (restriction == null || restriction > pageSize)) {
+				// Look ahead to find out if there is a next slice
+				toRead++;
+			}
+			return Optional.of((int) Math.min(toRead, Integer.MAX_VALUE));
+		}
+		return Optional.ofNullable(restriction);
+	}
+
 	protected Query<T> doCreateQueryWithPermissions(Object[] values) {
 		Query<T> query = doCreateQuery(values);
 		query.setScanEnabled(method.isScanEnabled());
+		query.setParallelScanSegments(method.getParallelScanSegments());
+		query.setPaginationLoadingStrategy(method.getPaginationLoadingStrategy());
+		return query;
+	}
+
+	protected Query<T> doCreateExistsQueryWithPermissions(Object[] values) {
+		Query<T> query = doCreateExistsQuery(values);
+		query.setScanEnabled(method.isScanEnabled());
+		query.setParallelScanSegments(method.getParallelScanSegments());
+		query.setPaginationLoadingStrategy(method.getPaginationLoadingStrategy());
 		return query;
 	}
 
 	protected Query<Long> doCreateCountQueryWithPermissions(Object[] values, boolean pageQuery) {
 		Query<Long> query = doCreateCountQuery(values, pageQuery);
 		query.setScanCountEnabled(method.isScanCountEnabled());
+		query.setParallelScanSegments(method.getParallelScanSegments());
 		return query;
 	}
 
@@ -116,6 +210,49 @@ public abstract class AbstractDynamoDBQuery<T, ID> implements RepositoryQuery, E
 
 	}
 
+	/**
+	 * Executes the {@link AbstractDynamoDBQuery} to return a {@link Stream} of
+	 * entities which loads one result page after the other.
+	 */
+	class StreamExecution implements QueryExecution<T, ID> {
+
+		@Override
+		public Object execute(AbstractDynamoDBQuery<T, ID> dynamoDBQuery, Object[] values) {
+			Query<T> query = dynamoDBQuery.doCreateQueryWithPermissions(values);
+			query.setPaginationLoadingStrategy(Optional.of(PaginationLoadingStrategy.ITERATION_ONLY));
+			Stream<T> results = toStream(query.getResultList());
+			if (getResultsRestrictionIfApplicable() != null) {
+				return results.limit(getResultsRestrictionIfApplicable());
+			}
+			return results;
+		}
+	}
+
+	/**
+	 * Executes the {@link AbstractDynamoDBQuery} to return a
+	 * {@link org.springframework.data.domain.Window} of entities which continues
+	 * at the {@code LastEvaluatedKey} carried by the {@link ScrollPosition}.
+	 */
+	class ScrollExecution implements QueryExecution<T, ID> {
+
+		private final Parameters<?, ?> parameters;
+
+		public ScrollExecution(Parameters<?, ?> parameters) {
+
+			this.parameters = parameters;
+		}
+
+		@Override
+		public Object execute(AbstractDynamoDBQuery<T, ID> dynamoDBQuery, Object[] values) {
+
+			ParameterAccessor accessor = new ParametersParameterAccessor(parameters, values);
+			ScrollPosition scrollPosition = accessor.getScrollPosition();
+			Query<T> query = dynamoDBQuery.doCreateQueryWithPermissions(values);
+			return query.getResultWindow(scrollPosition == null ? ScrollPosition.keyset() : scrollPosition,
+					getResultsRestrictionIfApplicable());
+		}
+	}
+
 	/**
 	 * Executes the {@link AbstractDynamoDBQuery} to return a
 	 * {@link org.springframework.data.domain.Page} of entities.
@@ -156,14 +293,65 @@ public abstract class AbstractDynamoDBQuery<T, ID> implements RepositoryQuery, E
 
 			ParameterAccessor accessor = new ParametersParameterAccessor(parameters, values);
 			Pageable pageable = accessor.getPageable();
-			Query<T> query = dynamoDBQuery.doCreateQueryWithPermissions(values);
+			PageCount pageCount = new PageCount(dynamoDBQuery, values);
+			try {
+				if (pageCursorCache != null && pageable.isPaged() && getResultsRestrictionIfApplicable() == null) {
+					return createPageFromClosestBoundary(pageable, dynamoDBQuery, values, pageCount);
+				}
+				Query<T> query = dynamoDBQuery.doCreateQueryWithPermissions(values);
 
-			List<T> results = query.getResultList();
-			return createPage(results, pageable, dynamoDBQuery, values);
+				List<T> results = query.getResultList();
+				return createPage(results, pageable, pageCount);
+			} finally {
+				pageCount.discard();
+			}
+		}
+
+		private Page<T> createPageFromClosestBoundary(Pageable pageable, AbstractDynamoDBQuery<T, ID> dynamoDBQuery,
+				Object[] values, PageCount pageCount) {
+			assert pageCursorCache != null;
+
+			List<Object> arguments = argumentsWithoutPageable(values);
+			Map.Entry<Long, ScrollPosition> boundary = pageCursorCache.getClosestBoundary(arguments,
+					pageable.getOffset());
+			long offset = boundary == null ? 0 : boundary.getKey();
+			ScrollPosition scrollPosition = boundary == null ? ScrollPosition.keyset() : boundary.getValue();
+
+			// Skip the items between the closest boundary and the requested page
+			boolean hasMoreResults = true;
+			if (offset < pageable.getOffset()) {
+				Window<T> skipped = dynamoDBQuery.doCreateQueryWithPermissions(values)
+						.getResultWindow(scrollPosition, Math.toIntExact(pageable.getOffset() - offset));
+				offset += skipped.size();
+				if (offset < pageable.getOffset()) {
+					return new PageImpl<>(Collections.emptyList());
+				}
+				hasMoreResults = skipped.hasNext();
+				if (hasMoreResults) {
+					scrollPosition = skipped.positionAt(skipped.size() - 1);
+					pageCursorCache.put(arguments, offset, scrollPosition);
+				}
+			}
+
+			List<T> results = Collections.emptyList();
+			if (hasMoreResults) {
+				Window<T> page = dynamoDBQuery.doCreateQueryWithPermissions(values).getResultWindow(scrollPosition,
+						pageable.getPageSize());
+				results = page.getContent();
+				hasMoreResults = page.hasNext();
+				if (hasMoreResults) {
+					pageCursorCache.put(arguments, offset + page.size(), page.positionAt(page.size() - 1));
+				}
+			}
+
+			if (!hasMoreResults) {
+				// This is the last page, so the total is known without counting
+				return new PageImpl<>(results, pageable, offset + results.size());
+			}
+			return PageableExecutionUtils.getPage(results, pageable, pageCount);
 		}
 
-		private Page<T> createPage(List<T> allResults, Pageable pageable, AbstractDynamoDBQuery<T, ID> dynamoDBQuery,
-				Object[] values) {
+		private Page<T> createPage(List<T> allResults, Pageable pageable, PageCount pageCount) {
 
 			// Get the result = this list might be a lazy list
 			Iterator<T> iterator = allResults.iterator();
@@ -176,22 +364,91 @@ public abstract class AbstractDynamoDBQuery<T, ID> implements RepositoryQuery, E
 				}
 			}
 
-			// Then Count the result set size
-			Query<Long> countQuery = dynamoDBQuery.doCreateCountQueryWithPermissions(values, true);
-			long count = countQuery.getSingleResult();
-
 			// Finally wrap the result in a page -
 			if (!pageable.isUnpaged()) {
-				// either seek to the proper part of the result set
-				if (getResultsRestrictionIfApplicable() != null) {
-					count = Math.min(count, getResultsRestrictionIfApplicable());
-				}
-
+				// either seek to the proper part of the result set and only count the
+				// result set size if the total cannot be derived from that page
 				List<T> results = readPageOfResultsRestrictMaxResultsIfNecessary(iterator, pageable.getPageSize());
-				return new PageImpl<>(results, pageable, count);
+				return PageableExecutionUtils.getPage(results, pageable, () -> {
+					long count = pageCount.getAsLong();
+					if (getResultsRestrictionIfApplicable() != null) {
+						count = Math.min(count, getResultsRestrictionIfApplicable());
+					}
+					return count;
+				});
 			} else {
 				// or treat the whole (lazy) list as the result page if it's unpaged
-				return new UnpagedPageImpl<>(allResults, count);
+				return new UnpagedPageImpl<>(allResults, pageCount.getAsLong());
+			}
+		}
+	}
+
+	/**
+	 * The arguments identifying the results of a page query: the page itself is
+	 * replaced by its {@link Sort}, as differently sorted pages have different
+	 * boundaries and may have different totals.
+	 */
+	private static List<Object> argumentsWithoutPageable(Object[] values) {
+		return Arrays.stream(values).map(value -> value instanceof Pageable ? ((Pageable) value).getSort() : value)
+				.toList();
+	}
+
+	/**
+	 * The total number of results of a page query. It is started concurrently
+	 * with the query for the page content if {@code concurrentPageCount} is
+	 * enabled, otherwise it is only counted when it is requested.
+	 */
+	private final class PageCount implements LongSupplier {
+
+		private final AbstractDynamoDBQuery<T, ID> dynamoDBQuery;
+		private final Object[] values;
+		private final List<Object> arguments;
+		@Nullable
+		private final Long cachedCount;
+		@Nullable
+		private final CompletableFuture<Long> concurrentCount;
+
+		PageCount(AbstractDynamoDBQuery<T, ID> dynamoDBQuery, Object[] values) {
+			this.dynamoDBQuery = dynamoDBQuery;
+			this.values = values;
+			this.arguments = argumentsWithoutPageable(values);
+			this.cachedCount = pageCountCache == null ? null : pageCountCache.get(arguments);
+			this.concurrentCount = cachedCount == null && concurrentPageCount
+					? CompletableFuture.supplyAsync(this::count, asyncQueryExecutor)
+					: null;
+		}
+
+		private long count() {
+			long count = dynamoDBQuery.doCreateCountQueryWithPermissions(values, true).getSingleResult();
+			if (pageCountCache != null) {
+				pageCountCache.put(arguments, count);
+			}
+			return count;
+		}
+
+		@Override
+		public long getAsLong() {
+			if (cachedCount != null) {
+				return cachedCount;
+			} else if (concurrentCount == null) {
+				return count();
+			}
+			try {
+				return concurrentCount.join();
+			} catch (CompletionException e) {
+				throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+			}
+		}
+
+		/**
+		 * Discards a concurrent count that turned out not to be needed. A count
+		 * that has not started yet is skipped; a count that is already running is
+		 * not interrupted and reads all its pages, only its result is ignored
+		 * (apart from filling the page count cache).
+		 */
+		void discard() {
+			if (concurrentCount != null) {
+				concurrentCount.cancel(false);
 			}
 		}
 	}
@@ -260,13 +517,39 @@ public abstract class AbstractDynamoDBQuery<T, ID> implements RepositoryQuery, E
 
 		@Override
 		public Object execute(AbstractDynamoDBQuery<T, ID> dynamoDBQuery, Object[] values) throws BatchDeleteException {
-			List<T> entities = dynamoDBQuery.doCreateQueryWithPermissions(values).getResultList();
-			List<DynamoDBMapper.FailedBatch> failedBatches = dynamoDBOperations.batchDelete(entities);
-			if (failedBatches.isEmpty()) {
-				return entities;
-			} else {
+			Query<T> query = dynamoDBQuery.doCreateQueryWithPermissions(values);
+			// Unwrapped from CompletableFuture and the like for async query methods
+			Class<?> returnType = method.getReturnedObjectType();
+			boolean returnsCount = returnType == long.class || returnType == Long.class || returnType == int.class
+					|| returnType == Integer.class;
+			if (!returnsCount && returnType != void.class && returnType != Void.class) {
+				// The deleted entities are returned, so they have to be read in full
+				List<T> entities = query.getResultList();
+				List<DynamoDBMapper.FailedBatch> failedBatches = dynamoDBOperations.batchDelete(entities);
+				if (failedBatches.isEmpty()) {
+					return entities;
+				} else {
+					throw repackageToException(failedBatches, BatchDeleteException.class);
+				}
+			}
+
+			AtomicLong deleted = new AtomicLong();
+			Iterator<List<T>> keyPages = StreamSupport
+					.stream(Spliterators.spliteratorUnknownSize(query.getKeyPages(), Spliterator.ORDERED), false)
+					.map(page -> {
+						deleted.addAndGet(page.size());
+						return page;
+					}).iterator();
+			List<DynamoDBMapper.FailedBatch> failedBatches = dynamoDBOperations.batchDeletePages(keyPages);
+			if (!failedBatches.isEmpty()) {
 				throw repackageToException(failedBatches, BatchDeleteException.class);
 			}
+			if (!returnsCount) {
+				return null;
+			}
+			return returnType == long.class || returnType == Long.class
+					? deleted.get()
+					: Math.toIntExact(deleted.get());
 		}
 	}
 
@@ -277,7 +560,7 @@ public abstract class AbstractDynamoDBQuery<T, ID> implements RepositoryQuery, E
 			if (isCountQuery()) {
 				return dynamoDBQuery.doCreateCountQueryWithPermissions(values, false).getSingleResult();
 			} else if (isExistsQuery()) {
-				return !dynamoDBQuery.doCreateQueryWithPermissions(values).getResultList().isEmpty();
+				return dynamoDBQuery.doCreateExistsQueryWithPermissions(values).exists();
 			} else {
 				return dynamoDBQuery.doCreateQueryWithPermissions(values).getSingleResult();
 			}
@@ -308,7 +591,11 @@ public abstract class AbstractDynamoDBQuery<T, ID> implements RepositoryQuery, E
 	 */
 	public Object execute(Object[] parameters) {
 
-		return getExecution().execute(this, parameters);
+		QueryExecution<T, ID> execution = getExecution();
+		if (method.isAsyncQuery()) {
+			return CompletableFuture.supplyAsync(() -> execution.execute(this, parameters), asyncQueryExecutor);
+		}
+		return execution.execute(this, parameters);
 	}
 
 	@Override
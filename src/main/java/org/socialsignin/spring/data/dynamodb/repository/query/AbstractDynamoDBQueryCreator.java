@@ -15,15 +15,12 @@
  */
 package org.socialsignin.spring.data.dynamodb.repository.query;
 
-import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
 import com.amazonaws.services.dynamodbv2.model.ComparisonOperator;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
 import org.socialsignin.spring.data.dynamodb.query.Query;
 import org.socialsignin.spring.data.dynamodb.repository.ExpressionAttribute;
 import org.socialsignin.spring.data.dynamodb.repository.QueryConstants;
 import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBEntityInformation;
-import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBIdIsHashAndRangeKeyEntityInformation;
-import org.springframework.data.mapping.PropertyPath;
 import org.springframework.data.repository.query.Parameter;
 import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
@@ -53,6 +50,7 @@ public abstract class AbstractDynamoDBQueryCreator<T, ID, R>
 
 	protected final DynamoDBEntityInformation<T, ID> entityMetadata;
 	protected final DynamoDBOperations dynamoDBOperations;
+	protected final DynamoDBQueryPlan<T, ID> queryPlan;
 	protected final Optional<String> projection;
 	protected final Optional<Integer> limit;
 	protected final Optional<String> filterExpression;
@@ -65,6 +63,7 @@ public abstract class AbstractDynamoDBQueryCreator<T, ID, R>
 										Optional<String> projection, Optional<Integer> limitResults, QueryConstants.ConsistentReadMode consistentReads,
 										Optional<String> filterExpression, ExpressionAttribute[] names, ExpressionAttribute[] values, DynamoDBOperations dynamoDBOperations) {
 		super(tree);
+		this.queryPlan = new DynamoDBQueryPlan<>(entityMetadata, dynamoDBOperations);
 		this.entityMetadata = entityMetadata;
 		this.projection = projection;
 		this.limit = limitResults;
@@ -86,8 +85,21 @@ public abstract class AbstractDynamoDBQueryCreator<T, ID, R>
 	public AbstractDynamoDBQueryCreator(PartTree tree, ParameterAccessor parameterAccessor,
 										DynamoDBEntityInformation<T, ID> entityMetadata, Optional<String> projection,
 										Optional<Integer> limitResults, QueryConstants.ConsistentReadMode consistentReads, Optional<String> filterExpression, ExpressionAttribute[] names, ExpressionAttribute[] values, DynamoDBOperations dynamoDBOperations) {
+		this(tree, parameterAccessor, new DynamoDBQueryPlan<>(entityMetadata, dynamoDBOperations), projection,
+				limitResults, consistentReads, filterExpression, names, values);
+	}
+
+	/**
+	 * @param queryPlan
+	 *            the plan compiled for the query method, shared by all of its
+	 *            invocations
+	 */
+	public AbstractDynamoDBQueryCreator(PartTree tree, ParameterAccessor parameterAccessor,
+										DynamoDBQueryPlan<T, ID> queryPlan, Optional<String> projection,
+										Optional<Integer> limitResults, QueryConstants.ConsistentReadMode consistentReads, Optional<String> filterExpression, ExpressionAttribute[] names, ExpressionAttribute[] values) {
 		super(tree, parameterAccessor);
-		this.entityMetadata = entityMetadata;
+		this.queryPlan = queryPlan;
+		this.entityMetadata = queryPlan.getEntityInformation();
 		this.projection = projection;
 		this.limit = limitResults;
 		this.filterExpression = filterExpression;
@@ -111,17 +123,12 @@ public abstract class AbstractDynamoDBQueryCreator<T, ID, R>
 		} else {
 			this.expressionAttributeValues = null;
 		}
-		this.dynamoDBOperations = dynamoDBOperations;
+		this.dynamoDBOperations = queryPlan.getDynamoDBOperations();
 	}
 
 	@Override
 	protected DynamoDBQueryCriteria<T, ID> create(Part part, Iterator<Object> iterator) {
-		final DynamoDBMapperTableModel<T> tableModel = dynamoDBOperations.getTableModel(entityMetadata.getJavaType());
-		DynamoDBQueryCriteria<T, ID> criteria = entityMetadata.isRangeKeyAware()
-				? new DynamoDBEntityWithHashAndRangeKeyCriteria<>(
-				(DynamoDBIdIsHashAndRangeKeyEntityInformation<T, ID>) entityMetadata, tableModel)
-				: new DynamoDBEntityWithHashKeyOnlyCriteria<>(entityMetadata, tableModel);
-		return addCriteria(criteria, part, iterator);
+		return addCriteria(queryPlan.createCriteria(), part, iterator);
 	}
 
 	protected DynamoDBQueryCriteria<T, ID> addCriteria(DynamoDBQueryCriteria<T, ID> criteria, Part part,
@@ -129,14 +136,9 @@ public abstract class AbstractDynamoDBQueryCreator<T, ID, R>
 		if (part.shouldIgnoreCase().equals(IgnoreCaseType.ALWAYS))
 			throw new UnsupportedOperationException("Case insensitivity not supported");
 
-		Class<?> leafNodePropertyType = part.getProperty().getLeafProperty().getType();
-
-		PropertyPath leafNodePropertyPath = part.getProperty().getLeafProperty();
-		String leafNodePropertyName = leafNodePropertyPath.toDotPath();
-		if (leafNodePropertyName.contains(".")) {
-			int index = leafNodePropertyName.lastIndexOf(".");
-			leafNodePropertyName = leafNodePropertyName.substring(index);
-		}
+		DynamoDBQueryPlan.LeafProperty leafProperty = queryPlan.getLeafProperty(part);
+		Class<?> leafNodePropertyType = leafProperty.getType();
+		String leafNodePropertyName = leafProperty.getName();
 
 		switch (part.getType()) {
 			case IN :
@@ -15,11 +15,9 @@
  */
 package org.socialsignin.spring.data.dynamodb.repository.query;
 
-import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperFieldModel;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
-import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMarshaller;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBQueryExpression;
-import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTypeConverter;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
 import com.amazonaws.services.dynamodbv2.model.AttributeValue;
 import com.amazonaws.services.dynamodbv2.model.ComparisonOperator;
 import com.amazonaws.services.dynamodbv2.model.Condition;
@@ -43,6 +41,7 @@ import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.util.StringUtils;
 
+import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -62,11 +61,44 @@ import java.util.Optional;
  */
 public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQueryCriteria<T, ID>, SortHandler {
 
+	private static final Date2IsoDynamoDBMarshaller DATE_MARSHALLER = new Date2IsoDynamoDBMarshaller();
+	private static final Instant2IsoDynamoDBMarshaller INSTANT_MARSHALLER = new Instant2IsoDynamoDBMarshaller();
+
+	/**
+	 * How condition values of a property type are written to an
+	 * {@link AttributeValue}
+	 */
+	private enum AttributeValueKind {
+		STRING, NUMBER, BOOLEAN, DATE, INSTANT, BINARY, UNSUPPORTED
+	}
+
+	private static final ClassValue<AttributeValueKind> ATTRIBUTE_VALUE_KINDS = new ClassValue<>() {
+		@Override
+		protected AttributeValueKind computeValue(Class<?> propertyType) {
+			if (ClassUtils.isAssignable(String.class, propertyType)) {
+				return AttributeValueKind.STRING;
+			} else if (ClassUtils.isAssignable(Number.class, propertyType)) {
+				return AttributeValueKind.NUMBER;
+			} else if (ClassUtils.isAssignable(Boolean.class, propertyType)) {
+				return AttributeValueKind.BOOLEAN;
+			} else if (ClassUtils.isAssignable(Date.class, propertyType)) {
+				return AttributeValueKind.DATE;
+			} else if (ClassUtils.isAssignable(Instant.class, propertyType)) {
+				return AttributeValueKind.INSTANT;
+			} else if (ClassUtils.isAssignable(ByteBuffer.class, propertyType)) {
+				return AttributeValueKind.BINARY;
+			}
+			return AttributeValueKind.UNSUPPORTED;
+		}
+	};
+
 	protected Class<T> clazz;
 	private final DynamoDBEntityInformation<T, ID> entityInformation;
 	private final Map<String, String> attributeNamesByPropertyName;
 	private final DynamoDBMapperTableModel<T> tableModel;
 	private final String hashKeyPropertyName;
+	@Nullable
+	private DynamoDBQueryPlan<T, ID> queryPlan;
 
 	protected MultiValueMap<String, Condition> attributeConditions;
 	protected MultiValueMap<String, Condition> propertyConditions;
@@ -77,6 +109,7 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
 	protected Sort sort = Sort.unsorted();
 	protected Optional<String> projection = Optional.empty();
 	protected Optional<Integer> limit = Optional.empty();
+	protected Optional<Integer> maxResults = Optional.empty();
 	protected Optional<String> filterExpression = Optional.empty();
 	protected ExpressionAttribute[] expressionAttributeNames;
 	protected ExpressionAttribute[] expressionAttributeValues;
@@ -147,7 +180,7 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
 
 		applyConsistentReads(queryRequest);
 
-		limit.ifPresent(queryRequest::setLimit);
+		limit.or(this::getPushDownQueryMaxResults).ifPresent(queryRequest::setLimit);
 
 		if(filterExpression.isPresent()) {
 			String filter = filterExpression.get();
@@ -175,6 +208,30 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
 		return queryRequest;
 	}
 
+	/**
+	 * The maximum number of results that may be sent as the Limit of a query.
+	 * DynamoDB evaluates the Limit before the filter expression, so a filtered
+	 * query would be cut short by items that are filtered out.
+	 *
+	 * @return the maximum number of results or empty if it must not be pushed down
+	 */
+	protected Optional<Integer> getPushDownQueryMaxResults() {
+		return maxResults.filter(max -> !filterExpression.filter(StringUtils::hasLength).isPresent());
+	}
+
+	/**
+	 * The maximum number of results that may be sent as the Limit of a scan.
+	 * DynamoDB evaluates the Limit before the scan filter, so only an unfiltered
+	 * scan can be limited to the maximum number of results.
+	 *
+	 * @param scanExpression
+	 *            the scan expression including its scan filter
+	 * @return the maximum number of results or empty if it must not be pushed down
+	 */
+	protected Optional<Integer> getPushDownScanMaxResults(DynamoDBScanExpression scanExpression) {
+		return maxResults.filter(max -> scanExpression.getScanFilter() == null || scanExpression.getScanFilter().isEmpty());
+	}
+
 	protected void applyConsistentReads(QueryRequest queryRequest) {
 		switch (consistentReads) {
 			case CONSISTENT:
@@ -306,71 +363,101 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
 		return indexName;
 	}
 
+	/**
+	 * Shares the attribute names and index selections of the given plan instead
+	 * of resolving them for these criteria only
+	 */
+	void withQueryPlan(DynamoDBQueryPlan<T, ID> queryPlan) {
+		this.queryPlan = queryPlan;
+	}
+
+	protected String getTableName(DynamoDBOperations dynamoDBOperations) {
+		if (queryPlan != null) {
+			return queryPlan.getTableName();
+		}
+		return dynamoDBOperations.getOverriddenTableName(clazz, entityInformation.getDynamoDBTableName());
+	}
+
 	protected String getGlobalSecondaryIndexName() {
 
 		// Lazy evaluate the globalSecondaryIndexName if not already set
 
 		// We must have attribute conditions specified in order to use a global
 		// secondary index, otherwise return null for index name
-		// Also this method only evaluates the
 		if (globalSecondaryIndexName == null && attributeConditions != null && !attributeConditions.isEmpty()) {
-			// Declare map of index names by attribute name which we will populate below -
-			// this will be used to determine which index to use if multiple indexes are
-			// applicable
-			Map<String, String[]> indexNamesByAttributeName = new HashMap<>();
-
-			// Declare map of attribute lists by index name which we will populate below -
-			// this will be used to determine whether we have an exact match index for
-			// specified attribute conditions
-			MultiValueMap<String, String> attributeListsByIndexName = new LinkedMultiValueMap<>();
-
-			// Populate the above maps
-			for (Entry<String, String[]> indexNamesForPropertyNameEntry : entityInformation
-					.getGlobalSecondaryIndexNamesByPropertyName().entrySet()) {
-				String propertyName = indexNamesForPropertyNameEntry.getKey();
-				String attributeName = getAttributeName(propertyName);
-				indexNamesByAttributeName.put(attributeName, indexNamesForPropertyNameEntry.getValue());
-				for (String indexNameForPropertyName : indexNamesForPropertyNameEntry.getValue()) {
-					attributeListsByIndexName.add(indexNameForPropertyName, attributeName);
-				}
+			if (queryPlan != null) {
+				globalSecondaryIndexName = queryPlan
+						.getGlobalSecondaryIndexName(attributeConditions.keySet(), this::selectGlobalSecondaryIndexName)
+						.orElse(null);
+			} else {
+				globalSecondaryIndexName = selectGlobalSecondaryIndexName();
 			}
+		}
+		return globalSecondaryIndexName;
+	}
 
-			// Declare lists to store matching index names
-			List<String> exactMatchIndexNames = new ArrayList<>();
-			List<String> partialMatchIndexNames = new ArrayList<>();
-
-			// Populate matching index name lists - an index is either an exact match ( the
-			// index attributes match all the specified criteria exactly)
-			// or a partial match ( the properties for the specified criteria are contained
-			// within the property set for an index )
-			for (Entry<String, List<String>> attributeListForIndexNameEntry : attributeListsByIndexName.entrySet()) {
-				String indexNameForAttributeList = attributeListForIndexNameEntry.getKey();
-				List<String> attributeList = attributeListForIndexNameEntry.getValue();
-				if (attributeList.containsAll(attributeConditions.keySet())) {
-					if (attributeConditions.keySet().containsAll(attributeList)) {
-						exactMatchIndexNames.add(indexNameForAttributeList);
-					} else {
-						partialMatchIndexNames.add(indexNameForAttributeList);
-					}
-				}
+	/**
+	 * Selects the global secondary index for the attribute conditions
+	 */
+	@Nullable
+	private String selectGlobalSecondaryIndexName() {
+		String globalSecondaryIndexName = null;
+		// Declare map of index names by attribute name which we will populate below -
+		// this will be used to determine which index to use if multiple indexes are
+		// applicable
+		Map<String, String[]> indexNamesByAttributeName = new HashMap<>();
+
+		// Declare map of attribute lists by index name which we will populate below -
+		// this will be used to determine whether we have an exact match index for
+		// specified attribute conditions
+		MultiValueMap<String, String> attributeListsByIndexName = new LinkedMultiValueMap<>();
+
+		// Populate the above maps
+		for (Entry<String, String[]> indexNamesForPropertyNameEntry : entityInformation
+				.getGlobalSecondaryIndexNamesByPropertyName().entrySet()) {
+			String propertyName = indexNamesForPropertyNameEntry.getKey();
+			String attributeName = getAttributeName(propertyName);
+			indexNamesByAttributeName.put(attributeName, indexNamesForPropertyNameEntry.getValue());
+			for (String indexNameForPropertyName : indexNamesForPropertyNameEntry.getValue()) {
+				attributeListsByIndexName.add(indexNameForPropertyName, attributeName);
 			}
+		}
 
-			if (exactMatchIndexNames.size() > 1) {
-				throw new RuntimeException(
-						"Multiple indexes defined on same attribute set:" + attributeConditions.keySet());
-			} else if (exactMatchIndexNames.size() == 1) {
-				globalSecondaryIndexName = exactMatchIndexNames.get(0);
-			} else if (partialMatchIndexNames.size() > 1) {
-				if (attributeConditions.size() == 1) {
-					globalSecondaryIndexName = getFirstDeclaredIndexNameForAttribute(indexNamesByAttributeName,
-							partialMatchIndexNames, attributeConditions.keySet().iterator().next());
-				}
-				if (globalSecondaryIndexName == null) {
-					globalSecondaryIndexName = partialMatchIndexNames.get(0);
+		// Declare lists to store matching index names
+		List<String> exactMatchIndexNames = new ArrayList<>();
+		List<String> partialMatchIndexNames = new ArrayList<>();
+
+		// Populate matching index name lists - an index is either an exact match ( the
+		// index attributes match all the specified criteria exactly)
+		// or a partial match ( the properties for the specified criteria are contained
+		// within the property set for an index )
+		for (Entry<String, List<String>> attributeListForIndexNameEntry : attributeListsByIndexName.entrySet()) {
+			String indexNameForAttributeList = attributeListForIndexNameEntry.getKey();
+			List<String> attributeList = attributeListForIndexNameEntry.getValue();
+			if (attributeList.containsAll(attributeConditions.keySet())) {
+				if (attributeConditions.keySet().containsAll(attributeList)) {
+					exactMatchIndexNames.add(indexNameForAttributeList);
+				} else {
+					partialMatchIndexNames.add(indexNameForAttributeList);
 				}
-			} else if (partialMatchIndexNames.size() == 1) {
+			}
+		}
+
+		if (exactMatchIndexNames.size() > 1) {
+			throw new RuntimeException(
+					"Multiple indexes defined on same attribute set:" + attributeConditions.keySet());
+		} else if (exactMatchIndexNames.size() == 1) {
+			globalSecondaryIndexName = exactMatchIndexNames.get(0);
+		} else if (partialMatchIndexNames.size() > 1) {
+			if (attributeConditions.size() == 1) {
+				globalSecondaryIndexName = getFirstDeclaredIndexNameForAttribute(indexNamesByAttributeName,
+						partialMatchIndexNames, attributeConditions.keySet().iterator().next());
+			}
+			if (globalSecondaryIndexName == null) {
 				globalSecondaryIndexName = partialMatchIndexNames.get(0);
 			}
+		} else if (partialMatchIndexNames.size() == 1) {
+			globalSecondaryIndexName = partialMatchIndexNames.get(0);
 		}
 		return globalSecondaryIndexName;
 	}
@@ -452,6 +539,9 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
 	}
 
 	protected String getAttributeName(String propertyName) {
+		if (queryPlan != null) {
+			return queryPlan.getAttributeName(propertyName);
+		}
 		String attributeName = attributeNamesByPropertyName.get(propertyName);
 		if (attributeName == null) {
 			attributeName = entityInformation.getOverriddenAttributeName(propertyName).orElse(propertyName);
@@ -531,41 +621,16 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
 		return this;
 	}
 
-	@SuppressWarnings({"deprecation", "unchecked"})
-	protected <V extends Object> Object getPropertyAttributeValue(final String propertyName, final V value) {
-		// TODO consider removing DynamoDBMarshaller code altogether as table model will
-		// handle accordingly
-		DynamoDBTypeConverter<Object, V> converter = (DynamoDBTypeConverter<Object, V>) entityInformation
-				.getTypeConverterForProperty(propertyName);
-
-		if (converter != null) {
-			return converter.convert(value);
-		}
-
-		DynamoDBMarshaller<V> marshaller = (DynamoDBMarshaller<V>) entityInformation
-				.getMarshallerForProperty(propertyName);
-
-		if (marshaller != null) {
-			return marshaller.marshall(value);
-		} else if (tableModel != null) { // purely here for testing as DynamoDBMapperTableModel cannot be mocked using
-											// Mockito
-
-			String attributeName = getAttributeName(propertyName);
-
-			DynamoDBMapperFieldModel<T, Object> fieldModel = tableModel.field(attributeName);
-			if (fieldModel != null) {
-                if (fieldModel.attributeType() == DynamoDBMapperFieldModel.DynamoDBAttributeType.SS) {
-                    if(value instanceof Collection) {
-                        return fieldModel.convert(value);
-                    } else {
-                        return new AttributeValue(value.toString());
-                    }
-                }
-                return fieldModel.convert(value);
-            }
+	private PropertyValueEncoder<T> getPropertyValueEncoder(String propertyName) {
+		if (queryPlan != null) {
+			return queryPlan.getPropertyValueEncoder(propertyName);
 		}
+		return new PropertyValueEncoder<>(entityInformation, tableModel, propertyName,
+				() -> getAttributeName(propertyName));
+	}
 
-		return value;
+	protected <V extends Object> Object getPropertyAttributeValue(final String propertyName, final V value) {
+		return getPropertyValueEncoder(propertyName).encode(value);
 	}
 
 	protected <V> Condition createNoValueCondition(String propertyName, ComparisonOperator comparisonOperator) {
@@ -587,13 +652,11 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
 		return list;
 	}
 
-	@SuppressWarnings("deprecation")
 	private List<String> getDateListAsStringList(List<Date> dateList) {
-		DynamoDBMarshaller<Date> marshaller = new Date2IsoDynamoDBMarshaller();
 		List<String> list = new ArrayList<>();
 		for (Date date : dateList) {
 			if (date != null) {
-				list.add(marshaller.marshall(date));
+				list.add(DATE_MARSHALLER.marshall(date));
 			} else {
 				list.add(null);
 			}
@@ -601,13 +664,11 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
 		return list;
 	}
 
-	@SuppressWarnings("deprecation")
 	private List<String> getInstantListAsStringList(List<Instant> dateList) {
-		DynamoDBMarshaller<Instant> marshaller = new Instant2IsoDynamoDBMarshaller();
 		List<String> list = new ArrayList<>();
 		for (Instant date : dateList) {
 			if (date != null) {
-				list.add(marshaller.marshall(date));
+				list.add(INSTANT_MARSHALLER.marshall(date));
 			} else {
 				list.add(null);
 			}
@@ -649,14 +710,15 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
 			@Nullable Object attributeValue, Class<P> propertyType, boolean expandCollectionValues) {
 		AttributeValue attributeValueObject = new AttributeValue();
 
-		if (ClassUtils.isAssignable(String.class, propertyType)) {
+		AttributeValueKind kind = ATTRIBUTE_VALUE_KINDS.get(propertyType);
+		if (kind == AttributeValueKind.STRING) {
 			List<String> attributeValueAsList = getAttributeValueAsList(attributeValue);
 			if (expandCollectionValues && attributeValueAsList != null) {
 				attributeValueObject.withSS(attributeValueAsList);
 			} else {
 				attributeValueObject.withS((String) attributeValue);
 			}
-		} else if (ClassUtils.isAssignable(Number.class, propertyType)) {
+		} else if (kind == AttributeValueKind.NUMBER) {
 
 			List<Number> attributeValueAsList = getAttributeValueAsList(attributeValue);
 			if (expandCollectionValues && attributeValueAsList != null) {
@@ -665,7 +727,7 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
 			} else {
 				attributeValueObject.withN(attributeValue.toString());
 			}
-		} else if (ClassUtils.isAssignable(Boolean.class, propertyType)) {
+		} else if (kind == AttributeValueKind.BOOLEAN) {
 			List<Boolean> attributeValueAsList = getAttributeValueAsList(attributeValue);
 			if (expandCollectionValues && attributeValueAsList != null) {
 				List<String> attributeValueAsStringList = getBooleanListAsStringList(attributeValueAsList);
@@ -674,26 +736,33 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
 				boolean boolValue = ((Boolean) attributeValue).booleanValue();
 				attributeValueObject.withN(boolValue ? "1" : "0");
 			}
-		} else if (ClassUtils.isAssignable(Date.class, propertyType)) {
+		} else if (kind == AttributeValueKind.DATE) {
 			List<Date> attributeValueAsList = getAttributeValueAsList(attributeValue);
 			if (expandCollectionValues && attributeValueAsList != null) {
 				List<String> attributeValueAsStringList = getDateListAsStringList(attributeValueAsList);
 				attributeValueObject.withSS(attributeValueAsStringList);
 			} else {
 				Date date = (Date) attributeValue;
-				String marshalledDate = new Date2IsoDynamoDBMarshaller().marshall(date);
+				String marshalledDate = DATE_MARSHALLER.marshall(date);
 				attributeValueObject.withS(marshalledDate);
 			}
-		} else if (ClassUtils.isAssignable(Instant.class, propertyType)) {
+		} else if (kind == AttributeValueKind.INSTANT) {
 			List<Instant> attributeValueAsList = getAttributeValueAsList(attributeValue);
 			if (expandCollectionValues && attributeValueAsList != null) {
 				List<String> attributeValueAsStringList = getInstantListAsStringList(attributeValueAsList);
 				attributeValueObject.withSS(attributeValueAsStringList);
 			} else {
 				Instant date = (Instant) attributeValue;
-				String marshalledDate = new Instant2IsoDynamoDBMarshaller().marshall(date);
+				String marshalledDate = INSTANT_MARSHALLER.marshall(date);
 				attributeValueObject.withS(marshalledDate);
 			}
+		} else if (kind == AttributeValueKind.BINARY) {
+			List<ByteBuffer> attributeValueAsList = getAttributeValueAsList(attributeValue);
+			if (expandCollectionValues && attributeValueAsList != null) {
+				attributeValueObject.withBS(attributeValueAsList);
+			} else {
+				attributeValueObject.withB((ByteBuffer) attributeValue);
+			}
 		} else {
 			throw new RuntimeException("Cannot create condition for type:" + attributeValue.getClass()
 					+ " property conditions must be String,Number or Boolean, or have a DynamoDBMarshaller configured");
@@ -703,6 +772,22 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
 		return attributeValueList;
 	}
 
+	/**
+	 * Marshallers produce strings, but type converters like
+	 * {@link org.socialsignin.spring.data.dynamodb.marshaller.UUID2BinaryConverter}
+	 * may produce numbers or binaries, which have to be kept as such to match
+	 * the stored attributes.
+	 */
+	private static Class<?> getMarshalledPropertyType(@Nullable Object attributeValue) {
+		if (attributeValue != null) {
+			AttributeValueKind kind = ATTRIBUTE_VALUE_KINDS.get(attributeValue.getClass());
+			if (kind == AttributeValueKind.NUMBER || kind == AttributeValueKind.BINARY) {
+				return attributeValue.getClass();
+			}
+		}
+		return String.class;
+	}
+
 	protected Condition createSingleValueCondition(String propertyName, ComparisonOperator comparisonOperator, Object o,
 			Class<?> propertyType, boolean alreadyMarshalledIfRequired) {
 
@@ -717,7 +802,7 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
 			boolean marshalled = !alreadyMarshalledIfRequired && attributeValue != o
 					&& !entityInformation.isCompositeHashAndRangeKeyProperty(propertyName);
 
-			Class<?> targetPropertyType = marshalled ? String.class : propertyType;
+			Class<?> targetPropertyType = marshalled ? getMarshalledPropertyType(attributeValue) : propertyType;
 			addAttributeValue(attributeValueList, attributeValue, targetPropertyType, true);
 		}
 
@@ -730,9 +815,10 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
 		Assert.notNull(o, "Creating conditions on null property values not supported: please specify a value for '"
 				+ propertyName + "'");
 		List<AttributeValue> attributeValueList = new ArrayList<>();
+		PropertyValueEncoder<T> encoder = getPropertyValueEncoder(propertyName);
 		boolean marshalled = false;
 		for (Object object : o) {
-			Object attributeValue = getPropertyAttributeValue(propertyName, object);
+			Object attributeValue = encoder.encode(object);
 			if (ClassUtils.isAssignableValue(AttributeValue.class, attributeValue)) {
 				attributeValueList.add((AttributeValue) attributeValue);
 			} else {
@@ -740,7 +826,7 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
 					marshalled = attributeValue != object
 							&& !entityInformation.isCompositeHashAndRangeKeyProperty(propertyName);
 				}
-				Class<?> targetPropertyType = marshalled ? String.class : propertyType;
+				Class<?> targetPropertyType = marshalled ? getMarshalledPropertyType(attributeValue) : propertyType;
 				addAttributeValue(attributeValueList, attributeValue, targetPropertyType, false);
 			}
 		}
@@ -767,6 +853,12 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
 		return this;
 	}
 
+	@Override
+	public DynamoDBQueryCriteria<T, ID> withMaxResults(Optional<Integer> maxResults) {
+		this.maxResults = maxResults;
+		return this;
+	}
+
 	@Override
 	public DynamoDBQueryCriteria<T, ID> withFilterExpression(Optional<String> filter) {
 		this.filterExpression = filter;
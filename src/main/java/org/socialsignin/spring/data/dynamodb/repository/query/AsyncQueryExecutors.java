@@ -0,0 +1,46 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.query;
+
+import java.util.concurrent.Executor;
+
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBExecutors;
+
+/**
+ * Provides the default {@link Executor} asynchronous query methods (returning
+ * a {@link java.util.concurrent.Future} or
+ * {@link java.util.concurrent.CompletableFuture}) are executed on.
+ * 
+ * On JDK 21+ every query runs on its own virtual thread. Older runtimes fall
+ * back to a cached pool of daemon threads.
+ */
+public final class AsyncQueryExecutors {
+
+	/**
+	 * Private constructor to prevent instantiation.
+	 */
+	private AsyncQueryExecutors() {
+
+	}
+
+	/**
+	 * @return The shared default {@link Executor} for asynchronous queries, see
+	 *         {@link DynamoDBExecutors#asyncExecutor()}
+	 */
+	public static Executor defaultExecutor() {
+		return DynamoDBExecutors.asyncExecutor();
+	}
+}
@@ -43,6 +43,21 @@ public class DynamoDBCountQueryCreator<T, ID> extends AbstractDynamoDBQueryCreat
 
 	}
 
+	/**
+	 * @param queryPlan
+	 *            the plan compiled for the query method, shared by all of its
+	 *            invocations
+	 */
+	public DynamoDBCountQueryCreator(PartTree tree, ParameterAccessor parameterAccessor,
+									 DynamoDBQueryPlan<T, ID> queryPlan, Optional<String> filterExpression,
+									 ExpressionAttribute[] names, ExpressionAttribute[] values, boolean pageQuery) {
+
+		super(tree, parameterAccessor, queryPlan, Optional.empty(), Optional.empty(),
+				QueryConstants.ConsistentReadMode.DEFAULT,  filterExpression, names, values);
+		this.pageQuery = pageQuery;
+
+	}
+
 	@Override
 	protected Query<Long> complete(@Nullable DynamoDBQueryCriteria<T, ID> criteria, Sort sort) {
 		if (criteria == null) {
@@ -197,7 +197,7 @@ public class DynamoDBEntityWithHashAndRangeKeyCriteria<T, ID> extends AbstractDy
 			queryExpression.setProjectionExpression(projection.get());
 		}
 
-		limit.ifPresent(queryExpression::setLimit);
+		limit.or(this::getPushDownQueryMaxResults).ifPresent(queryExpression::setLimit);
 
 		if(filterExpression.isPresent()) {
 			String filter = filterExpression.get();
@@ -240,8 +240,7 @@ public class DynamoDBEntityWithHashAndRangeKeyCriteria<T, ID> extends AbstractDy
 	protected Query<T> buildFinderQuery(DynamoDBOperations dynamoDBOperations) {
 		if (isApplicableForQuery()) {
 			if (isApplicableForGlobalSecondaryIndex()) {
-				String tableName = dynamoDBOperations.getOverriddenTableName(clazz,
-						entityInformation.getDynamoDBTableName());
+				String tableName = getTableName(dynamoDBOperations);
 				QueryRequest queryRequest = buildQueryRequest(tableName, getGlobalSecondaryIndexName(),
 						getHashKeyAttributeName(), getRangeKeyAttributeName(), this.getRangeKeyPropertyName(),
 						getHashKeyConditions(), getRangeKeyConditions());
@@ -260,8 +259,7 @@ public class DynamoDBEntityWithHashAndRangeKeyCriteria<T, ID> extends AbstractDy
 	protected Query<Long> buildFinderCountQuery(DynamoDBOperations dynamoDBOperations, boolean pageQuery) {
 		if (isApplicableForQuery()) {
 			if (isApplicableForGlobalSecondaryIndex()) {
-				String tableName = dynamoDBOperations.getOverriddenTableName(clazz,
-						entityInformation.getDynamoDBTableName());
+				String tableName = getTableName(dynamoDBOperations);
 				QueryRequest queryRequest = buildQueryRequest(tableName, getGlobalSecondaryIndexName(),
 						getHashKeyAttributeName(), getRangeKeyAttributeName(), this.getRangeKeyPropertyName(),
 						getHashKeyConditions(), getRangeKeyConditions());
@@ -389,6 +387,7 @@ public class DynamoDBEntityWithHashAndRangeKeyCriteria<T, ID> extends AbstractDy
 				scanExpression.addFilterCondition(conditionEntry.getKey(), condition);
 			}
 		}
+		getPushDownScanMaxResults(scanExpression).ifPresent(scanExpression::setLimit);
 		return scanExpression;
 	}
 
@@ -61,7 +61,7 @@ public class DynamoDBEntityWithHashKeyOnlyCriteria<T, ID> extends AbstractDynamo
 
 			List<Condition> hashKeyConditions = getHashKeyConditions();
 			QueryRequest queryRequest = buildQueryRequest(
-					dynamoDBOperations.getOverriddenTableName(clazz, entityInformation.getDynamoDBTableName()),
+					getTableName(dynamoDBOperations),
 					getGlobalSecondaryIndexName(), getHashKeyAttributeName(), null, null, hashKeyConditions, null);
 			return new MultipleEntityQueryRequestQuery<>(dynamoDBOperations, entityInformation.getJavaType(),
 					queryRequest);
@@ -75,7 +75,7 @@ public class DynamoDBEntityWithHashKeyOnlyCriteria<T, ID> extends AbstractDynamo
 
 			List<Condition> hashKeyConditions = getHashKeyConditions();
 			QueryRequest queryRequest = buildQueryRequest(
-					dynamoDBOperations.getOverriddenTableName(clazz, entityInformation.getDynamoDBTableName()),
+					getTableName(dynamoDBOperations),
 					getGlobalSecondaryIndexName(), getHashKeyAttributeName(), null, null, hashKeyConditions, null);
 			queryRequest.setSelect(Select.COUNT);
 			return new QueryRequestCountQuery(dynamoDBOperations, queryRequest);
@@ -116,7 +116,7 @@ public class DynamoDBEntityWithHashKeyOnlyCriteria<T, ID> extends AbstractDynamo
 			scanExpression.setSelect(Select.SPECIFIC_ATTRIBUTES);
 			scanExpression.setProjectionExpression(projection.get());
 		}
-		limit.ifPresent(scanExpression::setLimit);
+		limit.or(() -> getPushDownScanMaxResults(scanExpression)).ifPresent(scanExpression::setLimit);
 		return scanExpression;
 	}
 
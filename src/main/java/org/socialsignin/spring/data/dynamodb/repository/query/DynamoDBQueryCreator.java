@@ -30,10 +30,36 @@ import java.util.Optional;
 
 public class DynamoDBQueryCreator<T, ID> extends AbstractDynamoDBQueryCreator<T, ID, T> {
 
+	private final Optional<Integer> maxResults;
+
 	public DynamoDBQueryCreator(PartTree tree, ParameterAccessor parameterAccessor,
 								DynamoDBEntityInformation<T, ID> entityMetadata, Optional<String> projection, Optional<Integer> limit, QueryConstants.ConsistentReadMode consistentReads,
 								Optional<String> filterExpression, ExpressionAttribute[] names, ExpressionAttribute[] values, DynamoDBOperations dynamoDBOperations) {
-		super(tree, parameterAccessor, entityMetadata, projection, limit, consistentReads, filterExpression, names, values, dynamoDBOperations);
+		this(tree, parameterAccessor, entityMetadata, projection, limit, Optional.empty(), consistentReads, filterExpression, names, values, dynamoDBOperations);
+	}
+
+	/**
+	 * @param maxResults
+	 *            the number of results the query execution reads at most
+	 */
+	public DynamoDBQueryCreator(PartTree tree, ParameterAccessor parameterAccessor,
+								DynamoDBEntityInformation<T, ID> entityMetadata, Optional<String> projection, Optional<Integer> limit, Optional<Integer> maxResults, QueryConstants.ConsistentReadMode consistentReads,
+								Optional<String> filterExpression, ExpressionAttribute[] names, ExpressionAttribute[] values, DynamoDBOperations dynamoDBOperations) {
+		this(tree, parameterAccessor, new DynamoDBQueryPlan<>(entityMetadata, dynamoDBOperations), projection, limit, maxResults, consistentReads, filterExpression, names, values);
+	}
+
+	/**
+	 * @param queryPlan
+	 *            the plan compiled for the query method, shared by all of its
+	 *            invocations
+	 * @param maxResults
+	 *            the number of results the query execution reads at most
+	 */
+	public DynamoDBQueryCreator(PartTree tree, ParameterAccessor parameterAccessor,
+								DynamoDBQueryPlan<T, ID> queryPlan, Optional<String> projection, Optional<Integer> limit, Optional<Integer> maxResults, QueryConstants.ConsistentReadMode consistentReads,
+								Optional<String> filterExpression, ExpressionAttribute[] names, ExpressionAttribute[] values) {
+		super(tree, parameterAccessor, queryPlan, projection, limit, consistentReads, filterExpression, names, values);
+		this.maxResults = maxResults;
 	}
 
 	@Override
@@ -44,6 +70,7 @@ public class DynamoDBQueryCreator<T, ID> extends AbstractDynamoDBQueryCreator<T,
 			criteria.withSort(sort);
 			criteria.withProjection(projection);
 			criteria.withLimit(limit);
+			criteria.withMaxResults(maxResults);
 			criteria.withConsistentReads(consistentReads);
 			criteria.withFilterExpression(filterExpression);
 			criteria.withExpressionAttributeNames(expressionAttributeNames);
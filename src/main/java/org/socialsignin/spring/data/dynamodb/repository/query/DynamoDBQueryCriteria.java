@@ -48,6 +48,14 @@ public interface DynamoDBQueryCriteria<T, ID> {
 
 	DynamoDBQueryCriteria<T, ID> withLimit(Optional<Integer> limit);
 
+	/**
+	 * @param maxResults
+	 *            the number of results the query execution reads at most. It is
+	 *            pushed down as {@code Limit} if no explicit limit is set.
+	 * @return this criteria
+	 */
+	DynamoDBQueryCriteria<T, ID> withMaxResults(Optional<Integer> maxResults);
+
 	DynamoDBQueryCriteria<T, ID> withConsistentReads(QueryConstants.ConsistentReadMode reads);
 
 	DynamoDBQueryCriteria<T, ID> withFilterExpression(Optional<String> filterExpression);
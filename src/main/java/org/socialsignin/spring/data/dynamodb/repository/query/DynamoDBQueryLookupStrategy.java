@@ -24,6 +24,7 @@ import org.springframework.data.repository.query.QueryLookupStrategy.Key;
 import org.springframework.data.repository.query.RepositoryQuery;
 
 import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
 
 /**
  * @author Michael Lavelle
@@ -48,10 +49,12 @@ public class DynamoDBQueryLookupStrategy {
 	private abstract static class AbstractQueryLookupStrategy implements QueryLookupStrategy {
 
 		protected DynamoDBOperations dynamoDBOperations;
+		protected Executor asyncQueryExecutor;
 
-		public AbstractQueryLookupStrategy(DynamoDBOperations dynamoDBOperations) {
+		public AbstractQueryLookupStrategy(DynamoDBOperations dynamoDBOperations, Executor asyncQueryExecutor) {
 
 			this.dynamoDBOperations = dynamoDBOperations;
+			this.asyncQueryExecutor = asyncQueryExecutor;
 		}
 
 		/*
@@ -82,9 +85,9 @@ public class DynamoDBQueryLookupStrategy {
 	 */
 	private static class CreateQueryLookupStrategy extends AbstractQueryLookupStrategy {
 
-		public CreateQueryLookupStrategy(DynamoDBOperations dynamoDBOperations) {
+		public CreateQueryLookupStrategy(DynamoDBOperations dynamoDBOperations, Executor asyncQueryExecutor) {
 
-			super(dynamoDBOperations);
+			super(dynamoDBOperations, asyncQueryExecutor);
 		}
 
 		@Override
@@ -92,7 +95,7 @@ public class DynamoDBQueryLookupStrategy {
 				ProjectionFactory factory, Class<T> entityClass, Class<ID> idClass, NamedQueries namedQueries) {
 			try {
 				return new PartTreeDynamoDBQuery<T, ID>(dynamoDBOperations,
-						new DynamoDBQueryMethod<>(method, metadata, factory));
+						new DynamoDBQueryMethod<>(method, metadata, factory), asyncQueryExecutor);
 			} catch (IllegalArgumentException e) {
 				throw new IllegalArgumentException(
 						String.format("Could not create query metamodel for method %s!", method.toString()), e);
@@ -110,9 +113,9 @@ public class DynamoDBQueryLookupStrategy {
 	 */
 	private static class DeclaredQueryLookupStrategy extends AbstractQueryLookupStrategy {
 
-		public DeclaredQueryLookupStrategy(DynamoDBOperations dynamoDBOperations) {
+		public DeclaredQueryLookupStrategy(DynamoDBOperations dynamoDBOperations, Executor asyncQueryExecutor) {
 
-			super(dynamoDBOperations);
+			super(dynamoDBOperations, asyncQueryExecutor);
 		}
 
 		@Override
@@ -136,11 +139,12 @@ public class DynamoDBQueryLookupStrategy {
 		private final DeclaredQueryLookupStrategy strategy;
 		private final CreateQueryLookupStrategy createStrategy;
 
-		public CreateIfNotFoundQueryLookupStrategy(DynamoDBOperations dynamoDBOperations) {
+		public CreateIfNotFoundQueryLookupStrategy(DynamoDBOperations dynamoDBOperations,
+				Executor asyncQueryExecutor) {
 
-			super(dynamoDBOperations);
-			this.strategy = new DeclaredQueryLookupStrategy(dynamoDBOperations);
-			this.createStrategy = new CreateQueryLookupStrategy(dynamoDBOperations);
+			super(dynamoDBOperations, asyncQueryExecutor);
+			this.strategy = new DeclaredQueryLookupStrategy(dynamoDBOperations, asyncQueryExecutor);
+			this.createStrategy = new CreateQueryLookupStrategy(dynamoDBOperations, asyncQueryExecutor);
 		}
 
 		@Override
@@ -168,18 +172,37 @@ public class DynamoDBQueryLookupStrategy {
 	 * @return The created {@link QueryLookupStrategy}
 	 */
 	public static QueryLookupStrategy create(DynamoDBOperations dynamoDBOperations, Key key) {
+		return create(dynamoDBOperations, key, AsyncQueryExecutors.defaultExecutor());
+	}
+
+	/**
+	 * Creates a {@link QueryLookupStrategy} for the given
+	 * {@link com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper} and
+	 * {@link Key}.
+	 *
+	 * @param dynamoDBOperations
+	 *            The current operation
+	 * @param key
+	 *            The key of the entity
+	 * @param asyncQueryExecutor
+	 *            The {@link Executor} query methods returning a
+	 *            {@link java.util.concurrent.Future} are executed on
+	 * @return The created {@link QueryLookupStrategy}
+	 */
+	public static QueryLookupStrategy create(DynamoDBOperations dynamoDBOperations, Key key,
+			Executor asyncQueryExecutor) {
 
 		if (key == null) {
-			return new CreateQueryLookupStrategy(dynamoDBOperations);
+			return new CreateQueryLookupStrategy(dynamoDBOperations, asyncQueryExecutor);
 		}
 
 		switch (key) {
 			case CREATE :
-				return new CreateQueryLookupStrategy(dynamoDBOperations);
+				return new CreateQueryLookupStrategy(dynamoDBOperations, asyncQueryExecutor);
 			case USE_DECLARED_QUERY :
 				throw new IllegalArgumentException(String.format("Unsupported query lookup strategy %s!", key));
 			case CREATE_IF_NOT_FOUND :
-				return new CreateIfNotFoundQueryLookupStrategy(dynamoDBOperations);
+				return new CreateIfNotFoundQueryLookupStrategy(dynamoDBOperations, asyncQueryExecutor);
 			default :
 				throw new IllegalArgumentException(String.format("Unsupported query lookup strategy %s!", key));
 		}
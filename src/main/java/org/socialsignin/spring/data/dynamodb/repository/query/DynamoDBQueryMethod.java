@@ -19,19 +19,27 @@ import static org.socialsignin.spring.data.dynamodb.repository.QueryConstants.QU
 
 import java.lang.reflect.Method;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
 
+import org.socialsignin.spring.data.dynamodb.repository.EnableConcurrentPageCount;
+import org.socialsignin.spring.data.dynamodb.repository.EnablePageCursorCache;
+import org.socialsignin.spring.data.dynamodb.repository.EnableParallelScan;
 import org.socialsignin.spring.data.dynamodb.repository.EnableScan;
 import org.socialsignin.spring.data.dynamodb.repository.EnableScanCount;
 import org.socialsignin.spring.data.dynamodb.repository.ExpressionAttribute;
 import org.socialsignin.spring.data.dynamodb.repository.Query;
 import org.socialsignin.spring.data.dynamodb.repository.QueryConstants;
 import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBEntityInformation;
-import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBEntityMetadataSupport;
+import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBEntityMetadataRegistry;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.data.util.ReactiveWrappers;
 import org.springframework.util.StringUtils;
 
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.PaginationLoadingStrategy;
+
 /**
  * @author Michael Lavelle
  * @author Sebastian Just
@@ -41,12 +49,16 @@ public class DynamoDBQueryMethod<T, ID> extends QueryMethod {
 	private final Method method;
 	private final boolean scanEnabledForRepository;
 	private final boolean scanCountEnabledForRepository;
+	private final Optional<Integer> parallelScanSegments;
+	private final Optional<EnablePageCursorCache> pageCursorCache;
+	private final Optional<EnableConcurrentPageCount> concurrentPageCount;
 	private final Optional<String> projectionExpression;
 	private final Optional<Integer> limitResults;
 	private final Optional<String> filterExpression;
 	private final ExpressionAttribute[] expressionAttributeNames;
 	private final ExpressionAttribute[] expressionAttributeValues;
 	private final QueryConstants.ConsistentReadMode consistentReadMode;
+	private final Optional<PaginationLoadingStrategy> paginationLoadingStrategy;
 
 	public DynamoDBQueryMethod(Method method, RepositoryMetadata metadata, ProjectionFactory factory) {
 		super(method, metadata, factory);
@@ -54,6 +66,16 @@ public class DynamoDBQueryMethod<T, ID> extends QueryMethod {
 		this.scanEnabledForRepository = metadata.getRepositoryInterface().isAnnotationPresent(EnableScan.class);
 		this.scanCountEnabledForRepository = metadata.getRepositoryInterface()
 				.isAnnotationPresent(EnableScanCount.class);
+		EnableParallelScan parallelScan = method.isAnnotationPresent(EnableParallelScan.class)
+				? method.getAnnotation(EnableParallelScan.class)
+				: metadata.getRepositoryInterface().getAnnotation(EnableParallelScan.class);
+		this.parallelScanSegments = Optional.ofNullable(parallelScan).map(EnableParallelScan::segments);
+		this.pageCursorCache = Optional.ofNullable(method.isAnnotationPresent(EnablePageCursorCache.class)
+				? method.getAnnotation(EnablePageCursorCache.class)
+				: metadata.getRepositoryInterface().getAnnotation(EnablePageCursorCache.class));
+		this.concurrentPageCount = Optional.ofNullable(method.isAnnotationPresent(EnableConcurrentPageCount.class)
+				? method.getAnnotation(EnableConcurrentPageCount.class)
+				: metadata.getRepositoryInterface().getAnnotation(EnableConcurrentPageCount.class));
 
 		Query query = method.getAnnotation(Query.class);
 		if (query != null) {
@@ -78,10 +100,17 @@ public class DynamoDBQueryMethod<T, ID> extends QueryMethod {
 				this.limitResults = Optional.empty();
 			}
 			this.consistentReadMode = query.consistentReads();
+			if (query.paginationLoadingStrategy() != QueryConstants.PaginationLoadingMode.DEFAULT) {
+				this.paginationLoadingStrategy = Optional
+						.of(PaginationLoadingStrategy.valueOf(query.paginationLoadingStrategy().name()));
+			} else {
+				this.paginationLoadingStrategy = Optional.empty();
+			}
 		} else {
 			this.projectionExpression = Optional.empty();
 			this.limitResults = Optional.empty();
 			this.consistentReadMode = QueryConstants.ConsistentReadMode.DEFAULT;
+			this.paginationLoadingStrategy = Optional.empty();
 			this.filterExpression = Optional.empty();
 			this.expressionAttributeNames = null;
 			this.expressionAttributeValues = null;
@@ -98,6 +127,31 @@ public class DynamoDBQueryMethod<T, ID> extends QueryMethod {
 		return method.getReturnType();
 	}
 
+	/**
+	 * Multi-value reactive wrappers like {@code Flux} are collection queries, too
+	 */
+	@Override
+	public boolean isCollectionQuery() {
+		return super.isCollectionQuery() || isMultiValueReactiveQuery();
+	}
+
+	/**
+	 * @return {@code true} if the method returns a multi-value reactive wrapper
+	 *         like {@code Flux}
+	 */
+	public boolean isMultiValueReactiveQuery() {
+		return ReactiveWrappers.isMultiValueType(method.getReturnType());
+	}
+
+	/**
+	 * @return {@code true} if the method returns a {@link Future} or
+	 *         {@link CompletableFuture} and hence is executed asynchronously
+	 */
+	public boolean isAsyncQuery() {
+		Class<?> returnType = method.getReturnType();
+		return Future.class.isAssignableFrom(returnType) && returnType.isAssignableFrom(CompletableFuture.class);
+	}
+
 	public boolean isScanEnabled() {
 		return scanEnabledForRepository || method.isAnnotationPresent(EnableScan.class);
 	}
@@ -106,6 +160,26 @@ public class DynamoDBQueryMethod<T, ID> extends QueryMethod {
 		return scanCountEnabledForRepository || method.isAnnotationPresent(EnableScanCount.class);
 	}
 
+	public Optional<Integer> getParallelScanSegments() {
+		return parallelScanSegments;
+	}
+
+	/**
+	 * @return the configuration of the page boundary cache if it is enabled for
+	 *         this method
+	 */
+	public Optional<EnablePageCursorCache> getPageCursorCache() {
+		return pageCursorCache;
+	}
+
+	/**
+	 * @return the configuration of the concurrent page count if it is enabled for
+	 *         this method
+	 */
+	public Optional<EnableConcurrentPageCount> getConcurrentPageCount() {
+		return concurrentPageCount;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -113,9 +187,9 @@ public class DynamoDBQueryMethod<T, ID> extends QueryMethod {
 	 * org.springframework.data.repository.query.QueryMethod#getEntityInformation ()
 	 */
 	@Override
-	@SuppressWarnings({"rawtypes", "unchecked"})
+	@SuppressWarnings("unchecked")
 	public DynamoDBEntityInformation<T, ID> getEntityInformation() {
-		return new DynamoDBEntityMetadataSupport(getDomainClass()).getEntityInformation();
+		return DynamoDBEntityMetadataRegistry.getEntityInformation((Class<T>) getDomainClass());
 	}
 
 	public Class<T> getEntityType() {
@@ -135,6 +209,14 @@ public class DynamoDBQueryMethod<T, ID> extends QueryMethod {
 		return this.consistentReadMode;
 	}
 
+	/**
+	 * @return the strategy to load the result pages with, if it overrides the one
+	 *         of the DynamoDBMapper
+	 */
+	public Optional<PaginationLoadingStrategy> getPaginationLoadingStrategy() {
+		return this.paginationLoadingStrategy;
+	}
+
 	public Optional<String> getFilterExpression() {
 		return this.filterExpression;
 	}
@@ -0,0 +1,159 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.query;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBEntityInformation;
+import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBIdIsHashAndRangeKeyEntityInformation;
+import org.springframework.data.mapping.PropertyPath;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.util.Assert;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
+
+/**
+ * The parts of a derived query which only depend on the query method and not
+ * on the arguments of an invocation: the entity information, the table model,
+ * the resolved table name, the properties the {@link Part}s refer to, the
+ * attribute names of the properties, the encoders of their values and the
+ * global secondary index chosen for a set of conditions.
+ * 
+ * A plan is compiled lazily by the first invocation of its query method and
+ * shared by all further invocations, so that those only have to bind the
+ * argument values. It is thread-safe.
+ */
+public class DynamoDBQueryPlan<T, ID> {
+
+	private final DynamoDBEntityInformation<T, ID> entityInformation;
+	private final DynamoDBOperations dynamoDBOperations;
+	private volatile DynamoDBMapperTableModel<T> tableModel;
+	private volatile String tableName;
+
+	private final Map<Part, LeafProperty> leafPropertiesByPart = new ConcurrentHashMap<>();
+	private final Map<String, String> attributeNamesByPropertyName = new ConcurrentHashMap<>();
+	private final Map<String, PropertyValueEncoder<T>> valueEncodersByPropertyName = new ConcurrentHashMap<>();
+	private final Map<Set<String>, Optional<String>> globalSecondaryIndexNamesByAttributeNames = new ConcurrentHashMap<>();
+
+	public DynamoDBQueryPlan(DynamoDBEntityInformation<T, ID> entityInformation,
+			DynamoDBOperations dynamoDBOperations) {
+		Assert.notNull(entityInformation, "entityInformation must not be null");
+		Assert.notNull(dynamoDBOperations, "dynamoDBOperations must not be null");
+
+		this.entityInformation = entityInformation;
+		this.dynamoDBOperations = dynamoDBOperations;
+	}
+
+	public DynamoDBEntityInformation<T, ID> getEntityInformation() {
+		return entityInformation;
+	}
+
+	public DynamoDBOperations getDynamoDBOperations() {
+		return dynamoDBOperations;
+	}
+
+	private DynamoDBMapperTableModel<T> getTableModel() {
+		DynamoDBMapperTableModel<T> model = tableModel;
+		if (model == null) {
+			// Racing invocations fetch the same table model
+			model = dynamoDBOperations.getTableModel(entityInformation.getJavaType());
+			tableModel = model;
+		}
+		return model;
+	}
+
+	/**
+	 * @return the table name of the entity as resolved by the
+	 *         {@link DynamoDBOperations}
+	 */
+	public String getTableName() {
+		String name = tableName;
+		if (name == null) {
+			name = dynamoDBOperations.getOverriddenTableName(entityInformation.getJavaType(),
+					entityInformation.getDynamoDBTableName());
+			tableName = name;
+		}
+		return name;
+	}
+
+	/**
+	 * @return new criteria to bind the arguments of an invocation to, sharing the
+	 *         attribute names and index selections of this plan
+	 */
+	public DynamoDBQueryCriteria<T, ID> createCriteria() {
+		AbstractDynamoDBQueryCriteria<T, ID> criteria = entityInformation.isRangeKeyAware()
+				? new DynamoDBEntityWithHashAndRangeKeyCriteria<>(
+						(DynamoDBIdIsHashAndRangeKeyEntityInformation<T, ID>) entityInformation, getTableModel())
+				: new DynamoDBEntityWithHashKeyOnlyCriteria<>(entityInformation, getTableModel());
+		criteria.withQueryPlan(this);
+		return criteria;
+	}
+
+	LeafProperty getLeafProperty(Part part) {
+		return leafPropertiesByPart.computeIfAbsent(part, LeafProperty::new);
+	}
+
+	String getAttributeName(String propertyName) {
+		return attributeNamesByPropertyName.computeIfAbsent(propertyName,
+				name -> entityInformation.getOverriddenAttributeName(name).orElse(name));
+	}
+
+	PropertyValueEncoder<T> getPropertyValueEncoder(String propertyName) {
+		return valueEncodersByPropertyName.computeIfAbsent(propertyName, name -> new PropertyValueEncoder<>(
+				entityInformation, getTableModel(), name, () -> getAttributeName(name)));
+	}
+
+	Optional<String> getGlobalSecondaryIndexName(Set<String> attributeNames, Supplier<String> selection) {
+		Optional<String> indexName = globalSecondaryIndexNamesByAttributeNames.get(attributeNames);
+		if (indexName == null) {
+			indexName = Optional.ofNullable(selection.get());
+			globalSecondaryIndexNamesByAttributeNames.put(Set.copyOf(attributeNames), indexName);
+		}
+		return indexName;
+	}
+
+	/**
+	 * The (leaf) property a {@link Part} puts a condition on
+	 */
+	static final class LeafProperty {
+		private final String name;
+		private final Class<?> type;
+
+		private LeafProperty(Part part) {
+			PropertyPath leafNodePropertyPath = part.getProperty().getLeafProperty();
+			String leafNodePropertyName = leafNodePropertyPath.toDotPath();
+			if (leafNodePropertyName.contains(".")) {
+				int index = leafNodePropertyName.lastIndexOf(".");
+				leafNodePropertyName = leafNodePropertyName.substring(index);
+			}
+			this.name = leafNodePropertyName;
+			this.type = leafNodePropertyPath.getType();
+		}
+
+		String getName() {
+			return name;
+		}
+
+		Class<?> getType() {
+			return type;
+		}
+	}
+}
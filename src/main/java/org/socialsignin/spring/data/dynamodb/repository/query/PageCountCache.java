@@ -0,0 +1,104 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.query;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Bounded cache of the result counts of a query method, per list of query
+ * arguments. Counts expire a fixed time after they were cached. When more than
+ * the maximum number of counts are cached, the count of the least recently
+ * used arguments is evicted.
+ */
+public class PageCountCache {
+
+	private final long ttlNanos;
+	private final LongSupplier nanoClock;
+
+	// Guarded by this
+	private final LinkedHashMap<List<Object>, Count> counts;
+
+	public PageCountCache(int maxEntries, Duration ttl) {
+		this(maxEntries, ttl, System::nanoTime);
+	}
+
+	PageCountCache(int maxEntries, Duration ttl, LongSupplier nanoClock) {
+		Assert.isTrue(maxEntries > 0, "maxEntries must be positive");
+		Assert.isTrue(!ttl.isNegative() && !ttl.isZero(), "ttl must be positive");
+
+		this.ttlNanos = ttl.toNanos();
+		this.nanoClock = nanoClock;
+		this.counts = new LinkedHashMap<List<Object>, Count>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<List<Object>, Count> eldest) {
+				return size() > maxEntries;
+			}
+		};
+	}
+
+	/**
+	 * @param arguments
+	 *            the query arguments, without the
+	 *            {@link org.springframework.data.domain.Pageable}
+	 * @return the cached count or {@code null} if there is none
+	 */
+	@Nullable
+	public synchronized Long get(List<Object> arguments) {
+		Count count = counts.get(arguments);
+		if (count == null) {
+			return null;
+		}
+		if (nanoClock.getAsLong() - count.createdNanos < ttlNanos) {
+			return count.value;
+		}
+		counts.remove(arguments);
+		return null;
+	}
+
+	/**
+	 * @param arguments
+	 *            the query arguments, without the
+	 *            {@link org.springframework.data.domain.Pageable}
+	 * @param count
+	 *            the number of results of the query
+	 */
+	public synchronized void put(List<Object> arguments, long count) {
+		counts.put(arguments, new Count(count, nanoClock.getAsLong()));
+	}
+
+	synchronized int size() {
+		return counts.size();
+	}
+
+	private static final class Count {
+		private final long value;
+		private final long createdNanos;
+
+		private Count(long value, long createdNanos) {
+			this.value = value;
+			this.createdNanos = createdNanos;
+		}
+	}
+}
@@ -0,0 +1,142 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.query;
+
+import java.time.Duration;
+import java.util.AbstractMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.LongSupplier;
+
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Bounded cache of the scroll positions at the page boundaries of a query
+ * method, per list of query arguments.
+ * 
+ * When more than the maximum number of boundaries are cached, the lowest
+ * boundary of the least recently used arguments is evicted. Boundaries expire a
+ * fixed time after they were cached, as items inserted or deleted before a
+ * boundary shift the offsets behind it.
+ */
+public class PageCursorCache {
+
+	private final int maxEntries;
+	private final long ttlNanos;
+	private final LongSupplier nanoClock;
+
+	// Guarded by this
+	private final LinkedHashMap<List<Object>, NavigableMap<Long, Cursor>> boundaries = new LinkedHashMap<>(16,
+			0.75f, true);
+	// Guarded by this
+	private int size;
+
+	public PageCursorCache(int maxEntries, Duration ttl) {
+		this(maxEntries, ttl, System::nanoTime);
+	}
+
+	PageCursorCache(int maxEntries, Duration ttl, LongSupplier nanoClock) {
+		Assert.isTrue(maxEntries > 0, "maxEntries must be positive");
+		Assert.isTrue(!ttl.isNegative() && !ttl.isZero(), "ttl must be positive");
+
+		this.maxEntries = maxEntries;
+		this.ttlNanos = ttl.toNanos();
+		this.nanoClock = nanoClock;
+	}
+
+	/**
+	 * @param arguments
+	 *            the query arguments, without the
+	 *            {@link org.springframework.data.domain.Pageable}
+	 * @param offset
+	 *            the offset of the requested page
+	 * @return the closest cached boundary at or before the offset, as offset and
+	 *         position to continue at, or {@code null} if there is none
+	 */
+	@Nullable
+	public synchronized Map.Entry<Long, ScrollPosition> getClosestBoundary(List<Object> arguments, long offset) {
+		NavigableMap<Long, Cursor> cursors = boundaries.get(arguments);
+		if (cursors == null) {
+			return null;
+		}
+
+		long now = nanoClock.getAsLong();
+		Iterator<Map.Entry<Long, Cursor>> iterator = cursors.headMap(offset, true).descendingMap().entrySet()
+				.iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<Long, Cursor> entry = iterator.next();
+			if (now - entry.getValue().createdNanos < ttlNanos) {
+				return new AbstractMap.SimpleImmutableEntry<>(entry.getKey(), entry.getValue().position);
+			}
+			iterator.remove();
+			size--;
+		}
+		if (cursors.isEmpty()) {
+			boundaries.remove(arguments);
+		}
+		return null;
+	}
+
+	/**
+	 * @param arguments
+	 *            the query arguments, without the
+	 *            {@link org.springframework.data.domain.Pageable}
+	 * @param offset
+	 *            the offset the position continues at
+	 * @param position
+	 *            the position continuing after the item before the offset
+	 */
+	public synchronized void put(List<Object> arguments, long offset, ScrollPosition position) {
+		Assert.notNull(position, "position must not be null");
+		Assert.isTrue(offset > 0, "offset must be positive");
+
+		Cursor previous = boundaries.computeIfAbsent(arguments, k -> new TreeMap<>()).put(offset,
+				new Cursor(position, nanoClock.getAsLong()));
+		if (previous == null) {
+			size++;
+		}
+
+		while (size > maxEntries) {
+			Iterator<NavigableMap<Long, Cursor>> eldest = boundaries.values().iterator();
+			NavigableMap<Long, Cursor> cursors = eldest.next();
+			cursors.pollFirstEntry();
+			size--;
+			if (cursors.isEmpty()) {
+				eldest.remove();
+			}
+		}
+	}
+
+	synchronized int size() {
+		return size;
+	}
+
+	private static final class Cursor {
+		private final ScrollPosition position;
+		private final long createdNanos;
+
+		private Cursor(ScrollPosition position, long createdNanos) {
+			this.position = position;
+			this.createdNanos = createdNanos;
+		}
+	}
+}
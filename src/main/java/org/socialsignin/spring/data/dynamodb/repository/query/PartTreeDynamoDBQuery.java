@@ -22,6 +22,9 @@ import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.parser.PartTree;
 
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
 /**
  * @author Michael Lavelle
  * @author Sebastian Just
@@ -30,25 +33,49 @@ public class PartTreeDynamoDBQuery<T, ID> extends AbstractDynamoDBQuery<T, ID> i
 
 	private final Parameters<?, ?> parameters;
 	private final PartTree tree;
+	private volatile DynamoDBQueryPlan<T, ID> queryPlan;
 
 	public PartTreeDynamoDBQuery(DynamoDBOperations dynamoDBOperations, DynamoDBQueryMethod<T, ID> method) {
-		super(dynamoDBOperations, method);
+		this(dynamoDBOperations, method, AsyncQueryExecutors.defaultExecutor());
+	}
+
+	public PartTreeDynamoDBQuery(DynamoDBOperations dynamoDBOperations, DynamoDBQueryMethod<T, ID> method,
+			Executor asyncQueryExecutor) {
+		super(dynamoDBOperations, method, asyncQueryExecutor);
 		this.parameters = method.getParameters();
 		this.tree = new PartTree(method.getName(), method.getEntityType());
 	}
 
+	/**
+	 * @return the plan of this query method, compiled by its first invocation
+	 */
+	protected DynamoDBQueryPlan<T, ID> getQueryPlan() {
+		DynamoDBQueryPlan<T, ID> plan = queryPlan;
+		if (plan == null) {
+			// Racing invocations compile equivalent plans
+			plan = new DynamoDBQueryPlan<>(getQueryMethod().getEntityInformation(), dynamoDBOperations);
+			queryPlan = plan;
+		}
+		return plan;
+	}
+
 	protected DynamoDBQueryCreator<T, ID> createQueryCreator(ParametersParameterAccessor accessor) {
+		return createQueryCreator(accessor, getMaxResultsToRead(accessor));
+	}
+
+	private DynamoDBQueryCreator<T, ID> createQueryCreator(ParametersParameterAccessor accessor,
+			Optional<Integer> maxResults) {
 		DynamoDBQueryMethod<T, ID> queryMethod = getQueryMethod();
-		return new DynamoDBQueryCreator<>(tree, accessor, queryMethod.getEntityInformation(),
-				queryMethod.getProjectionExpression(), queryMethod.getLimitResults(), queryMethod.getConsistentReadMode(), queryMethod.getFilterExpression(),
-				queryMethod.getExpressionAttributeNames(), queryMethod.getExpressionAttributeValues(), dynamoDBOperations);
+		return new DynamoDBQueryCreator<>(tree, accessor, getQueryPlan(),
+				queryMethod.getProjectionExpression(), queryMethod.getLimitResults(), maxResults, queryMethod.getConsistentReadMode(), queryMethod.getFilterExpression(),
+				queryMethod.getExpressionAttributeNames(), queryMethod.getExpressionAttributeValues());
 	}
 
 	protected DynamoDBCountQueryCreator<T, ID> createCountQueryCreator(ParametersParameterAccessor accessor,
 			boolean pageQuery) {
 		DynamoDBQueryMethod<T, ID> queryMethod = getQueryMethod();
-		return new DynamoDBCountQueryCreator<>(tree, accessor, queryMethod.getEntityInformation(), queryMethod.getFilterExpression(),
-				queryMethod.getExpressionAttributeNames(), queryMethod.getExpressionAttributeValues(), dynamoDBOperations, pageQuery);
+		return new DynamoDBCountQueryCreator<>(tree, accessor, getQueryPlan(), queryMethod.getFilterExpression(),
+				queryMethod.getExpressionAttributeNames(), queryMethod.getExpressionAttributeValues(), pageQuery);
 	}
 
 	@Override
@@ -59,6 +86,16 @@ public class PartTreeDynamoDBQuery<T, ID> extends AbstractDynamoDBQuery<T, ID> i
 
 	}
 
+	@Override
+	protected Query<T> doCreateExistsQuery(Object[] values) {
+		ParametersParameterAccessor accessor = new ParametersParameterAccessor(parameters, values);
+		// A single result answers the exists projection; the criteria only send it
+		// as Limit for key conditions without a filter, as DynamoDB evaluates the
+		// Limit before filtering
+		DynamoDBQueryCreator<T, ID> queryCreator = createQueryCreator(accessor, Optional.of(1));
+		return queryCreator.createQuery();
+	}
+
 	@Override
 	public Query<Long> doCreateCountQuery(Object[] values, boolean pageQuery) {
 		ParametersParameterAccessor accessor = new ParametersParameterAccessor(parameters, values);
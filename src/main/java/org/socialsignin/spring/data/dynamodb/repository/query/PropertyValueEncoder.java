@@ -0,0 +1,84 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.query;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+
+import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBEntityInformation;
+import org.springframework.lang.Nullable;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperFieldModel;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMarshaller;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTypeConverter;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+
+/**
+ * Encodes the condition values of a property with its
+ * {@link DynamoDBTypeConverter}, its {@link DynamoDBMarshaller} or the field
+ * model of the table - whichever is found first. The lookup of those is done
+ * once when the encoder is created, instead of for every value.
+ */
+@SuppressWarnings("deprecation")
+final class PropertyValueEncoder<T> {
+
+	@Nullable
+	private final DynamoDBTypeConverter<Object, Object> converter;
+	@Nullable
+	private final DynamoDBMarshaller<Object> marshaller;
+	@Nullable
+	private final DynamoDBMapperFieldModel<T, Object> fieldModel;
+	private final boolean stringSetField;
+
+	@SuppressWarnings("unchecked")
+	PropertyValueEncoder(DynamoDBEntityInformation<T, ?> entityInformation,
+			@Nullable DynamoDBMapperTableModel<T> tableModel, String propertyName, Supplier<String> attributeName) {
+		// TODO consider removing DynamoDBMarshaller code altogether as table model will
+		// handle accordingly
+		this.converter = (DynamoDBTypeConverter<Object, Object>) entityInformation
+				.getTypeConverterForProperty(propertyName);
+		this.marshaller = converter == null
+				? (DynamoDBMarshaller<Object>) entityInformation.getMarshallerForProperty(propertyName)
+				: null;
+		// The table model is null purely for testing as DynamoDBMapperTableModel
+		// cannot be mocked using Mockito
+		this.fieldModel = converter == null && marshaller == null && tableModel != null
+				? tableModel.field(attributeName.get())
+				: null;
+		this.stringSetField = fieldModel != null
+				&& fieldModel.attributeType() == DynamoDBMapperFieldModel.DynamoDBAttributeType.SS;
+	}
+
+	/**
+	 * @return the converted or marshalled value, an {@link AttributeValue} if
+	 *         converted by the field model, or the value itself if the property
+	 *         has no conversion
+	 */
+	Object encode(Object value) {
+		if (converter != null) {
+			return converter.convert(value);
+		} else if (marshaller != null) {
+			return marshaller.marshall(value);
+		} else if (fieldModel != null) {
+			if (stringSetField && !(value instanceof Collection)) {
+				return new AttributeValue(value.toString());
+			}
+			return fieldModel.convert(value);
+		}
+		return value;
+	}
+}
@@ -0,0 +1,99 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.query;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.util.Assert;
+
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * Adapts a blocking {@link RepositoryQuery} to a reactive repository method.
+ * 
+ * The delegate is executed on the given {@link Scheduler}. Collection results
+ * are consumed one item per requested element. DynamoDB queries stream them
+ * from an {@code ITERATION_ONLY} result list, hence the next result page is
+ * only loaded once the subscriber demanded the items of the current one, and
+ * pages already emitted are not retained. A {@link Stream} result is closed
+ * once the {@link Flux} terminates or is cancelled.
+ */
+public class ReactiveDynamoDBQuery implements RepositoryQuery {
+
+	private final RepositoryQuery delegate;
+	private final Scheduler scheduler;
+
+	public ReactiveDynamoDBQuery(RepositoryQuery delegate, Scheduler scheduler) {
+		Assert.notNull(delegate, "delegate must not be null");
+		Assert.notNull(scheduler, "scheduler must not be null");
+
+		this.delegate = delegate;
+		this.scheduler = scheduler;
+	}
+
+	@Override
+	public Object execute(Object[] parameters) {
+		if (delegate.getQueryMethod().isCollectionQuery()) {
+			// Flux.fromIterable would use the spliterator, which only covers the
+			// pages a PaginatedList already loaded
+			return Flux.<Object, Results>generate(() -> new Results(delegate.execute(parameters)),
+					(results, sink) -> {
+						if (results.iterator.hasNext()) {
+							sink.next(results.iterator.next());
+						} else {
+							sink.complete();
+						}
+						return results;
+					}, Results::close).subscribeOn(scheduler);
+		} else {
+			return Mono.fromCallable(() -> delegate.execute(parameters)).subscribeOn(scheduler);
+		}
+	}
+
+	@Override
+	public QueryMethod getQueryMethod() {
+		return delegate.getQueryMethod();
+	}
+
+	private static final class Results {
+
+		private final Object source;
+		private final Iterator<?> iterator;
+
+		private Results(Object source) {
+			this.source = source;
+			this.iterator = source instanceof Stream
+					? ((Stream<?>) source).iterator()
+					: ((Iterable<?>) source).iterator();
+		}
+
+		private void close() {
+			if (source instanceof AutoCloseable) {
+				try {
+					((AutoCloseable) source).close();
+				} catch (Exception e) {
+					throw Exceptions.propagate(e);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,123 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.support;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Creates {@link MethodHandle}s to read, write and instantiate entities and
+ * ids with. They are resolved once per type instead of going through
+ * reflection on every call. All handles are adapted to {@link Object}
+ * parameters and results, so they are invoked via
+ * {@link MethodHandle#invokeExact(Object...)} by {@link #get(MethodHandle, Object)},
+ * {@link #set(MethodHandle, Object, Object)} and
+ * {@link #newInstance(MethodHandle)}.
+ */
+final class AccessorHandles {
+
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+	private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+
+	private AccessorHandles() {
+	}
+
+	/**
+	 * @return a handle calling the getter method or - if there is none - reading
+	 *         the field
+	 */
+	static MethodHandle getter(@Nullable Method method, @Nullable Field field) {
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			if (method != null) {
+				ReflectionUtils.makeAccessible(method);
+				return lookup.unreflect(method).asType(GETTER_TYPE);
+			}
+			ReflectionUtils.makeAccessible(field);
+			return lookup.unreflectGetter(field).asType(GETTER_TYPE);
+		} catch (IllegalAccessException e) {
+			throw new IllegalStateException("Unable to access " + (method != null ? method : field), e);
+		}
+	}
+
+	/**
+	 * @return a handle calling the setter method or - if there is none - writing
+	 *         the field
+	 */
+	static MethodHandle setter(@Nullable Method method, @Nullable Field field) {
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			if (method != null) {
+				ReflectionUtils.makeAccessible(method);
+				// Discards the result of fluent setters
+				return lookup.unreflect(method).asType(SETTER_TYPE);
+			}
+			ReflectionUtils.makeAccessible(field);
+			return lookup.unreflectSetter(field).asType(SETTER_TYPE);
+		} catch (IllegalAccessException e) {
+			throw new IllegalStateException("Unable to access " + (method != null ? method : field), e);
+		}
+	}
+
+	/**
+	 * @return a handle calling the no-argument constructor of the type
+	 * @throws NoSuchMethodException
+	 *             if the type has no no-argument constructor
+	 */
+	static MethodHandle constructor(Class<?> type) throws NoSuchMethodException {
+		Constructor<?> constructor = type.getDeclaredConstructor();
+		try {
+			ReflectionUtils.makeAccessible(constructor);
+			return MethodHandles.lookup().unreflectConstructor(constructor).asType(CONSTRUCTOR_TYPE);
+		} catch (IllegalAccessException e) {
+			throw new IllegalStateException("Unable to access " + constructor, e);
+		}
+	}
+
+	static Object get(MethodHandle getter, Object target) {
+		try {
+			return (Object) getter.invokeExact(target);
+		} catch (Throwable e) {
+			ReflectionUtils.rethrowRuntimeException(e);
+			return null;
+		}
+	}
+
+	static void set(MethodHandle setter, Object target, @Nullable Object value) {
+		try {
+			setter.invokeExact(target, value);
+		} catch (Throwable e) {
+			ReflectionUtils.rethrowRuntimeException(e);
+		}
+	}
+
+	static Object newInstance(MethodHandle constructor) {
+		try {
+			return (Object) constructor.invokeExact();
+		} catch (Throwable e) {
+			ReflectionUtils.rethrowRuntimeException(e);
+			return null;
+		}
+	}
+}
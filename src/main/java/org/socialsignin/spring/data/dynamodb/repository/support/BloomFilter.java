@@ -0,0 +1,91 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.support;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.util.Assert;
+
+/**
+ * Thread-safe Bloom filter of strings.
+ */
+class BloomFilter {
+
+	private final AtomicLongArray bits;
+	private final long bitCount;
+	private final int hashCount;
+
+	BloomFilter(long expectedItems, double falsePositiveRate) {
+		Assert.isTrue(expectedItems > 0, "expectedItems must be positive");
+		Assert.isTrue(falsePositiveRate > 0 && falsePositiveRate < 1, "falsePositiveRate must be between 0 and 1");
+
+		double ln2 = Math.log(2);
+		long optimalBitCount = (long) Math.ceil(-expectedItems * Math.log(falsePositiveRate) / (ln2 * ln2));
+		int words = (int) Math.min(Integer.MAX_VALUE - 8, (optimalBitCount + Long.SIZE - 1) / Long.SIZE);
+
+		this.bits = new AtomicLongArray(words);
+		this.bitCount = (long) words * Long.SIZE;
+		this.hashCount = (int) Math.max(1, Math.round((double) bitCount / expectedItems * ln2));
+	}
+
+	void put(String value) {
+		long hash1 = hash(value);
+		long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+		for (int i = 0; i < hashCount; i++) {
+			long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+			int word = (int) (bit >>> 6);
+			long mask = 1L << bit;
+			long current = bits.get(word);
+			while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask)) {
+				current = bits.get(word);
+			}
+		}
+	}
+
+	boolean mightContain(String value) {
+		long hash1 = hash(value);
+		long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+		for (int i = 0; i < hashCount; i++) {
+			long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+			if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 64 bit FNV-1a hash with a final avalanche step
+	 */
+	private static long hash(String value) {
+		long hash = 0xCBF29CE484222325L;
+		for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+			hash ^= b & 0xFF;
+			hash *= 0x100000001B3L;
+		}
+		return mix(hash);
+	}
+
+	private static long mix(long hash) {
+		hash ^= hash >>> 33;
+		hash *= 0xFF51AFD7ED558CCDL;
+		hash ^= hash >>> 33;
+		hash *= 0xC4CEB9FE1A85EC53L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+}
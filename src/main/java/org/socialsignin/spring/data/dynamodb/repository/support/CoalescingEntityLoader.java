@@ -0,0 +1,190 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.support;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.springframework.util.Assert;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.KeyPair;
+
+/**
+ * Collects the ids of concurrent single entity loads and loads them with one
+ * {@link DynamoDBOperations#batchLoad(Map)} call.
+ * 
+ * A batch is loaded once the first id of it waited for the configured window
+ * or as soon as it reached the maximum batch size, whatever comes first. Every
+ * caller gets its own {@link CompletableFuture}, completed with its entity or
+ * {@code null} if there is no entity with that id. Ids requested multiple times
+ * within the same window are loaded only once.
+ * 
+ * Ids found in the entity cache of the {@link DynamoDBOperations} are served
+ * from it right away, loaded entities are put into it by
+ * {@link DynamoDBOperations#batchLoad(Map)}. Batches are loaded on an executor
+ * of their own, so a {@code findById} waiting for its batch never blocks a
+ * thread the batch itself needs. Both executors are owned by the caller, e.g.
+ * the {@link DynamoDBRepositoryFactory}, which shuts them down.
+ *
+ * @param <T>
+ *            the type of the entity to load
+ * @param <ID>
+ *            the type of the entity's identifier
+ */
+public class CoalescingEntityLoader<T, ID> {
+
+	private static final int MAX_ITEMS_PER_BATCH_GET = 100;
+
+	private final DynamoDBEntityInformation<T, ID> entityInformation;
+	private final DynamoDBOperations dynamoDBOperations;
+	private final Class<T> domainType;
+	private final long windowMillis;
+	private final int maxBatchSize;
+	private final ScheduledExecutorService windowTimer;
+	private final Executor executor;
+
+	// Guarded by this
+	private Map<List<Object>, CompletableFuture<T>> pending = new LinkedHashMap<>();
+
+	/**
+	 * @param windowTimer
+	 *            The {@link ScheduledExecutorService} the windows of the batches
+	 *            are timed on
+	 * @param executor
+	 *            The {@link Executor} batches are loaded on. It must not be
+	 *            shared with code that calls {@link #load(Object)} and waits for
+	 *            the result, otherwise a bounded executor can deadlock.
+	 */
+	public CoalescingEntityLoader(DynamoDBEntityInformation<T, ID> entityInformation,
+			DynamoDBOperations dynamoDBOperations, long windowMillis, int maxBatchSize,
+			ScheduledExecutorService windowTimer, Executor executor) {
+		Assert.notNull(entityInformation, "entityInformation must not be null");
+		Assert.notNull(dynamoDBOperations, "dynamoDBOperations must not be null");
+		Assert.notNull(windowTimer, "windowTimer must not be null");
+		Assert.notNull(executor, "executor must not be null");
+		Assert.isTrue(windowMillis >= 0, "windowMillis must not be negative");
+		Assert.isTrue(maxBatchSize > 0 && maxBatchSize <= MAX_ITEMS_PER_BATCH_GET,
+				"maxBatchSize must be between 1 and " + MAX_ITEMS_PER_BATCH_GET);
+
+		this.entityInformation = entityInformation;
+		this.dynamoDBOperations = dynamoDBOperations;
+		this.domainType = entityInformation.getJavaType();
+		this.windowMillis = windowMillis;
+		this.maxBatchSize = maxBatchSize;
+		this.windowTimer = windowTimer;
+		this.executor = executor;
+	}
+
+	/**
+	 * Enqueues the given id into the current batch.
+	 * 
+	 * @param id
+	 *            The id of the entity to load
+	 * @return A future completed with the entity, or with {@code null} if it does
+	 *         not exist
+	 */
+	public CompletableFuture<T> load(ID id) {
+		Assert.notNull(id, "The given id must not be null!");
+
+		List<Object> key = getKey(id);
+		T cached = dynamoDBOperations.loadCached(domainType, key.get(0), key.size() > 1 ? key.get(1) : null);
+		if (cached != null) {
+			return CompletableFuture.completedFuture(cached);
+		}
+
+		CompletableFuture<T> result;
+		Map<List<Object>, CompletableFuture<T>> batchToDispatch = null;
+		synchronized (this) {
+			Map<List<Object>, CompletableFuture<T>> batch = pending;
+			result = batch.computeIfAbsent(key, k -> new CompletableFuture<>());
+			if (batch.size() >= maxBatchSize) {
+				batchToDispatch = batch;
+				pending = new LinkedHashMap<>();
+			} else if (batch.size() == 1) {
+				try {
+					windowTimer.schedule(() -> flush(batch), windowMillis, TimeUnit.MILLISECONDS);
+				} catch (RejectedExecutionException e) {
+					// Shut down - no window to wait for anymore
+					batchToDispatch = batch;
+					pending = new LinkedHashMap<>();
+				}
+			}
+		}
+
+		if (batchToDispatch != null) {
+			dispatch(batchToDispatch);
+		}
+		return result;
+	}
+
+	private void flush(Map<List<Object>, CompletableFuture<T>> batch) {
+		synchronized (this) {
+			if (pending != batch) {
+				// Already dispatched as it reached the maximum batch size
+				return;
+			}
+			pending = new LinkedHashMap<>();
+		}
+		dispatch(batch);
+	}
+
+	private void dispatch(Map<List<Object>, CompletableFuture<T>> batch) {
+		try {
+			executor.execute(() -> loadBatch(batch));
+		} catch (RejectedExecutionException e) {
+			batch.values().forEach(future -> future.completeExceptionally(e));
+		}
+	}
+
+	private void loadBatch(Map<List<Object>, CompletableFuture<T>> batch) {
+		try {
+			Map<List<Object>, T> loaded = new HashMap<>();
+			List<T> entities = dynamoDBOperations
+					.batchLoad(Collections.<Class<?>, List<KeyPair>>singletonMap(domainType, getKeyPairs(batch)));
+			for (T entity : entities) {
+				loaded.put(getKey(entityInformation.getId(entity)), entity);
+			}
+			batch.forEach((key, future) -> future.complete(loaded.get(key)));
+		} catch (RuntimeException | Error e) {
+			batch.values().forEach(future -> future.completeExceptionally(e));
+		}
+	}
+
+	private List<KeyPair> getKeyPairs(Map<List<Object>, CompletableFuture<T>> batch) {
+		return batch.keySet().stream().map(key -> {
+			KeyPair keyPair = new KeyPair().withHashKey(key.get(0));
+			return entityInformation.isRangeKeyAware() ? keyPair.withRangeKey(key.get(1)) : keyPair;
+		}).toList();
+	}
+
+	private List<Object> getKey(ID id) {
+		if (entityInformation.isRangeKeyAware()) {
+			return Arrays.asList(entityInformation.getHashKey(id), entityInformation.getRangeKey(id));
+		} else {
+			return Collections.singletonList(entityInformation.getHashKey(id));
+		}
+	}
+}
@@ -15,9 +15,7 @@
  */
 package org.socialsignin.spring.data.dynamodb.repository.support;
 
-import org.springframework.util.ReflectionUtils;
-
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
 
 /**
  * @author Michael Lavelle
@@ -25,31 +23,27 @@ import java.lang.reflect.Method;
  */
 public class CompositeIdHashAndRangeKeyExtractor<ID, H> implements HashAndRangeKeyExtractor<ID, H> {
 
-	private DynamoDBHashAndRangeKeyMethodExtractor<ID> hashAndRangeKeyMethodExtractor;
+	private final MethodHandle hashKeyGetter;
+	private final MethodHandle rangeKeyGetter;
 
 	public CompositeIdHashAndRangeKeyExtractor(Class<ID> idClass) {
-		this.hashAndRangeKeyMethodExtractor = new DynamoDBHashAndRangeKeyMethodExtractorImpl<>(idClass);
+		DynamoDBHashAndRangeKeyMethodExtractor<ID> hashAndRangeKeyMethodExtractor = new DynamoDBHashAndRangeKeyMethodExtractorImpl<>(
+				idClass);
+		this.hashKeyGetter = AccessorHandles.getter(hashAndRangeKeyMethodExtractor.getHashKeyMethod(),
+				hashAndRangeKeyMethodExtractor.getHashKeyField());
+		this.rangeKeyGetter = AccessorHandles.getter(hashAndRangeKeyMethodExtractor.getRangeKeyMethod(),
+				hashAndRangeKeyMethodExtractor.getRangeKeyField());
 	}
 
 	@SuppressWarnings("unchecked")
 	@Override
 	public H getHashKey(ID id) {
-		Method method = hashAndRangeKeyMethodExtractor.getHashKeyMethod();
-		if (method != null) {
-			return (H) ReflectionUtils.invokeMethod(method, id);
-		} else {
-			return (H) ReflectionUtils.getField(hashAndRangeKeyMethodExtractor.getHashKeyField(), id);
-		}
+		return (H) AccessorHandles.get(hashKeyGetter, id);
 	}
 
 	@Override
 	public Object getRangeKey(ID id) {
-		Method method = hashAndRangeKeyMethodExtractor.getRangeKeyMethod();
-		if (method != null) {
-			return ReflectionUtils.invokeMethod(method, id);
-		} else {
-			return ReflectionUtils.getField(hashAndRangeKeyMethodExtractor.getRangeKeyField(), id);
-		}
+		return AccessorHandles.get(rangeKeyGetter, id);
 	}
 
 }
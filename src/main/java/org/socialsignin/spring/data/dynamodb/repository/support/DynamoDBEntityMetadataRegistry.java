@@ -0,0 +1,85 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.support;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Shares the {@link DynamoDBEntityInformation} of a domain class, so that its
+ * annotations are only scanned once instead of by every repository and query
+ * method invocation that needs them.
+ * 
+ * The entity information of a domain class depends on the
+ * {@link DynamoDBOperations} which override its table name, hence it is kept
+ * per {@link DynamoDBOperations} instance (and once without).
+ */
+public final class DynamoDBEntityMetadataRegistry {
+
+	// A ClassValue does not keep the domain classes from being unloaded
+	private static final ClassValue<DynamoDBEntityInformation<?, ?>> WITHOUT_OPERATIONS = new ClassValue<>() {
+		@Override
+		protected DynamoDBEntityInformation<?, ?> computeValue(Class<?> type) {
+			return new DynamoDBEntityMetadataSupport<>(type).getEntityInformation();
+		}
+	};
+	private static final Map<DynamoDBOperations, ConcurrentMap<Class<?>, DynamoDBEntityInformation<?, ?>>> BY_OPERATIONS = Collections
+			.synchronizedMap(new WeakHashMap<>());
+
+	private DynamoDBEntityMetadataRegistry() {
+	}
+
+	/**
+	 * @param domainClass
+	 *            the {@link com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTable}
+	 *            annotated domain class
+	 * @return the shared entity information of the domain class with the table
+	 *         name given by its annotation
+	 */
+	public static <T, ID> DynamoDBEntityInformation<T, ID> getEntityInformation(Class<T> domainClass) {
+		return getEntityInformation(domainClass, null);
+	}
+
+	/**
+	 * @param domainClass
+	 *            the {@link com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTable}
+	 *            annotated domain class
+	 * @param dynamoDBOperations
+	 *            the operations to resolve the table name with or {@code null}
+	 * @return the shared entity information of the domain class
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T, ID> DynamoDBEntityInformation<T, ID> getEntityInformation(Class<T> domainClass,
+			@Nullable DynamoDBOperations dynamoDBOperations) {
+		Assert.notNull(domainClass, "Domain type must not be null!");
+
+		if (dynamoDBOperations == null) {
+			return (DynamoDBEntityInformation<T, ID>) WITHOUT_OPERATIONS.get(domainClass);
+		}
+		return (DynamoDBEntityInformation<T, ID>) BY_OPERATIONS
+				.computeIfAbsent(dynamoDBOperations, operations -> new ConcurrentHashMap<>()).computeIfAbsent(
+						domainClass,
+						type -> new DynamoDBEntityMetadataSupport<>(type, dynamoDBOperations).getEntityInformation());
+	}
+
+}
@@ -32,6 +32,7 @@ import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -40,6 +41,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author Michael Lavelle
@@ -55,6 +57,7 @@ public class DynamoDBEntityMetadataSupport<T, ID> implements DynamoDBHashKeyExtr
 
 	private String dynamoDBTableName;
 	private Map<String, String[]> globalSecondaryIndexNames = new HashMap<>();
+	private final Map<String, Optional<String>> overriddenAttributeNames = new ConcurrentHashMap<>();
 
 	@Override
 	public String getDynamoDBTableName() {
@@ -238,8 +241,16 @@ public class DynamoDBEntityMetadataSupport<T, ID> implements DynamoDBHashKeyExtr
 
 	}
 
+	/**
+	 * The overridden attribute names are resolved once per property, as the
+	 * entity metadata is shared via the {@link DynamoDBEntityMetadataRegistry}
+	 */
 	@Override
 	public Optional<String> getOverriddenAttributeName(final String propertyName) {
+		return overriddenAttributeNames.computeIfAbsent(propertyName, this::resolveOverriddenAttributeName);
+	}
+
+	private Optional<String> resolveOverriddenAttributeName(final String propertyName) {
 
 		Method method = findMethod(propertyName);
 		if (method != null) {
@@ -332,31 +343,58 @@ public class DynamoDBEntityMetadataSupport<T, ID> implements DynamoDBHashKeyExtr
 		return null;
 	}
 
+	/**
+	 * Looks up the {@link DynamoDBTypeConverted} annotation of the property,
+	 * either directly or as meta-annotation of a custom annotation like
+	 * {@link org.socialsignin.spring.data.dynamodb.marshaller.DynamoDBBinaryUUID}.
+	 * Like the DynamoDBMapper, the converter of a custom annotation is created
+	 * with the {@code (Class<T> targetType, A annotation)} constructor if it has
+	 * one.
+	 */
 	@Override
 	public DynamoDBTypeConverter<?, ?> getTypeConverterForProperty(final String propertyName) {
-		DynamoDBTypeConverted annotation = null;
+		DynamoDBTypeConverter<?, ?> converter = null;
 
 		Method method = findMethod(propertyName);
 		if (method != null) {
-			annotation = method.getAnnotation(DynamoDBTypeConverted.class);
+			converter = createTypeConverter(method.getAnnotations(), method.getReturnType());
 		}
 
-		if (annotation == null) {
+		if (converter == null) {
 			Field field = findField(propertyName);
 			if (field != null) {
-				annotation = field.getAnnotation(DynamoDBTypeConverted.class);
+				converter = createTypeConverter(field.getAnnotations(), field.getType());
 			}
 		}
 
-		if (annotation != null) {
+		return converter;
+	}
+
+	private DynamoDBTypeConverter<?, ?> createTypeConverter(Annotation[] annotations, Class<?> targetType) {
+		for (Annotation annotation : annotations) {
+			DynamoDBTypeConverted typeConverted = annotation instanceof DynamoDBTypeConverted
+					? (DynamoDBTypeConverted) annotation
+					: annotation.annotationType().getAnnotation(DynamoDBTypeConverted.class);
+			if (typeConverted == null) {
+				continue;
+			}
+			Class<?> converterClass = typeConverted.converter();
 			try {
-				return annotation.converter().getDeclaredConstructor().newInstance();
+				if (typeConverted != annotation) {
+					for (Constructor<?> constructor : converterClass.getDeclaredConstructors()) {
+						Class<?>[] parameterTypes = constructor.getParameterTypes();
+						if (parameterTypes.length == 2 && parameterTypes[0] == Class.class
+								&& parameterTypes[1].isInstance(annotation)) {
+							return (DynamoDBTypeConverter<?, ?>) constructor.newInstance(targetType, annotation);
+						}
+					}
+				}
+				return (DynamoDBTypeConverter<?, ?>) converterClass.getDeclaredConstructor().newInstance();
 			} catch (InstantiationException | IllegalAccessException | IllegalArgumentException
 					| InvocationTargetException | NoSuchMethodException | SecurityException e) {
 				throw new RuntimeException(e);
 			}
 		}
-
 		return null;
 	}
 
@@ -21,8 +21,8 @@ import org.springframework.data.annotation.Id;
 import org.springframework.util.Assert;
 import org.springframework.util.ReflectionUtils;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.HashSet;
 import java.util.Set;
@@ -39,6 +39,8 @@ public class DynamoDBHashAndRangeKeyExtractingEntityMetadataImpl<T, ID> extends
 
 	private Method hashKeySetterMethod;
 	private Field hashKeyField;
+	private final MethodHandle hashKeySetter;
+	private volatile MethodHandle constructor;
 
 	public DynamoDBHashAndRangeKeyExtractingEntityMetadataImpl(final Class<T> domainType) {
 		super(domainType);
@@ -63,7 +65,7 @@ public class DynamoDBHashAndRangeKeyExtractingEntityMetadataImpl<T, ID> extends
 				"Unable to find hash key field or setter method on " + domainType + "!");
 		Assert.isTrue(hashKeySetterMethod == null || hashKeyField == null,
 				"Found both hash key field and setter method on " + domainType + "!");
-
+		this.hashKeySetter = AccessorHandles.setter(hashKeySetterMethod, hashKeyField);
 	}
 
 	@Override
@@ -105,19 +107,20 @@ public class DynamoDBHashAndRangeKeyExtractingEntityMetadataImpl<T, ID> extends
 
 	public T getHashKeyPropotypeEntityForHashKey(Object hashKey) {
 
-		try {
-			T entity = getJavaType().getDeclaredConstructor().newInstance();
-			if (hashKeySetterMethod != null) {
-				ReflectionUtils.invokeMethod(hashKeySetterMethod, entity, hashKey);
-			} else {
-				ReflectionUtils.setField(hashKeyField, entity, hashKey);
+		MethodHandle entityConstructor = constructor;
+		if (entityConstructor == null) {
+			// Resolved on first use as only entities queried by hash key need one
+			try {
+				entityConstructor = AccessorHandles.constructor(getJavaType());
+			} catch (NoSuchMethodException e) {
+				throw new RuntimeException(e);
 			}
-
-			return entity;
-		} catch (InstantiationException | IllegalAccessException | NoSuchMethodException
-				| InvocationTargetException e) {
-			throw new RuntimeException(e);
+			constructor = entityConstructor;
 		}
+
+		T entity = getJavaType().cast(AccessorHandles.newInstance(entityConstructor));
+		AccessorHandles.set(hashKeySetter, entity, hashKey);
+		return entity;
 	}
 
 	@Override
@@ -18,9 +18,17 @@ package org.socialsignin.spring.data.dynamodb.repository.support;
 import com.amazonaws.util.VersionInfoUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBExecutors;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.core.EntityCache;
 import org.socialsignin.spring.data.dynamodb.repository.DynamoDBCrudRepository;
+import org.socialsignin.spring.data.dynamodb.repository.EnableEntityCache;
+import org.socialsignin.spring.data.dynamodb.repository.EnableLoadCoalescing;
+import org.socialsignin.spring.data.dynamodb.repository.EnableNegativeLookupCache;
+import org.socialsignin.spring.data.dynamodb.repository.query.AsyncQueryExecutors;
 import org.socialsignin.spring.data.dynamodb.repository.query.DynamoDBQueryLookupStrategy;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.repository.core.RepositoryInformation;
 import org.springframework.data.repository.core.RepositoryMetadata;
@@ -29,9 +37,17 @@ import org.springframework.data.repository.query.QueryLookupStrategy;
 import org.springframework.data.repository.query.QueryLookupStrategy.Key;
 import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
 import org.springframework.data.util.Version;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
 import java.util.StringTokenizer;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
 
 import static org.springframework.data.querydsl.QuerydslUtils.QUERY_DSL_PRESENT;
 
@@ -42,6 +58,8 @@ import static org.springframework.data.querydsl.QuerydslUtils.QUERY_DSL_PRESENT;
 public class DynamoDBRepositoryFactory extends RepositoryFactorySupport {
 	private static final Logger LOGGER = LoggerFactory.getLogger(DynamoDBRepositoryFactory.class);
 
+	private static final int NEGATIVE_LOOKUP_REBUILD_THREADS = 4;
+
 	static {
 		final String DEVELOPMENT = "DEVELOPMENT";
 
@@ -92,22 +110,90 @@ public class DynamoDBRepositoryFactory extends RepositoryFactorySupport {
 	}
 
 	private final DynamoDBOperations dynamoDBOperations;
+	private final Executor asyncQueryExecutor;
+	@Nullable
+	private EntityCache entityCache;
+	@Nullable
+	private ConfigurableApplicationContext applicationContext;
+	private final List<NegativeLookupFilter<?, ?>> negativeLookupFilters = new CopyOnWriteArrayList<>();
+	@Nullable
+	private ScheduledExecutorService negativeLookupRebuildExecutor;
+	@Nullable
+	private ScheduledExecutorService loadCoalescingTimer;
+	@Nullable
+	private ExecutorService loadCoalescingExecutor;
 
 	public DynamoDBRepositoryFactory(DynamoDBOperations dynamoDBOperations) {
+		this(dynamoDBOperations, AsyncQueryExecutors.defaultExecutor());
+	}
+
+	/**
+	 * @param dynamoDBOperations
+	 *            The operations the repositories are backed by
+	 * @param asyncQueryExecutor
+	 *            The {@link Executor} query methods returning a
+	 *            {@link java.util.concurrent.Future} or
+	 *            {@link java.util.concurrent.CompletableFuture} are executed on
+	 */
+	public DynamoDBRepositoryFactory(DynamoDBOperations dynamoDBOperations, Executor asyncQueryExecutor) {
 		this.dynamoDBOperations = dynamoDBOperations;
+		this.asyncQueryExecutor = asyncQueryExecutor;
+	}
+
+	/**
+	 * @param entityCache
+	 *            The {@link EntityCache} repositories annotated with
+	 *            {@link EnableEntityCache} are configured for
+	 */
+	public void setEntityCache(@Nullable EntityCache entityCache) {
+		this.entityCache = entityCache;
+	}
+
+	/**
+	 * @param applicationContext
+	 *            The context the {@link NegativeLookupFilter}s of repositories
+	 *            annotated with {@link EnableNegativeLookupCache} listen to
+	 *            {@link org.socialsignin.spring.data.dynamodb.mapping.event.AfterSaveEvent}s
+	 *            on
+	 */
+	public void setApplicationContext(@Nullable ConfigurableApplicationContext applicationContext) {
+		this.applicationContext = applicationContext;
+	}
+
+	/**
+	 * Stops the background rebuilds of the {@link NegativeLookupFilter}s and
+	 * shuts down the threads of the {@link NegativeLookupFilter}s and
+	 * {@link CoalescingEntityLoader}s of the repositories created by this
+	 * factory. Rebuilds and batch loads which are already running still
+	 * complete.
+	 */
+	public synchronized void destroy() {
+		negativeLookupFilters.forEach(NegativeLookupFilter::cancelRebuild);
+		negativeLookupFilters.clear();
+		if (negativeLookupRebuildExecutor != null) {
+			negativeLookupRebuildExecutor.shutdown();
+			negativeLookupRebuildExecutor = null;
+		}
+		if (loadCoalescingTimer != null) {
+			loadCoalescingTimer.shutdown();
+			loadCoalescingTimer = null;
+		}
+		if (loadCoalescingExecutor != null) {
+			loadCoalescingExecutor.shutdown();
+			loadCoalescingExecutor = null;
+		}
 	}
 
 	@Override
 	public <T, ID> DynamoDBEntityInformation<T, ID> getEntityInformation(final Class<T> domainClass) {
 
-		final DynamoDBEntityMetadataSupport<T, ID> metadata = new DynamoDBEntityMetadataSupport<>(domainClass, this.dynamoDBOperations);
-		return metadata.getEntityInformation();
+		return DynamoDBEntityMetadataRegistry.getEntityInformation(domainClass, this.dynamoDBOperations);
 	}
 
 	@Override
 	protected Optional<QueryLookupStrategy> getQueryLookupStrategy(Key key,
 			QueryMethodEvaluationContextProvider evaluationContextProvider) {
-		return Optional.of(DynamoDBQueryLookupStrategy.create(dynamoDBOperations, key));
+		return Optional.of(DynamoDBQueryLookupStrategy.create(dynamoDBOperations, key, asyncQueryExecutor));
 	}
 
 	/**
@@ -125,8 +211,71 @@ public class DynamoDBRepositoryFactory extends RepositoryFactorySupport {
 	 */
 	@SuppressWarnings({"unchecked", "rawtypes"})
 	protected <T, ID> DynamoDBCrudRepository<?, ?> getDynamoDBRepository(RepositoryMetadata metadata) {
-		return new SimpleDynamoDBPagingAndSortingRepository(getEntityInformation(metadata.getDomainType()),
-				dynamoDBOperations, getEnableScanPermissions(metadata));
+		DynamoDBEntityInformation entityInformation = getEntityInformation(metadata.getDomainType());
+		configureEntityCache(metadata);
+		return new SimpleDynamoDBPagingAndSortingRepository(entityInformation, dynamoDBOperations,
+				getEnableScanPermissions(metadata), getEntityLoader(metadata, entityInformation),
+				getNegativeLookupFilter(metadata, entityInformation));
+	}
+
+	protected void configureEntityCache(RepositoryMetadata metadata) {
+		EnableEntityCache enableEntityCache = AnnotatedElementUtils
+				.findMergedAnnotation(metadata.getRepositoryInterface(), EnableEntityCache.class);
+		if (enableEntityCache != null) {
+			Assert.state(entityCache != null, "No EntityCache available for " + metadata.getRepositoryInterface()
+					+ " annotated with @EnableEntityCache");
+			entityCache.configure(metadata.getDomainType(),
+					Duration.ofNanos(enableEntityCache.unit().toNanos(enableEntityCache.ttl())),
+					enableEntityCache.maxWeight());
+		}
+	}
+
+	protected <T, ID> Optional<CoalescingEntityLoader<T, ID>> getEntityLoader(RepositoryMetadata metadata,
+			DynamoDBEntityInformation<T, ID> entityInformation) {
+		EnableLoadCoalescing loadCoalescing = AnnotatedElementUtils
+				.findMergedAnnotation(metadata.getRepositoryInterface(), EnableLoadCoalescing.class);
+		if (loadCoalescing == null) {
+			return Optional.empty();
+		}
+		return Optional.of(createEntityLoader(entityInformation, loadCoalescing));
+	}
+
+	protected <T, ID> Optional<NegativeLookupFilter<T, ID>> getNegativeLookupFilter(RepositoryMetadata metadata,
+			DynamoDBEntityInformation<T, ID> entityInformation) {
+		EnableNegativeLookupCache negativeLookupCache = AnnotatedElementUtils
+				.findMergedAnnotation(metadata.getRepositoryInterface(), EnableNegativeLookupCache.class);
+		if (negativeLookupCache == null) {
+			return Optional.empty();
+		}
+		NegativeLookupFilter<T, ID> filter = new NegativeLookupFilter<>(entityInformation, dynamoDBOperations,
+				negativeLookupCache.expectedItems(), negativeLookupCache.falsePositiveRate());
+		if (applicationContext != null) {
+			applicationContext.addApplicationListener(filter);
+		}
+		filter.scheduleRebuild(getNegativeLookupRebuildExecutor(), negativeLookupCache.rebuildInterval(),
+				negativeLookupCache.unit());
+		negativeLookupFilters.add(filter);
+		return Optional.of(filter);
+	}
+
+	// The executors are created on first use only, as most repositories
+	// neither coalesce loads nor have a negative lookup cache
+	private synchronized <T, ID> CoalescingEntityLoader<T, ID> createEntityLoader(
+			DynamoDBEntityInformation<T, ID> entityInformation, EnableLoadCoalescing loadCoalescing) {
+		if (loadCoalescingTimer == null) {
+			loadCoalescingTimer = DynamoDBExecutors.newScheduledExecutor(1, "dynamoDB-load-coalescing-timer-");
+			loadCoalescingExecutor = DynamoDBExecutors.newCachedExecutor("dynamoDB-load-coalescing-");
+		}
+		return new CoalescingEntityLoader<>(entityInformation, dynamoDBOperations, loadCoalescing.window(),
+				loadCoalescing.maxBatchSize(), loadCoalescingTimer, loadCoalescingExecutor);
+	}
+
+	private synchronized ScheduledExecutorService getNegativeLookupRebuildExecutor() {
+		if (negativeLookupRebuildExecutor == null) {
+			negativeLookupRebuildExecutor = DynamoDBExecutors.newScheduledExecutor(NEGATIVE_LOOKUP_REBUILD_THREADS,
+					"dynamoDB-negative-lookup-rebuild-");
+		}
+		return negativeLookupRebuildExecutor;
 	}
 
 	protected EnableScanPermissions getEnableScanPermissions(RepositoryMetadata metadata) {
@@ -16,12 +16,18 @@
 package org.socialsignin.spring.data.dynamodb.repository.support;
 
 import java.io.Serializable;
+import java.util.concurrent.Executor;
 
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.core.EntityCache;
 import org.socialsignin.spring.data.dynamodb.mapping.DynamoDBMappingContext;
+import org.socialsignin.spring.data.dynamodb.repository.query.AsyncQueryExecutors;
 import org.socialsignin.spring.data.dynamodb.repository.util.DynamoDBMappingContextProcessor;
 import org.socialsignin.spring.data.dynamodb.repository.util.Entity2DynamoDBTableSynchronizer;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
 import org.springframework.data.repository.core.support.RepositoryFactorySupport;
@@ -38,11 +44,17 @@ import org.springframework.data.repository.core.support.RepositoryFactorySupport
  */
 public class DynamoDBRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extends Serializable>
 		extends
-			RepositoryFactoryBeanSupport<T, S, ID> {
+			RepositoryFactoryBeanSupport<T, S, ID>
+		implements
+			DisposableBean {
 
 	private DynamoDBOperations dynamoDBOperations;
+	private Executor asyncQueryExecutor = AsyncQueryExecutors.defaultExecutor();
+	private EntityCache entityCache;
+	private ConfigurableApplicationContext applicationContext;
 	private Entity2DynamoDBTableSynchronizer<S, ID> tableSynchronizer;
 	private DynamoDBMappingContextProcessor<S, ID> dynamoDBMappingContextProcessor;
+	private DynamoDBRepositoryFactory dynamoDBRepositoryFactory;
 
 	public DynamoDBRepositoryFactoryBean(Class<? extends T> repositoryInterface) {
 		super(repositoryInterface);
@@ -53,12 +65,29 @@ public class DynamoDBRepositoryFactoryBean<T extends Repository<S, ID>, S, ID ex
 		assert dynamoDBOperations != null;
 		assert tableSynchronizer != null;
 		assert dynamoDBMappingContextProcessor != null;
-		DynamoDBRepositoryFactory dynamoDBRepositoryFactory = new DynamoDBRepositoryFactory(dynamoDBOperations);
+		dynamoDBRepositoryFactory = new DynamoDBRepositoryFactory(dynamoDBOperations, asyncQueryExecutor);
+		dynamoDBRepositoryFactory.setEntityCache(entityCache);
+		dynamoDBRepositoryFactory.setApplicationContext(applicationContext);
 		dynamoDBRepositoryFactory.addRepositoryProxyPostProcessor(tableSynchronizer);
 		dynamoDBRepositoryFactory.addRepositoryProxyPostProcessor(dynamoDBMappingContextProcessor);
 		return dynamoDBRepositoryFactory;
 	}
 
+	@Override
+	public void destroy() {
+		if (dynamoDBRepositoryFactory != null) {
+			dynamoDBRepositoryFactory.destroy();
+		}
+	}
+
+	@Override
+	public void setApplicationEventPublisher(ApplicationEventPublisher publisher) {
+		super.setApplicationEventPublisher(publisher);
+		if (publisher instanceof ConfigurableApplicationContext) {
+			this.applicationContext = (ConfigurableApplicationContext) publisher;
+		}
+	}
+
 	@Autowired
 	public void setDynamoDBMappingContextProcessor(
 			DynamoDBMappingContextProcessor<S, ID> dynamoDBMappingContextProcessor) {
@@ -75,6 +104,21 @@ public class DynamoDBRepositoryFactoryBean<T extends Repository<S, ID>, S, ID ex
 		this.dynamoDBOperations = dynamoDBOperations;
 	}
 
+	/**
+	 * @param asyncQueryExecutor
+	 *            the {@link Executor} query methods returning a
+	 *            {@link java.util.concurrent.Future} are executed on. Defaults to
+	 *            {@link AsyncQueryExecutors#defaultExecutor()}.
+	 */
+	public void setAsyncQueryExecutor(Executor asyncQueryExecutor) {
+		this.asyncQueryExecutor = asyncQueryExecutor;
+	}
+
+	@Autowired(required = false)
+	public void setEntityCache(EntityCache entityCache) {
+		this.entityCache = entityCache;
+	}
+
 	@Autowired
 	public void setDynamoDBMappingContext(DynamoDBMappingContext dynamoDBMappingContext) {
 		setMappingContext(dynamoDBMappingContext);
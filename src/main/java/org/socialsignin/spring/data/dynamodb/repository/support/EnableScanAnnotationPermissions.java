@@ -15,12 +15,16 @@
  */
 package org.socialsignin.spring.data.dynamodb.repository.support;
 
+import org.socialsignin.spring.data.dynamodb.repository.EnableParallelScan;
 import org.socialsignin.spring.data.dynamodb.repository.EnableScan;
 import org.socialsignin.spring.data.dynamodb.repository.EnableScanCount;
+import org.socialsignin.spring.data.dynamodb.repository.EnableTruncateOnDeleteAll;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.util.ReflectionUtils;
 
 import java.lang.reflect.Method;
+import java.util.Optional;
 
 /**
  * 
@@ -38,6 +42,11 @@ public class EnableScanAnnotationPermissions implements EnableScanPermissions {
 	private boolean countUnpaginatedScanEnabled = false;
 	private boolean deleteAllUnpaginatedScanEnabled = false;
 
+	private Optional<Integer> findAllParallelScanSegments = Optional.empty();
+	private Optional<Integer> countParallelScanSegments = Optional.empty();
+	private Optional<Integer> deleteAllParallelScanSegments = Optional.empty();
+	private Optional<Long> deleteAllTruncateMinItemCount = Optional.empty();
+
 	public EnableScanAnnotationPermissions(Class<?> repositoryInterface) {
 		// Check to see if global EnableScan is declared at interface level
 		if (repositoryInterface.isAnnotationPresent(EnableScan.class)) {
@@ -102,11 +111,59 @@ public class EnableScanAnnotationPermissions implements EnableScanPermissions {
 				}
 
 			}
+			for (Method method : methods) {
+
+				if (!method.isAnnotationPresent(EnableScan.class) || method.getParameterTypes().length != 2) {
+					// Only consider methods which have the EnableScan
+					// annotation and which have a scroll position and a limit parameter
+					continue;
+				}
+
+				if (method.getName().equals("findAll")
+						&& ScrollPosition.class.isAssignableFrom(method.getParameterTypes()[0])) {
+					findAllPaginatedScanEnabled = true;
+					continue;
+				}
+
+			}
 		}
 		if (!findAllUnpaginatedScanCountEnabled && repositoryInterface.isAnnotationPresent(EnableScanCount.class)) {
 			findAllUnpaginatedScanCountEnabled = true;
 		}
 
+		// Parallel scans can be configured for the whole repository and be
+		// overridden per method
+		EnableParallelScan parallelScan = repositoryInterface.getAnnotation(EnableParallelScan.class);
+		if (parallelScan != null) {
+			this.findAllParallelScanSegments = Optional.of(parallelScan.segments());
+			this.countParallelScanSegments = Optional.of(parallelScan.segments());
+			this.deleteAllParallelScanSegments = Optional.of(parallelScan.segments());
+		}
+		for (Method method : ReflectionUtils.getAllDeclaredMethods(repositoryInterface)) {
+
+			if (!method.isAnnotationPresent(EnableParallelScan.class) || method.getParameterTypes().length > 0) {
+				continue;
+			}
+
+			int segments = method.getAnnotation(EnableParallelScan.class).segments();
+			if (method.getName().equals("findAll")) {
+				findAllParallelScanSegments = Optional.of(segments);
+			} else if (method.getName().equals("count")) {
+				countParallelScanSegments = Optional.of(segments);
+			} else if (method.getName().equals("deleteAll")) {
+				deleteAllParallelScanSegments = Optional.of(segments);
+			}
+		}
+
+		EnableTruncateOnDeleteAll truncate = repositoryInterface.getAnnotation(EnableTruncateOnDeleteAll.class);
+		for (Method method : ReflectionUtils.getAllDeclaredMethods(repositoryInterface)) {
+			if (method.getName().equals("deleteAll") && method.getParameterTypes().length == 0
+					&& method.isAnnotationPresent(EnableTruncateOnDeleteAll.class)) {
+				truncate = method.getAnnotation(EnableTruncateOnDeleteAll.class);
+			}
+		}
+		this.deleteAllTruncateMinItemCount = Optional.ofNullable(truncate).map(EnableTruncateOnDeleteAll::minItemCount);
+
 	}
 
 	@Override
@@ -135,4 +192,24 @@ public class EnableScanAnnotationPermissions implements EnableScanPermissions {
 		return findAllPaginatedScanEnabled;
 	}
 
+	@Override
+	public Optional<Integer> getFindAllParallelScanSegments() {
+		return findAllParallelScanSegments;
+	}
+
+	@Override
+	public Optional<Integer> getCountParallelScanSegments() {
+		return countParallelScanSegments;
+	}
+
+	@Override
+	public Optional<Integer> getDeleteAllParallelScanSegments() {
+		return deleteAllParallelScanSegments;
+	}
+
+	@Override
+	public Optional<Long> getDeleteAllTruncateMinItemCount() {
+		return deleteAllTruncateMinItemCount;
+	}
+
 }
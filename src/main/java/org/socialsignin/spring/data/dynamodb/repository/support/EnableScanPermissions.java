@@ -15,6 +15,8 @@
  */
 package org.socialsignin.spring.data.dynamodb.repository.support;
 
+import java.util.Optional;
+
 /**
  * @author Michael Lavelle
  * @author Sebastian Just
@@ -31,4 +33,29 @@ public interface EnableScanPermissions {
 
 	boolean isCountUnpaginatedScanEnabled();
 
+	/**
+	 * @return the total segments of a parallel {@code findAll()} scan ({@code 0}
+	 *         derives them from the table size) or empty for a sequential scan
+	 */
+	Optional<Integer> getFindAllParallelScanSegments();
+
+	/**
+	 * @return the total segments of a parallel {@code count()} scan ({@code 0}
+	 *         derives them from the table size) or empty for a sequential scan
+	 */
+	Optional<Integer> getCountParallelScanSegments();
+
+	/**
+	 * @return the total segments of the keys-only {@code deleteAll()} scan
+	 *         ({@code 0} derives them from the table size) or empty for a
+	 *         sequential scan
+	 */
+	Optional<Integer> getDeleteAllParallelScanSegments();
+
+	/**
+	 * @return the approximate item count from which on {@code deleteAll()}
+	 *         recreates the table or empty if it never does
+	 */
+	Optional<Long> getDeleteAllTruncateMinItemCount();
+
 }
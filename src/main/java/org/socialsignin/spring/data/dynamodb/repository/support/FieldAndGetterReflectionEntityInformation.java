@@ -21,6 +21,7 @@ import org.springframework.util.Assert;
 import org.springframework.util.ReflectionUtils;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 
@@ -36,6 +37,7 @@ public class FieldAndGetterReflectionEntityInformation<T, ID> extends AbstractEn
 
 	protected Method method;
 	private Field field;
+	private final MethodHandle idGetter;
 
 	/**
 	 * Creates a new {@link FieldAndGetterReflectionEntityInformation} inspecting
@@ -74,12 +76,7 @@ public class FieldAndGetterReflectionEntityInformation<T, ID> extends AbstractEn
 		Assert.isTrue(this.method == null || this.field == null,
 				String.format("Both field and method annotated with %s found!", annotation.toString()));
 
-		if (method != null) {
-			ReflectionUtils.makeAccessible(method);
-		}
-		if (field != null) {
-			ReflectionUtils.makeAccessible(field);
-		}
+		this.idGetter = AccessorHandles.getter(method, field);
 	}
 
 	/*
@@ -92,11 +89,7 @@ public class FieldAndGetterReflectionEntityInformation<T, ID> extends AbstractEn
 	@SuppressWarnings("unchecked")
 	public ID getId(T entity) {
 
-		if (method != null) {
-			return entity == null ? null : (ID) ReflectionUtils.invokeMethod(method, entity);
-		} else {
-			return entity == null ? null : (ID) ReflectionUtils.getField(field, entity);
-		}
+		return entity == null ? null : (ID) AccessorHandles.get(idGetter, entity);
 	}
 
 	/*
@@ -0,0 +1,235 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.support;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.mapping.event.AfterSaveEvent;
+import org.socialsignin.spring.data.dynamodb.mapping.event.DynamoDBMappingEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.PaginationLoadingStrategy;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
+
+/**
+ * Bloom filter of the ids of all entities of a table, used to answer lookups of
+ * absent ids without a request to DynamoDB.
+ * 
+ * The filter is built by a strongly consistent keys-only scan, so it covers
+ * every entity saved before the build started. Ids of entities saved meanwhile are
+ * added as they are announced by {@link AfterSaveEvent}s (or
+ * {@link #put(Object)} directly). Deleted ids stay in the filter until the next
+ * {@link #rebuild()}, which only costs an unnecessary lookup. As long as no
+ * build has finished, {@link #mightContain(Object)} returns {@code true} for
+ * every id.
+ * 
+ * Only saves announced in this process are seen between two builds: an entity
+ * saved by another process is reported absent until the next build.
+ *
+ * @param <T>
+ *            the type of the entity
+ * @param <ID>
+ *            the type of the entity's identifier
+ */
+public class NegativeLookupFilter<T, ID> implements ApplicationListener<DynamoDBMappingEvent<?>> {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(NegativeLookupFilter.class);
+
+	private final DynamoDBEntityInformation<T, ID> entityInformation;
+	private final DynamoDBOperations dynamoDBOperations;
+	private final Class<T> domainType;
+	private final long expectedItems;
+	private final double falsePositiveRate;
+
+	@Nullable
+	private volatile BloomFilter filter;
+	@Nullable
+	private volatile BloomFilter building;
+	// Held exclusively while a build is started or swapped in, so no put misses
+	// both the current and the new filter
+	private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+	private final AtomicBoolean rebuilding = new AtomicBoolean();
+	@Nullable
+	private volatile ScheduledFuture<?> scheduledRebuild;
+
+	public NegativeLookupFilter(DynamoDBEntityInformation<T, ID> entityInformation,
+			DynamoDBOperations dynamoDBOperations, long expectedItems, double falsePositiveRate) {
+		Assert.notNull(entityInformation, "entityInformation must not be null");
+		Assert.notNull(dynamoDBOperations, "dynamoDBOperations must not be null");
+		Assert.isTrue(expectedItems > 0, "expectedItems must be positive");
+		Assert.isTrue(falsePositiveRate > 0 && falsePositiveRate < 1, "falsePositiveRate must be between 0 and 1");
+
+		this.entityInformation = entityInformation;
+		this.dynamoDBOperations = dynamoDBOperations;
+		this.domainType = entityInformation.getJavaType();
+		this.expectedItems = expectedItems;
+		this.falsePositiveRate = falsePositiveRate;
+	}
+
+	/**
+	 * Builds the filter right away in the background and rebuilds it with the
+	 * given delay between two builds until {@link #cancelRebuild()} is called.
+	 * 
+	 * @param executor
+	 *            the executor the builds run on
+	 * @param interval
+	 *            the delay between the end of a build and the start of the next
+	 * @param unit
+	 *            the {@link TimeUnit} of the interval
+	 */
+	public void scheduleRebuild(ScheduledExecutorService executor, long interval, TimeUnit unit) {
+		Assert.notNull(executor, "executor must not be null");
+		Assert.isTrue(interval > 0, "interval must be positive");
+		Assert.state(scheduledRebuild == null, "The rebuild is already scheduled");
+		scheduledRebuild = executor.scheduleWithFixedDelay(() -> {
+			try {
+				rebuild();
+			} catch (RuntimeException e) {
+				LOGGER.warn("Rebuilding the negative lookup filter of {} failed", domainType, e);
+			}
+		}, 0, interval, unit);
+	}
+
+	/**
+	 * Stops the scheduled rebuilds. A rebuild which is already running still
+	 * completes.
+	 */
+	public void cancelRebuild() {
+		ScheduledFuture<?> rebuild = scheduledRebuild;
+		if (rebuild != null) {
+			rebuild.cancel(false);
+		}
+	}
+
+	/**
+	 * Replaces the filter with one built from a keys-only scan of the table. The
+	 * scanned pages are not retained, only the filter grows with the table.
+	 * Returns right away if another rebuild is already running.
+	 */
+	public void rebuild() {
+		if (!rebuilding.compareAndSet(false, true)) {
+			return;
+		}
+		BloomFilter newFilter = new BloomFilter(expectedItems, falsePositiveRate);
+		swap(() -> building = newFilter);
+		long count = 0;
+		try {
+			for (T entity : dynamoDBOperations.scan(domainType, keysOnlyScanExpression(),
+					PaginationLoadingStrategy.ITERATION_ONLY)) {
+				newFilter.put(toKey(entityInformation.getId(entity)));
+				count++;
+			}
+			swap(() -> filter = newFilter);
+		} finally {
+			swap(() -> building = null);
+			rebuilding.set(false);
+		}
+
+		if (count > expectedItems) {
+			LOGGER.warn("The negative lookup filter of {} is sized for {} items but the table has {} items",
+					domainType, expectedItems, count);
+		}
+	}
+
+	/**
+	 * @param id
+	 *            the id to check
+	 * @return {@code false} if there is definitely no entity with the given id
+	 */
+	public boolean mightContain(ID id) {
+		BloomFilter current = filter;
+		return current == null || current.mightContain(toKey(id));
+	}
+
+	/**
+	 * Adds the id of the given entity to the filter.
+	 * 
+	 * @param entity
+	 *            the saved entity
+	 */
+	public void put(T entity) {
+		ID id = entityInformation.getId(entity);
+		if (id == null) {
+			return;
+		}
+		String key = toKey(id);
+		swapLock.readLock().lock();
+		try {
+			BloomFilter next = building;
+			BloomFilter current = filter;
+			if (next != null) {
+				next.put(key);
+			}
+			if (current != null) {
+				current.put(key);
+			}
+		} finally {
+			swapLock.readLock().unlock();
+		}
+	}
+
+	private void swap(Runnable swap) {
+		swapLock.writeLock().lock();
+		try {
+			swap.run();
+		} finally {
+			swapLock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public void onApplicationEvent(DynamoDBMappingEvent<?> event) {
+		if (event instanceof AfterSaveEvent && domainType.isInstance(event.getSource())) {
+			put(domainType.cast(event.getSource()));
+		}
+	}
+
+	private DynamoDBScanExpression keysOnlyScanExpression() {
+		DynamoDBMapperTableModel<T> tableModel = dynamoDBOperations.getTableModel(domainType);
+		Map<String, String> names = new HashMap<>();
+		names.put("#hashKey", tableModel.hashKey().name());
+		String projection = "#hashKey";
+		if (tableModel.rangeKeyIfExists() != null) {
+			names.put("#rangeKey", tableModel.rangeKeyIfExists().name());
+			projection += ", #rangeKey";
+		}
+		return new DynamoDBScanExpression().withConsistentRead(true).withProjectionExpression(projection)
+				.withExpressionAttributeNames(Collections.unmodifiableMap(names));
+	}
+
+	private String toKey(ID id) {
+		Object hashKey = entityInformation.getHashKey(id);
+		if (entityInformation.isRangeKeyAware()) {
+			return hashKey + "\u0000" + entityInformation.getRangeKey(id);
+		} else {
+			return String.valueOf(hashKey);
+		}
+	}
+}
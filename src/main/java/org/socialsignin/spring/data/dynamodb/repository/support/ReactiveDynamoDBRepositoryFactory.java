@@ -0,0 +1,87 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.support;
+
+import java.util.Optional;
+
+import org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.repository.query.DynamoDBQueryLookupStrategy;
+import org.socialsignin.spring.data.dynamodb.repository.query.ReactiveDynamoDBQuery;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.core.support.ReactiveRepositoryFactorySupport;
+import org.springframework.data.repository.query.QueryLookupStrategy;
+import org.springframework.data.repository.query.QueryLookupStrategy.Key;
+import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
+import org.springframework.util.Assert;
+
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * Factory to create {@link SimpleReactiveDynamoDBCrudRepository} instances.
+ * 
+ * CRUD methods are backed by {@link AsyncDynamoDBOperations}, while derived
+ * query methods reuse the query creation of {@link DynamoDBRepositoryFactory}
+ * and are executed on the given {@link Scheduler}.
+ */
+public class ReactiveDynamoDBRepositoryFactory extends ReactiveRepositoryFactorySupport {
+
+	private final DynamoDBOperations dynamoDBOperations;
+	private final AsyncDynamoDBOperations asyncDynamoDBOperations;
+	private final Scheduler scheduler;
+
+	public ReactiveDynamoDBRepositoryFactory(DynamoDBOperations dynamoDBOperations,
+			AsyncDynamoDBOperations asyncDynamoDBOperations, Scheduler scheduler) {
+		Assert.notNull(dynamoDBOperations, "dynamoDBOperations must not be null");
+		Assert.notNull(asyncDynamoDBOperations, "asyncDynamoDBOperations must not be null");
+		Assert.notNull(scheduler, "scheduler must not be null");
+
+		this.dynamoDBOperations = dynamoDBOperations;
+		this.asyncDynamoDBOperations = asyncDynamoDBOperations;
+		this.scheduler = scheduler;
+	}
+
+	@Override
+	public <T, ID> DynamoDBEntityInformation<T, ID> getEntityInformation(final Class<T> domainClass) {
+
+		return DynamoDBEntityMetadataRegistry.getEntityInformation(domainClass, this.dynamoDBOperations);
+	}
+
+	@Override
+	protected Optional<QueryLookupStrategy> getQueryLookupStrategy(Key key,
+			QueryMethodEvaluationContextProvider evaluationContextProvider) {
+		QueryLookupStrategy strategy = DynamoDBQueryLookupStrategy.create(dynamoDBOperations, key);
+		return Optional.of((method, metadata, factory, namedQueries) -> new ReactiveDynamoDBQuery(
+				strategy.resolveQuery(method, metadata, factory, namedQueries), scheduler));
+	}
+
+	protected EnableScanPermissions getEnableScanPermissions(RepositoryMetadata metadata) {
+		return new EnableScanAnnotationPermissions(metadata.getRepositoryInterface());
+	}
+
+	@Override
+	protected Class<?> getRepositoryBaseClass(RepositoryMetadata metadata) {
+		return SimpleReactiveDynamoDBCrudRepository.class;
+	}
+
+	@Override
+	protected Object getTargetRepository(RepositoryInformation metadata) {
+		return new SimpleReactiveDynamoDBCrudRepository<>(getEntityInformation(metadata.getDomainType()),
+				asyncDynamoDBOperations, getEnableScanPermissions(metadata));
+	}
+
+}
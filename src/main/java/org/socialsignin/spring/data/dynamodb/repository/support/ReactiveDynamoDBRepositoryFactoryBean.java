@@ -0,0 +1,102 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.support;
+
+import java.io.Serializable;
+
+import org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.mapping.DynamoDBMappingContext;
+import org.socialsignin.spring.data.dynamodb.repository.util.DynamoDBMappingContextProcessor;
+import org.socialsignin.spring.data.dynamodb.repository.util.Entity2DynamoDBTableSynchronizer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.data.repository.core.support.RepositoryFactorySupport;
+
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Special adapter for Springs
+ * {@link org.springframework.beans.factory.FactoryBean} interface to allow easy
+ * setup of reactive repository factories via Spring configuration.
+ * 
+ * @param <T>
+ *            the type of the repository
+ */
+public class ReactiveDynamoDBRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extends Serializable>
+		extends
+			RepositoryFactoryBeanSupport<T, S, ID> {
+
+	private DynamoDBOperations dynamoDBOperations;
+	private AsyncDynamoDBOperations asyncDynamoDBOperations;
+	private Scheduler scheduler = Schedulers.boundedElastic();
+	private Entity2DynamoDBTableSynchronizer<S, ID> tableSynchronizer;
+	private DynamoDBMappingContextProcessor<S, ID> dynamoDBMappingContextProcessor;
+
+	public ReactiveDynamoDBRepositoryFactoryBean(Class<? extends T> repositoryInterface) {
+		super(repositoryInterface);
+	}
+
+	@Override
+	protected RepositoryFactorySupport createRepositoryFactory() {
+		assert dynamoDBOperations != null;
+		assert asyncDynamoDBOperations != null;
+		assert tableSynchronizer != null;
+		assert dynamoDBMappingContextProcessor != null;
+		ReactiveDynamoDBRepositoryFactory repositoryFactory = new ReactiveDynamoDBRepositoryFactory(
+				dynamoDBOperations, asyncDynamoDBOperations, scheduler);
+		repositoryFactory.addRepositoryProxyPostProcessor(tableSynchronizer);
+		repositoryFactory.addRepositoryProxyPostProcessor(dynamoDBMappingContextProcessor);
+		return repositoryFactory;
+	}
+
+	@Autowired
+	public void setDynamoDBMappingContextProcessor(
+			DynamoDBMappingContextProcessor<S, ID> dynamoDBMappingContextProcessor) {
+		this.dynamoDBMappingContextProcessor = dynamoDBMappingContextProcessor;
+	}
+
+	@Autowired
+	public void setEntity2DynamoDBTableSynchronizer(Entity2DynamoDBTableSynchronizer<S, ID> tableSynchronizer) {
+		this.tableSynchronizer = tableSynchronizer;
+	}
+
+	@Autowired
+	public void setDynamoDBOperations(DynamoDBOperations dynamoDBOperations) {
+		this.dynamoDBOperations = dynamoDBOperations;
+	}
+
+	@Autowired
+	public void setAsyncDynamoDBOperations(AsyncDynamoDBOperations asyncDynamoDBOperations) {
+		this.asyncDynamoDBOperations = asyncDynamoDBOperations;
+	}
+
+	/**
+	 * @param scheduler
+	 *            the {@link Scheduler} derived query methods are executed on.
+	 *            Defaults to {@link Schedulers#boundedElastic()}.
+	 */
+	public void setScheduler(Scheduler scheduler) {
+		this.scheduler = scheduler;
+	}
+
+	@Autowired
+	public void setDynamoDBMappingContext(DynamoDBMappingContext dynamoDBMappingContext) {
+		setMappingContext(dynamoDBMappingContext);
+	}
+}
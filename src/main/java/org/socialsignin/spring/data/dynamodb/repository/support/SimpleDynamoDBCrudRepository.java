@@ -15,25 +15,37 @@
  */
 package org.socialsignin.spring.data.dynamodb.repository.support;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import org.socialsignin.spring.data.dynamodb.core.BatchWriteResult;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.exception.BatchDeleteException;
 import org.socialsignin.spring.data.dynamodb.exception.BatchWriteException;
 import org.socialsignin.spring.data.dynamodb.repository.DynamoDBCrudRepository;
 import org.socialsignin.spring.data.dynamodb.utils.ExceptionHandler;
+import org.socialsignin.spring.data.dynamodb.utils.KeyHandler;
 import org.socialsignin.spring.data.dynamodb.utils.SortHandler;
+import org.socialsignin.spring.data.dynamodb.utils.StreamHandler;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.lang.NonNull;
 import org.springframework.util.Assert;
 
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper.FailedBatch;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.PaginationLoadingStrategy;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
 import com.amazonaws.services.dynamodbv2.datamodeling.KeyPair;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
 
 /**
  * Default implementation of the
@@ -48,7 +60,9 @@ public class SimpleDynamoDBCrudRepository<T, ID>
 		implements
 			DynamoDBCrudRepository<T, ID>,
 			SortHandler,
-			ExceptionHandler {
+			ExceptionHandler,
+			StreamHandler,
+			KeyHandler {
 
 	protected DynamoDBEntityInformation<T, ID> entityInformation;
 
@@ -58,15 +72,61 @@ public class SimpleDynamoDBCrudRepository<T, ID>
 
 	protected DynamoDBOperations dynamoDBOperations;
 
+	protected Optional<CoalescingEntityLoader<T, ID>> entityLoader;
+
+	protected Optional<NegativeLookupFilter<T, ID>> negativeLookupFilter;
+
 	public SimpleDynamoDBCrudRepository(DynamoDBEntityInformation<T, ID> entityInformation,
 			DynamoDBOperations dynamoDBOperations, EnableScanPermissions enableScanPermissions) {
+		this(entityInformation, dynamoDBOperations, enableScanPermissions, Optional.empty());
+	}
+
+	/**
+	 * @param entityLoader
+	 *            If present, {@link #findById(Object)} is served by this loader
+	 *            to coalesce concurrent calls into batch loads
+	 */
+	public SimpleDynamoDBCrudRepository(DynamoDBEntityInformation<T, ID> entityInformation,
+			DynamoDBOperations dynamoDBOperations, EnableScanPermissions enableScanPermissions,
+			Optional<CoalescingEntityLoader<T, ID>> entityLoader) {
+		this(entityInformation, dynamoDBOperations, enableScanPermissions, entityLoader, Optional.empty());
+	}
+
+	/**
+	 * @param entityLoader
+	 *            If present, {@link #findById(Object)} is served by this loader
+	 *            to coalesce concurrent calls into batch loads
+	 * @param negativeLookupFilter
+	 *            If present, ids it reports as absent are not looked up
+	 */
+	public SimpleDynamoDBCrudRepository(DynamoDBEntityInformation<T, ID> entityInformation,
+			DynamoDBOperations dynamoDBOperations, EnableScanPermissions enableScanPermissions,
+			Optional<CoalescingEntityLoader<T, ID>> entityLoader,
+			Optional<NegativeLookupFilter<T, ID>> negativeLookupFilter) {
 		Assert.notNull(entityInformation, "entityInformation must not be null");
 		Assert.notNull(dynamoDBOperations, "dynamoDBOperations must not be null");
+		Assert.notNull(entityLoader, "entityLoader must not be null");
+		Assert.notNull(negativeLookupFilter, "negativeLookupFilter must not be null");
 
 		this.entityInformation = entityInformation;
 		this.dynamoDBOperations = dynamoDBOperations;
 		this.domainType = entityInformation.getJavaType();
 		this.enableScanPermissions = enableScanPermissions;
+		this.entityLoader = entityLoader;
+		this.negativeLookupFilter = negativeLookupFilter;
+	}
+
+	private KeyPair toKeyPair(ID id) {
+		if (entityInformation.isRangeKeyAware()) {
+			return new KeyPair().withHashKey(entityInformation.getHashKey(id))
+					.withRangeKey(entityInformation.getRangeKey(id));
+		} else {
+			return new KeyPair().withHashKey(id);
+		}
+	}
+
+	private boolean isDefinitelyAbsent(ID id) {
+		return negativeLookupFilter.isPresent() && !negativeLookupFilter.get().mightContain(id);
 	}
 
 	@Override
@@ -74,8 +134,18 @@ public class SimpleDynamoDBCrudRepository<T, ID>
 
 		Assert.notNull(id, "The given id must not be null!");
 
+		if (isDefinitelyAbsent(id)) {
+			return Optional.empty();
+		}
+
 		T result;
-		if (entityInformation.isRangeKeyAware()) {
+		if (entityLoader.isPresent()) {
+			try {
+				result = entityLoader.get().load(id).join();
+			} catch (CompletionException e) {
+				throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+			}
+		} else if (entityInformation.isRangeKeyAware()) {
 			result = dynamoDBOperations.load(domainType, entityInformation.getHashKey(id),
 					entityInformation.getRangeKey(id));
 		} else {
@@ -92,18 +162,16 @@ public class SimpleDynamoDBCrudRepository<T, ID>
 
 		// Works only with non-parallel streams!
 		AtomicInteger idx = new AtomicInteger();
-		List<KeyPair> keyPairs = StreamSupport.stream(ids.spliterator(), false).map(id -> {
+		List<KeyPair> keyPairs = StreamSupport.stream(ids.spliterator(), false).filter(id -> {
 
 			Assert.notNull(id, "The given id at position " + idx.getAndIncrement() + " must not be null!");
+			return !isDefinitelyAbsent(id);
+		}).map(this::toKeyPair).toList();
 
-			if (entityInformation.isRangeKeyAware()) {
-				return new KeyPair().withHashKey(entityInformation.getHashKey(id))
-						.withRangeKey(entityInformation.getRangeKey(id));
-			} else {
-				return new KeyPair().withHashKey(id);
-			}
-		}).toList();
-
+		if (keyPairs.isEmpty() && negativeLookupFilter.isPresent()) {
+			// All ids are known to be absent
+			return Collections.emptyList();
+		}
 		Map<Class<?>, List<KeyPair>> keyPairsMap = Collections.<Class<?>, List<KeyPair>>singletonMap(domainType,
 				keyPairs);
 		return dynamoDBOperations.batchLoad(keyPairsMap);
@@ -113,6 +181,7 @@ public class SimpleDynamoDBCrudRepository<T, ID>
 	public <S extends T> S save(S entity) {
 
 		dynamoDBOperations.save(entity);
+		negativeLookupFilter.ifPresent(filter -> filter.put(entity));
 		return entity;
 	}
 
@@ -127,14 +196,15 @@ public class SimpleDynamoDBCrudRepository<T, ID>
 			throws BatchWriteException, IllegalArgumentException {
 
 		Assert.notNull(entities, "The given Iterable of entities not be null!");
-		List<FailedBatch> failedBatches = dynamoDBOperations.batchSave(entities);
+		BatchWriteResult<S> result = dynamoDBOperations.parallelBatchSave(entities);
+		negativeLookupFilter.ifPresent(filter -> result.getWritten().forEach(filter::put));
 
-		if (failedBatches.isEmpty()) {
+		if (result.isComplete()) {
 			// Happy path
 			return entities;
 		} else {
 			// Error handling:
-			throw repackageToException(failedBatches, BatchWriteException.class);
+			throw repackageToException(result, BatchWriteException.class);
 		}
 	}
 
@@ -142,7 +212,43 @@ public class SimpleDynamoDBCrudRepository<T, ID>
 	public boolean existsById(ID id) {
 
 		Assert.notNull(id, "The given id must not be null!");
-		return findById(id).isPresent();
+
+		if (isDefinitelyAbsent(id)) {
+			return false;
+		} else if (entityInformation.isRangeKeyAware()) {
+			return dynamoDBOperations.exists(domainType, entityInformation.getHashKey(id),
+					entityInformation.getRangeKey(id));
+		} else {
+			return dynamoDBOperations.exists(domainType, entityInformation.getHashKey(id), null);
+		}
+	}
+
+	@Override
+	public boolean existsAllById(Iterable<ID> ids) {
+
+		Assert.notNull(ids, "The given ids must not be null!");
+
+		List<KeyPair> keyPairs = new ArrayList<>();
+		int idx = 0;
+		for (ID id : ids) {
+			Assert.notNull(id, "The given id at position " + idx++ + " must not be null!");
+			if (isDefinitelyAbsent(id)) {
+				return false;
+			}
+			keyPairs.add(toKeyPair(id));
+		}
+		if (keyPairs.isEmpty()) {
+			return true;
+		}
+
+		// Only distinct keys are looked up - compared like batchLoadKeys and
+		// DynamoDB do, e.g. 1 and 1.0 are the same key
+		DynamoDBMapperTableModel<T> tableModel = dynamoDBOperations.getTableModel(domainType);
+		Set<Map<String, AttributeValue>> distinctKeys = new HashSet<>();
+		for (KeyPair keyPair : keyPairs) {
+			distinctKeys.add(toDistinctKey(tableModel, keyPair.getHashKey(), keyPair.getRangeKey()));
+		}
+		return dynamoDBOperations.batchLoadKeys(domainType, keyPairs).size() == distinctKeys.size();
 	}
 
 	void assertScanEnabled(boolean scanEnabled, String methodName) {
@@ -157,13 +263,34 @@ public class SimpleDynamoDBCrudRepository<T, ID>
 
 		assertScanEnabled(enableScanPermissions.isFindAllUnpaginatedScanEnabled(), "findAll");
 		DynamoDBScanExpression scanExpression = new DynamoDBScanExpression();
+		Optional<Integer> parallelScanSegments = enableScanPermissions.getFindAllParallelScanSegments();
+		if (parallelScanSegments.isPresent()) {
+			return dynamoDBOperations.parallelScan(domainType, scanExpression, parallelScanSegments.get());
+		}
 		return dynamoDBOperations.scan(domainType, scanExpression);
 	}
 
+	@Override
+	public Stream<T> findAllAsStream() {
+
+		assertScanEnabled(enableScanPermissions.isFindAllUnpaginatedScanEnabled(), "findAll");
+		DynamoDBScanExpression scanExpression = new DynamoDBScanExpression();
+		Optional<Integer> parallelScanSegments = enableScanPermissions.getFindAllParallelScanSegments();
+		if (parallelScanSegments.isPresent()) {
+			return toStream(dynamoDBOperations.parallelScan(domainType, scanExpression, parallelScanSegments.get(),
+					PaginationLoadingStrategy.ITERATION_ONLY));
+		}
+		return toStream(dynamoDBOperations.scan(domainType, scanExpression, PaginationLoadingStrategy.ITERATION_ONLY));
+	}
+
 	@Override
 	public long count() {
 		assertScanEnabled(enableScanPermissions.isCountUnpaginatedScanEnabled(), "count");
 		final DynamoDBScanExpression scanExpression = new DynamoDBScanExpression();
+		Optional<Integer> parallelScanSegments = enableScanPermissions.getCountParallelScanSegments();
+		if (parallelScanSegments.isPresent()) {
+			return dynamoDBOperations.parallelCount(domainType, scanExpression, parallelScanSegments.get());
+		}
 		return dynamoDBOperations.count(domainType, scanExpression);
 	}
 
@@ -172,12 +299,18 @@ public class SimpleDynamoDBCrudRepository<T, ID>
 
 		Assert.notNull(id, "The given id must not be null!");
 
-		Optional<T> entity = findById(id);
-
-		if (entity.isPresent()) {
-			dynamoDBOperations.delete(entity.get());
-
+		// Key-only delete, the returned old item tells whether it existed
+		T deleted;
+		if (isDefinitelyAbsent(id)) {
+			deleted = null;
+		} else if (entityInformation.isRangeKeyAware()) {
+			deleted = dynamoDBOperations.delete(domainType, entityInformation.getHashKey(id),
+					entityInformation.getRangeKey(id));
 		} else {
+			deleted = dynamoDBOperations.delete(domainType, entityInformation.getHashKey(id), null);
+		}
+
+		if (deleted == null) {
 			throw new EmptyResultDataAccessException(String.format("No %s entity with id %s exists!", domainType, id),
 					1);
 		}
@@ -189,18 +322,47 @@ public class SimpleDynamoDBCrudRepository<T, ID>
 		dynamoDBOperations.delete(entity);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @throws BatchDeleteException
+	 *             in case of an error during deleting
+	 */
 	@Override
-	public void deleteAll(Iterable<? extends T> entities) {
+	public void deleteAll(Iterable<? extends T> entities) throws BatchDeleteException {
 
 		Assert.notNull(entities, "The given Iterable of entities not be null!");
-		dynamoDBOperations.batchDelete(entities);
+		BatchWriteResult<? extends T> result = dynamoDBOperations.parallelBatchDelete(entities);
+		if (!result.isComplete()) {
+			throw repackageToException(result, BatchDeleteException.class);
+		}
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * Scans the table for keys only and deletes them in concurrent batches. If
+	 * {@link org.socialsignin.spring.data.dynamodb.repository.EnableTruncateOnDeleteAll}
+	 * is present and the table is large enough, the table is recreated instead.
+	 *
+	 * @throws BatchDeleteException
+	 *             in case of an error during deleting
+	 */
 	@Override
-	public void deleteAll() {
+	public void deleteAll() throws BatchDeleteException {
 
 		assertScanEnabled(enableScanPermissions.isDeleteAllUnpaginatedScanEnabled(), "deleteAll");
-		dynamoDBOperations.batchDelete(findAll());
+
+		Optional<Long> truncateMinItemCount = enableScanPermissions.getDeleteAllTruncateMinItemCount();
+		if (truncateMinItemCount.isPresent() && dynamoDBOperations.truncate(domainType, truncateMinItemCount.get())) {
+			return;
+		}
+
+		List<FailedBatch> failedBatches = dynamoDBOperations.deleteAll(domainType,
+				enableScanPermissions.getDeleteAllParallelScanSegments().orElse(1));
+		if (!failedBatches.isEmpty()) {
+			throw repackageToException(failedBatches, BatchDeleteException.class);
+		}
 	}
 
 	@NonNull
@@ -208,21 +370,33 @@ public class SimpleDynamoDBCrudRepository<T, ID>
 		return this.entityInformation;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * Deletes the keys in concurrent batches without reading the items first.
+	 *
+	 * @throws BatchDeleteException
+	 *             in case of an error during deleting
+	 */
 	@Override
-	public void deleteAllById(Iterable<? extends ID> ids) {
+	public void deleteAllById(Iterable<? extends ID> ids) throws BatchDeleteException {
 		Assert.notNull(ids, "The given Iterable of entities not be null!");
-		
-		for(ID id : ids) {
-			Optional<T> entity = findById(id);
 
-			if (entity.isPresent()) {
-				dynamoDBOperations.delete(entity.get());
-
-			} else {
-				continue;
+		List<KeyPair> keyPairs = new ArrayList<>();
+		int idx = 0;
+		for (ID id : ids) {
+			Assert.notNull(id, "The given id at position " + idx++ + " must not be null!");
+			if (!isDefinitelyAbsent(id)) {
+				keyPairs.add(toKeyPair(id));
 			}
 		}
-		
-		
+		if (keyPairs.isEmpty()) {
+			return;
+		}
+
+		List<FailedBatch> failedBatches = dynamoDBOperations.batchDelete(domainType, keyPairs);
+		if (!failedBatches.isEmpty()) {
+			throw repackageToException(failedBatches, BatchDeleteException.class);
+		}
 	}
 }
@@ -18,16 +18,20 @@ package org.socialsignin.spring.data.dynamodb.repository.support;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
 import com.amazonaws.services.dynamodbv2.datamodeling.PaginatedScanList;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.query.MultipleEntityScanExpressionQuery;
 import org.socialsignin.spring.data.dynamodb.repository.DynamoDBPagingAndSortingRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.util.Assert;
 
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Default implementation of the
@@ -63,6 +67,21 @@ public class SimpleDynamoDBPagingAndSortingRepository<T, ID> extends SimpleDynam
 
 	}
 
+	public SimpleDynamoDBPagingAndSortingRepository(DynamoDBEntityInformation<T, ID> entityInformation,
+			DynamoDBOperations dynamoDBOperations, EnableScanPermissions enableScanPermissions,
+			Optional<CoalescingEntityLoader<T, ID>> entityLoader) {
+		super(entityInformation, dynamoDBOperations, enableScanPermissions, entityLoader);
+
+	}
+
+	public SimpleDynamoDBPagingAndSortingRepository(DynamoDBEntityInformation<T, ID> entityInformation,
+			DynamoDBOperations dynamoDBOperations, EnableScanPermissions enableScanPermissions,
+			Optional<CoalescingEntityLoader<T, ID>> entityLoader,
+			Optional<NegativeLookupFilter<T, ID>> negativeLookupFilter) {
+		super(entityInformation, dynamoDBOperations, enableScanPermissions, entityLoader, negativeLookupFilter);
+
+	}
+
 	@Override
 	public Iterable<T> findAll(Sort sort) {
 		return throwUnsupportedSortOperationException();
@@ -97,6 +116,19 @@ public class SimpleDynamoDBPagingAndSortingRepository<T, ID> extends SimpleDynam
 
 	}
 
+	@Override
+	public Window<T> findAll(ScrollPosition scrollPosition, int limit) {
+		Assert.notNull(scrollPosition, "The given scrollPosition must not be null!");
+		Assert.isTrue(limit > 0, "The given limit must be positive!");
+		assertScanEnabled(enableScanPermissions.isFindAllPaginatedScanEnabled(),
+				"findAll(ScrollPosition scrollPosition, int limit)");
+
+		MultipleEntityScanExpressionQuery<T> query = new MultipleEntityScanExpressionQuery<>(dynamoDBOperations,
+				domainType, new DynamoDBScanExpression());
+		query.setScanEnabled(true);
+		return query.getResultWindow(scrollPosition, limit);
+	}
+
 	private long scanThroughResults(Iterator<T> paginatedScanListIterator, long resultsToScan) {
 		long processed = 0;
 		while (paginatedScanListIterator.hasNext() && processed < resultsToScan) {
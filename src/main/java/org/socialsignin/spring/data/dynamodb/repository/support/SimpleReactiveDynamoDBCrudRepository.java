@@ -0,0 +1,258 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.support;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.StreamSupport;
+
+import org.reactivestreams.Publisher;
+import org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.exception.BatchDeleteException;
+import org.socialsignin.spring.data.dynamodb.exception.BatchWriteException;
+import org.socialsignin.spring.data.dynamodb.repository.ReactiveDynamoDBCrudRepository;
+import org.socialsignin.spring.data.dynamodb.utils.ExceptionHandler;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper.FailedBatch;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.KeyPair;
+import com.amazonaws.services.dynamodbv2.datamodeling.ScanResultPage;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Default implementation of the
+ * {@link org.springframework.data.repository.reactive.ReactiveCrudRepository}
+ * interface on top of {@link AsyncDynamoDBOperations}.
+ * 
+ * {@link #findAll()} scans page by page and stays at most one page ahead of
+ * the downstream demand, so even large tables are streamed with a constant
+ * memory footprint.
+ *
+ * @param <T>
+ *            the type of the entity to handle
+ * @param <ID>
+ *            the type of the entity's identifier
+ */
+public class SimpleReactiveDynamoDBCrudRepository<T, ID>
+		implements
+			ReactiveDynamoDBCrudRepository<T, ID>,
+			ExceptionHandler {
+
+	private static final int MAX_ITEMS_PER_BATCH_GET = 100;
+	private static final int MAX_ITEMS_PER_BATCH_WRITE = 25;
+
+	protected DynamoDBEntityInformation<T, ID> entityInformation;
+
+	protected Class<T> domainType;
+
+	protected EnableScanPermissions enableScanPermissions;
+
+	protected AsyncDynamoDBOperations dynamoDBOperations;
+
+	public SimpleReactiveDynamoDBCrudRepository(DynamoDBEntityInformation<T, ID> entityInformation,
+			AsyncDynamoDBOperations dynamoDBOperations, EnableScanPermissions enableScanPermissions) {
+		Assert.notNull(entityInformation, "entityInformation must not be null");
+		Assert.notNull(dynamoDBOperations, "dynamoDBOperations must not be null");
+
+		this.entityInformation = entityInformation;
+		this.dynamoDBOperations = dynamoDBOperations;
+		this.domainType = entityInformation.getJavaType();
+		this.enableScanPermissions = enableScanPermissions;
+	}
+
+	@Override
+	public <S extends T> Mono<S> save(S entity) {
+		Assert.notNull(entity, "The entity must not be null!");
+		return Mono.fromFuture(() -> dynamoDBOperations.save(entity));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @throws BatchWriteException
+	 *             in case of an error during saving
+	 */
+	@Override
+	public <S extends T> Flux<S> saveAll(Iterable<S> entities) {
+		Assert.notNull(entities, "The given Iterable of entities not be null!");
+		return Mono.fromFuture(() -> dynamoDBOperations.batchSave(entities)).flatMapMany(failedBatches -> {
+			if (failedBatches.isEmpty()) {
+				// Happy path
+				return Flux.fromIterable(entities);
+			} else {
+				// Error handling:
+				return Flux.error(repackageToException(failedBatches, BatchWriteException.class));
+			}
+		});
+	}
+
+	@Override
+	public <S extends T> Flux<S> saveAll(Publisher<S> entityStream) {
+		Assert.notNull(entityStream, "The given Publisher of entities not be null!");
+		return Flux.from(entityStream).buffer(MAX_ITEMS_PER_BATCH_WRITE).concatMap(this::saveAll);
+	}
+
+	@Override
+	public Mono<T> findById(ID id) {
+		Assert.notNull(id, "The given id must not be null!");
+
+		if (entityInformation.isRangeKeyAware()) {
+			return Mono.fromFuture(() -> dynamoDBOperations.load(domainType, entityInformation.getHashKey(id),
+					entityInformation.getRangeKey(id)));
+		} else {
+			return Mono.fromFuture(() -> dynamoDBOperations.load(domainType, entityInformation.getHashKey(id)));
+		}
+	}
+
+	@Override
+	public Mono<T> findById(Publisher<ID> id) {
+		Assert.notNull(id, "The given id must not be null!");
+		return Mono.from(id).flatMap(this::findById);
+	}
+
+	@Override
+	public Mono<Boolean> existsById(ID id) {
+		return findById(id).hasElement();
+	}
+
+	@Override
+	public Mono<Boolean> existsById(Publisher<ID> id) {
+		return findById(id).hasElement();
+	}
+
+	@Override
+	public Flux<T> findAll() {
+		assertScanEnabled(enableScanPermissions.isFindAllUnpaginatedScanEnabled(), "findAll");
+
+		// A prefetch of a single page keeps at most one page ahead of the demand.
+		// Every page gets its own expression, so resubscribing starts over.
+		return Mono.fromFuture(() -> dynamoDBOperations.scanPage(domainType, new DynamoDBScanExpression()))
+				.expand(page -> {
+					if (page.getLastEvaluatedKey() == null) {
+						return Mono.empty();
+					}
+					return Mono.fromFuture(() -> dynamoDBOperations.scanPage(domainType,
+							new DynamoDBScanExpression().withExclusiveStartKey(page.getLastEvaluatedKey())));
+				}).concatMapIterable(ScanResultPage::getResults, 1);
+	}
+
+	@Override
+	public Flux<T> findAllById(Iterable<ID> ids) {
+		Assert.notNull(ids, "The given ids must not be null!");
+
+		// Works only with non-parallel streams!
+		AtomicInteger idx = new AtomicInteger();
+		List<KeyPair> keyPairs = StreamSupport.stream(ids.spliterator(), false).map(id -> {
+
+			Assert.notNull(id, "The given id at position " + idx.getAndIncrement() + " must not be null!");
+
+			if (entityInformation.isRangeKeyAware()) {
+				return new KeyPair().withHashKey(entityInformation.getHashKey(id))
+						.withRangeKey(entityInformation.getRangeKey(id));
+			} else {
+				return new KeyPair().withHashKey(id);
+			}
+		}).toList();
+
+		Map<Class<?>, List<KeyPair>> keyPairsMap = Collections.<Class<?>, List<KeyPair>>singletonMap(domainType,
+				keyPairs);
+		return Mono.fromFuture(() -> dynamoDBOperations.<T>batchLoad(keyPairsMap)).flatMapIterable(e -> e);
+	}
+
+	@Override
+	public Flux<T> findAllById(Publisher<ID> idStream) {
+		Assert.notNull(idStream, "The given Publisher of ids must not be null!");
+		return Flux.from(idStream).buffer(MAX_ITEMS_PER_BATCH_GET).concatMap(this::findAllById);
+	}
+
+	@Override
+	public Mono<Long> count() {
+		assertScanEnabled(enableScanPermissions.isCountUnpaginatedScanEnabled(), "count");
+		return Mono.fromFuture(() -> dynamoDBOperations.count(domainType, new DynamoDBScanExpression()));
+	}
+
+	@Override
+	public Mono<Void> deleteById(ID id) {
+		Assert.notNull(id, "The given id must not be null!");
+
+		return findById(id)
+				.switchIfEmpty(Mono.error(() -> new EmptyResultDataAccessException(
+						String.format("No %s entity with id %s exists!", domainType, id), 1)))
+				.flatMap(this::delete);
+	}
+
+	@Override
+	public Mono<Void> deleteById(Publisher<ID> id) {
+		Assert.notNull(id, "The given id must not be null!");
+		return Mono.from(id).flatMap(this::deleteById);
+	}
+
+	@Override
+	public Mono<Void> delete(T entity) {
+		Assert.notNull(entity, "The entity must not be null!");
+		return Mono.fromFuture(() -> dynamoDBOperations.delete(entity)).then();
+	}
+
+	@Override
+	public Mono<Void> deleteAllById(Iterable<? extends ID> ids) {
+		Assert.notNull(ids, "The given Iterable of ids not be null!");
+		return Flux.fromIterable(ids).concatMap(id -> findById(id).flatMap(this::delete)).then();
+	}
+
+	@Override
+	public Mono<Void> deleteAll(Iterable<? extends T> entities) {
+		Assert.notNull(entities, "The given Iterable of entities not be null!");
+		return Mono.fromFuture(() -> dynamoDBOperations.batchDelete(entities)).flatMap(this::toDeleteResult);
+	}
+
+	@Override
+	public Mono<Void> deleteAll(Publisher<? extends T> entityStream) {
+		Assert.notNull(entityStream, "The given Publisher of entities not be null!");
+		return Flux.from(entityStream).buffer(MAX_ITEMS_PER_BATCH_WRITE).concatMap(this::deleteAll).then();
+	}
+
+	@Override
+	public Mono<Void> deleteAll() {
+		assertScanEnabled(enableScanPermissions.isDeleteAllUnpaginatedScanEnabled(), "deleteAll");
+		return Flux.defer(this::findAll).buffer(MAX_ITEMS_PER_BATCH_WRITE).concatMap(this::deleteAll).then();
+	}
+
+	@NonNull
+	public DynamoDBEntityInformation<T, ID> getEntityInformation() {
+		return this.entityInformation;
+	}
+
+	void assertScanEnabled(boolean scanEnabled, String methodName) {
+		Assert.isTrue(scanEnabled, "Scanning for unpaginated " + methodName + "() queries is not enabled.  "
+				+ "To enable, re-implement the " + methodName
+				+ "() method in your repository interface and annotate with @EnableScan, or "
+				+ "enable scanning for all repository methods by annotating your repository interface with @EnableScan");
+	}
+
+	private Mono<Void> toDeleteResult(List<FailedBatch> failedBatches) {
+		if (failedBatches.isEmpty()) {
+			return Mono.empty();
+		}
+		return Mono.error(repackageToException(failedBatches, BatchDeleteException.class));
+	}
+}
@@ -16,10 +16,12 @@
 package org.socialsignin.spring.data.dynamodb.utils;
 
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import org.socialsignin.spring.data.dynamodb.core.BatchWriteResult;
 import org.springframework.dao.DataAccessException;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
@@ -47,4 +49,30 @@ public interface ExceptionHandler {
 			throw new RuntimeException("Could not repackage '" + failedBatches + "' to " + targetType, e);
 		}
 	}
+
+	default <T extends DataAccessException> T repackageToException(BatchWriteResult<?> result,
+			Class<T> targetType) {
+		List<Object> failedEntities = new ArrayList<>();
+		Queue<Exception> allExceptions = new LinkedList<>();
+		for (BatchWriteResult.Failure<?> failure : result.getFailures()) {
+			failedEntities.add(failure.getEntity());
+			if (failure.getCause() != null && !allExceptions.contains(failure.getCause())) {
+				allExceptions.add(failure.getCause());
+			}
+		}
+
+		// The first exception is hopefully the cause
+		Exception cause = allExceptions.poll();
+		try {
+			Constructor<T> ctor = targetType.getConstructor(String.class, Throwable.class, List.class);
+			T e = ctor.newInstance("Processing of " + failedEntities.size() + " entities failed!", cause,
+					failedEntities);
+			allExceptions.stream().forEach(e::addSuppressed);
+			return e;
+		} catch (NoSuchMethodException | InstantiationException | IllegalAccessException
+				| InvocationTargetException e) {
+			assert false; // we should never end up here
+			throw new RuntimeException("Could not repackage '" + result + "' to " + targetType, e);
+		}
+	}
 }
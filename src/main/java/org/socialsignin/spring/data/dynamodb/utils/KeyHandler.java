@@ -0,0 +1,53 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.utils;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+
+/**
+ * Some helper methods to compare primary keys the way DynamoDB does.
+ */
+public interface KeyHandler {
+
+	/**
+	 * @param <T>
+	 *            the type of the entity
+	 * @param tableModel
+	 *            The table model of the entity
+	 * @param hashKey
+	 *            The hash key of the entity
+	 * @param rangeKey
+	 *            The range key of the entity, {@code null} if the table has none
+	 * @return The key in its DynamoDB representation with normalized numbers, so
+	 *         keys DynamoDB considers the same (like {@code 1} and {@code 1.0})
+	 *         are equal
+	 */
+	default <T> Map<String, AttributeValue> toDistinctKey(DynamoDBMapperTableModel<T> tableModel, Object hashKey,
+			@Nullable Object rangeKey) {
+		Map<String, AttributeValue> key = new LinkedHashMap<>(tableModel.convertKey(hashKey, rangeKey));
+		key.replaceAll((name, value) -> value.getN() != null
+				? new AttributeValue().withN(new BigDecimal(value.getN()).stripTrailingZeros().toPlainString())
+				: value);
+		return key;
+	}
+}
@@ -0,0 +1,77 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.utils;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.data.util.StreamUtils;
+
+/**
+ * Some helper methods to expose (lazily loaded) result lists as {@link Stream}.
+ */
+public interface StreamHandler {
+
+	/**
+	 * The returned stream iterates the given results only once, so it also works
+	 * for
+	 * {@link com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.PaginationLoadingStrategy#ITERATION_ONLY}
+	 * results which keep just the current page in memory. Closing the stream
+	 * stops loading further pages and releases the results.
+	 *
+	 * @param <T>
+	 *            the type of the results
+	 * @param results
+	 *            The results to stream
+	 * @return A sequential {@link Stream} of the results
+	 */
+	default <T> Stream<T> toStream(List<T> results) {
+		return StreamUtils.createStreamFromIterator(new CloseableIterator<T>() {
+
+			private List<T> source = results;
+			private Iterator<T> iterator;
+
+			@Override
+			public boolean hasNext() {
+				if (iterator == null) {
+					if (source == null) {
+						return false;
+					}
+					// Deferred until the first element is requested
+					iterator = source.iterator();
+				}
+				return iterator.hasNext();
+			}
+
+			@Override
+			public T next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return iterator.next();
+			}
+
+			@Override
+			public void close() {
+				source = null;
+				iterator = null;
+			}
+		});
+	}
+}
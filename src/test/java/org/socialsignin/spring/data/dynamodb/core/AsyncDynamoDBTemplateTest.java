@@ -0,0 +1,201 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+import org.socialsignin.spring.data.dynamodb.mapping.event.AfterLoadEvent;
+import org.socialsignin.spring.data.dynamodb.mapping.event.AfterSaveEvent;
+import org.socialsignin.spring.data.dynamodb.mapping.event.BeforeSaveEvent;
+import org.springframework.context.ApplicationContext;
+
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDBAsync;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper.FailedBatch;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemRequest;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemResult;
+import com.amazonaws.services.dynamodbv2.model.GetItemRequest;
+import com.amazonaws.services.dynamodbv2.model.GetItemResult;
+import com.amazonaws.services.dynamodbv2.model.ProvisionedThroughputExceededException;
+import com.amazonaws.services.dynamodbv2.model.PutItemRequest;
+import com.amazonaws.services.dynamodbv2.model.PutItemResult;
+import com.amazonaws.services.dynamodbv2.model.ScanRequest;
+import com.amazonaws.services.dynamodbv2.model.ScanResult;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncDynamoDBTemplateTest {
+	@Mock
+	private AmazonDynamoDBAsync dynamoDB;
+	@Mock
+	private ApplicationContext applicationContext;
+
+	private AsyncDynamoDBTemplate dynamoDBTemplate;
+
+	@BeforeEach
+	public void setUp() {
+		this.dynamoDBTemplate = new AsyncDynamoDBTemplate(dynamoDB, new DynamoDBMapper(dynamoDB),
+				DynamoDBMapperConfig.DEFAULT);
+		this.dynamoDBTemplate.setApplicationContext(applicationContext);
+	}
+
+	private static <R extends AmazonWebServiceRequest, S> Answer<Future<S>> respondWith(S result) {
+		return invocation -> {
+			AsyncHandler<R, S> asyncHandler = invocation.getArgument(1);
+			asyncHandler.onSuccess(invocation.getArgument(0), result);
+			return CompletableFuture.completedFuture(result);
+		};
+	}
+
+	@Test
+	void testLoad() {
+		when(dynamoDB.getItemAsync(any(GetItemRequest.class), any())).thenAnswer(respondWith(new GetItemResult()
+				.withItem(Map.of("Id", new AttributeValue("someId"), "name", new AttributeValue("someName")))));
+
+		User actual = dynamoDBTemplate.load(User.class, "someId").join();
+
+		assertEquals("someId", actual.getId());
+		assertEquals("someName", actual.getName());
+		ArgumentCaptor<GetItemRequest> captor = ArgumentCaptor.forClass(GetItemRequest.class);
+		verify(dynamoDB).getItemAsync(captor.capture(), any());
+		assertEquals("user", captor.getValue().getTableName());
+		assertEquals(Map.of("Id", new AttributeValue("someId")), captor.getValue().getKey());
+		verify(applicationContext).publishEvent(any(AfterLoadEvent.class));
+	}
+
+	@Test
+	void testLoad_WhenItemDoesNotExist() {
+		when(dynamoDB.getItemAsync(any(GetItemRequest.class), any())).thenAnswer(respondWith(new GetItemResult()));
+
+		assertNull(dynamoDBTemplate.load(User.class, "someId").join());
+	}
+
+	@Test
+	void testSaveGeneratesKey() {
+		when(dynamoDB.putItemAsync(any(PutItemRequest.class), any())).thenAnswer(respondWith(new PutItemResult()));
+		User user = new User();
+		user.setName("someName");
+
+		User actual = dynamoDBTemplate.save(user).join();
+
+		assertSame(user, actual);
+		assertNotNull(user.getId());
+		ArgumentCaptor<PutItemRequest> captor = ArgumentCaptor.forClass(PutItemRequest.class);
+		verify(dynamoDB).putItemAsync(captor.capture(), any());
+		assertEquals("user", captor.getValue().getTableName());
+		assertEquals(user.getId(), captor.getValue().getItem().get("Id").getS());
+		assertEquals("someName", captor.getValue().getItem().get("name").getS());
+		verify(applicationContext).publishEvent(any(BeforeSaveEvent.class));
+		verify(applicationContext).publishEvent(any(AfterSaveEvent.class));
+	}
+
+	@Test
+	void testSaveEvictsCachedEntity() {
+		when(dynamoDB.putItemAsync(any(PutItemRequest.class), any())).thenAnswer(respondWith(new PutItemResult()));
+		EntityCache entityCache = new DefaultEntityCache(item -> 1);
+		entityCache.configure(User.class, Duration.ofMinutes(1), 10);
+		EntityCacheKey key = new EntityCacheKey("user", new AttributeValue("someId"), null);
+		entityCache.put(User.class, key, Map.of("Id", new AttributeValue("someId")));
+		dynamoDBTemplate.setEntityCache(entityCache);
+		User user = new User();
+		user.setId("someId");
+
+		dynamoDBTemplate.save(user).join();
+
+		assertNull(entityCache.get(User.class, key));
+	}
+
+	@Test
+	void testBatchSaveSplitsIntoBatches() {
+		when(dynamoDB.batchWriteItemAsync(any(BatchWriteItemRequest.class), any()))
+				.thenAnswer(respondWith(new BatchWriteItemResult().withUnprocessedItems(Collections.emptyMap())));
+		List<User> users = new ArrayList<>();
+		for (int i = 0; i < 30; i++) {
+			User user = new User();
+			user.setId("id" + i);
+			users.add(user);
+		}
+
+		List<FailedBatch> actual = dynamoDBTemplate.batchSave(users).join();
+
+		assertTrue(actual.isEmpty());
+		ArgumentCaptor<BatchWriteItemRequest> captor = ArgumentCaptor.forClass(BatchWriteItemRequest.class);
+		verify(dynamoDB, times(2)).batchWriteItemAsync(captor.capture(), any());
+		assertEquals(25, captor.getAllValues().get(0).getRequestItems().get("user").size());
+		assertEquals(5, captor.getAllValues().get(1).getRequestItems().get("user").size());
+	}
+
+	@Test
+	void testBatchSaveReportsFailedBatch() {
+		ProvisionedThroughputExceededException exception = new ProvisionedThroughputExceededException("test");
+		when(dynamoDB.batchWriteItemAsync(any(BatchWriteItemRequest.class), any())).thenAnswer(invocation -> {
+			AsyncHandler<BatchWriteItemRequest, BatchWriteItemResult> asyncHandler = invocation.getArgument(1);
+			asyncHandler.onError(exception);
+			return null;
+		});
+		User user = new User();
+		user.setId("someId");
+
+		List<FailedBatch> actual = dynamoDBTemplate.batchSave(Collections.singletonList(user)).join();
+
+		assertEquals(1, actual.size());
+		assertSame(exception, actual.get(0).getException());
+		assertEquals(1, actual.get(0).getUnprocessedItems().get("user").size());
+	}
+
+	@Test
+	void testCountScanSumsAllPages() {
+		when(dynamoDB.scanAsync(any(ScanRequest.class), any())).thenAnswer(
+				respondWith(new ScanResult().withCount(3).withLastEvaluatedKey(Map.of("Id", new AttributeValue("c")))))
+				.thenAnswer(respondWith(new ScanResult().withCount(2)));
+
+		long actual = dynamoDBTemplate.count(User.class, new DynamoDBScanExpression()).join();
+
+		assertEquals(5L, actual);
+		ArgumentCaptor<ScanRequest> captor = ArgumentCaptor.forClass(ScanRequest.class);
+		verify(dynamoDB, times(2)).scanAsync(captor.capture(), any());
+		assertEquals("COUNT", captor.getAllValues().get(0).getSelect());
+		assertEquals(Map.of("Id", new AttributeValue("c")), captor.getAllValues().get(1).getExclusiveStartKey());
+	}
+}
@@ -0,0 +1,135 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.socialsignin.spring.data.dynamodb.domain.sample.Playlist;
+import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+import org.socialsignin.spring.data.dynamodb.repository.EnableEntityCache;
+
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+
+class DefaultEntityCacheTest {
+
+	@EnableEntityCache(ttl = 5, unit = TimeUnit.SECONDS, maxWeight = 2)
+	static class CachedEntity {
+	}
+
+	private final AtomicLong nanoTime = new AtomicLong();
+	private DefaultEntityCache underTest;
+
+	@BeforeEach
+	void setUp() {
+		underTest = new DefaultEntityCache(item -> 1, nanoTime::get);
+	}
+
+	@Test
+	void testNotConfiguredClassIsNotCached() {
+		EntityCacheKey key = key("1");
+		underTest.put(User.class, key, item("1"));
+
+		assertFalse(underTest.isCached(User.class));
+		assertNull(underTest.get(User.class, key));
+		assertEquals(0, underTest.getStatistics().getMissCount());
+	}
+
+	@Test
+	void testHitMissAndExpiry() {
+		EntityCacheKey key = key("1");
+		Map<String, AttributeValue> item = item("1");
+
+		assertTrue(underTest.isCached(CachedEntity.class));
+		assertNull(underTest.get(CachedEntity.class, key));
+		underTest.put(CachedEntity.class, key, item);
+		assertSame(item, underTest.get(CachedEntity.class, key));
+
+		nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(5));
+		assertNull(underTest.get(CachedEntity.class, key));
+
+		EntityCacheStatistics statistics = underTest.getStatistics();
+		assertEquals(1, statistics.getHitCount());
+		assertEquals(2, statistics.getMissCount());
+		assertEquals(1, statistics.getEvictionCount());
+	}
+
+	@Test
+	void testLeastRecentlyUsedIsEvictedWhenMaxWeightIsExceeded() {
+		underTest.put(CachedEntity.class, key("1"), item("1"));
+		underTest.put(CachedEntity.class, key("2"), item("2"));
+		// Access 1, so 2 is the least recently used one
+		underTest.get(CachedEntity.class, key("1"));
+		underTest.put(CachedEntity.class, key("3"), item("3"));
+
+		assertNull(underTest.get(CachedEntity.class, key("2")));
+		assertEquals(item("1"), underTest.get(CachedEntity.class, key("1")));
+		assertEquals(item("3"), underTest.get(CachedEntity.class, key("3")));
+		assertEquals(1, underTest.getStatistics().getEvictionCount());
+	}
+
+	@Test
+	void testEvict() {
+		underTest.put(CachedEntity.class, key("1"), item("1"));
+		underTest.evict(CachedEntity.class, key("1"));
+
+		assertNull(underTest.get(CachedEntity.class, key("1")));
+		assertEquals(0, underTest.getStatistics().getEvictionCount());
+	}
+
+	@Test
+	void testPutIsSkippedWhenEvictedSinceStamp() {
+		long evictionStamp = underTest.getEvictionStamp(CachedEntity.class);
+		underTest.evict(CachedEntity.class, key("1"));
+		underTest.put(CachedEntity.class, key("1"), item("1"), evictionStamp);
+
+		assertNull(underTest.get(CachedEntity.class, key("1")));
+
+		underTest.put(CachedEntity.class, key("1"), item("1"), underTest.getEvictionStamp(CachedEntity.class));
+
+		assertEquals(item("1"), underTest.get(CachedEntity.class, key("1")));
+	}
+
+	@Test
+	void testConfigureOverridesAnnotation() {
+		underTest.configure(Playlist.class, Duration.ofMinutes(1), 1);
+		underTest.put(Playlist.class, key("1"), item("1"));
+		underTest.put(Playlist.class, key("2"), item("2"));
+
+		assertTrue(underTest.isCached(Playlist.class));
+		assertNull(underTest.get(Playlist.class, key("1")));
+		assertEquals(item("2"), underTest.get(Playlist.class, key("2")));
+	}
+
+	private static EntityCacheKey key(String id) {
+		return new EntityCacheKey("table", new AttributeValue(id), null);
+	}
+
+	private static Map<String, AttributeValue> item(String id) {
+		return Collections.singletonMap("id", new AttributeValue(id));
+	}
+}
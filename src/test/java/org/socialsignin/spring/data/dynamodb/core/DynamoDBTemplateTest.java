@@ -16,34 +16,114 @@
 package org.socialsignin.spring.data.dynamodb.core;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.socialsignin.spring.data.dynamodb.domain.sample.Playlist;
 import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+import org.socialsignin.spring.data.dynamodb.marshaller.BlobStore;
+import org.socialsignin.spring.data.dynamodb.marshaller.BlobStores;
+import org.socialsignin.spring.data.dynamodb.marshaller.DynamoDBClaimCheck;
+import org.socialsignin.spring.data.dynamodb.mapping.event.AfterDeleteEvent;
+import org.socialsignin.spring.data.dynamodb.mapping.event.AfterSaveEvent;
+import org.socialsignin.spring.data.dynamodb.mapping.event.BeforeDeleteEvent;
+import org.socialsignin.spring.data.dynamodb.mapping.event.BeforeSaveEvent;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationEvent;
 
 import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper.FailedBatch;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBHashKey;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBQueryExpression;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTable;
+import com.amazonaws.services.dynamodbv2.datamodeling.KeyPair;
+import com.amazonaws.services.dynamodbv2.datamodeling.ScanResultPage;
+import com.amazonaws.services.dynamodbv2.model.AttributeDefinition;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.BatchGetItemRequest;
+import com.amazonaws.services.dynamodbv2.model.BatchGetItemResult;
+import com.amazonaws.services.dynamodbv2.model.BillingMode;
+import com.amazonaws.services.dynamodbv2.model.BillingModeSummary;
+import com.amazonaws.services.dynamodbv2.model.CreateTableRequest;
+import com.amazonaws.services.dynamodbv2.model.DeleteItemRequest;
+import com.amazonaws.services.dynamodbv2.model.DeleteItemResult;
+import com.amazonaws.services.dynamodbv2.model.DescribeTableRequest;
+import com.amazonaws.services.dynamodbv2.model.DescribeTableResult;
+import com.amazonaws.services.dynamodbv2.model.GetItemRequest;
+import com.amazonaws.services.dynamodbv2.model.GetItemResult;
+import com.amazonaws.services.dynamodbv2.model.KeySchemaElement;
+import com.amazonaws.services.dynamodbv2.model.KeyType;
+import com.amazonaws.services.dynamodbv2.model.KeysAndAttributes;
+import com.amazonaws.services.dynamodbv2.model.PutRequest;
+import com.amazonaws.services.dynamodbv2.model.ReturnValue;
+import com.amazonaws.services.dynamodbv2.model.ScalarAttributeType;
+import com.amazonaws.services.dynamodbv2.model.TableDescription;
+import com.amazonaws.services.dynamodbv2.model.TableStatus;
+import com.amazonaws.services.dynamodbv2.model.WriteRequest;
+import com.amazonaws.services.dynamodbv2.waiters.AmazonDynamoDBWaiters;
+import com.amazonaws.waiters.Waiter;
 
 @ExtendWith(MockitoExtension.class)
 class DynamoDBTemplateTest {
+	@DynamoDBTable(tableName = "document")
+	public static class Document {
+		private String id;
+		private CharSequence text;
+
+		@DynamoDBHashKey
+		public String getId() {
+			return id;
+		}
+
+		public void setId(String id) {
+			this.id = id;
+		}
+
+		@DynamoDBClaimCheck(store = "entityCacheTest", threshold = 16)
+		public CharSequence getText() {
+			return text;
+		}
+
+		public void setText(CharSequence text) {
+			this.text = text;
+		}
+	}
+
 	@Mock
 	private DynamoDBMapper dynamoDBMapper;
 	@Mock
@@ -91,6 +171,101 @@ class DynamoDBTemplateTest {
 		assertTrue(true);
 	}
 
+	@Test
+	void testLoadIsServedFromEntityCache() {
+		DefaultEntityCache entityCache = new DefaultEntityCache();
+		entityCache.configure(User.class, Duration.ofMinutes(1), 100);
+		dynamoDBTemplate.setEntityCache(entityCache);
+		when(dynamoDBMapper.getTableModel(User.class, dynamoDBMapperConfig))
+				.thenReturn(new DynamoDBMapper(dynamoDB).getTableModel(User.class));
+		when(dynamoDB.getItem(any(GetItemRequest.class))).thenReturn(new GetItemResult().withItem(
+				Map.of("Id", new AttributeValue("someHashKey"), "name", new AttributeValue("someName"))));
+
+		User loaded = dynamoDBTemplate.load(User.class, "someHashKey");
+		User cached = dynamoDBTemplate.load(User.class, "someHashKey");
+
+		// A copy is returned, so callers can't modify each others entities
+		assertNotSame(loaded, cached);
+		assertEquals("someName", cached.getName());
+		ArgumentCaptor<GetItemRequest> captor = ArgumentCaptor.forClass(GetItemRequest.class);
+		verify(dynamoDB, times(1)).getItem(captor.capture());
+		assertEquals("user", captor.getValue().getTableName());
+		assertEquals(Map.of("Id", new AttributeValue("someHashKey")), captor.getValue().getKey());
+		assertEquals(1, entityCache.getStatistics().getHitCount());
+		verify(dynamoDBMapper, never()).load(User.class, "someHashKey");
+
+		dynamoDBTemplate.save(cached);
+		dynamoDBTemplate.load(User.class, "someHashKey");
+		verify(dynamoDB, times(2)).getItem(any(GetItemRequest.class));
+	}
+
+	@Test
+	void testSaveEvictsLoadRacingTheWrite() {
+		DefaultEntityCache entityCache = new DefaultEntityCache();
+		entityCache.configure(User.class, Duration.ofMinutes(1), 100);
+		dynamoDBTemplate.setEntityCache(entityCache);
+		when(dynamoDBMapper.getTableModel(User.class, dynamoDBMapperConfig))
+				.thenReturn(new DynamoDBMapper(dynamoDB).getTableModel(User.class));
+		when(dynamoDB.getItem(any(GetItemRequest.class))).thenReturn(new GetItemResult().withItem(
+				Map.of("Id", new AttributeValue("someHashKey"), "name", new AttributeValue("oldName"))));
+		User user = new User();
+		user.setId("someHashKey");
+		user.setName("newName");
+		// A concurrent load caches the old item while the write is in flight
+		doAnswer(invocation -> dynamoDBTemplate.load(User.class, "someHashKey")).when(dynamoDBMapper).save(user);
+
+		dynamoDBTemplate.save(user);
+		dynamoDBTemplate.load(User.class, "someHashKey");
+
+		verify(dynamoDB, times(2)).getItem(any(GetItemRequest.class));
+	}
+
+	@Test
+	void testBatchLoadCachesLoadedItems() {
+		DefaultEntityCache entityCache = new DefaultEntityCache();
+		entityCache.configure(User.class, Duration.ofMinutes(1), 100);
+		dynamoDBTemplate.setEntityCache(entityCache);
+		when(dynamoDBMapper.getTableModel(User.class, dynamoDBMapperConfig))
+				.thenReturn(new DynamoDBMapper(dynamoDB).getTableModel(User.class));
+		when(dynamoDB.batchGetItem(any(BatchGetItemRequest.class))).thenReturn(new BatchGetItemResult()
+				.withResponses(Map.of("user", List.of(Map.of("Id", new AttributeValue("a"))))));
+		Map<Class<?>, List<KeyPair>> itemsToGet = Map.of(User.class,
+				Arrays.asList(new KeyPair().withHashKey("a"), new KeyPair().withHashKey("a")));
+
+		assertEquals(1, dynamoDBTemplate.batchLoad(itemsToGet).size());
+		assertEquals(2, dynamoDBTemplate.batchLoad(itemsToGet).size());
+
+		ArgumentCaptor<BatchGetItemRequest> captor = ArgumentCaptor.forClass(BatchGetItemRequest.class);
+		verify(dynamoDB, times(1)).batchGetItem(captor.capture());
+		assertEquals(1, captor.getValue().getRequestItems().get("user").getKeys().size());
+		verify(dynamoDBMapper, never()).batchLoad(any(Map.class));
+	}
+
+	@Test
+	void testLoadThroughEntityCacheDoesNotTouchClaimCheckStore() {
+		BlobStore blobStore = mock(BlobStore.class);
+		BlobStores.register("entityCacheTest", blobStore);
+		try {
+			DefaultEntityCache entityCache = new DefaultEntityCache();
+			entityCache.configure(Document.class, Duration.ofMinutes(1), 100);
+			dynamoDBTemplate.setEntityCache(entityCache);
+			when(dynamoDBMapper.getTableModel(Document.class, dynamoDBMapperConfig))
+					.thenReturn(new DynamoDBMapper(dynamoDB).getTableModel(Document.class));
+			ByteBuffer offloaded = ByteBuffer.allocate(4).put((byte) 0x11).put("key".getBytes(StandardCharsets.US_ASCII));
+			offloaded.flip();
+			when(dynamoDB.getItem(any(GetItemRequest.class))).thenReturn(new GetItemResult()
+					.withItem(Map.of("id", new AttributeValue("someId"), "text", new AttributeValue().withB(offloaded))));
+
+			dynamoDBTemplate.load(Document.class, "someId");
+			dynamoDBTemplate.load(Document.class, "someId");
+
+			assertEquals(1, entityCache.getStatistics().getHitCount());
+			verifyNoInteractions(blobStore);
+		} finally {
+			BlobStores.unregister("entityCacheTest");
+		}
+	}
+
 	@Test
 	void testDelete() {
 		User user = new User();
@@ -99,6 +274,291 @@ class DynamoDBTemplateTest {
 		verify(dynamoDBMapper).delete(user);
 	}
 
+	@Test
+	void testExistsReadsKeysOnly() {
+		when(dynamoDBMapper.getTableModel(User.class, dynamoDBMapperConfig))
+				.thenReturn(new DynamoDBMapper(dynamoDB).getTableModel(User.class));
+		when(dynamoDB.getItem(any(GetItemRequest.class)))
+				.thenReturn(new GetItemResult()
+						.withItem(Collections.singletonMap("Id", new AttributeValue("someHashKey"))))
+				.thenReturn(new GetItemResult());
+
+		assertTrue(dynamoDBTemplate.exists(User.class, "someHashKey", null));
+		assertFalse(dynamoDBTemplate.exists(User.class, "otherHashKey", null));
+
+		ArgumentCaptor<GetItemRequest> captor = ArgumentCaptor.forClass(GetItemRequest.class);
+		verify(dynamoDB, times(2)).getItem(captor.capture());
+		GetItemRequest request = captor.getAllValues().get(0);
+		assertEquals("user", request.getTableName());
+		assertEquals("#hashKey", request.getProjectionExpression());
+		assertEquals(Collections.singletonMap("#hashKey", "Id"), request.getExpressionAttributeNames());
+	}
+
+	@Test
+	void testBatchLoadKeysRetriesUnprocessedKeys() {
+		when(dynamoDBMapper.getTableModel(User.class, dynamoDBMapperConfig))
+				.thenReturn(new DynamoDBMapper(dynamoDB).getTableModel(User.class));
+		Map<String, AttributeValue> keyA = Collections.singletonMap("Id", new AttributeValue("a"));
+		Map<String, AttributeValue> keyB = Collections.singletonMap("Id", new AttributeValue("b"));
+		when(dynamoDB.batchGetItem(any(BatchGetItemRequest.class)))
+				.thenReturn(new BatchGetItemResult()
+						.withResponses(Collections.singletonMap("user", Collections.singletonList(keyA)))
+						.withUnprocessedKeys(Collections.singletonMap("user",
+								new KeysAndAttributes().withKeys(Collections.singletonList(keyB)))))
+				.thenReturn(new BatchGetItemResult()
+						.withResponses(Collections.singletonMap("user", Collections.emptyList())));
+
+		List<User> keys = dynamoDBTemplate.batchLoadKeys(User.class, Arrays.asList(new KeyPair().withHashKey("a"),
+				new KeyPair().withHashKey("b"), new KeyPair().withHashKey("a")));
+
+		assertEquals(1, keys.size());
+		assertEquals("a", keys.get(0).getId());
+		ArgumentCaptor<BatchGetItemRequest> captor = ArgumentCaptor.forClass(BatchGetItemRequest.class);
+		verify(dynamoDB, times(2)).batchGetItem(captor.capture());
+		KeysAndAttributes firstRequest = captor.getAllValues().get(0).getRequestItems().get("user");
+		assertEquals(Arrays.asList(keyA, keyB), firstRequest.getKeys());
+		assertEquals("#hashKey", firstRequest.getProjectionExpression());
+	}
+
+	@Test
+	void testDeleteByKey() {
+		when(dynamoDBMapper.getTableModel(User.class, dynamoDBMapperConfig))
+				.thenReturn(new DynamoDBMapper(dynamoDB).getTableModel(User.class));
+		when(dynamoDB.deleteItem(any(DeleteItemRequest.class)))
+				.thenReturn(new DeleteItemResult()
+						.withAttributes(Collections.singletonMap("Id", new AttributeValue("someHashKey"))))
+				.thenReturn(new DeleteItemResult());
+
+		User deleted = dynamoDBTemplate.delete(User.class, "someHashKey", null);
+		assertEquals("someHashKey", deleted.getId());
+		assertNull(dynamoDBTemplate.delete(User.class, "otherHashKey", null));
+
+		ArgumentCaptor<DeleteItemRequest> captor = ArgumentCaptor.forClass(DeleteItemRequest.class);
+		verify(dynamoDB, times(2)).deleteItem(captor.capture());
+		DeleteItemRequest request = captor.getAllValues().get(0);
+		assertEquals("user", request.getTableName());
+		assertEquals(Collections.singletonMap("Id", new AttributeValue("someHashKey")), request.getKey());
+		assertEquals(ReturnValue.ALL_OLD.toString(), request.getReturnValues());
+		verify(dynamoDBMapper, never()).load(eq(User.class), any(Object.class));
+	}
+
+	@Test
+	void testDeleteByKeyPublishesKeyPrototypeInBothEvents() {
+		when(dynamoDBMapper.getTableModel(User.class, dynamoDBMapperConfig))
+				.thenReturn(new DynamoDBMapper(dynamoDB).getTableModel(User.class));
+		Map<String, AttributeValue> oldItem = new HashMap<>();
+		oldItem.put("Id", new AttributeValue("someHashKey"));
+		oldItem.put("name", new AttributeValue("someName"));
+		when(dynamoDB.deleteItem(any(DeleteItemRequest.class))).thenReturn(new DeleteItemResult().withAttributes(oldItem));
+
+		User deleted = dynamoDBTemplate.delete(User.class, "someHashKey", null);
+
+		assertEquals("someName", deleted.getName());
+		ArgumentCaptor<ApplicationEvent> captor = ArgumentCaptor.forClass(ApplicationEvent.class);
+		verify(applicationContext, times(2)).publishEvent(captor.capture());
+		assertTrue(captor.getAllValues().get(0) instanceof BeforeDeleteEvent);
+		assertTrue(captor.getAllValues().get(1) instanceof AfterDeleteEvent);
+		assertSame(captor.getAllValues().get(0).getSource(), captor.getAllValues().get(1).getSource());
+		assertNull(((User) captor.getAllValues().get(1).getSource()).getName());
+	}
+
+	@Test
+	void testBatchDeleteByKey() {
+		when(dynamoDBMapper.getTableModel(User.class, dynamoDBMapperConfig))
+				.thenReturn(new DynamoDBMapper(dynamoDB).getTableModel(User.class));
+
+		dynamoDBTemplate.batchDelete(User.class,
+				Arrays.asList(new KeyPair().withHashKey("a"), new KeyPair().withHashKey("b")));
+
+		// Sent through the concurrent BatchWriteItem pipeline
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<Iterable<User>> captor = ArgumentCaptor.forClass(Iterable.class);
+		verify(dynamoDBMapper).batchWrite(eq(Collections.emptyList()), captor.capture(),
+				any(DynamoDBMapperConfig.class));
+		verify(dynamoDBMapper, never()).batchDelete(any(Iterable.class));
+		List<String> ids = new ArrayList<>();
+		captor.getValue().forEach(user -> ids.add(user.getId()));
+		assertEquals(Arrays.asList("a", "b"), ids);
+	}
+
+	@Test
+	void testDeleteAllScansKeysOnlyAndDeletesInChunks() {
+		when(dynamoDBMapper.getTableModel(User.class, dynamoDBMapperConfig))
+				.thenReturn(new DynamoDBMapper(dynamoDB).getTableModel(User.class));
+		List<User> keys = new ArrayList<>();
+		for (int i = 0; i < 30; i++) {
+			User user = new User();
+			user.setId(Integer.toString(i));
+			keys.add(user);
+		}
+		ScanResultPage<User> page = new ScanResultPage<>();
+		page.setResults(keys);
+		ArgumentCaptor<DynamoDBScanExpression> scanCaptor = ArgumentCaptor.forClass(DynamoDBScanExpression.class);
+		when(dynamoDBMapper.scanPage(eq(User.class), scanCaptor.capture())).thenReturn(page);
+
+		List<FailedBatch> failedBatches = dynamoDBTemplate.deleteAll(User.class, 1);
+
+		assertTrue(failedBatches.isEmpty());
+		assertEquals("#hashKey", scanCaptor.getValue().getProjectionExpression());
+		assertEquals(Collections.singletonMap("#hashKey", "Id"), scanCaptor.getValue().getExpressionAttributeNames());
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<Iterable<User>> captor = ArgumentCaptor.forClass(Iterable.class);
+		verify(dynamoDBMapper, times(2)).batchWrite(eq(Collections.emptyList()), captor.capture(),
+				any(DynamoDBMapperConfig.class));
+		List<Integer> chunkSizes = new ArrayList<>();
+		captor.getAllValues().forEach(chunk -> chunkSizes.add(((List<User>) chunk).size()));
+		Collections.sort(chunkSizes);
+		assertEquals(Arrays.asList(5, 25), chunkSizes);
+	}
+
+	@Test
+	void testParallelBatchSaveReportsUnprocessedItems() {
+		when(dynamoDBMapper.getTableModel(User.class, dynamoDBMapperConfig))
+				.thenReturn(new DynamoDBMapper(dynamoDB).getTableModel(User.class));
+		User written = new User();
+		written.setId("written");
+		User unprocessed = new User();
+		unprocessed.setId("unprocessed");
+		FailedBatch failedBatch = new FailedBatch();
+		failedBatch.setException(new Exception("Throttled"));
+		Map<String, AttributeValue> unprocessedItem = new HashMap<>();
+		unprocessedItem.put("Id", new AttributeValue("unprocessed"));
+		unprocessedItem.put("name", new AttributeValue("Jane"));
+		failedBatch.setUnprocessedItems(Collections.singletonMap("user",
+				Collections.singletonList(new WriteRequest(new PutRequest(unprocessedItem)))));
+		when(dynamoDBMapper.batchWrite(any(), eq(Collections.emptyList()), any(DynamoDBMapperConfig.class)))
+				.thenReturn(Collections.singletonList(failedBatch));
+
+		BatchWriteResult<User> result = dynamoDBTemplate.parallelBatchSave(Arrays.asList(written, unprocessed));
+
+		assertFalse(result.isComplete());
+		assertEquals(Collections.singletonList(written), result.getWritten());
+		assertEquals(1, result.getFailures().size());
+		assertSame(unprocessed, result.getFailures().get(0).getEntity());
+		assertEquals("Throttled", result.getFailures().get(0).getCause().getMessage());
+	}
+
+	@Test
+	void testParallelBatchSavePublishesEventsOnCallingThread() {
+		dynamoDBTemplate.setBatchWriteExecutor(runnable -> new Thread(runnable).start());
+		List<Thread> publishingThreads = Collections.synchronizedList(new ArrayList<>());
+		List<Class<?>> events = Collections.synchronizedList(new ArrayList<>());
+		doAnswer(invocation -> {
+			publishingThreads.add(Thread.currentThread());
+			events.add(invocation.getArgument(0).getClass());
+			return null;
+		}).when(applicationContext).publishEvent(any(ApplicationEvent.class));
+		List<User> users = new ArrayList<>();
+		for (int i = 0; i < 30; i++) {
+			users.add(new User());
+		}
+
+		BatchWriteResult<User> result = dynamoDBTemplate.parallelBatchSave(users);
+
+		assertTrue(result.isComplete());
+		assertEquals(30, Collections.frequency(events, BeforeSaveEvent.class));
+		assertEquals(30, Collections.frequency(events, AfterSaveEvent.class));
+		assertTrue(publishingThreads.stream().allMatch(thread -> thread == Thread.currentThread()));
+		verify(dynamoDBMapper, times(2)).batchWrite(anyList(), eq(Collections.emptyList()),
+				any(DynamoDBMapperConfig.class));
+	}
+
+	@Test
+	void testDeleteAllFollowsEverySegmentAndPublishesEventsOnCallingThread() {
+		when(dynamoDBMapper.getTableModel(User.class, dynamoDBMapperConfig))
+				.thenReturn(new DynamoDBMapper(dynamoDB).getTableModel(User.class));
+		dynamoDBTemplate.setBatchWriteExecutor(runnable -> new Thread(runnable).start());
+		List<Thread> publishingThreads = Collections.synchronizedList(new ArrayList<>());
+		doAnswer(invocation -> {
+			publishingThreads.add(Thread.currentThread());
+			return null;
+		}).when(applicationContext).publishEvent(any(ApplicationEvent.class));
+		when(dynamoDBMapper.scanPage(eq(User.class), any(DynamoDBScanExpression.class))).thenAnswer(invocation -> {
+			DynamoDBScanExpression scanExpression = invocation.getArgument(1);
+			ScanResultPage<User> page = new ScanResultPage<>();
+			if (scanExpression.getExclusiveStartKey() == null) {
+				page.setResults(Arrays.asList(new User(), new User()));
+				page.setLastEvaluatedKey(Collections.singletonMap("Id",
+						new AttributeValue(Integer.toString(scanExpression.getSegment()))));
+			} else {
+				page.setResults(Collections.singletonList(new User()));
+			}
+			return page;
+		});
+
+		List<FailedBatch> failedBatches = dynamoDBTemplate.deleteAll(User.class, 2);
+
+		assertTrue(failedBatches.isEmpty());
+		verify(dynamoDBMapper, times(4)).scanPage(eq(User.class), any(DynamoDBScanExpression.class));
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<Iterable<User>> captor = ArgumentCaptor.forClass(Iterable.class);
+		verify(dynamoDBMapper, times(4)).batchWrite(eq(Collections.emptyList()), captor.capture(),
+				any(DynamoDBMapperConfig.class));
+		assertEquals(6, captor.getAllValues().stream().mapToInt(chunk -> ((List<?>) chunk).size()).sum());
+		assertEquals(12, publishingThreads.size());
+		assertTrue(publishingThreads.stream().allMatch(thread -> thread == Thread.currentThread()));
+	}
+
+	@Test
+	void testBatchDeletePagesSplitsPagesIntoChunks() {
+		List<User> page1 = new ArrayList<>();
+		for (int i = 0; i < 26; i++) {
+			page1.add(new User());
+		}
+		List<User> page2 = Collections.singletonList(new User());
+
+		List<FailedBatch> failedBatches = dynamoDBTemplate.batchDeletePages(Arrays.asList(page1, page2).iterator());
+
+		assertTrue(failedBatches.isEmpty());
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<Iterable<User>> captor = ArgumentCaptor.forClass(Iterable.class);
+		verify(dynamoDBMapper, times(3)).batchWrite(eq(Collections.emptyList()), captor.capture(),
+				any(DynamoDBMapperConfig.class));
+		List<Integer> chunkSizes = new ArrayList<>();
+		captor.getAllValues().forEach(chunk -> chunkSizes.add(((List<User>) chunk).size()));
+		Collections.sort(chunkSizes);
+		assertEquals(Arrays.asList(1, 1, 25), chunkSizes);
+	}
+
+	@Test
+	void testTruncateSkipsSmallTable() {
+		when(dynamoDB.describeTable("user"))
+				.thenReturn(new DescribeTableResult().withTable(new TableDescription().withItemCount(10L)));
+
+		assertFalse(dynamoDBTemplate.truncate(User.class, 1000L));
+		verify(dynamoDB, never()).deleteTable(any(String.class));
+	}
+
+	@Test
+	void testTruncateRecreatesTable() {
+		KeySchemaElement hashKey = new KeySchemaElement("Id", KeyType.HASH);
+		AttributeDefinition hashKeyDefinition = new AttributeDefinition("Id", ScalarAttributeType.S);
+		TableDescription table = new TableDescription().withTableName("user").withItemCount(5000L)
+				.withKeySchema(hashKey).withAttributeDefinitions(hashKeyDefinition)
+				.withBillingModeSummary(new BillingModeSummary().withBillingMode(BillingMode.PAY_PER_REQUEST))
+				.withTableStatus(TableStatus.ACTIVE);
+		when(dynamoDB.describeTable("user")).thenReturn(new DescribeTableResult().withTable(table));
+		when(dynamoDB.describeTable(any(DescribeTableRequest.class)))
+				.thenReturn(new DescribeTableResult().withTable(table));
+		AmazonDynamoDBWaiters waiters = mock(AmazonDynamoDBWaiters.class);
+		@SuppressWarnings("unchecked")
+		Waiter<DescribeTableRequest> tableNotExists = mock(Waiter.class);
+		when(dynamoDB.waiters()).thenReturn(waiters);
+		when(waiters.tableNotExists()).thenReturn(tableNotExists);
+
+		assertTrue(dynamoDBTemplate.truncate(User.class, 1000L));
+
+		verify(dynamoDB).deleteTable("user");
+		verify(tableNotExists).run(any());
+		ArgumentCaptor<CreateTableRequest> captor = ArgumentCaptor.forClass(CreateTableRequest.class);
+		verify(dynamoDB).createTable(captor.capture());
+		assertEquals("user", captor.getValue().getTableName());
+		assertEquals(Collections.singletonList(hashKey), captor.getValue().getKeySchema());
+		assertEquals(Collections.singletonList(hashKeyDefinition), captor.getValue().getAttributeDefinitions());
+		assertEquals(BillingMode.PAY_PER_REQUEST.toString(), captor.getValue().getBillingMode());
+		assertNull(captor.getValue().getProvisionedThroughput());
+	}
+
 	@Test
 	void testBatchDelete_CallsCorrectDynamoDBMapperMethod() {
 		List<User> users = new ArrayList<>();
@@ -139,6 +599,50 @@ class DynamoDBTemplateTest {
 		verify(dynamoDBMapper).count(User.class, scan);
 	}
 
+	@Test
+	void testParallelCountSumsAllSegments() {
+		DynamoDBScanExpression scan = new DynamoDBScanExpression().withFilterExpression("attribute_exists(id)");
+		when(dynamoDBMapper.count(eq(User.class), any(DynamoDBScanExpression.class))).thenReturn(Integer.MAX_VALUE);
+
+		long actual = dynamoDBTemplate.parallelCount(User.class, scan, 4);
+
+		assertEquals(4L * Integer.MAX_VALUE, actual);
+		ArgumentCaptor<DynamoDBScanExpression> captor = ArgumentCaptor.forClass(DynamoDBScanExpression.class);
+		verify(dynamoDBMapper, times(4)).count(eq(User.class), captor.capture());
+		assertEquals(List.of(0, 1, 2, 3), captor.getAllValues().stream().map(DynamoDBScanExpression::getSegment)
+				.sorted().collect(Collectors.toList()));
+		captor.getAllValues().forEach(segmentScan -> {
+			assertEquals(4, segmentScan.getTotalSegments());
+			assertEquals("attribute_exists(id)", segmentScan.getFilterExpression());
+		});
+	}
+
+	@Test
+	void testParallelCountRunsSegmentsOnParallelScanExecutor() {
+		List<Runnable> tasks = new ArrayList<>();
+		dynamoDBTemplate.setParallelScanExecutor(task -> {
+			tasks.add(task);
+			task.run();
+		});
+		when(dynamoDBMapper.count(eq(User.class), any(DynamoDBScanExpression.class))).thenReturn(1);
+
+		long actual = dynamoDBTemplate.parallelCount(User.class, new DynamoDBScanExpression(), 3);
+
+		assertEquals(3L, actual);
+		assertEquals(3, tasks.size());
+	}
+
+	@Test
+	void testParallelScanDerivesSegmentsFromTableSize() {
+		DynamoDBScanExpression scan = new DynamoDBScanExpression();
+		when(dynamoDB.describeTable("user")).thenReturn(new DescribeTableResult()
+				.withTable(new TableDescription().withTableSizeBytes(5L * 1024 * 1024 * 1024)));
+
+		dynamoDBTemplate.parallelScan(User.class, scan, 0);
+
+		verify(dynamoDBMapper).parallelScan(User.class, scan, 3);
+	}
+
 	@Test
 	void testLoadByHashKey_WhenDynamoDBMapperReturnsNull() {
 		User user = dynamoDBTemplate.load(User.class, "someHashKey");
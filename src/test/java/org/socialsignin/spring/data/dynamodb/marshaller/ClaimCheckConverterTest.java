@@ -0,0 +1,126 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.marshaller;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataRetrievalFailureException;
+
+class ClaimCheckConverterTest {
+
+	static class Document {
+		@DynamoDBClaimCheck(store = "test", threshold = 16)
+		String text;
+	}
+
+	@TempDir
+	Path directory;
+
+	@BeforeEach
+	public void setUp() {
+		BlobStores.register("test", new FileSystemBlobStore(directory));
+	}
+
+	@AfterEach
+	public void tearDown() {
+		BlobStores.unregister("test");
+	}
+
+	private static DynamoDBClaimCheck annotation() throws NoSuchFieldException {
+		return Document.class.getDeclaredField("text").getAnnotation(DynamoDBClaimCheck.class);
+	}
+
+	private long countBlobs() throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.count();
+		}
+	}
+
+	@Test
+	void testConvert_WhenTextIsBelowThreshold_KeepsTextInline() throws Exception {
+		ClaimCheckConverter underTest = new ClaimCheckConverter(String.class, annotation());
+
+		ByteBuffer buffer = underTest.convert("short");
+
+		assertEquals(ClaimCheckConverter.INLINE << 4 | ClaimCheckConverter.VERSION, buffer.get(0));
+		assertEquals("short", underTest.unconvert(buffer));
+		assertEquals(0, countBlobs());
+	}
+
+	@Test
+	void testConvert_WhenTextIsAboveThreshold_OffloadsTextOnce() throws Exception {
+		ClaimCheckConverter underTest = new ClaimCheckConverter(String.class, annotation());
+		String text = "a text which exceeds the threshold ".repeat(100);
+
+		ByteBuffer buffer = underTest.convert(text);
+		underTest.convert(text);
+
+		assertEquals(ClaimCheckConverter.OFFLOADED << 4 | ClaimCheckConverter.VERSION, buffer.get(0));
+		assertTrue(buffer.remaining() < text.length());
+		assertEquals(1, countBlobs());
+		assertEquals(text, underTest.unconvert(buffer));
+	}
+
+	@Test
+	void testUnconvert_WhenPropertyIsCharSequence_FetchesOnFirstAccess() throws Exception {
+		ClaimCheckConverter underTest = new ClaimCheckConverter(CharSequence.class, annotation());
+		String text = "a text which exceeds the threshold";
+		ByteBuffer buffer = underTest.convert(text);
+
+		CharSequence result = underTest.unconvert(buffer);
+
+		LazyText lazyText = assertInstanceOf(LazyText.class, result);
+		assertFalse(lazyText.isLoaded());
+		assertEquals(text, result.toString());
+		assertTrue(lazyText.isLoaded());
+	}
+
+	@Test
+	void testUnconvert_WhenBlobIsMissing_Throws() throws Exception {
+		ClaimCheckConverter underTest = new ClaimCheckConverter(String.class, annotation());
+		ByteBuffer buffer = underTest.convert("a text which exceeds the threshold");
+		try (Stream<Path> files = Files.list(directory)) {
+			for (Path file : (Iterable<Path>) files::iterator) {
+				Files.delete(file);
+			}
+		}
+
+		assertThatThrownBy(() -> underTest.unconvert(buffer)).isInstanceOf(DataRetrievalFailureException.class);
+	}
+
+	@Test
+	void testConvert_WhenStoreIsNotRegistered_Throws() throws Exception {
+		ClaimCheckConverter underTest = new ClaimCheckConverter(String.class, annotation());
+		BlobStores.unregister("test");
+
+		assertThatThrownBy(() -> underTest.convert("a text which exceeds the threshold"))
+				.isInstanceOf(IllegalStateException.class);
+	}
+}
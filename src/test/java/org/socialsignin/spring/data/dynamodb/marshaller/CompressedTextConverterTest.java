@@ -0,0 +1,102 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.marshaller;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+class CompressedTextConverterTest {
+
+	static class Document {
+		@DynamoDBCompressed(threshold = 16)
+		String text;
+	}
+
+	private static DynamoDBCompressed annotation() throws NoSuchFieldException {
+		return Document.class.getDeclaredField("text").getAnnotation(DynamoDBCompressed.class);
+	}
+
+	private static String json(int entries) {
+		StringBuilder json = new StringBuilder("[");
+		for (int i = 0; i < entries; i++) {
+			json.append("{\"id\":").append(i).append(",\"name\":\"entry ä\"},");
+		}
+		return json.append("{}]").toString();
+	}
+
+	@Test
+	void testNullConvert() throws NoSuchFieldException {
+		CompressedTextConverter underTest = new CompressedTextConverter(String.class, annotation());
+
+		assertNull(underTest.convert(null));
+		assertNull(underTest.unconvert(null));
+	}
+
+	@Test
+	void testConvert_WhenTextIsBelowThreshold_StoresUncompressed() throws NoSuchFieldException {
+		CompressedTextConverter underTest = new CompressedTextConverter(String.class, annotation());
+
+		ByteBuffer buffer = underTest.convert("short");
+
+		assertEquals(CompressedTextConverter.CODEC_NONE << 4 | CompressedTextConverter.VERSION, buffer.get(0));
+		assertEquals(6, buffer.remaining());
+		assertEquals("short", underTest.unconvert(buffer));
+	}
+
+	@Test
+	void testConvert_WhenTextIsAboveThreshold_StoresDeflated() throws NoSuchFieldException {
+		CompressedTextConverter underTest = new CompressedTextConverter(String.class, annotation());
+		String text = json(500);
+
+		ByteBuffer buffer = underTest.convert(text);
+
+		assertEquals(CompressedTextConverter.CODEC_DEFLATE << 4 | CompressedTextConverter.VERSION, buffer.get(0));
+		assertTrue(buffer.remaining() < text.length() / 4);
+		assertEquals(text, underTest.unconvert(buffer));
+	}
+
+	@Test
+	void testUnconvert_WhenPropertyIsCharSequence_InflatesOnFirstAccess() throws NoSuchFieldException {
+		CompressedTextConverter underTest = new CompressedTextConverter(CharSequence.class, annotation());
+		String text = json(100);
+
+		CharSequence result = underTest.unconvert(underTest.convert(text));
+
+		LazyText lazyText = assertInstanceOf(LazyText.class, result);
+		assertFalse(lazyText.isLoaded());
+		assertEquals(text.length(), result.length());
+		assertTrue(lazyText.isLoaded());
+		assertEquals(text, result.toString());
+	}
+
+	@Test
+	void testUnconvertGarbage() throws NoSuchFieldException {
+		CompressedTextConverter underTest = new CompressedTextConverter(String.class, annotation());
+
+		assertThatThrownBy(() -> underTest.unconvert(ByteBuffer.wrap(new byte[]{0x11, 1, 2, 3})))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> underTest.unconvert(ByteBuffer.wrap(new byte[]{0x21, 1})))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+}
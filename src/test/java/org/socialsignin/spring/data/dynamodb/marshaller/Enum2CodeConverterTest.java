@@ -0,0 +1,76 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.marshaller;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class Enum2CodeConverterTest {
+
+	enum Status implements DynamoDBEnumCode.Coded {
+		ACTIVE("A"), SUSPENDED("S");
+
+		private final String code;
+
+		Status(String code) {
+			this.code = code;
+		}
+
+		@Override
+		public String getCode() {
+			return code;
+		}
+	}
+
+	enum Duplicate implements DynamoDBEnumCode.Coded {
+		FIRST, SECOND;
+
+		@Override
+		public String getCode() {
+			return "X";
+		}
+	}
+
+	@Test
+	void testConvert() {
+		Enum2CodeConverter<Status> underTest = new Enum2CodeConverter<>(Status.class, null);
+
+		assertEquals("S", underTest.convert(Status.SUSPENDED));
+		assertEquals(Status.ACTIVE, underTest.unconvert("A"));
+		assertThatThrownBy(() -> underTest.unconvert("Z")).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void testOrdinalConvert() {
+		Enum2OrdinalConverter<Status> underTest = new Enum2OrdinalConverter<>(Status.class, null);
+
+		assertEquals(Integer.valueOf(1), underTest.convert(Status.SUSPENDED));
+		assertEquals(Status.ACTIVE, underTest.unconvert(0));
+		assertThatThrownBy(() -> underTest.unconvert(2)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void testConstructor_WhenEnumIsNotCodedOrCodesAreNotUnique_Throws() {
+		assertThatThrownBy(() -> new Enum2CodeConverter<>(TimeUnit.class, null))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new Enum2CodeConverter<>(Duplicate.class, null))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+}
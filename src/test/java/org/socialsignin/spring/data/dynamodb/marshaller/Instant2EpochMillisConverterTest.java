@@ -0,0 +1,40 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.marshaller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+
+class Instant2EpochMillisConverterTest {
+
+	private final Instant2EpochMillisConverter underTest = new Instant2EpochMillisConverter();
+
+	@Test
+	void testNullConvert() {
+		assertNull(underTest.convert(null));
+		assertNull(underTest.unconvert(null));
+	}
+
+	@Test
+	void testConvert() {
+		assertEquals(Long.valueOf(1_234L), underTest.convert(Instant.ofEpochMilli(1_234L)));
+		assertEquals(Instant.ofEpochMilli(-1_234L), underTest.unconvert(-1_234L));
+	}
+}
@@ -0,0 +1,91 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.marshaller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.Random;
+import java.util.TimeZone;
+
+import org.junit.jupiter.api.Test;
+
+class IsoInstantCodecTest {
+
+	private static final String PATTERN = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'";
+
+	@Test
+	void testFormatAndParse_WhenInstantIsSupported_MatchesFormatters() throws ParseException {
+		DateTimeFormatter instantFormat = DateTimeFormatter.ofPattern(PATTERN).withZone(ZoneOffset.UTC);
+		SimpleDateFormat dateFormat = new SimpleDateFormat(PATTERN);
+		dateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
+
+		Random random = new Random(42);
+		long min = Instant.parse("1583-01-01T00:00:00Z").toEpochMilli();
+		long max = Instant.parse("9999-12-31T23:59:59.999Z").toEpochMilli();
+		long[] epochMillis = new long[1_002];
+		epochMillis[0] = min;
+		epochMillis[1] = max;
+		for (int i = 2; i < epochMillis.length; i++) {
+			epochMillis[i] = min + (long) (random.nextDouble() * (max - min));
+		}
+
+		for (long epochMilli : epochMillis) {
+			assertTrue(IsoInstantCodec.isSupported(epochMilli));
+			String expected = instantFormat.format(Instant.ofEpochMilli(epochMilli));
+			assertEquals(expected, dateFormat.format(new Date(epochMilli)));
+
+			assertEquals(expected, IsoInstantCodec.format(epochMilli));
+			assertEquals(epochMilli, IsoInstantCodec.parse(expected));
+		}
+	}
+
+	@Test
+	void testIsSupported_WhenOutsideOfFixedWidthYears_ReturnsFalse() {
+		assertFalse(IsoInstantCodec.isSupported(Instant.parse("1582-12-31T23:59:59.999Z").toEpochMilli()));
+		assertFalse(IsoInstantCodec.isSupported(Instant.parse("+10000-01-01T00:00:00Z").toEpochMilli()));
+		assertFalse(IsoInstantCodec.isSupported(Instant.MAX));
+		assertTrue(IsoInstantCodec.isSupported(Instant.EPOCH));
+	}
+
+	@Test
+	void testParse_WhenTextIsNotAValidFixedWidthInstant_ReturnsUnparseable() {
+		assertEquals(IsoInstantCodec.UNPARSEABLE, IsoInstantCodec.parse("something"));
+		assertEquals(IsoInstantCodec.UNPARSEABLE, IsoInstantCodec.parse("2013-02-29T00:00:00.000Z"));
+		assertEquals(IsoInstantCodec.UNPARSEABLE, IsoInstantCodec.parse("2013-13-01T00:00:00.000Z"));
+		assertEquals(IsoInstantCodec.UNPARSEABLE, IsoInstantCodec.parse("2013-01-01T24:00:00.000Z"));
+		assertEquals(IsoInstantCodec.UNPARSEABLE, IsoInstantCodec.parse("2013-01-01T00:00:00.0a0Z"));
+		assertEquals(IsoInstantCodec.UNPARSEABLE, IsoInstantCodec.parse("1500-01-01T00:00:00.000Z"));
+		assertEquals(IsoInstantCodec.UNPARSEABLE, IsoInstantCodec.parse("2013-01-01T00:00:00.000Zx"));
+	}
+
+	@Test
+	void testDate2IsoUnmarshall_WhenDateIsOutOfRange_FallsBackToLenientDateFormat() {
+		Date2IsoDynamoDBMarshaller marshaller = new Date2IsoDynamoDBMarshaller();
+
+		assertEquals(Instant.parse("2013-03-01T00:00:00Z"),
+				marshaller.unmarshall(Date.class, "2013-02-29T00:00:00.000Z").toInstant());
+		Date julian = marshaller.unmarshall(Date.class, "1500-01-01T00:00:00.000Z");
+		assertEquals("1500-01-01T00:00:00.000Z", marshaller.marshall(julian));
+	}
+}
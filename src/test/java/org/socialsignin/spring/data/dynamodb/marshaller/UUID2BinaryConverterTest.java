@@ -0,0 +1,60 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.marshaller;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class UUID2BinaryConverterTest {
+
+	private UUID2BinaryConverter underTest;
+
+	@BeforeEach
+	public void setUp() {
+		underTest = new UUID2BinaryConverter();
+	}
+
+	@Test
+	void testNullConvert() {
+		assertNull(underTest.convert(null));
+		assertNull(underTest.unconvert(null));
+	}
+
+	@Test
+	void testConvert() {
+		UUID uuid = UUID.fromString("00112233-4455-6677-8899-aabbccddeeff");
+		ByteBuffer buffer = underTest.convert(uuid);
+
+		assertEquals(16, buffer.remaining());
+		assertEquals(0x0011223344556677L, buffer.getLong(0));
+		assertEquals(uuid, underTest.unconvert(buffer));
+		// Unconverting does not consume the buffer
+		assertEquals(uuid, underTest.unconvert(buffer));
+	}
+
+	@Test
+	void testUnconvertGarbage() {
+		assertThatThrownBy(() -> underTest.unconvert(ByteBuffer.wrap(new byte[3])))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+}
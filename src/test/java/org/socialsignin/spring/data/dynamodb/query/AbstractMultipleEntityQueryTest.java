@@ -16,11 +16,19 @@
 package org.socialsignin.spring.data.dynamodb.query;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -29,12 +37,23 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
 import org.socialsignin.spring.data.dynamodb.domain.sample.User;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
 
 @ExtendWith(MockitoExtension.class)
 class AbstractMultipleEntityQueryTest {
 
 	private static class TestAbstractMultipleEntityQuery extends AbstractMultipleEntityQuery<User> {
 		private final List<User> resultList;
+		private final Map<Map<String, AttributeValue>, ResultPage<User>> pages = new HashMap<>();
+		private final List<Integer> limits = new ArrayList<>();
+		private boolean filtered;
+		private String indexName;
 
 		public TestAbstractMultipleEntityQuery(DynamoDBOperations dynamoDBOperations, User... resultEntities) {
 			super(dynamoDBOperations, User.class);
@@ -45,12 +64,35 @@ class AbstractMultipleEntityQueryTest {
 		public List<User> getResultList() {
 			return resultList;
 		}
+
+		@Override
+		protected ResultPage<User> getResultPage(Map<String, AttributeValue> exclusiveStartKey, Integer limit) {
+			limits.add(limit);
+			return pages.get(exclusiveStartKey);
+		}
+
+		@Override
+		protected ResultPage<User> getKeyPage(Map<String, AttributeValue> exclusiveStartKey) {
+			return pages.get(exclusiveStartKey);
+		}
+
+		@Override
+		protected boolean isFiltered() {
+			return filtered;
+		}
+
+		@Override
+		protected String getIndexName() {
+			return indexName;
+		}
 	}
 
 	@Mock
 	private DynamoDBOperations dynamoDBOperations;
 	@Mock
 	private User entity;
+	@Mock
+	private AmazonDynamoDB amazonDynamoDB;
 
 	private AbstractMultipleEntityQuery<User> underTest;
 
@@ -68,6 +110,92 @@ class AbstractMultipleEntityQueryTest {
 		assertSame(entity, underTest.getSingleResult());
 	}
 
+	@Test
+	void testResultWindowFillsLimitFromMultiplePages() {
+		User user1 = new User();
+		User user2 = new User();
+		User user3 = new User();
+		Map<String, AttributeValue> key1 = Collections.singletonMap("Id", new AttributeValue("1"));
+		Map<String, AttributeValue> key3 = Collections.singletonMap("Id", new AttributeValue("3"));
+		TestAbstractMultipleEntityQuery query = new TestAbstractMultipleEntityQuery(dynamoDBOperations);
+		query.pages.put(null, new AbstractMultipleEntityQuery.ResultPage<>(Arrays.asList(user1), key1));
+		query.pages.put(key1, new AbstractMultipleEntityQuery.ResultPage<>(Arrays.asList(user2, user3), key3));
+		query.pages.put(key3, new AbstractMultipleEntityQuery.ResultPage<>(Collections.emptyList(), null));
+
+		Window<User> actual = query.getResultWindow(ScrollPosition.keyset(), 3);
+
+		assertEquals(Arrays.asList(user1, user2, user3), actual.getContent());
+		assertTrue(actual.hasNext());
+		assertEquals(ScrollPosition.forward(key3), actual.positionAt(2));
+		// Never evaluates more items than missing to fill the window
+		assertEquals(Arrays.asList(3, 2), query.limits);
+
+		Window<User> next = query.getResultWindow(actual.positionAt(2), 3);
+		assertTrue(next.isEmpty());
+		assertFalse(next.hasNext());
+	}
+
+	@Test
+	void testFilteredIndexResultWindowContinuesAfterLastResult() {
+		when(dynamoDBOperations.getTableModel(User.class))
+				.thenReturn(new DynamoDBMapper(amazonDynamoDB).getTableModel(User.class));
+		User user1 = new User();
+		user1.setId("1");
+		user1.setPostCode("A");
+		user1.setNumberOfPlaylists(1);
+		User user2 = new User();
+		user2.setId("2");
+		user2.setPostCode("A");
+		user2.setNumberOfPlaylists(2);
+		User user3 = new User();
+		user3.setId("3");
+		user3.setPostCode("A");
+		user3.setNumberOfPlaylists(3);
+		TestAbstractMultipleEntityQuery query = new TestAbstractMultipleEntityQuery(dynamoDBOperations);
+		query.filtered = true;
+		query.indexName = "idx_postCode_numberOfPlaylist";
+		query.pages.put(null, new AbstractMultipleEntityQuery.ResultPage<>(Arrays.asList(user1, user2, user3),
+				Collections.singletonMap("Id", new AttributeValue("9"))));
+
+		Window<User> actual = query.getResultWindow(ScrollPosition.keyset(), 2);
+
+		assertEquals(Arrays.asList(user1, user2), actual.getContent());
+		assertTrue(actual.hasNext());
+		// DynamoDB applies the Limit before the filter, so it is not pushed down
+		assertEquals(Collections.singletonList(null), query.limits);
+		Map<String, AttributeValue> key2 = new HashMap<>();
+		key2.put("Id", new AttributeValue("2"));
+		key2.put("postCode", new AttributeValue("A"));
+		key2.put("numberOfPlaylists", new AttributeValue().withN("2"));
+		assertEquals(ScrollPosition.forward(key2), actual.positionAt(1));
+		assertEquals(3, ((KeysetScrollPosition) actual.positionAt(0)).getKeys().size());
+	}
+
+	@Test
+	void testKeyPagesFollowLastEvaluatedKey() {
+		User user1 = new User();
+		User user2 = new User();
+		Map<String, AttributeValue> key1 = Collections.singletonMap("Id", new AttributeValue("1"));
+		TestAbstractMultipleEntityQuery query = new TestAbstractMultipleEntityQuery(dynamoDBOperations);
+		query.pages.put(null, new AbstractMultipleEntityQuery.ResultPage<>(Arrays.asList(user1), key1));
+		query.pages.put(key1, new AbstractMultipleEntityQuery.ResultPage<>(Arrays.asList(user2), null));
+
+		List<List<User>> actual = new ArrayList<>();
+		query.getKeyPages().forEachRemaining(actual::add);
+
+		assertEquals(Arrays.asList(Arrays.asList(user1), Arrays.asList(user2)), actual);
+	}
+
+	@Test
+	void testResultWindowRequiresKeysetPosition() {
+		underTest = new TestAbstractMultipleEntityQuery(dynamoDBOperations);
+
+		assertThatThrownBy(() -> underTest.getResultWindow(ScrollPosition.offset(10), 3))
+				.isInstanceOf(UnsupportedOperationException.class);
+		assertThatThrownBy(() -> underTest.getResultWindow(ScrollPosition.forward(Collections.singletonMap("Id", "1")), 3))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
 	@Test
 	void testMultiResult() {
 		underTest = new TestAbstractMultipleEntityQuery(dynamoDBOperations, entity, entity);
@@ -33,8 +33,6 @@ class CountByHashAndRangeKeyQueryTest {
 	private static final Class<User> DOMAIN_CLASS = User.class;
 	@Mock
 	private DynamoDBOperations dynamoDBOperations;
-	@Mock
-	private User sampleEntity;
 	private Object hashKey;
 	private Object rangeKey;
 	private CountByHashAndRangeKeyQuery<User> underTest;
@@ -48,7 +46,7 @@ class CountByHashAndRangeKeyQueryTest {
 
 	@Test
 	void testGetSingleResultExists() {
-		when(dynamoDBOperations.load(DOMAIN_CLASS, hashKey, rangeKey)).thenReturn(sampleEntity);
+		when(dynamoDBOperations.exists(DOMAIN_CLASS, hashKey, rangeKey)).thenReturn(true);
 		Long actual = underTest.getSingleResult();
 
 		assertEquals(Long.valueOf(1), actual);
@@ -56,7 +54,7 @@ class CountByHashAndRangeKeyQueryTest {
 
 	@Test
 	void testGetSingleResultDoesntExist() {
-		when(dynamoDBOperations.load(DOMAIN_CLASS, hashKey, rangeKey)).thenReturn(null);
+		when(dynamoDBOperations.exists(DOMAIN_CLASS, hashKey, rangeKey)).thenReturn(false);
 		Long actual = underTest.getSingleResult();
 
 		assertEquals(Long.valueOf(0), actual);
@@ -0,0 +1,124 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.socialsignin.spring.data.dynamodb.domain.sample.Playlist;
+import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBQueryExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.ComparisonOperator;
+import com.amazonaws.services.dynamodbv2.model.Condition;
+import com.amazonaws.services.dynamodbv2.model.ConditionalOperator;
+import com.amazonaws.services.dynamodbv2.model.QueryRequest;
+import com.amazonaws.services.dynamodbv2.model.Select;
+
+class KeysOnlyExpressionsTest {
+
+	private final DynamoDBMapper dynamoDBMapper = new DynamoDBMapper(Mockito.mock(AmazonDynamoDB.class));
+
+	@Test
+	void testQueryExpression() {
+		DynamoDBMapperTableModel<Playlist> tableModel = dynamoDBMapper.getTableModel(Playlist.class);
+		Playlist hashKeyValues = new Playlist();
+		hashKeyValues.setUserName("michael");
+		DynamoDBQueryExpression<Playlist> queryExpression = new DynamoDBQueryExpression<Playlist>()
+				.withHashKeyValues(hashKeyValues).withConsistentRead(false)
+				.withRangeKeyCondition("PlaylistName", new Condition()
+						.withComparisonOperator(ComparisonOperator.BEGINS_WITH).withAttributeValueList(new AttributeValue("a")));
+
+		DynamoDBQueryExpression<Playlist> actual = KeysOnlyExpressions.keysOnly(queryExpression, tableModel);
+
+		assertNull(actual.getHashKeyValues());
+		assertNull(actual.getRangeKeyConditions());
+		assertEquals(false, actual.isConsistentRead());
+		assertEquals("(#keysOnly0 = :keysOnly1) AND (begins_with(#keysOnly2, :keysOnly3))",
+				actual.getKeyConditionExpression());
+		assertNull(actual.getFilterExpression());
+		assertEquals("#keysOnly4, #keysOnly5", actual.getProjectionExpression());
+		assertEquals(Select.SPECIFIC_ATTRIBUTES.toString(), actual.getSelect());
+		Map<String, String> names = new HashMap<>();
+		names.put("#keysOnly0", "UserName");
+		names.put("#keysOnly2", "PlaylistName");
+		names.put("#keysOnly4", "UserName");
+		names.put("#keysOnly5", "PlaylistName");
+		assertEquals(names, actual.getExpressionAttributeNames());
+		assertEquals("michael", actual.getExpressionAttributeValues().get(":keysOnly1").getS());
+		assertEquals("a", actual.getExpressionAttributeValues().get(":keysOnly3").getS());
+	}
+
+	@Test
+	void testScanExpressionKeepsFilterExpression() {
+		DynamoDBScanExpression scanExpression = new DynamoDBScanExpression().withFilterExpression("#n = :n")
+				.withExpressionAttributeNames(Collections.singletonMap("#n", "Name"))
+				.withExpressionAttributeValues(Collections.singletonMap(":n", new AttributeValue("x")))
+				.withSegment(1).withTotalSegments(4);
+
+		DynamoDBScanExpression actual = KeysOnlyExpressions.keysOnly(scanExpression,
+				dynamoDBMapper.getTableModel(User.class));
+
+		assertEquals("#n = :n", actual.getFilterExpression());
+		assertEquals("#keysOnly0", actual.getProjectionExpression());
+		assertEquals("Name", actual.getExpressionAttributeNames().get("#n"));
+		assertEquals("Id", actual.getExpressionAttributeNames().get("#keysOnly0"));
+		assertEquals("x", actual.getExpressionAttributeValues().get(":n").getS());
+		assertEquals(Integer.valueOf(1), actual.getSegment());
+		assertEquals(Integer.valueOf(4), actual.getTotalSegments());
+		// The original expression is left as it was
+		assertEquals(1, scanExpression.getExpressionAttributeNames().size());
+	}
+
+	@Test
+	void testQueryRequest() {
+		Map<String, Condition> queryFilter = new LinkedHashMap<>();
+		queryFilter.put("numberOfPlaylists", new Condition().withComparisonOperator(ComparisonOperator.BETWEEN)
+				.withAttributeValueList(new AttributeValue().withN("1"), new AttributeValue().withN("5")));
+		queryFilter.put("name", new Condition().withComparisonOperator(ComparisonOperator.NULL));
+		QueryRequest queryRequest = new QueryRequest().withTableName("user").withIndexName("idx")
+				.withSelect(Select.ALL_PROJECTED_ATTRIBUTES).withConditionalOperator(ConditionalOperator.OR)
+				.addKeyConditionsEntry("postCode", new Condition().withComparisonOperator(ComparisonOperator.EQ)
+						.withAttributeValueList(new AttributeValue("1234")))
+				.withQueryFilter(queryFilter);
+
+		QueryRequest actual = KeysOnlyExpressions.keysOnly(queryRequest, dynamoDBMapper.getTableModel(User.class));
+
+		assertEquals("user", actual.getTableName());
+		assertEquals("idx", actual.getIndexName());
+		assertNull(actual.getKeyConditions());
+		assertNull(actual.getQueryFilter());
+		assertNull(actual.getConditionalOperator());
+		assertEquals("#keysOnly0 = :keysOnly1", actual.getKeyConditionExpression());
+		assertEquals("(#keysOnly2 BETWEEN :keysOnly3 AND :keysOnly4 OR attribute_not_exists(#keysOnly5))",
+				actual.getFilterExpression());
+		assertEquals("#keysOnly6", actual.getProjectionExpression());
+		assertEquals(Select.SPECIFIC_ATTRIBUTES.toString(), actual.getSelect());
+	}
+
+}
@@ -16,7 +16,11 @@
 package org.socialsignin.spring.data.dynamodb.query;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -69,4 +73,14 @@ class ScanExpressionCountQueryTest {
 
 		assertThatThrownBy(() -> underTest.assertScanCountEnabled(false)).isInstanceOf(IllegalArgumentException.class);
 	}
+
+	@Test
+	void testParallelCount() {
+		underTest = new ScanExpressionCountQuery<>(dynamoDBOperations, User.class, scanExpression, false);
+		underTest.setScanCountEnabled(true);
+		underTest.setParallelScanSegments(Optional.of(4));
+		when(dynamoDBOperations.parallelCount(User.class, scanExpression, 4)).thenReturn(3_000_000_000L);
+
+		assertEquals(3_000_000_000L, underTest.getSingleResult());
+	}
 }
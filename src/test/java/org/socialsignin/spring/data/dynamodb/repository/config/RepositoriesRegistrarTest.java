@@ -0,0 +1,83 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+import org.socialsignin.spring.data.dynamodb.repository.ReactiveDynamoDBCrudRepository;
+import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBRepositoryFactoryBean;
+import org.socialsignin.spring.data.dynamodb.repository.support.ReactiveDynamoDBRepositoryFactoryBean;
+import org.springframework.beans.PropertyValue;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.RuntimeBeanReference;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.config.RepositoryBeanDefinitionRegistrarSupport;
+
+class RepositoriesRegistrarTest {
+
+	public interface UserRepository extends CrudRepository<User, String> {
+	}
+
+	public interface ReactiveUserRepository extends ReactiveDynamoDBCrudRepository<User, String> {
+	}
+
+	@EnableDynamoDBRepositories(basePackageClasses = RepositoriesRegistrarTest.class, considerNestedRepositories = true,
+			asyncQueryExecutorRef = "queryExecutor")
+	@EnableReactiveDynamoDBRepositories(basePackageClasses = RepositoriesRegistrarTest.class,
+			considerNestedRepositories = true)
+	static class TestAppConfig {
+	}
+
+	@Test
+	void testBlockingAndReactiveRepositoriesAreRegisteredTogether() {
+		DefaultListableBeanFactory registry = new DefaultListableBeanFactory();
+
+		registerBeanDefinitions(new DynamoDBRepositoriesRegistrar(), registry);
+		registerBeanDefinitions(new ReactiveDynamoDBRepositoriesRegistrar(), registry);
+
+		Map<String, BeanDefinition> repositories = new HashMap<>();
+		for (String beanName : registry.getBeanDefinitionNames()) {
+			BeanDefinition beanDefinition = registry.getBeanDefinition(beanName);
+			if (beanDefinition.getBeanClassName() != null
+					&& beanDefinition.getBeanClassName().endsWith("RepositoryFactoryBean")) {
+				repositories.put(beanDefinition.getBeanClassName(), beanDefinition);
+			}
+		}
+		assertEquals(2, repositories.size());
+		PropertyValue asyncQueryExecutor = repositories.get(DynamoDBRepositoryFactoryBean.class.getName())
+				.getPropertyValues().getPropertyValue("asyncQueryExecutor");
+		assertEquals("queryExecutor", ((RuntimeBeanReference) asyncQueryExecutor.getValue()).getBeanName());
+		assertNull(repositories.get(ReactiveDynamoDBRepositoryFactoryBean.class.getName()).getPropertyValues()
+				.getPropertyValue("asyncQueryExecutor"));
+	}
+
+	private static void registerBeanDefinitions(RepositoryBeanDefinitionRegistrarSupport registrar,
+			DefaultListableBeanFactory registry) {
+		registrar.setResourceLoader(new DefaultResourceLoader());
+		registrar.setEnvironment(new StandardEnvironment());
+		registrar.registerBeanDefinitions(AnnotationMetadata.introspect(TestAppConfig.class), registry);
+	}
+}
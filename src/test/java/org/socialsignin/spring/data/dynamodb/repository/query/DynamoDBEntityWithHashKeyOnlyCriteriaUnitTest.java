@@ -15,10 +15,16 @@
  */
 package org.socialsignin.spring.data.dynamodb.repository.query;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.Instant;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.List;
+import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -27,8 +33,12 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+import org.socialsignin.spring.data.dynamodb.marshaller.Instant2EpochMillisConverter;
+import org.socialsignin.spring.data.dynamodb.marshaller.UUID2BinaryConverter;
 import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBEntityInformation;
 
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+
 @ExtendWith(MockitoExtension.class)
 class DynamoDBEntityWithHashKeyOnlyCriteriaUnitTest
 		extends
@@ -173,4 +183,31 @@ class DynamoDBEntityWithHashKeyOnlyCriteriaUnitTest
 		assertFalse(hasIndexRangeKeyCondition);
 	}
 
+	@Test
+	void testWithPropertyIn_WhenPropertyIsConvertedToBinary_CreatesBinaryAttributeValues() {
+		Mockito.doReturn(new UUID2BinaryConverter()).when(entityInformation).getTypeConverterForProperty("name");
+		UUID first = UUID.randomUUID();
+		UUID second = UUID.randomUUID();
+
+		criteria.withPropertyIn("name", Arrays.asList(first, second), UUID.class);
+
+		List<AttributeValue> attributeValues = criteria.propertyConditions.getFirst("name").getAttributeValueList();
+		assertEquals(2, attributeValues.size());
+		assertEquals(first, new UUID2BinaryConverter().unconvert(attributeValues.get(0).getB()));
+		assertEquals(second, new UUID2BinaryConverter().unconvert(attributeValues.get(1).getB()));
+	}
+
+	@Test
+	void testWithPropertyEquals_WhenPropertyIsConvertedToNumber_CreatesNumberAttributeValue() {
+		Mockito.doReturn(new Instant2EpochMillisConverter()).when(entityInformation)
+				.getTypeConverterForProperty("joinDate");
+
+		criteria.withPropertyEquals("joinDate", Instant.ofEpochMilli(1_234L), Instant.class);
+
+		AttributeValue attributeValue = criteria.propertyConditions.getFirst("joinDate").getAttributeValueList()
+				.get(0);
+		assertEquals("1234", attributeValue.getN());
+		assertNull(attributeValue.getS());
+	}
+
 }
@@ -0,0 +1,174 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+import org.socialsignin.spring.data.dynamodb.query.Query;
+import org.socialsignin.spring.data.dynamodb.repository.EnableConcurrentPageCount;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+
+@ExtendWith(MockitoExtension.class)
+class PageCountCacheTest {
+
+	public interface UserRepository extends CrudRepository<User, String> {
+		Page<User> findByName(String name, Pageable pageable);
+
+		@EnableConcurrentPageCount(ttl = 1, unit = TimeUnit.MINUTES)
+		Page<User> findByPostCode(String postCode, Pageable pageable);
+	}
+
+	@Mock
+	private DynamoDBOperations dynamoDBOperations;
+	@Mock
+	private Query<User> query;
+	@Mock
+	private Query<Long> countQuery;
+
+	private final AtomicLong nanoClock = new AtomicLong();
+
+	private static List<User> users(int count) {
+		return IntStream.range(0, count).mapToObj(i -> {
+			User user = new User();
+			user.setId(String.valueOf(i));
+			return user;
+		}).collect(Collectors.toList());
+	}
+
+	private AbstractDynamoDBQuery<User, String> createQuery(String methodName) throws NoSuchMethodException {
+		DynamoDBQueryMethod<User, String> method = new DynamoDBQueryMethod<>(
+				UserRepository.class.getMethod(methodName, String.class, Pageable.class),
+				new DefaultRepositoryMetadata(UserRepository.class), new SpelAwareProxyProjectionFactory());
+		return new AbstractDynamoDBQuery<User, String>(dynamoDBOperations, method, Runnable::run) {
+
+			@Override
+			protected Query<User> doCreateQuery(Object[] values) {
+				return query;
+			}
+
+			@Override
+			protected Query<Long> doCreateCountQuery(Object[] values, boolean pageQuery) {
+				return countQuery;
+			}
+
+			@Override
+			protected boolean isCountQuery() {
+				return false;
+			}
+
+			@Override
+			protected boolean isExistsQuery() {
+				return false;
+			}
+
+			@Override
+			protected boolean isDeleteQuery() {
+				return false;
+			}
+
+			@Override
+			protected Integer getResultsRestrictionIfApplicable() {
+				return null;
+			}
+
+			@Override
+			protected boolean isSingleEntityResultsRestriction() {
+				return false;
+			}
+		};
+	}
+
+	@Test
+	void testCountsExpire() {
+		PageCountCache underTest = new PageCountCache(10, Duration.ofSeconds(1), nanoClock::get);
+		List<Object> arguments = Arrays.asList("name", null);
+		underTest.put(arguments, 42);
+
+		assertEquals(42L, underTest.get(arguments));
+		assertNull(underTest.get(Arrays.asList("other", null)));
+
+		nanoClock.addAndGet(Duration.ofSeconds(1).toNanos());
+
+		assertNull(underTest.get(arguments));
+		assertEquals(0, underTest.size());
+	}
+
+	@Test
+	void testLeastRecentlyUsedArgumentsAreEvictedFirst() {
+		PageCountCache underTest = new PageCountCache(2, Duration.ofMinutes(1), nanoClock::get);
+		List<Object> first = Arrays.asList("first", null);
+		List<Object> second = Arrays.asList("second", null);
+		List<Object> third = Arrays.asList("third", null);
+		underTest.put(first, 1);
+		underTest.put(second, 2);
+		underTest.get(first);
+
+		underTest.put(third, 3);
+
+		assertEquals(2, underTest.size());
+		assertNull(underTest.get(second));
+		assertEquals(1L, underTest.get(first));
+	}
+
+	@Test
+	void testTotalOfLastPageIsNotCounted() throws NoSuchMethodException {
+		when(query.getResultList()).thenReturn(users(15));
+
+		Page<?> page = (Page<?>) createQuery("findByName").execute(new Object[]{"name", PageRequest.of(1, 10)});
+
+		assertEquals(5, page.getNumberOfElements());
+		assertEquals(15, page.getTotalElements());
+		verifyNoInteractions(countQuery);
+	}
+
+	@Test
+	void testConcurrentCountIsCachedPerArguments() throws NoSuchMethodException {
+		when(query.getResultList()).thenReturn(users(25));
+		when(countQuery.getSingleResult()).thenReturn(25L);
+		AbstractDynamoDBQuery<User, String> underTest = createQuery("findByPostCode");
+
+		Page<?> first = (Page<?>) underTest.execute(new Object[]{"postCode", PageRequest.of(0, 10)});
+		Page<?> second = (Page<?>) underTest.execute(new Object[]{"postCode", PageRequest.of(1, 10)});
+
+		assertEquals(25, first.getTotalElements());
+		assertEquals(25, second.getTotalElements());
+		verify(countQuery, times(1)).getSingleResult();
+	}
+}
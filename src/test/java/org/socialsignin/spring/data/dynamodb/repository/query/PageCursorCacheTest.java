@@ -0,0 +1,211 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+import org.socialsignin.spring.data.dynamodb.query.Query;
+import org.socialsignin.spring.data.dynamodb.repository.EnablePageCursorCache;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+
+@ExtendWith(MockitoExtension.class)
+class PageCursorCacheTest {
+
+	@EnablePageCursorCache
+	public interface UserRepository extends CrudRepository<User, String> {
+		Page<User> findByName(String name, Pageable pageable);
+	}
+
+	@Mock
+	private DynamoDBOperations dynamoDBOperations;
+	@Mock
+	private Query<User> query;
+	@Mock
+	private Query<Long> countQuery;
+
+	private final AtomicLong nanoClock = new AtomicLong();
+
+	private static ScrollPosition position(long offset) {
+		return ScrollPosition.forward(Collections.singletonMap("offset", offset));
+	}
+
+	@Test
+	void testClosestBoundary() {
+		PageCursorCache underTest = new PageCursorCache(10, Duration.ofMinutes(1), nanoClock::get);
+		List<Object> arguments = Arrays.asList("name", null);
+		underTest.put(arguments, 10, position(10));
+		underTest.put(arguments, 30, position(30));
+
+		assertNull(underTest.getClosestBoundary(arguments, 5));
+		assertEquals(10L, underTest.getClosestBoundary(arguments, 10).getKey());
+		assertEquals(position(30), underTest.getClosestBoundary(arguments, 50).getValue());
+		assertNull(underTest.getClosestBoundary(Arrays.asList("other", null), 50));
+	}
+
+	@Test
+	void testBoundariesExpire() {
+		PageCursorCache underTest = new PageCursorCache(10, Duration.ofSeconds(1), nanoClock::get);
+		List<Object> arguments = Arrays.asList("name", null);
+		underTest.put(arguments, 10, position(10));
+
+		nanoClock.addAndGet(Duration.ofSeconds(1).toNanos());
+
+		assertNull(underTest.getClosestBoundary(arguments, 10));
+		assertEquals(0, underTest.size());
+	}
+
+	@Test
+	void testLeastRecentlyUsedArgumentsAreEvictedFirst() {
+		PageCursorCache underTest = new PageCursorCache(2, Duration.ofMinutes(1), nanoClock::get);
+		List<Object> first = Arrays.asList("first", null);
+		List<Object> second = Arrays.asList("second", null);
+		underTest.put(first, 10, position(10));
+		underTest.put(second, 10, position(10));
+		underTest.getClosestBoundary(first, 10);
+
+		underTest.put(first, 20, position(20));
+
+		assertEquals(2, underTest.size());
+		assertNull(underTest.getClosestBoundary(second, 10));
+		assertEquals(10L, underTest.getClosestBoundary(first, 15).getKey());
+	}
+
+	@Test
+	void testPagedExecutionContinuesAtClosestBoundary() throws NoSuchMethodException {
+		List<User> items = createItems();
+		List<String> requests = stubResultWindows(items);
+		AbstractDynamoDBQuery<User, String> underTest = createQuery();
+
+		Page<?> page5 = (Page<?>) underTest.execute(new Object[]{"name", PageRequest.of(5, 10)});
+		Page<?> page6 = (Page<?>) underTest.execute(new Object[]{"name", PageRequest.of(6, 10)});
+		Page<?> page3 = (Page<?>) underTest.execute(new Object[]{"name", PageRequest.of(3, 10)});
+
+		assertEquals(items.subList(50, 60), page5.getContent());
+		assertEquals(items.subList(60, 70), page6.getContent());
+		assertEquals(items.subList(30, 40), page3.getContent());
+		assertEquals(100, page6.getTotalElements());
+		assertEquals(Arrays.asList("0+50", "50+10", "60+10", "0+30", "30+10"), requests);
+	}
+
+	@Test
+	void testPagedExecutionDoesNotContinueAtBoundaryOfOtherSort() throws NoSuchMethodException {
+		List<User> items = createItems();
+		List<String> requests = stubResultWindows(items);
+		AbstractDynamoDBQuery<User, String> underTest = createQuery();
+
+		underTest.execute(new Object[]{"name", PageRequest.of(5, 10, Sort.by("name").ascending())});
+		underTest.execute(new Object[]{"name", PageRequest.of(6, 10, Sort.by("name").descending())});
+		underTest.execute(new Object[]{"name", PageRequest.of(6, 10, Sort.by("name").ascending())});
+
+		assertEquals(Arrays.asList("0+50", "50+10", "0+60", "60+10", "60+10"), requests);
+	}
+
+	private static List<User> createItems() {
+		return IntStream.range(0, 100).mapToObj(i -> {
+			User user = new User();
+			user.setId(String.valueOf(i));
+			return user;
+		}).collect(Collectors.toList());
+	}
+
+	private List<String> stubResultWindows(List<User> items) {
+		List<String> requests = new ArrayList<>();
+		when(query.getResultWindow(any(), anyInt())).thenAnswer(invocation -> {
+			KeysetScrollPosition scrollPosition = invocation.getArgument(0);
+			int limit = invocation.getArgument(1);
+			Map<String, Object> keys = scrollPosition.getKeys();
+			int start = scrollPosition.isInitial() ? 0 : ((Long) keys.get("offset")).intValue();
+			int end = Math.min(start + limit, items.size());
+			requests.add(start + "+" + limit);
+			return Window.from(items.subList(start, end), index -> position(start + index + 1L), end < items.size());
+		});
+		lenient().when(countQuery.getSingleResult()).thenReturn((long) items.size());
+		return requests;
+	}
+
+	private AbstractDynamoDBQuery<User, String> createQuery() throws NoSuchMethodException {
+		DynamoDBQueryMethod<User, String> method = new DynamoDBQueryMethod<>(
+				UserRepository.class.getMethod("findByName", String.class, Pageable.class),
+				new DefaultRepositoryMetadata(UserRepository.class), new SpelAwareProxyProjectionFactory());
+		return new AbstractDynamoDBQuery<User, String>(dynamoDBOperations, method) {
+
+			@Override
+			protected Query<User> doCreateQuery(Object[] values) {
+				return query;
+			}
+
+			@Override
+			protected Query<Long> doCreateCountQuery(Object[] values, boolean pageQuery) {
+				return countQuery;
+			}
+
+			@Override
+			protected boolean isCountQuery() {
+				return false;
+			}
+
+			@Override
+			protected boolean isExistsQuery() {
+				return false;
+			}
+
+			@Override
+			protected boolean isDeleteQuery() {
+				return false;
+			}
+
+			@Override
+			protected Integer getResultsRestrictionIfApplicable() {
+				return null;
+			}
+
+			@Override
+			protected boolean isSingleEntityResultsRestriction() {
+				return false;
+			}
+		};
+	}
+}
@@ -27,15 +27,20 @@ import java.io.Serializable;
 import java.text.DateFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -52,15 +57,22 @@ import org.socialsignin.spring.data.dynamodb.domain.sample.User;
 import org.socialsignin.spring.data.dynamodb.repository.QueryConstants;
 import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBEntityInformation;
 import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBIdIsHashAndRangeKeyEntityInformation;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.repository.query.Parameter;
+import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.Parameters;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.util.ClassUtils;
 
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.PaginationLoadingStrategy;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBQueryExpression;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
 import com.amazonaws.services.dynamodbv2.datamodeling.PaginatedQueryList;
 import com.amazonaws.services.dynamodbv2.datamodeling.PaginatedScanList;
+import com.amazonaws.services.dynamodbv2.datamodeling.ScanResultPage;
 import com.amazonaws.services.dynamodbv2.model.ComparisonOperator;
 import com.amazonaws.services.dynamodbv2.model.Condition;
 import com.amazonaws.services.dynamodbv2.model.QueryRequest;
@@ -186,6 +198,31 @@ public class PartTreeDynamoDBQueryUnitTest {
 		Mockito.verify(mockDynamoDBOperations).load(User.class, "someId");
 	}
 
+	@Test
+	void testExecute_WhenFinderMethodIsAsync_ExecutesOnGivenExecutor() throws Exception {
+		setupCommonMocksForThisRepositoryMethod(mockUserEntityMetadata, mockDynamoDBUserQueryMethod, User.class,
+				"findById", 1, "id", null);
+		Mockito.when(mockDynamoDBUserQueryMethod.isAsyncQuery()).thenReturn(true);
+		List<Runnable> submitted = new ArrayList<>();
+		partTreeDynamoDBQuery = new PartTreeDynamoDBQuery<>(mockDynamoDBOperations, mockDynamoDBUserQueryMethod,
+				submitted::add);
+
+		// Mock out specific DynamoDBOperations behavior expected by this method
+		Mockito.when(mockDynamoDBOperations.load(User.class, "someId")).thenReturn(mockUser);
+
+		// Execute the query
+		Object[] parameters = new Object[]{"someId"};
+		CompletableFuture<?> o = (CompletableFuture<?>) partTreeDynamoDBQuery.execute(parameters);
+
+		// Nothing is loaded until the executor runs the query
+		assertFalse(o.isDone());
+		Mockito.verify(mockDynamoDBOperations, Mockito.never()).load(User.class, "someId");
+
+		assertEquals(1, submitted.size());
+		submitted.get(0).run();
+		assertEquals(mockUser, o.get());
+	}
+
 	@Test
 	void testExecute_WhenFinderMethodIsFindingSingleEntityWithCompositeId_WithSingleStringParameter_WhenFindingByHashAndRangeKey() {
 		setupCommonMocksForThisRepositoryMethod(mockPlaylistEntityMetadata, mockDynamoDBPlaylistQueryMethod,
@@ -1348,6 +1385,32 @@ public class PartTreeDynamoDBQueryUnitTest {
 		// that we obtain the expected results
 	}
 
+	@Test
+	void testExecute_WhenFinderMethodReturnsStream_ScansIterationOnly() {
+		setupCommonMocksForThisRepositoryMethod(mockUserEntityMetadata, mockDynamoDBUserQueryMethod, User.class,
+				"findByName", 1, "id", null);
+		Mockito.when(mockDynamoDBUserQueryMethod.isStreamQuery()).thenReturn(true);
+
+		Mockito.when(mockUserScanResults.iterator()).thenReturn(Arrays.asList(mockUser).iterator());
+		Mockito.when(mockDynamoDBOperations.scan(userClassCaptor.capture(), scanCaptor.capture(),
+				Mockito.eq(PaginationLoadingStrategy.ITERATION_ONLY))).thenReturn(mockUserScanResults);
+
+		// Execute the query
+		Object[] parameters = new Object[]{"someName"};
+		Object o = partTreeDynamoDBQuery.execute(parameters);
+
+		// Nothing is iterated until the stream is consumed
+		Mockito.verify(mockUserScanResults, Mockito.never()).iterator();
+		try (Stream<?> stream = (Stream<?>) o) {
+			assertEquals(Arrays.asList(mockUser), stream.toList());
+		}
+
+		// Assert that we scanned DynamoDB for the correct class
+		assertEquals(userClassCaptor.getValue(), User.class);
+		assertEquals("someName", scanCaptor.getValue().getScanFilter().get("name").getAttributeValueList().get(0).getS());
+		Mockito.verify(mockDynamoDBOperations, Mockito.never()).scan(Mockito.any(), Mockito.any());
+	}
+
 	@Test
 	void testExecute_WhenFinderMethodIsFindingSingleEntity_WithSingleStringParameter_WhenNotFindingByHashKey() {
 		setupCommonMocksForThisRepositoryMethod(mockUserEntityMetadata, mockDynamoDBUserQueryMethod, User.class,
@@ -1624,6 +1687,102 @@ public class PartTreeDynamoDBQueryUnitTest {
 		Mockito.verify(mockDynamoDBOperations).scan(userClassCaptor.getValue(), scanCaptor.getValue());
 	}
 
+	@Test
+	void testExecute_WhenFinderMethodIsFindingTopEntities_DoesNotPushLimitDownToFilteredScan() {
+		setupCommonMocksForThisRepositoryMethod(mockUserEntityMetadata, mockDynamoDBUserQueryMethod, User.class,
+				"findTop3ByName", 1, "id", null);
+		Mockito.when(mockDynamoDBUserQueryMethod.isCollectionQuery()).thenReturn(true);
+
+		Mockito.when(mockUserScanResults.iterator()).thenReturn(Collections.singletonList(mockUser).iterator());
+		Mockito.when(mockDynamoDBOperations.scan(userClassCaptor.capture(), scanCaptor.capture()))
+				.thenReturn(mockUserScanResults);
+
+		// Execute the query
+		Object[] parameters = new Object[]{"someName"};
+		Object o = partTreeDynamoDBQuery.execute(parameters);
+
+		assertEquals(Collections.singletonList(mockUser), o);
+		// The Limit is evaluated before the scan filter and would drop matching items
+		assertNull(scanCaptor.getValue().getLimit());
+	}
+
+	@Test
+	void testExecute_WhenFinderMethodIsFindingTopEntitiesByHashKey_PushesLimitDownToQuery() {
+		setupCommonMocksForThisRepositoryMethod(mockPlaylistEntityMetadata, mockDynamoDBPlaylistQueryMethod,
+				Playlist.class, "findTop2ByUserName", 1, "userName", "playlistName");
+		Mockito.when(mockDynamoDBPlaylistQueryMethod.isCollectionQuery()).thenReturn(true);
+		Playlist prototypeHashKey = new Playlist();
+		prototypeHashKey.setUserName("someUserName");
+		Mockito.when(mockPlaylistEntityMetadata.getHashKeyPropotypeEntityForHashKey("someUserName"))
+				.thenReturn(prototypeHashKey);
+
+		Mockito.when(mockPlaylistQueryResults.iterator()).thenReturn(Collections.singletonList(mockPlaylist).iterator());
+		Mockito.when(mockDynamoDBOperations.query(playlistClassCaptor.capture(), playlistQueryCaptor.capture()))
+				.thenReturn(mockPlaylistQueryResults);
+
+		// Execute the query
+		Object[] parameters = new Object[]{"someUserName"};
+		Object o = partTreeDynamoDBQuery.execute(parameters);
+
+		assertEquals(Collections.singletonList(mockPlaylist), o);
+		// Assert that DynamoDB is not asked for more items than needed
+		assertEquals(Integer.valueOf(2), playlistQueryCaptor.getValue().getLimit());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void testExecute_WhenInvokedRepeatedly_CompilesQueryPlanOnce() {
+		setupCommonMocksForThisRepositoryMethod(mockUserEntityMetadata, mockDynamoDBUserQueryMethod, User.class,
+				"findByName", 1, "id", null);
+		Mockito.when(mockDynamoDBUserQueryMethod.isCollectionQuery()).thenReturn(true);
+		Mockito.when(mockUserEntityMetadata.getOverriddenAttributeName("name")).thenReturn(Optional.of("Name"));
+		Mockito.when(mockDynamoDBOperations.getTableModel(User.class))
+				.thenReturn(Mockito.mock(DynamoDBMapperTableModel.class));
+		Mockito.when(mockDynamoDBOperations.scan(userClassCaptor.capture(), scanCaptor.capture()))
+				.thenReturn(mockUserScanResults);
+
+		partTreeDynamoDBQuery.execute(new Object[]{"someName"});
+		partTreeDynamoDBQuery.execute(new Object[]{"otherName"});
+
+		// Both invocations bind their own value
+		assertEquals("otherName", scanCaptor.getValue().getScanFilter().get("Name").getAttributeValueList().get(0).getS());
+		// but share the table model and attribute names resolved by the first one
+		Mockito.verify(mockDynamoDBOperations, Mockito.times(1)).getTableModel(User.class);
+		Mockito.verify(mockUserEntityMetadata, Mockito.times(1)).getOverriddenAttributeName("name");
+		Mockito.verify(mockDynamoDBUserQueryMethod, Mockito.times(1)).getEntityInformation();
+	}
+
+	@Test
+	void testExecute_WhenInvokedRepeatedly_LooksUpPropertyMarshallerOnce() throws ParseException {
+		DateFormat dateFormat = new SimpleDateFormat("yyyy");
+		setupCommonMocksForThisRepositoryMethod(mockUserEntityMetadata, mockDynamoDBUserQueryMethod, User.class,
+				"findByJoinYear", 1, "id", null);
+		Mockito.when(mockDynamoDBUserQueryMethod.isCollectionQuery()).thenReturn(true);
+		Mockito.when(mockUserEntityMetadata.getMarshallerForProperty("joinYear"))
+				.thenReturn(new DynamoDBYearMarshaller());
+		Mockito.when(mockDynamoDBOperations.scan(userClassCaptor.capture(), scanCaptor.capture()))
+				.thenReturn(mockUserScanResults);
+
+		partTreeDynamoDBQuery.execute(new Object[]{dateFormat.parse("2013")});
+		partTreeDynamoDBQuery.execute(new Object[]{dateFormat.parse("2014")});
+
+		assertEquals("2014",
+				scanCaptor.getValue().getScanFilter().get("joinYear").getAttributeValueList().get(0).getS());
+		Mockito.verify(mockUserEntityMetadata, Mockito.times(1)).getTypeConverterForProperty("joinYear");
+		Mockito.verify(mockUserEntityMetadata, Mockito.times(1)).getMarshallerForProperty("joinYear");
+	}
+
+	@Test
+	void testGetMaxResultsToRead_WhenFinderMethodReturnsSlice_IncludesOffsetAndLookahead() {
+		setupCommonMocksForThisRepositoryMethod(mockUserEntityMetadata, mockDynamoDBUserQueryMethod, User.class,
+				"findByName", 2, "id", null);
+		Mockito.when(mockDynamoDBUserQueryMethod.isSliceQuery()).thenReturn(true);
+		ParameterAccessor accessor = Mockito.mock(ParameterAccessor.class);
+		Mockito.when(accessor.getPageable()).thenReturn(PageRequest.of(2, 10));
+
+		assertEquals(Optional.of(31), ((PartTreeDynamoDBQuery<?, ?>) partTreeDynamoDBQuery).getMaxResultsToRead(accessor));
+	}
+
 	@Test
 	void testExecute_WhenFinderMethodIsFindingEntityList_WithSingleStringParameter_WhenNotFindingByHashKey() {
 		setupCommonMocksForThisRepositoryMethod(mockUserEntityMetadata, mockDynamoDBUserQueryMethod, User.class,
@@ -3344,6 +3503,68 @@ public class PartTreeDynamoDBQueryUnitTest {
 		Mockito.verify(mockDynamoDBOperations).scan(userClassCaptor.getValue(), scanCaptor.getValue());
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	void testExecute_WhenDeleteQueryReturnsCount_DeletesKeysOnly() {
+		setupCommonMocksForThisRepositoryMethod(mockUserEntityMetadata, mockDynamoDBUserQueryMethod, User.class,
+				"deleteByName", 1, "id", null);
+		Mockito.when(mockUserEntityMetadata.getOverriddenAttributeName("name")).thenReturn(Optional.of("name"));
+		Mockito.doReturn(long.class).when(mockDynamoDBUserQueryMethod).getReturnedObjectType();
+		Mockito.when(mockDynamoDBOperations.getTableModel(User.class))
+				.thenReturn(new DynamoDBMapper(Mockito.mock(AmazonDynamoDB.class)).getTableModel(User.class));
+		ScanResultPage<User> keys = new ScanResultPage<>();
+		keys.setResults(Arrays.asList(new User(), new User()));
+		Mockito.when(mockDynamoDBOperations.scanPage(userClassCaptor.capture(), scanCaptor.capture()))
+				.thenReturn(keys);
+		List<List<?>> deletedPages = new ArrayList<>();
+		Mockito.when(mockDynamoDBOperations.batchDeletePages(Mockito.any())).thenAnswer(invocation -> {
+			((Iterator<List<?>>) invocation.getArgument(0)).forEachRemaining(deletedPages::add);
+			return Collections.emptyList();
+		});
+
+		Object o = partTreeDynamoDBQuery.execute(new Object[]{"someName"});
+
+		assertEquals(2L, o);
+		assertEquals(Collections.singletonList(keys.getResults()), deletedPages);
+		// Only the keys are read, with the legacy filter turned into an expression
+		DynamoDBScanExpression scanExpression = scanCaptor.getValue();
+		assertNull(scanExpression.getScanFilter());
+		assertEquals("#keysOnly0 = :keysOnly1", scanExpression.getFilterExpression());
+		assertEquals("#keysOnly2", scanExpression.getProjectionExpression());
+		assertEquals("name", scanExpression.getExpressionAttributeNames().get("#keysOnly0"));
+		assertEquals("Id", scanExpression.getExpressionAttributeNames().get("#keysOnly2"));
+		assertEquals("someName", scanExpression.getExpressionAttributeValues().get(":keysOnly1").getS());
+		Mockito.verify(mockDynamoDBOperations, Mockito.never()).scan(Mockito.any(), Mockito.any());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void testExecute_WhenAsyncDeleteQueryReturnsCount_DeletesKeysOnly() throws Exception {
+		setupCommonMocksForThisRepositoryMethod(mockUserEntityMetadata, mockDynamoDBUserQueryMethod, User.class,
+				"deleteByName", 1, "id", null);
+		Mockito.when(mockUserEntityMetadata.getOverriddenAttributeName("name")).thenReturn(Optional.of("name"));
+		Mockito.when(mockDynamoDBUserQueryMethod.isAsyncQuery()).thenReturn(true);
+		// CompletableFuture<Long> deleteByName(String name)
+		Mockito.doReturn(Long.class).when(mockDynamoDBUserQueryMethod).getReturnedObjectType();
+		partTreeDynamoDBQuery = new PartTreeDynamoDBQuery<>(mockDynamoDBOperations, mockDynamoDBUserQueryMethod,
+				Runnable::run);
+		Mockito.when(mockDynamoDBOperations.getTableModel(User.class))
+				.thenReturn(new DynamoDBMapper(Mockito.mock(AmazonDynamoDB.class)).getTableModel(User.class));
+		ScanResultPage<User> keys = new ScanResultPage<>();
+		keys.setResults(Arrays.asList(new User(), new User(), new User()));
+		Mockito.when(mockDynamoDBOperations.scanPage(userClassCaptor.capture(), scanCaptor.capture()))
+				.thenReturn(keys);
+		Mockito.when(mockDynamoDBOperations.batchDeletePages(Mockito.any())).thenAnswer(invocation -> {
+			((Iterator<List<?>>) invocation.getArgument(0)).forEachRemaining(page -> { });
+			return Collections.emptyList();
+		});
+
+		CompletableFuture<?> o = (CompletableFuture<?>) partTreeDynamoDBQuery.execute(new Object[]{"someName"});
+
+		assertEquals(3L, o.get());
+		Mockito.verify(mockDynamoDBOperations, Mockito.never()).scan(Mockito.any(), Mockito.any());
+	}
+
 	@Test
 	void testExecute_WhenExistsQueryFindsNoEntity() {
 		setupCommonMocksForThisRepositoryMethod(mockUserEntityMetadata, mockDynamoDBUserQueryMethod, User.class,
@@ -3394,6 +3615,28 @@ public class PartTreeDynamoDBQueryUnitTest {
 		Mockito.verify(mockDynamoDBOperations).scan(userClassCaptor.getValue(), scanCaptor.getValue());
 	}
 
+	@Test
+	void testExecute_WhenExistsQueryByHashKeyFindsOneEntity() {
+		setupCommonMocksForThisRepositoryMethod(mockPlaylistEntityMetadata, mockDynamoDBPlaylistQueryMethod,
+				Playlist.class, "existsByUserName", 1, "userName", "playlistName");
+		Playlist prototypeHashKey = new Playlist();
+		prototypeHashKey.setUserName("someUserName");
+		Mockito.when(mockPlaylistEntityMetadata.getHashKeyPropotypeEntityForHashKey("someUserName"))
+				.thenReturn(prototypeHashKey);
+
+		Mockito.when(mockPlaylistQueryResults.isEmpty()).thenReturn(false);
+		Mockito.when(mockDynamoDBOperations.query(playlistClassCaptor.capture(), playlistQueryCaptor.capture()))
+				.thenReturn(mockPlaylistQueryResults);
+
+		// Execute the query
+		Object[] parameters = new Object[]{"someUserName"};
+		Object o = partTreeDynamoDBQuery.execute(parameters);
+
+		assertEquals(true, o);
+		// A single result answers the exists projection of an unfiltered query
+		assertEquals(Integer.valueOf(1), playlistQueryCaptor.getValue().getLimit());
+	}
+
 	@Test
 	void testExecute_WhenExistsQueryFindsOneEntity() {
 		setupCommonMocksForThisRepositoryMethod(mockUserEntityMetadata, mockDynamoDBUserQueryMethod, User.class,
@@ -3415,6 +3658,8 @@ public class PartTreeDynamoDBQueryUnitTest {
 
 		// Assert that we scanned DynamoDB for the correct class
 		assertEquals(userClassCaptor.getValue(), User.class);
+		// The Limit is evaluated before the scan filter and would drop matching items
+		assertNull(scanCaptor.getValue().getLimit());
 
 		// Assert that we have only one filter condition, for the name of the
 		// property
@@ -0,0 +1,75 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.data.repository.query.RepositoryQuery;
+
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveDynamoDBQueryTest {
+
+	@Mock
+	private RepositoryQuery delegate;
+	@Mock
+	private QueryMethod queryMethod;
+
+	private final AtomicBoolean closed = new AtomicBoolean();
+
+	private ReactiveDynamoDBQuery underTest;
+
+	@BeforeEach
+	void setUp() {
+		when(delegate.getQueryMethod()).thenReturn(queryMethod);
+		when(queryMethod.isCollectionQuery()).thenReturn(true);
+		when(delegate.execute(new Object[0]))
+				.thenReturn(Stream.of("a", "b", "c").onClose(() -> closed.set(true)));
+
+		underTest = new ReactiveDynamoDBQuery(delegate, Schedulers.immediate());
+	}
+
+	@Test
+	void testStreamIsClosedWhenCompleted() {
+		List<?> actual = ((Flux<?>) underTest.execute(new Object[0])).collectList().block();
+
+		assertEquals(Arrays.asList("a", "b", "c"), actual);
+		assertTrue(closed.get());
+	}
+
+	@Test
+	void testStreamIsClosedWhenCancelled() {
+		Object actual = ((Flux<?>) underTest.execute(new Object[0])).next().block();
+
+		assertEquals("a", actual);
+		assertTrue(closed.get());
+	}
+}
@@ -0,0 +1,172 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.support;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.KeyPair;
+
+@ExtendWith(MockitoExtension.class)
+class CoalescingEntityLoaderTest {
+
+	@Mock
+	private DynamoDBOperations dynamoDBOperations;
+	@Mock
+	private DynamoDBEntityInformation<User, String> entityInformation;
+
+	private User user1;
+	private User user2;
+	private ScheduledExecutorService windowTimer;
+
+	@BeforeEach
+	void setUp() {
+		user1 = new User();
+		user1.setId("1");
+		user2 = new User();
+		user2.setId("2");
+
+		lenient().when(entityInformation.getJavaType()).thenReturn(User.class);
+		lenient().when(entityInformation.getHashKey("1")).thenReturn("1");
+		lenient().when(entityInformation.getHashKey("2")).thenReturn("2");
+		lenient().when(entityInformation.getHashKey("3")).thenReturn("3");
+		lenient().when(entityInformation.getId(user1)).thenReturn("1");
+		lenient().when(entityInformation.getId(user2)).thenReturn("2");
+		windowTimer = Executors.newSingleThreadScheduledExecutor();
+	}
+
+	@AfterEach
+	void tearDown() {
+		windowTimer.shutdownNow();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void testLoadsWithinWindowAreCoalesced() throws Exception {
+		when(dynamoDBOperations.batchLoad(anyMap())).thenReturn(Arrays.asList(user2, user1));
+		CoalescingEntityLoader<User, String> underTest = new CoalescingEntityLoader<>(entityInformation,
+				dynamoDBOperations, 50, 100, windowTimer, Runnable::run);
+
+		CompletableFuture<User> actual1 = underTest.load("1");
+		CompletableFuture<User> actual2 = underTest.load("2");
+		CompletableFuture<User> actual1Again = underTest.load("1");
+		CompletableFuture<User> actual3 = underTest.load("3");
+
+		assertSame(user1, actual1.get(5, TimeUnit.SECONDS));
+		assertSame(user2, actual2.get(5, TimeUnit.SECONDS));
+		assertSame(user1, actual1Again.get(5, TimeUnit.SECONDS));
+		assertNull(actual3.get(5, TimeUnit.SECONDS));
+
+		ArgumentCaptor<Map<Class<?>, List<KeyPair>>> captor = ArgumentCaptor.forClass(Map.class);
+		verify(dynamoDBOperations).batchLoad(captor.capture());
+		List<KeyPair> keyPairs = captor.getValue().get(User.class);
+		assertEquals(3, keyPairs.size());
+		assertEquals(Arrays.asList("1", "2", "3"), keyPairs.stream().map(KeyPair::getHashKey).toList());
+	}
+
+	@Test
+	void testFullBatchIsLoadedImmediately() throws Exception {
+		when(dynamoDBOperations.batchLoad(anyMap())).thenReturn(Arrays.asList(user1, user2));
+		CoalescingEntityLoader<User, String> underTest = new CoalescingEntityLoader<>(entityInformation,
+				dynamoDBOperations, TimeUnit.MINUTES.toMillis(1), 2, windowTimer, Runnable::run);
+
+		CompletableFuture<User> actual1 = underTest.load("1");
+		CompletableFuture<User> actual2 = underTest.load("2");
+
+		assertTrue(actual1.isDone());
+		assertSame(user1, actual1.get());
+		assertSame(user2, actual2.get());
+		verify(dynamoDBOperations, times(1)).batchLoad(anyMap());
+	}
+
+	@Test
+	void testFailureIsPropagatedToAllCallers() {
+		IllegalStateException exception = new IllegalStateException("Load failed");
+		when(dynamoDBOperations.batchLoad(anyMap())).thenThrow(exception);
+		CoalescingEntityLoader<User, String> underTest = new CoalescingEntityLoader<>(entityInformation,
+				dynamoDBOperations, 0, 100, windowTimer, Runnable::run);
+
+		CompletableFuture<User> actual1 = underTest.load("1");
+		CompletableFuture<User> actual2 = underTest.load("2");
+
+		assertThatThrownBy(() -> actual1.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class)
+				.hasCause(exception);
+		assertThatThrownBy(() -> actual2.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class)
+				.hasCause(exception);
+	}
+
+	@Test
+	void testCachedEntityIsNotBatched() throws Exception {
+		when(dynamoDBOperations.loadCached(User.class, "1", null)).thenReturn(user1);
+		CoalescingEntityLoader<User, String> underTest = new CoalescingEntityLoader<>(entityInformation,
+				dynamoDBOperations, TimeUnit.MINUTES.toMillis(1), 100, windowTimer, Runnable::run);
+
+		CompletableFuture<User> actual = underTest.load("1");
+
+		assertTrue(actual.isDone());
+		assertSame(user1, actual.get());
+		verify(dynamoDBOperations, never()).batchLoad(anyMap());
+	}
+
+	@Test
+	void testLoadIsNotDelayedOnceTimerIsShutDown() throws Exception {
+		when(dynamoDBOperations.batchLoad(anyMap())).thenReturn(Arrays.asList(user1));
+		windowTimer.shutdown();
+		CoalescingEntityLoader<User, String> underTest = new CoalescingEntityLoader<>(entityInformation,
+				dynamoDBOperations, TimeUnit.MINUTES.toMillis(1), 100, windowTimer, Runnable::run);
+
+		CompletableFuture<User> actual = underTest.load("1");
+
+		assertTrue(actual.isDone());
+		assertSame(user1, actual.get());
+	}
+
+	@Test
+	void testInvalidBatchSize() {
+		assertThatThrownBy(
+				() -> new CoalescingEntityLoader<>(entityInformation, dynamoDBOperations, 2, 101, windowTimer,
+						Runnable::run))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,47 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+import org.socialsignin.spring.data.dynamodb.domain.sample.Playlist;
+import org.socialsignin.spring.data.dynamodb.domain.sample.PlaylistId;
+
+class CompositeIdHashAndRangeKeyExtractorTest {
+
+	@Test
+	void testGetHashKeyAndRangeKey_WhenIdHasAnnotatedGetters_ReturnsKeys() {
+		CompositeIdHashAndRangeKeyExtractor<PlaylistId, String> extractor = new CompositeIdHashAndRangeKeyExtractor<>(
+				PlaylistId.class);
+		PlaylistId id = new PlaylistId("someUserName", "somePlaylistName");
+
+		assertEquals("someUserName", extractor.getHashKey(id));
+		assertEquals("somePlaylistName", extractor.getRangeKey(id));
+	}
+
+	@Test
+	void testGetHashKeyPropotypeEntityForHashKey_WhenHashKeyHasSetter_SetsHashKeyOnNewEntity() {
+		DynamoDBHashAndRangeKeyExtractingEntityMetadataImpl<Playlist, PlaylistId> metadata = new DynamoDBHashAndRangeKeyExtractingEntityMetadataImpl<>(
+				Playlist.class);
+
+		Playlist first = metadata.getHashKeyPropotypeEntityForHashKey("someUserName");
+		Playlist second = metadata.getHashKeyPropotypeEntityForHashKey("otherUserName");
+
+		assertEquals("someUserName", first.getUserName());
+		assertEquals("otherUserName", second.getUserName());
+	}
+}
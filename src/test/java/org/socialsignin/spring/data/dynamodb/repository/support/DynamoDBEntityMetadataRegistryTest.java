@@ -0,0 +1,67 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+
+@ExtendWith(MockitoExtension.class)
+class DynamoDBEntityMetadataRegistryTest {
+
+	@Mock
+	private DynamoDBOperations dynamoDBOperations;
+	@Mock
+	private DynamoDBOperations otherDynamoDBOperations;
+
+	@Test
+	void testGetEntityInformation_WhenCalledRepeatedly_ReturnsSharedInstance() {
+		DynamoDBEntityInformation<User, String> first = DynamoDBEntityMetadataRegistry.getEntityInformation(User.class);
+		DynamoDBEntityInformation<User, String> second = DynamoDBEntityMetadataRegistry.getEntityInformation(User.class);
+
+		assertSame(first, second);
+		assertEquals("user", first.getDynamoDBTableName());
+	}
+
+	@Test
+	void testGetEntityInformation_WhenOperationsOverrideTableName_ResolvesTableNameOncePerOperations() {
+		when(dynamoDBOperations.getOverriddenTableName(User.class, "user")).thenReturn("prefix_user");
+		when(otherDynamoDBOperations.getOverriddenTableName(User.class, "user")).thenReturn("other_user");
+
+		DynamoDBEntityInformation<User, String> first = DynamoDBEntityMetadataRegistry.getEntityInformation(User.class,
+				dynamoDBOperations);
+		DynamoDBEntityInformation<User, String> second = DynamoDBEntityMetadataRegistry.getEntityInformation(User.class,
+				dynamoDBOperations);
+		DynamoDBEntityInformation<User, String> other = DynamoDBEntityMetadataRegistry.getEntityInformation(User.class,
+				otherDynamoDBOperations);
+
+		assertSame(first, second);
+		assertNotSame(first, other);
+		assertEquals("prefix_user", first.getDynamoDBTableName());
+		assertEquals("other_user", other.getDynamoDBTableName());
+		verify(dynamoDBOperations, times(1)).getOverriddenTableName(User.class, "user");
+	}
+}
@@ -15,14 +15,24 @@
  */
 package org.socialsignin.spring.data.dynamodb.repository.support;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+import org.socialsignin.spring.data.dynamodb.marshaller.DynamoDBBinaryUUID;
+import org.socialsignin.spring.data.dynamodb.marshaller.DynamoDBEnumCode;
+import org.socialsignin.spring.data.dynamodb.marshaller.UUID2BinaryConverter;
 
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBHashKey;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMarshaller;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTable;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTypeConverter;
 
 @ExtendWith(MockitoExtension.class)
 class DynamoDBEntityMetadataSupportUnitTest {
@@ -42,4 +52,44 @@ class DynamoDBEntityMetadataSupportUnitTest {
 		DynamoDBMarshaller<?> methodAnnotation = support.getMarshallerForProperty("leaveDate");
 		assertNotNull(methodAnnotation);
 	}
+
+	enum Status implements DynamoDBEnumCode.Coded {
+		ACTIVE, SUSPENDED;
+
+		@Override
+		public String getCode() {
+			return name().substring(0, 1);
+		}
+	}
+
+	@DynamoDBTable(tableName = "compact")
+	static class CompactEntity {
+		@DynamoDBHashKey
+		@DynamoDBBinaryUUID
+		private UUID id;
+		private Status status;
+
+		@DynamoDBEnumCode
+		public Status getStatus() {
+			return status;
+		}
+	}
+
+	@Test
+	void testGetTypeConverterForProperty_WhenCustomAnnotationIsOnField_CreatesMetaAnnotatedConverter() {
+		DynamoDBEntityMetadataSupport<CompactEntity, ?> support = new DynamoDBEntityMetadataSupport<>(
+				CompactEntity.class);
+		assertTrue(support.getTypeConverterForProperty("id") instanceof UUID2BinaryConverter);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void testGetTypeConverterForProperty_WhenCustomAnnotationIsOnMethod_PassesTargetTypeToConverter() {
+		DynamoDBEntityMetadataSupport<CompactEntity, ?> support = new DynamoDBEntityMetadataSupport<>(
+				CompactEntity.class);
+		DynamoDBTypeConverter<String, Status> converter = (DynamoDBTypeConverter<String, Status>) support
+				.getTypeConverterForProperty("status");
+		assertEquals("S", converter.convert(Status.SUSPENDED));
+		assertEquals(Status.ACTIVE, converter.unconvert("A"));
+	}
 }
@@ -16,14 +16,34 @@
 package org.socialsignin.spring.data.dynamodb.repository.support;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.Test;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+import org.socialsignin.spring.data.dynamodb.repository.DynamoDBCrudRepository;
+import org.socialsignin.spring.data.dynamodb.repository.EnableScan;
 
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.PaginatedScanList;
 
 
 class DynamoDBRepositoryFactoryTest {
 
+	@EnableScan
+	interface AsyncUserRepository extends DynamoDBCrudRepository<User, String> {
+		CompletableFuture<List<User>> findByName(String name);
+	}
+
 	@Test
 	void testVersionNullNull() {
 		assertFalse(DynamoDBRepositoryFactory.isCompatible(null, null));
@@ -46,4 +66,22 @@ class DynamoDBRepositoryFactoryTest {
 		assertTrue(DynamoDBRepositoryFactory.isCompatible("1.0.0-SR", "1.0.0-SR"));
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	void testAsyncQueryMethodRunsOnExecutor() throws Exception {
+		DynamoDBOperations dynamoDBOperations = mock(DynamoDBOperations.class);
+		PaginatedScanList<User> scanResult = mock(PaginatedScanList.class);
+		when(dynamoDBOperations.scan(eq(User.class), any(DynamoDBScanExpression.class))).thenReturn(scanResult);
+
+		List<Runnable> submitted = new ArrayList<>();
+		AsyncUserRepository repository = new DynamoDBRepositoryFactory(dynamoDBOperations, submitted::add)
+				.getRepository(AsyncUserRepository.class);
+
+		CompletableFuture<List<User>> actual = repository.findByName("name");
+		assertFalse(actual.isDone());
+
+		submitted.forEach(Runnable::run);
+		assertSame(scanResult, actual.get());
+	}
+
 }
@@ -15,14 +15,17 @@
  */
 package org.socialsignin.spring.data.dynamodb.repository.support;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+import org.socialsignin.spring.data.dynamodb.repository.EnableParallelScan;
 import org.socialsignin.spring.data.dynamodb.repository.EnableScan;
 import org.socialsignin.spring.data.dynamodb.repository.EnableScanCount;
 import org.springframework.data.domain.Page;
@@ -39,6 +42,15 @@ class EnableScanAnnotationPermissionTest {
 		List<User> findAll();
 	}
 
+	@EnableScan
+	@EnableParallelScan(segments = 8)
+	public interface SampleParallelScanRepository {
+		List<User> findAll();
+
+		@EnableParallelScan
+		long count();
+	}
+
 	@EnableScanCount
 	public interface SampleMethodRepository {
 
@@ -96,4 +108,16 @@ class EnableScanAnnotationPermissionTest {
 		assertFalse(underTest.isFindAllUnpaginatedScanEnabled());
 	}
 
+	@Test
+	void testSampleParallelScanRepository() {
+		EnableScanAnnotationPermissions underTest = new EnableScanAnnotationPermissions(
+				SampleParallelScanRepository.class);
+
+		assertEquals(Optional.of(8), underTest.getFindAllParallelScanSegments());
+		assertEquals(Optional.of(0), underTest.getCountParallelScanSegments());
+
+		underTest = new EnableScanAnnotationPermissions(SampleRepository.class);
+		assertEquals(Optional.empty(), underTest.getFindAllParallelScanSegments());
+		assertEquals(Optional.empty(), underTest.getCountParallelScanSegments());
+	}
 }
@@ -0,0 +1,189 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+import org.socialsignin.spring.data.dynamodb.mapping.event.AfterDeleteEvent;
+import org.socialsignin.spring.data.dynamodb.mapping.event.AfterSaveEvent;
+
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.PaginationLoadingStrategy;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.PaginatedScanList;
+
+@ExtendWith(MockitoExtension.class)
+class NegativeLookupFilterTest {
+
+	@Mock
+	private DynamoDBOperations dynamoDBOperations;
+	@Mock
+	private DynamoDBEntityInformation<User, String> entityInformation;
+	@Mock
+	private PaginatedScanList<User> scanResult;
+	@Mock
+	private AmazonDynamoDB amazonDynamoDB;
+
+	private User user1;
+	private User user2;
+
+	private NegativeLookupFilter<User, String> underTest;
+
+	@BeforeEach
+	void setUp() {
+		user1 = new User();
+		user1.setId("1");
+		user2 = new User();
+		user2.setId("2");
+
+		lenient().when(entityInformation.getJavaType()).thenReturn(User.class);
+		lenient().when(entityInformation.getHashKey(any())).thenAnswer(invocation -> invocation.getArgument(0));
+		lenient().when(entityInformation.getId(user1)).thenReturn("1");
+		lenient().when(entityInformation.getId(user2)).thenReturn("2");
+		lenient().when(dynamoDBOperations.getTableModel(User.class))
+				.thenReturn(new DynamoDBMapper(amazonDynamoDB).getTableModel(User.class));
+		lenient().when(dynamoDBOperations.scan(eq(User.class), any(), eq(PaginationLoadingStrategy.ITERATION_ONLY)))
+				.thenReturn(scanResult);
+		lenient().when(scanResult.iterator()).thenAnswer(invocation -> Collections.singletonList(user1).iterator());
+
+		underTest = new NegativeLookupFilter<>(entityInformation, dynamoDBOperations, 1000, 0.001);
+	}
+
+	@Test
+	void testEverythingMightExistBeforeFirstBuild() {
+		assertTrue(underTest.mightContain("1"));
+		assertTrue(underTest.mightContain("2"));
+	}
+
+	@Test
+	void testRebuildScansKeysOnly() {
+		underTest.rebuild();
+
+		ArgumentCaptor<DynamoDBScanExpression> captor = ArgumentCaptor.forClass(DynamoDBScanExpression.class);
+		verify(dynamoDBOperations).scan(eq(User.class), captor.capture(), eq(PaginationLoadingStrategy.ITERATION_ONLY));
+		assertEquals("#hashKey", captor.getValue().getProjectionExpression());
+		assertEquals(Collections.singletonMap("#hashKey", "Id"), captor.getValue().getExpressionAttributeNames());
+		assertTrue(captor.getValue().isConsistentRead());
+
+		assertTrue(underTest.mightContain("1"));
+		assertFalse(underTest.mightContain("2"));
+	}
+
+	@Test
+	void testEntitiesSavedDuringRebuildAreAdded() {
+		underTest.rebuild();
+		when(scanResult.iterator()).thenAnswer(invocation -> {
+			underTest.put(user2);
+			return Collections.singletonList(user1).iterator();
+		});
+
+		underTest.rebuild();
+
+		assertTrue(underTest.mightContain("2"));
+	}
+
+	@Test
+	void testRebuildIsSkippedWhileAnotherRebuildRuns() {
+		when(scanResult.iterator()).thenAnswer(invocation -> {
+			underTest.rebuild();
+			return Collections.singletonList(user1).iterator();
+		});
+
+		underTest.rebuild();
+
+		verify(dynamoDBOperations, times(1)).scan(eq(User.class), any(), any());
+		assertTrue(underTest.mightContain("1"));
+	}
+
+	@Test
+	void testCancelledRebuildIsNotRepeated() throws InterruptedException {
+		ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+		try {
+			underTest.scheduleRebuild(executor, 10, TimeUnit.MILLISECONDS);
+			verify(dynamoDBOperations, timeout(5000).atLeastOnce()).scan(eq(User.class), any(), any());
+
+			underTest.cancelRebuild();
+			// A rebuild that is already running still completes
+			Thread.sleep(50);
+			int rebuilds = Mockito.mockingDetails(dynamoDBOperations).getInvocations().size();
+			Thread.sleep(100);
+
+			assertEquals(rebuilds, Mockito.mockingDetails(dynamoDBOperations).getInvocations().size());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void testSavedEntitiesAreAdded() {
+		underTest.rebuild();
+
+		underTest.onApplicationEvent(new AfterDeleteEvent<>(user2));
+		assertFalse(underTest.mightContain("2"));
+
+		underTest.onApplicationEvent(new AfterSaveEvent<>(user2));
+		assertTrue(underTest.mightContain("2"));
+	}
+
+	@Test
+	void testOtherEntitiesAreIgnored() {
+		underTest.rebuild();
+
+		underTest.onApplicationEvent(new AfterSaveEvent<>("2"));
+		assertFalse(underTest.mightContain("2"));
+	}
+
+	@Test
+	void testBloomFilterFalsePositiveRate() {
+		BloomFilter filter = new BloomFilter(10_000, 0.01);
+		for (int i = 0; i < 10_000; i++) {
+			filter.put("present-" + i);
+		}
+
+		int falsePositives = 0;
+		for (int i = 0; i < 10_000; i++) {
+			assertTrue(filter.mightContain("present-" + i));
+			if (filter.mightContain("absent-" + i)) {
+				falsePositives++;
+			}
+		}
+		assertTrue(falsePositives < 200, "Too many false positives: " + falsePositives);
+	}
+}
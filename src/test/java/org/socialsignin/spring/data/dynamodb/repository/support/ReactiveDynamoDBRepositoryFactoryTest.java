@@ -0,0 +1,84 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+import org.socialsignin.spring.data.dynamodb.repository.EnableScan;
+import org.socialsignin.spring.data.dynamodb.repository.ReactiveDynamoDBCrudRepository;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.PaginationLoadingStrategy;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.PaginatedScanList;
+
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveDynamoDBRepositoryFactoryTest {
+
+	@EnableScan
+	interface ReactiveUserRepository extends ReactiveDynamoDBCrudRepository<User, String> {
+		Flux<User> findByName(String name);
+	}
+
+	@Mock
+	private DynamoDBOperations dynamoDBOperations;
+	@Mock
+	private AsyncDynamoDBOperations asyncDynamoDBOperations;
+	@Mock
+	private PaginatedScanList<User> scanResult;
+
+	private ReactiveDynamoDBRepositoryFactory underTest;
+
+	@BeforeEach
+	void setUp() {
+		lenient().when(dynamoDBOperations.getOverriddenTableName(any(), anyString())).thenReturn("user");
+
+		underTest = new ReactiveDynamoDBRepositoryFactory(dynamoDBOperations, asyncDynamoDBOperations,
+				Schedulers.immediate());
+	}
+
+	@Test
+	void testDerivedQueryIsExecutedReactively() {
+		User user1 = new User();
+		User user2 = new User();
+		when(scanResult.iterator()).thenReturn(Arrays.asList(user1, user2).iterator());
+		when(dynamoDBOperations.scan(eq(User.class), any(DynamoDBScanExpression.class),
+				eq(PaginationLoadingStrategy.ITERATION_ONLY))).thenReturn(scanResult);
+
+		ReactiveUserRepository repository = underTest.getRepository(ReactiveUserRepository.class);
+		List<User> actual = repository.findByName("name").collectList().block();
+
+		assertEquals(Arrays.asList(user1, user2), actual);
+	}
+}
@@ -19,6 +19,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyIterable;
 import static org.mockito.ArgumentMatchers.eq;
@@ -27,10 +28,13 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -39,15 +43,21 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.socialsignin.spring.data.dynamodb.core.BatchWriteResult;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
 import org.socialsignin.spring.data.dynamodb.domain.sample.Playlist;
 import org.socialsignin.spring.data.dynamodb.domain.sample.PlaylistId;
 import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+import org.socialsignin.spring.data.dynamodb.exception.BatchDeleteException;
 import org.socialsignin.spring.data.dynamodb.exception.BatchWriteException;
 import org.springframework.dao.EmptyResultDataAccessException;
 
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper.FailedBatch;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.PaginationLoadingStrategy;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.KeyPair;
 import com.amazonaws.services.dynamodbv2.datamodeling.PaginatedScanList;
 
 /**
@@ -117,13 +127,88 @@ class SimpleDynamoDBCrudRepositoryTest {
 		testResult.setId(Long.toString(id));
 
 		when(entityWithSimpleIdInformation.getHashKey(id)).thenReturn(id);
-		when(dynamoDBOperations.load(User.class, id)).thenReturn(testResult);
+		when(dynamoDBOperations.delete(User.class, id, null)).thenReturn(testResult);
 
 		repoForEntityWithOnlyHashKey.deleteById(id);
 
-		ArgumentCaptor<User> captor = ArgumentCaptor.forClass(User.class);
-		Mockito.verify(dynamoDBOperations).delete(captor.capture());
-		assertEquals(Long.toString(id), captor.getValue().getId());
+		verify(dynamoDBOperations, Mockito.never()).load(any(), any());
+		verify(dynamoDBOperations, Mockito.never()).delete(any(User.class));
+	}
+
+	@Test
+	void deleteAllByIdDeletesKeysInBatch() {
+		when(dynamoDBOperations.batchDelete(eq(Playlist.class), any())).thenReturn(Collections.emptyList());
+
+		repoForEntityWithHashAndRangeKey.deleteAllById(Arrays.asList(testPlaylistId, testPlaylistId));
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<KeyPair>> captor = ArgumentCaptor.forClass(List.class);
+		verify(dynamoDBOperations).batchDelete(eq(Playlist.class), captor.capture());
+		assertEquals(2, captor.getValue().size());
+		assertEquals("michael", captor.getValue().get(0).getHashKey());
+		assertEquals("playlist1", captor.getValue().get(0).getRangeKey());
+		verify(dynamoDBOperations, Mockito.never()).load(any(), any(), any());
+	}
+
+	@Test
+	void deleteAllByIdFailure() {
+		FailedBatch failedBatch = new FailedBatch();
+		failedBatch.setException(new Exception("Throttled"));
+		when(dynamoDBOperations.batchDelete(eq(User.class), any())).thenReturn(Collections.singletonList(failedBatch));
+
+		assertThatThrownBy(() -> repoForEntityWithOnlyHashKey.deleteAllById(Collections.singletonList(1l)))
+				.isInstanceOf(BatchDeleteException.class);
+	}
+
+	@Test
+	void findByIdWithEntityLoader() {
+		User testResult = new User();
+		CoalescingEntityLoader<User, Long> entityLoader = Mockito.mock(CoalescingEntityLoader.class);
+		when(entityLoader.load(2l)).thenReturn(CompletableFuture.completedFuture(testResult));
+		when(entityLoader.load(3l)).thenReturn(CompletableFuture.completedFuture(null));
+
+		SimpleDynamoDBCrudRepository<User, Long> repo = new SimpleDynamoDBCrudRepository<>(
+				entityWithSimpleIdInformation, dynamoDBOperations, mockEnableScanPermissions,
+				Optional.of(entityLoader));
+
+		assertSame(testResult, repo.findById(2l).get());
+		assertFalse(repo.findById(3l).isPresent());
+		verify(dynamoDBOperations, Mockito.never()).load(any(), any());
+	}
+
+	@Test
+	void findAllAsStream() {
+		when(findAllResultMock.iterator()).thenReturn(Collections.singletonList(testUser).iterator());
+		when(dynamoDBOperations.scan(eq(User.class), any(), eq(PaginationLoadingStrategy.ITERATION_ONLY)))
+				.thenReturn(findAllResultMock);
+
+		try (Stream<User> actual = repoForEntityWithOnlyHashKey.findAllAsStream()) {
+			assertEquals(Collections.singletonList(testUser), actual.toList());
+		}
+		verify(dynamoDBOperations, Mockito.never()).scan(eq(User.class), any());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void findByIdWithNegativeLookupFilter() {
+		User testResult = new User();
+		NegativeLookupFilter<User, Long> negativeLookupFilter = Mockito.mock(NegativeLookupFilter.class);
+		when(negativeLookupFilter.mightContain(1l)).thenReturn(true);
+		when(negativeLookupFilter.mightContain(3l)).thenReturn(false);
+		when(dynamoDBOperations.load(User.class, 1l)).thenReturn(testResult);
+
+		SimpleDynamoDBCrudRepository<User, Long> repo = new SimpleDynamoDBCrudRepository<>(
+				entityWithSimpleIdInformation, dynamoDBOperations, mockEnableScanPermissions, Optional.empty(),
+				Optional.of(negativeLookupFilter));
+
+		assertSame(testResult, repo.findById(1l).get());
+		assertFalse(repo.existsById(3l));
+		assertTrue(repo.findAllById(Arrays.asList(3l)).isEmpty());
+		verify(dynamoDBOperations, Mockito.never()).load(User.class, 3l);
+		verify(dynamoDBOperations, Mockito.never()).batchLoad(any());
+
+		repo.save(testResult);
+		verify(negativeLookupFilter).put(testResult);
 	}
 
 	@Test
@@ -135,17 +220,59 @@ class SimpleDynamoDBCrudRepositoryTest {
 
 	@Test
 	void deleteIterable() {
+		when(dynamoDBOperations.parallelBatchDelete(findAllResultMock))
+				.thenReturn(new BatchWriteResult<>(Collections.emptyList(), Collections.emptyList()));
+
 		repoForEntityWithOnlyHashKey.deleteAll(findAllResultMock);
 
-		verify(dynamoDBOperations).batchDelete(findAllResultMock);
+		verify(dynamoDBOperations).parallelBatchDelete(findAllResultMock);
+	}
+
+	@Test
+	void deleteIterableFailure() {
+		List<User> entities = Arrays.asList(testUser);
+		when(dynamoDBOperations.parallelBatchDelete(entities)).thenReturn(new BatchWriteResult<>(Collections.emptyList(),
+				Collections.singletonList(new BatchWriteResult.Failure<>(testUser, new Exception("Throttled")))));
+
+		assertThatThrownBy(() -> repoForEntityWithOnlyHashKey.deleteAll(entities)).isInstanceOf(BatchDeleteException.class)
+				.satisfies(e -> assertEquals(Collections.singletonList(testUser), ((BatchDeleteException) e).getFailedEntities()));
 	}
 
 	@Test
 	void deleteAll() {
-		when(dynamoDBOperations.scan(eq(User.class), any(DynamoDBScanExpression.class))).thenReturn(findAllResultMock);
+		when(mockEnableScanPermissions.getDeleteAllParallelScanSegments()).thenReturn(Optional.of(4));
+		when(dynamoDBOperations.deleteAll(User.class, 4)).thenReturn(Collections.emptyList());
 
 		repoForEntityWithOnlyHashKey.deleteAll();
-		verify(dynamoDBOperations).batchDelete(findAllResultMock);
+		verify(dynamoDBOperations, Mockito.never()).truncate(any(), Mockito.anyLong());
+	}
+
+	@Test
+	void deleteAllFailure() {
+		FailedBatch failedBatch = new FailedBatch();
+		failedBatch.setException(new Exception("Throttled"));
+		when(dynamoDBOperations.deleteAll(User.class, 1)).thenReturn(Collections.singletonList(failedBatch));
+
+		assertThatThrownBy(() -> repoForEntityWithOnlyHashKey.deleteAll()).isInstanceOf(BatchDeleteException.class);
+	}
+
+	@Test
+	void deleteAllTruncatesLargeTable() {
+		when(mockEnableScanPermissions.getDeleteAllTruncateMinItemCount()).thenReturn(Optional.of(1000L));
+		when(dynamoDBOperations.truncate(User.class, 1000L)).thenReturn(true);
+
+		repoForEntityWithOnlyHashKey.deleteAll();
+		verify(dynamoDBOperations, Mockito.never()).deleteAll(eq(User.class), Mockito.anyInt());
+	}
+
+	@Test
+	void deleteAllScansSmallTable() {
+		when(mockEnableScanPermissions.getDeleteAllTruncateMinItemCount()).thenReturn(Optional.of(1000L));
+		when(dynamoDBOperations.truncate(User.class, 1000L)).thenReturn(false);
+		when(dynamoDBOperations.deleteAll(User.class, 1)).thenReturn(Collections.emptyList());
+
+		repoForEntityWithOnlyHashKey.deleteAll();
+		verify(dynamoDBOperations).deleteAll(User.class, 1);
 	}
 
 	@Test
@@ -183,11 +310,37 @@ class SimpleDynamoDBCrudRepositoryTest {
 
 	@Test
 	void existsEntityWithOnlyHashKey() {
-		when(dynamoDBOperations.load(User.class, 1l)).thenReturn(null);
+		when(dynamoDBOperations.exists(User.class, 1l, null)).thenReturn(false);
 
 		boolean actual = repoForEntityWithOnlyHashKey.existsById(1l);
 
 		assertFalse(actual);
+		verify(dynamoDBOperations, Mockito.never()).load(any(), any());
+	}
+
+	@Test
+	void existsEntityWithHashAndRangeKey() {
+		when(dynamoDBOperations.exists(Playlist.class, "michael", "playlist1")).thenReturn(true);
+
+		assertTrue(repoForEntityWithHashAndRangeKey.existsById(testPlaylistId));
+	}
+
+	@Test
+	void existsAllByIdLooksUpDistinctKeys() {
+		when(dynamoDBOperations.getTableModel(Playlist.class))
+				.thenReturn(new DynamoDBMapper(Mockito.mock(AmazonDynamoDB.class)).getTableModel(Playlist.class));
+		when(dynamoDBOperations.batchLoadKeys(eq(Playlist.class), any())).thenReturn(Arrays.asList(testPlaylist));
+
+		assertTrue(repoForEntityWithHashAndRangeKey.existsAllById(Arrays.asList(testPlaylistId, testPlaylistId)));
+	}
+
+	@Test
+	void existsAllByIdWhenOneIsMissing() {
+		when(dynamoDBOperations.getTableModel(User.class))
+				.thenReturn(new DynamoDBMapper(Mockito.mock(AmazonDynamoDB.class)).getTableModel(User.class));
+		when(dynamoDBOperations.batchLoadKeys(eq(User.class), any())).thenReturn(Arrays.asList(testUser));
+
+		assertFalse(repoForEntityWithOnlyHashKey.existsAllById(Arrays.asList(1l, 2l)));
 	}
 
 	@Test
@@ -197,6 +350,20 @@ class SimpleDynamoDBCrudRepositoryTest {
 		verify(dynamoDBOperations).count(eq(User.class), any(DynamoDBScanExpression.class));
 	}
 
+	@Test
+	void testParallelFindAllAndCount() {
+		when(mockEnableScanPermissions.getFindAllParallelScanSegments()).thenReturn(Optional.of(4));
+		when(mockEnableScanPermissions.getCountParallelScanSegments()).thenReturn(Optional.of(0));
+		when(dynamoDBOperations.parallelCount(eq(User.class), any(DynamoDBScanExpression.class), eq(0)))
+				.thenReturn(3_000_000_000L);
+
+		repoForEntityWithOnlyHashKey.findAll();
+		long actual = repoForEntityWithOnlyHashKey.count();
+
+		assertEquals(3_000_000_000L, actual);
+		verify(dynamoDBOperations).parallelScan(eq(User.class), any(DynamoDBScanExpression.class), eq(4));
+	}
+
 	@Test
 	void findOneEntityWithOnlyHashKey() {
 		Optional<User> user = repoForEntityWithOnlyHashKey.findById(1l);
@@ -240,28 +407,28 @@ class SimpleDynamoDBCrudRepositoryTest {
 		List<User> entities = new ArrayList<>();
 		entities.add(new User());
 		entities.add(new User());
-		when(dynamoDBOperations.batchSave(anyIterable())).thenReturn(Collections.emptyList());
+		when(dynamoDBOperations.parallelBatchSave(Mockito.<User>anyIterable()))
+				.thenReturn(new BatchWriteResult<>(entities, Collections.emptyList()));
 
 		repoForEntityWithOnlyHashKey.saveAll(entities);
 
-		verify(dynamoDBOperations).batchSave(anyIterable());
+		verify(dynamoDBOperations).parallelBatchSave(anyIterable());
 	}
 
 	@Test
 	void testBatchSaveFailure() {
-		List<FailedBatch> failures = new ArrayList<>();
-		FailedBatch e1 = new FailedBatch();
-		e1.setException(new Exception("First exception"));
-		failures.add(e1);
-		FailedBatch e2 = new FailedBatch();
-		e2.setException(new Exception("Followup exception"));
-		failures.add(e2);
-
-		List<User> entities = new ArrayList<>();
-		entities.add(new User());
-		entities.add(new User());
-		when(dynamoDBOperations.batchSave(anyIterable())).thenReturn(failures);
-
-		assertThatThrownBy(() -> repoForEntityWithOnlyHashKey.saveAll(entities)).isInstanceOf(BatchWriteException.class);
+		User written = new User();
+		User failed1 = new User();
+		User failed2 = new User();
+		List<BatchWriteResult.Failure<User>> failures = new ArrayList<>();
+		failures.add(new BatchWriteResult.Failure<>(failed1, new Exception("First exception")));
+		failures.add(new BatchWriteResult.Failure<>(failed2, new Exception("Followup exception")));
+
+		List<User> entities = Arrays.asList(written, failed1, failed2);
+		when(dynamoDBOperations.parallelBatchSave(Mockito.<User>anyIterable()))
+				.thenReturn(new BatchWriteResult<>(Collections.singletonList(written), failures));
+
+		assertThatThrownBy(() -> repoForEntityWithOnlyHashKey.saveAll(entities)).isInstanceOf(BatchWriteException.class)
+				.satisfies(e -> assertEquals(Arrays.asList(failed1, failed2), ((BatchWriteException) e).getFailedEntities()));
 	}
 }
@@ -19,11 +19,14 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.lenient;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -32,6 +35,12 @@ import org.socialsignin.spring.data.dynamodb.domain.sample.Playlist;
 import org.socialsignin.spring.data.dynamodb.domain.sample.PlaylistId;
 import org.socialsignin.spring.data.dynamodb.domain.sample.User;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.ScanResultPage;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
 
 /**
  * Unit tests for {@link DynamoDBSimpleIdRepository}.
@@ -102,6 +111,31 @@ public class SimpleDynamoDBPagingAndSortingRepositoryUnitTest {
 		assertThatThrownBy(() -> repoForEntityWithOnlyHashKey.deleteById(4711L)).isInstanceOf(EmptyResultDataAccessException.class);
 	}
 
+	@Test
+	void findAllWithScrollPosition() {
+		Mockito.when(mockEnableScanPermissions.isFindAllPaginatedScanEnabled()).thenReturn(true);
+		Map<String, AttributeValue> startKey = Collections.singletonMap("Id", new AttributeValue("1"));
+		Map<String, AttributeValue> lastEvaluatedKey = Collections.singletonMap("Id", new AttributeValue("2"));
+		ScanResultPage<User> page = new ScanResultPage<>();
+		page.setResults(Collections.singletonList(testUser));
+		page.setLastEvaluatedKey(lastEvaluatedKey);
+		ArgumentCaptor<DynamoDBScanExpression> captor = ArgumentCaptor.forClass(DynamoDBScanExpression.class);
+		Mockito.when(dynamoDBOperations.scanPage(Mockito.eq(User.class), captor.capture())).thenReturn(page);
+
+		Window<User> actual = repoForEntityWithOnlyHashKey.findAll(ScrollPosition.forward(startKey), 1);
+
+		assertEquals(Collections.singletonList(testUser), actual.getContent());
+		assertEquals(ScrollPosition.forward(lastEvaluatedKey), actual.positionAt(0));
+		assertEquals(startKey, captor.getValue().getExclusiveStartKey());
+		assertEquals(1, captor.getValue().getLimit());
+	}
+
+	@Test
+	void findAllWithScrollPositionRequiresScanPermission() {
+		assertThatThrownBy(() -> repoForEntityWithOnlyHashKey.findAll(ScrollPosition.keyset(), 10))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
 	@Test
 	void findOneEntityWithOnlyHashKey() {
 		Optional<User> user = repoForEntityWithOnlyHashKey.findById(1l);
@@ -0,0 +1,247 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.support;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.reactivestreams.Subscription;
+import org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.domain.sample.Playlist;
+import org.socialsignin.spring.data.dynamodb.domain.sample.PlaylistId;
+import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+import org.socialsignin.spring.data.dynamodb.exception.BatchWriteException;
+import org.springframework.dao.EmptyResultDataAccessException;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper.FailedBatch;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.ScanResultPage;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+
+/**
+ * Unit tests for {@link SimpleReactiveDynamoDBCrudRepository}.
+ */
+@ExtendWith(MockitoExtension.class)
+class SimpleReactiveDynamoDBCrudRepositoryTest {
+
+	@Mock
+	private AsyncDynamoDBOperations dynamoDBOperations;
+	@Mock
+	private EnableScanPermissions mockEnableScanPermissions;
+	@Mock
+	private DynamoDBEntityInformation<User, Long> entityWithSimpleIdInformation;
+	@Mock
+	private DynamoDBEntityInformation<Playlist, PlaylistId> entityWithCompositeIdInformation;
+
+	private User testUser;
+	private Playlist testPlaylist;
+	private PlaylistId testPlaylistId;
+
+	private SimpleReactiveDynamoDBCrudRepository<User, Long> repoForEntityWithOnlyHashKey;
+	private SimpleReactiveDynamoDBCrudRepository<Playlist, PlaylistId> repoForEntityWithHashAndRangeKey;
+
+	@BeforeEach
+	void setUp() {
+		testUser = new User();
+
+		testPlaylistId = new PlaylistId();
+		testPlaylistId.setUserName("michael");
+		testPlaylistId.setPlaylistName("playlist1");
+
+		testPlaylist = new Playlist(testPlaylistId);
+
+		lenient().when(entityWithSimpleIdInformation.getJavaType()).thenReturn(User.class);
+		lenient().when(entityWithSimpleIdInformation.getHashKey(1l)).thenReturn(1l);
+
+		lenient().when(mockEnableScanPermissions.isFindAllUnpaginatedScanEnabled()).thenReturn(true);
+		lenient().when(mockEnableScanPermissions.isCountUnpaginatedScanEnabled()).thenReturn(true);
+
+		lenient().when(entityWithCompositeIdInformation.getJavaType()).thenReturn(Playlist.class);
+		lenient().when(entityWithCompositeIdInformation.getHashKey(testPlaylistId)).thenReturn("michael");
+		lenient().when(entityWithCompositeIdInformation.getRangeKey(testPlaylistId)).thenReturn("playlist1");
+		lenient().when(entityWithCompositeIdInformation.isRangeKeyAware()).thenReturn(true);
+
+		repoForEntityWithOnlyHashKey = new SimpleReactiveDynamoDBCrudRepository<>(entityWithSimpleIdInformation,
+				dynamoDBOperations, mockEnableScanPermissions);
+		repoForEntityWithHashAndRangeKey = new SimpleReactiveDynamoDBCrudRepository<>(
+				entityWithCompositeIdInformation, dynamoDBOperations, mockEnableScanPermissions);
+
+		lenient().when(dynamoDBOperations.load(User.class, 1l)).thenReturn(CompletableFuture.completedFuture(testUser));
+		lenient().when(dynamoDBOperations.load(Playlist.class, "michael", "playlist1"))
+				.thenReturn(CompletableFuture.completedFuture(testPlaylist));
+	}
+
+	@Test
+	void testFindOneWithHashKeyOnly() {
+		assertSame(testUser, repoForEntityWithOnlyHashKey.findById(1l).block());
+	}
+
+	@Test
+	void testFindOneWithHashAndRangeKey() {
+		assertSame(testPlaylist, repoForEntityWithHashAndRangeKey.findById(testPlaylistId).block());
+	}
+
+	@Test
+	void testExistsById() {
+		when(dynamoDBOperations.load(User.class, 2l)).thenReturn(CompletableFuture.completedFuture(null));
+		when(entityWithSimpleIdInformation.getHashKey(2l)).thenReturn(2l);
+
+		assertTrue(repoForEntityWithOnlyHashKey.existsById(1l).block());
+		assertFalse(repoForEntityWithOnlyHashKey.existsById(2l).block());
+	}
+
+	@Test
+	void testDeleteByIdNotFound() {
+		when(dynamoDBOperations.load(User.class, 2l)).thenReturn(CompletableFuture.completedFuture(null));
+		when(entityWithSimpleIdInformation.getHashKey(2l)).thenReturn(2l);
+
+		assertThatThrownBy(() -> repoForEntityWithOnlyHashKey.deleteById(2l).block())
+				.isInstanceOf(EmptyResultDataAccessException.class);
+		verify(dynamoDBOperations, never()).delete(any());
+	}
+
+	@Test
+	void testSaveAllPublisherIsBatched() {
+		List<User> entities = new ArrayList<>();
+		for (int i = 0; i < 30; i++) {
+			entities.add(new User());
+		}
+		when(dynamoDBOperations.batchSave(anyIterable()))
+				.thenReturn(CompletableFuture.completedFuture(Collections.emptyList()));
+
+		List<User> actual = repoForEntityWithOnlyHashKey.saveAll(Flux.fromIterable(entities)).collectList().block();
+
+		assertEquals(entities, actual);
+		verify(dynamoDBOperations, times(2)).batchSave(anyIterable());
+	}
+
+	@Test
+	void testSaveAllFailedBatch() {
+		FailedBatch failedBatch = new FailedBatch();
+		failedBatch.setException(new Exception("First exception"));
+		when(dynamoDBOperations.batchSave(anyIterable()))
+				.thenReturn(CompletableFuture.completedFuture(Collections.singletonList(failedBatch)));
+
+		Flux<User> actual = repoForEntityWithOnlyHashKey.saveAll(Arrays.asList(testUser));
+
+		assertThatThrownBy(actual::blockLast).isInstanceOf(BatchWriteException.class);
+	}
+
+	@Test
+	void testFindAllScanDisabled() {
+		when(mockEnableScanPermissions.isFindAllUnpaginatedScanEnabled()).thenReturn(false);
+
+		assertThatThrownBy(() -> repoForEntityWithOnlyHashKey.findAll()).isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("Scanning for unpaginated findAll() queries is not enabled");
+	}
+
+	@Test
+	void testFindAllHonoursPageLevelDemand() {
+		User user1 = new User();
+		User user2 = new User();
+		User user3 = new User();
+		Map<String, AttributeValue> lastEvaluatedKey = Collections.singletonMap("id", new AttributeValue("2"));
+
+		ScanResultPage<User> page1 = new ScanResultPage<>();
+		page1.setResults(Arrays.asList(user1, user2));
+		page1.setLastEvaluatedKey(lastEvaluatedKey);
+		ScanResultPage<User> page2 = new ScanResultPage<>();
+		page2.setResults(Arrays.asList(user3));
+
+		List<Map<String, AttributeValue>> startKeys = new ArrayList<>();
+		when(dynamoDBOperations.scanPage(any(), any(DynamoDBScanExpression.class))).then(invocation -> {
+			DynamoDBScanExpression scanExpression = invocation.getArgument(1);
+			startKeys.add(scanExpression.getExclusiveStartKey());
+			return CompletableFuture.completedFuture(scanExpression.getExclusiveStartKey() == null ? page1 : page2);
+		});
+
+		List<User> received = new ArrayList<>();
+		repoForEntityWithOnlyHashKey.findAll().subscribe(new BaseSubscriber<User>() {
+			@Override
+			protected void hookOnSubscribe(Subscription subscription) {
+				request(1);
+			}
+
+			@Override
+			protected void hookOnNext(User value) {
+				received.add(value);
+			}
+		});
+
+		// Only the first item was requested, so the scan must not have run
+		// through the whole table
+		assertEquals(Arrays.asList(user1), received);
+		assertTrue(startKeys.size() <= 2);
+
+		startKeys.clear();
+		assertEquals(Arrays.asList(user1, user2, user3), repoForEntityWithOnlyHashKey.findAll().collectList().block());
+		assertEquals(Arrays.asList(null, lastEvaluatedKey), startKeys);
+	}
+
+	@Test
+	void testFindAllStartsOverOnResubscription() {
+		User user1 = new User();
+		User user2 = new User();
+		Map<String, AttributeValue> lastEvaluatedKey = Collections.singletonMap("id", new AttributeValue("1"));
+
+		ScanResultPage<User> page1 = new ScanResultPage<>();
+		page1.setResults(Arrays.asList(user1));
+		page1.setLastEvaluatedKey(lastEvaluatedKey);
+		ScanResultPage<User> page2 = new ScanResultPage<>();
+		page2.setResults(Arrays.asList(user2));
+
+		when(dynamoDBOperations.scanPage(any(), any(DynamoDBScanExpression.class))).then(invocation -> {
+			DynamoDBScanExpression scanExpression = invocation.getArgument(1);
+			return CompletableFuture.completedFuture(scanExpression.getExclusiveStartKey() == null ? page1 : page2);
+		});
+
+		assertEquals(Arrays.asList(user1, user2, user1, user2),
+				repoForEntityWithOnlyHashKey.findAll().repeat(1).collectList().block());
+	}
+
+	@Test
+	void testCount() {
+		when(dynamoDBOperations.count(any(), any(DynamoDBScanExpression.class)))
+				.thenReturn(CompletableFuture.completedFuture(42L));
+
+		assertEquals(42L, repoForEntityWithOnlyHashKey.count().block());
+	}
+}
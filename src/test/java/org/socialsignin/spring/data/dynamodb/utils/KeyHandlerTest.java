@@ -0,0 +1,75 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/swayzetrain/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.Mockito.mock;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.socialsignin.spring.data.dynamodb.domain.sample.Playlist;
+
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBHashKey;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTable;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+
+class KeyHandlerTest {
+
+	@DynamoDBTable(tableName = "amount")
+	public static class Amount {
+		private BigDecimal value;
+
+		@DynamoDBHashKey
+		public BigDecimal getValue() {
+			return value;
+		}
+
+		public void setValue(BigDecimal value) {
+			this.value = value;
+		}
+	}
+
+	private KeyHandler underTest = new KeyHandler() {
+	};
+
+	private final DynamoDBMapper dynamoDBMapper = new DynamoDBMapper(mock(AmazonDynamoDB.class));
+
+	@Test
+	void testNumbersAreNormalized() {
+		DynamoDBMapperTableModel<Amount> tableModel = dynamoDBMapper.getTableModel(Amount.class);
+
+		assertEquals(underTest.toDistinctKey(tableModel, new BigDecimal("1"), null),
+				underTest.toDistinctKey(tableModel, new BigDecimal("1.0"), null));
+		assertEquals(Map.of("value", new AttributeValue().withN("100")),
+				underTest.toDistinctKey(tableModel, new BigDecimal("1E+2"), null));
+		assertNotEquals(underTest.toDistinctKey(tableModel, new BigDecimal("1"), null),
+				underTest.toDistinctKey(tableModel, new BigDecimal("1.5"), null));
+	}
+
+	@Test
+	void testOtherKeysAreKeptAsConverted() {
+		DynamoDBMapperTableModel<Playlist> tableModel = dynamoDBMapper.getTableModel(Playlist.class);
+
+		assertEquals(tableModel.convertKey("michael", "playlist1"),
+				underTest.toDistinctKey(tableModel, "michael", "playlist1"));
+	}
+}